@@ -6,9 +6,14 @@
 package org.eclipse.xpanse.api.config;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -23,15 +28,19 @@ import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyUpdateReque
 import org.eclipse.xpanse.modules.models.service.deployment.DeployRequest;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
 import org.eclipse.xpanse.modules.models.workflow.serviceporting.ServicePortingRequest;
-import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.eclipse.xpanse.modules.orchestrator.audit.AuditLog;
+import org.eclipse.xpanse.modules.orchestrator.audit.AuditLogDispatcher;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-/** Writer for audit logs. */
+/**
+ * Writer for audit logs. The csp of a request is resolved before the controller method runs, with a
+ * resolver prepared once per controller method. The audit log is then handed over to {@link
+ * AuditLogDispatcher}, which writes it outside of the request thread.
+ */
 @Slf4j
 @Aspect
 @Component
@@ -39,18 +48,24 @@ public class AuditLogWriter {
 
     private static final String DEFAULT_GET_CSP_METHOD_NAME = "getCspFromRequestUri";
 
+    private static final CspResolver NO_CSP_RESOLVER = args -> null;
+
     private final PluginManager pluginManager;
     private final UserServiceHelper userServiceHelper;
     private final GetCspInfoFromRequest getCspInfoFromRequest;
+    private final AuditLogDispatcher auditLogDispatcher;
+    private final Map<Method, CspResolver> cspResolvers = new ConcurrentHashMap<>();
 
     /** Constructor method. */
     public AuditLogWriter(
             PluginManager pluginManager,
             UserServiceHelper userServiceHelper,
-            GetCspInfoFromRequest getCspInfoFromRequest) {
+            GetCspInfoFromRequest getCspInfoFromRequest,
+            AuditLogDispatcher auditLogDispatcher) {
         this.pluginManager = pluginManager;
         this.userServiceHelper = userServiceHelper;
         this.getCspInfoFromRequest = getCspInfoFromRequest;
+        this.auditLogDispatcher = auditLogDispatcher;
     }
 
     /** Pointcut for all controller methods. */
@@ -70,8 +85,7 @@ public class AuditLogWriter {
             HttpServletRequest request =
                     ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
                             .getRequest();
-            OrchestratorPlugin orchestratorPlugin = pluginManager.getOrchestratorPlugin(csp);
-            orchestratorPlugin.auditApiRequest(
+            auditLogDispatcher.publish(
                     getAuditLog(
                             csp,
                             joinPoint.getSignature().getName(),
@@ -87,32 +101,50 @@ public class AuditLogWriter {
             return pluginManager.getPluginsMap().keySet().iterator().next();
         }
         Method requestMethod = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return cspResolvers
+                .computeIfAbsent(requestMethod, this::createCspResolver)
+                .resolve(joinPoint.getArgs());
+    }
+
+    private CspResolver createCspResolver(Method requestMethod) {
         AuditApiRequest auditApiRequest = requestMethod.getAnnotation(AuditApiRequest.class);
         if (Objects.isNull(auditApiRequest) || !auditApiRequest.enabled()) {
-            return null;
+            return NO_CSP_RESOLVER;
         }
-        return getCspFromMethodInfo(auditApiRequest, joinPoint.getArgs());
-    }
-
-    private Csp getCspFromMethodInfo(AuditApiRequest auditApiRequest, Object[] args) {
         String methodName = auditApiRequest.methodName();
         if (DEFAULT_GET_CSP_METHOD_NAME.equals(methodName)) {
-            return getCspFromRequestParams(args);
+            return this::getCspFromRequestParams;
         }
+        int[] paramIndexes = auditApiRequest.paramIndexes();
+        MethodHandle methodHandle;
         try {
-            Class<?> clazz = auditApiRequest.clazz();
-            Class<?>[] paramTypes = auditApiRequest.paramTypes();
-            Method method = clazz.getMethod(methodName, paramTypes);
-            int[] paramIndexes = auditApiRequest.paramIndexes();
-            Object[] paramValues = new Object[paramIndexes.length];
-            for (int i = 0; i < paramIndexes.length; i++) {
-                paramValues[i] = args[paramIndexes[i]];
-            }
-            Object result = method.invoke(getCspInfoFromRequest, paramValues);
+            Method method =
+                    auditApiRequest.clazz().getMethod(methodName, auditApiRequest.paramTypes());
+            methodHandle =
+                    MethodHandles.publicLookup()
+                            .unreflect(method)
+                            .bindTo(getCspInfoFromRequest)
+                            .asSpreader(Object[].class, paramIndexes.length)
+                            .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (Exception e) {
+            log.error("Get csp with method {} error.", methodName, e);
+            return NO_CSP_RESOLVER;
+        }
+        return args -> getCspFromMethodHandle(methodName, methodHandle, paramIndexes, args);
+    }
+
+    private Csp getCspFromMethodHandle(
+            String methodName, MethodHandle methodHandle, int[] paramIndexes, Object[] args) {
+        Object[] paramValues = new Object[paramIndexes.length];
+        for (int i = 0; i < paramIndexes.length; i++) {
+            paramValues[i] = args[paramIndexes[i]];
+        }
+        try {
+            Object result = (Object) methodHandle.invokeExact(paramValues);
             if (result instanceof Csp csp) {
                 return csp;
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             log.error("Get csp with method {} error.", methodName, e);
         }
         return null;
@@ -154,4 +186,10 @@ public class AuditLogWriter {
         }
         return auditLog;
     }
+
+    /** Resolves the csp of a request from the arguments of the controller method. */
+    @FunctionalInterface
+    private interface CspResolver {
+        Csp resolve(Object[] args);
+    }
 }
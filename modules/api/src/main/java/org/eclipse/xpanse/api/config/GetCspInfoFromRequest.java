@@ -19,8 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.activiti.engine.TaskService;
 import org.activiti.engine.task.Task;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
-import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentLookup;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentMetadata;
 import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestEntity;
 import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestStorage;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
@@ -47,7 +47,7 @@ public class GetCspInfoFromRequest {
 
     private final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
     private final ServiceTemplateStorage serviceTemplateStorage;
-    private final ServiceDeploymentStorage deployServiceStorage;
+    private final ServiceDeploymentLookup serviceDeploymentLookup;
     private final ServicePolicyStorage servicePolicyStorage;
     private final UserPolicyStorage userPolicyStorage;
     private final TaskService taskService;
@@ -59,7 +59,7 @@ public class GetCspInfoFromRequest {
     @Autowired
     public GetCspInfoFromRequest(
             ServiceTemplateStorage serviceTemplateStorage,
-            ServiceDeploymentStorage deployServiceStorage,
+            ServiceDeploymentLookup serviceDeploymentLookup,
             ServicePolicyStorage servicePolicyStorage,
             UserPolicyStorage userPolicyStorage,
             TaskService taskService,
@@ -67,7 +67,7 @@ public class GetCspInfoFromRequest {
             ServiceTemplateRequestHistoryStorage serviceTemplateHistoryStorage,
             ServiceChangeRequestStorage serviceChangeRequestStorage) {
         this.serviceTemplateStorage = serviceTemplateStorage;
-        this.deployServiceStorage = deployServiceStorage;
+        this.serviceDeploymentLookup = serviceDeploymentLookup;
         this.servicePolicyStorage = servicePolicyStorage;
         this.userPolicyStorage = userPolicyStorage;
         this.taskService = taskService;
@@ -120,11 +120,11 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromServiceId(UUID serviceId) {
         try {
-            ServiceDeploymentEntity deployService =
-                    deployServiceStorage.findServiceDeploymentById(serviceId);
+            ServiceDeploymentMetadata deployService =
+                    serviceDeploymentLookup.getServiceDeploymentMetadata(serviceId);
             if (Objects.nonNull(deployService)) {
                 MDC.put(SERVICE_ID, serviceId.toString());
-                return deployService.getCsp();
+                return deployService.csp();
             }
         } catch (Exception e) {
             log.error("Get csp with service id:{} failed.", serviceId, e);
@@ -187,9 +187,9 @@ public class GetCspInfoFromRequest {
                             serviceOrderStorage.queryEntities(queryOrderEntity);
                     if (!CollectionUtils.isEmpty(orderEntities)) {
                         UUID serviceId = orderEntities.getFirst().getOriginalServiceId();
-                        ServiceDeploymentEntity deployService =
-                                deployServiceStorage.findServiceDeploymentById(serviceId);
-                        return deployService.getCsp();
+                        ServiceDeploymentMetadata deployService =
+                                serviceDeploymentLookup.getServiceDeploymentMetadata(serviceId);
+                        return deployService.csp();
                     }
                 }
             }
@@ -210,12 +210,12 @@ public class GetCspInfoFromRequest {
             ServiceOrderEntity order = serviceOrderStorage.getEntityById(orderId);
             if (Objects.nonNull(order)
                     && Objects.nonNull(order.getServiceDeploymentEntity().getId())) {
-                ServiceDeploymentEntity deployService =
-                        deployServiceStorage.findServiceDeploymentById(
+                ServiceDeploymentMetadata deployService =
+                        serviceDeploymentLookup.getServiceDeploymentMetadata(
                                 order.getServiceDeploymentEntity().getId());
-                MDC.put(SERVICE_ID, deployService.getId().toString());
+                MDC.put(SERVICE_ID, deployService.id().toString());
                 MDC.put(ORDER_ID, orderId.toString());
-                return deployService.getCsp();
+                return deployService.csp();
             }
         } catch (Exception e) {
             log.error("Get csp with service order id:{} failed.", orderId, e);
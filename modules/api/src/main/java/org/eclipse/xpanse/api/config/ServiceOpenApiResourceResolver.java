@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.api.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.cache.openapi.ServiceOpenApiDocument;
+import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.ServiceTemplateNotRegistered;
+import org.eclipse.xpanse.modules.servicetemplate.ServiceTemplateManage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+/**
+ * Resolves the OpenApi html of service templates from the OpenApi document cache, so every server
+ * instance can serve the html without a generated file on its local disk. The html is only read
+ * here, it is rendered when the service template is registered or updated. Documents not rendered
+ * yet and other files are resolved by the next resolvers of the chain.
+ */
+@Slf4j
+@Component
+public class ServiceOpenApiResourceResolver extends AbstractResourceResolver {
+
+    private static final String OPENAPI_FILE_EXTENSION = ".html";
+    private static final String GZIP_ENCODING = "gzip";
+    private final ServiceTemplateManage serviceTemplateManage;
+
+    /** Constructor method. */
+    @Autowired
+    public ServiceOpenApiResourceResolver(ServiceTemplateManage serviceTemplateManage) {
+        this.serviceTemplateManage = serviceTemplateManage;
+    }
+
+    /**
+     * Get the entity tag of a resolved resource.
+     *
+     * @param resource resource to be served.
+     * @return entity tag of OpenApi documents, null for other resources.
+     */
+    @Nullable
+    public static String getEtag(Resource resource) {
+        return resource instanceof ServiceOpenApiResource openApiResource
+                ? openApiResource.document.getEtag()
+                : null;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(
+            @Nullable HttpServletRequest request,
+            String requestPath,
+            List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        UUID serviceTemplateId = getServiceTemplateId(requestPath);
+        if (Objects.nonNull(serviceTemplateId)) {
+            try {
+                ServiceOpenApiDocument document =
+                        serviceTemplateManage.getOpenApiDocument(serviceTemplateId);
+                if (Objects.nonNull(document)) {
+                    return new ServiceOpenApiResource(
+                            document, requestPath, isGzipAccepted(request));
+                }
+                log.debug("OpenApi document {} is not rendered yet.", requestPath);
+            } catch (ServiceTemplateNotRegistered e) {
+                log.debug("No service template found for OpenApi file {}.", requestPath);
+            }
+        }
+        return chain.resolveResource(request, requestPath, locations);
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(
+            String resourceUrlPath,
+            List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    private UUID getServiceTemplateId(String requestPath) {
+        if (!requestPath.endsWith(OPENAPI_FILE_EXTENSION)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(StringUtils.removeEnd(requestPath, OPENAPI_FILE_EXTENSION));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean isGzipAccepted(@Nullable HttpServletRequest request) {
+        String acceptEncoding =
+                Objects.nonNull(request) ? request.getHeader(HttpHeaders.ACCEPT_ENCODING) : null;
+        return Objects.nonNull(acceptEncoding)
+                && acceptEncoding.toLowerCase().contains(GZIP_ENCODING);
+    }
+
+    /** OpenApi html held in memory, sent gzip encoded if the client accepts it. */
+    private static class ServiceOpenApiResource extends ByteArrayResource implements HttpResource {
+
+        private final ServiceOpenApiDocument document;
+        private final String fileName;
+        private final boolean isGzipped;
+
+        ServiceOpenApiResource(
+                ServiceOpenApiDocument document, String fileName, boolean isGzipped) {
+            super(
+                    isGzipped
+                            ? document.getGzippedHtml()
+                            : document.getHtml().getBytes(StandardCharsets.UTF_8));
+            this.document = document;
+            this.fileName = fileName;
+            this.isGzipped = isGzipped;
+        }
+
+        @Override
+        public String getFilename() {
+            return fileName;
+        }
+
+        @Override
+        public long lastModified() {
+            return document.getCreatedTime();
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (isGzipped) {
+                headers.add(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+            }
+            return headers;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
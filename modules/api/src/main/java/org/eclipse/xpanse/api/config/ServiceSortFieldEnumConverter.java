@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.api.config;
+
+import jakarta.annotation.Nonnull;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceSortField;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/** Bean for serializing string in request parameters to ServiceSortField enum. */
+@Component
+public class ServiceSortFieldEnumConverter implements Converter<String, ServiceSortField> {
+
+    @Override
+    public ServiceSortField convert(@Nonnull String serviceSortField) {
+        return ServiceSortField.getByValue(serviceSortField);
+    }
+}
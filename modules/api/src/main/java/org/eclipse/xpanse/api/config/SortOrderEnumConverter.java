@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.api.config;
+
+import jakarta.annotation.Nonnull;
+import org.eclipse.xpanse.modules.models.common.enums.SortOrder;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/** Bean for serializing string in request parameters to SortOrder enum. */
+@Component
+public class SortOrderEnumConverter implements Converter<String, SortOrder> {
+
+    @Override
+    public SortOrder convert(@Nonnull String sortOrder) {
+        return SortOrder.getByValue(sortOrder);
+    }
+}
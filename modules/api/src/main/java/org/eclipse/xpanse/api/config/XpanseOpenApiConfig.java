@@ -24,10 +24,15 @@ public class XpanseOpenApiConfig implements WebMvcConfigurer {
             "file:" + System.getProperty("user.dir") + File.separator;
 
     private final OpenApiGeneratorProperties openApiGeneratorProperties;
+    private final ServiceOpenApiResourceResolver serviceOpenApiResourceResolver;
 
+    /** Constructor method. */
     @Autowired
-    public XpanseOpenApiConfig(OpenApiGeneratorProperties openApiGeneratorProperties) {
+    public XpanseOpenApiConfig(
+            OpenApiGeneratorProperties openApiGeneratorProperties,
+            ServiceOpenApiResourceResolver serviceOpenApiResourceResolver) {
         this.openApiGeneratorProperties = openApiGeneratorProperties;
+        this.serviceOpenApiResourceResolver = serviceOpenApiResourceResolver;
     }
 
     @Bean
@@ -36,7 +41,8 @@ public class XpanseOpenApiConfig implements WebMvcConfigurer {
     }
 
     /**
-     * registered service openapi.
+     * registered service openapi. The html of service templates is resolved from the OpenApi
+     * document cache, the resolved resources must not be cached by the resource chain.
      *
      * @param registry ResourceHandlerRegistry.
      */
@@ -45,7 +51,10 @@ public class XpanseOpenApiConfig implements WebMvcConfigurer {
         registry.addResourceHandler(openApiGeneratorProperties.getFileResourcesUri())
                 .addResourceLocations(openApiGeneratorProperties.getFileGenerationPath())
                 .addResourceLocations(
-                        PROJECT_PATH + openApiGeneratorProperties.getFileGenerationPath());
+                        PROJECT_PATH + openApiGeneratorProperties.getFileGenerationPath())
+                .setEtagGenerator(ServiceOpenApiResourceResolver::getEtag)
+                .resourceChain(false)
+                .addResolver(serviceOpenApiResourceResolver);
     }
 
     /**
@@ -16,6 +16,7 @@ import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
 import org.eclipse.xpanse.modules.deployment.ServiceChangeManager;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceChangeRequestPolling;
 import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequest;
 import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeResult;
 import org.springframework.http.HttpStatus;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /** Agent Polling Api. */
 @Slf4j
@@ -38,10 +40,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class AgentPollingApi {
 
     private final ServiceChangeManager serviceChangeManager;
+    private final ServiceChangeRequestPolling serviceChangeRequestPolling;
 
     /** Constructor method. */
-    public AgentPollingApi(ServiceChangeManager serviceChangeManager) {
+    public AgentPollingApi(
+            ServiceChangeManager serviceChangeManager,
+            ServiceChangeRequestPolling serviceChangeRequestPolling) {
         this.serviceChangeManager = serviceChangeManager;
+        this.serviceChangeRequestPolling = serviceChangeRequestPolling;
     }
 
     /**
@@ -81,6 +87,48 @@ public class AgentPollingApi {
         return serviceChangeManager.getPendingServiceChangeRequest(serviceId, resourceName);
     }
 
+    /**
+     * Wait for pending service change request for agent.
+     *
+     * @param serviceId the id of service.
+     * @param resourceName the name of service`s resource.
+     * @return ServiceChangeRequest.
+     */
+    @Tag(
+            name = "AgentApis",
+            description = "APIs for agent to poll pending service change requests.")
+    @GetMapping(
+            value = "/poll/{serviceId}/{resourceName}/wait",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            description =
+                    "Long-polling method for agents to get pending service change request. The"
+                            + " request waits for a configured period of time until a service"
+                            + " change request is created for the resource.")
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "204",
+                description = "no pending service change update requests",
+                content = @Content),
+        @ApiResponse(
+                responseCode = "200",
+                description = "pending service change update request details",
+                content = @Content(schema = @Schema(implementation = ServiceChangeRequest.class)))
+    })
+    @AuditApiRequest(methodName = "getCspFromServiceId", paramTypes = UUID.class)
+    public DeferredResult<ResponseEntity<ServiceChangeRequest>> waitForPendingServiceChangeRequest(
+            @Parameter(name = "serviceId", description = "The id of the deployed service")
+                    @PathVariable("serviceId")
+                    UUID serviceId,
+            @Parameter(
+                            name = "resourceName",
+                            description = "The name of the resource of deployed service")
+                    @PathVariable("resourceName")
+                    String resourceName) {
+        return serviceChangeRequestPolling.waitForPendingServiceChangeRequest(
+                serviceId, resourceName);
+    }
+
     /**
      * Method to update service change result.
      *
@@ -14,10 +14,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
+import org.eclipse.xpanse.modules.database.service.ServicePageRequest;
 import org.eclipse.xpanse.modules.deployment.ServiceDetailsViewManager;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.enums.SortOrder;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceSortField;
 import org.eclipse.xpanse.modules.models.service.view.DeployedService;
+import org.eclipse.xpanse.modules.models.service.view.DeployedServicesPage;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -74,4 +78,51 @@ public class CspServiceDeployApi {
         return this.serviceDetailsViewManager.getAllDeployedServicesByCsp(
                 category, serviceName, serviceVersion, serviceState);
     }
+
+    /**
+     * List one page of the deployed services by a user of CSP.
+     *
+     * @return page of services with the cursor of the next page.
+     */
+    @Tag(name = "Service", description = "APIs to manage the services")
+    @Operation(description = "List one page of services deployed on a cloud provider.")
+    @GetMapping(value = "/services/csp/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @AuditApiRequest(methodName = "getCspFromRequestUri")
+    public DeployedServicesPage getDeployedServicesPageByCsp(
+            @Parameter(name = "categoryName", description = "category of the service")
+                    @RequestParam(name = "categoryName", required = false)
+                    Category category,
+            @Parameter(name = "serviceName", description = "name of the service")
+                    @RequestParam(name = "serviceName", required = false)
+                    String serviceName,
+            @Parameter(name = "serviceVersion", description = "version of the service")
+                    @RequestParam(name = "serviceVersion", required = false)
+                    String serviceVersion,
+            @Parameter(name = "serviceState", description = "deployment state of the service")
+                    @RequestParam(name = "serviceState", required = false)
+                    ServiceDeploymentState serviceState,
+            @Parameter(name = "pageSize", description = "count of services in the page")
+                    @RequestParam(name = "pageSize", required = false, defaultValue = "50")
+                    Integer pageSize,
+            @Parameter(
+                            name = "cursor",
+                            description =
+                                    "cursor returned with the previous page, omitted for the first"
+                                            + " page")
+                    @RequestParam(name = "cursor", required = false)
+                    String cursor,
+            @Parameter(name = "sortBy", description = "field to sort the services by")
+                    @RequestParam(name = "sortBy", required = false, defaultValue = "createdTime")
+                    ServiceSortField sortBy,
+            @Parameter(name = "sortOrder", description = "order of the sort")
+                    @RequestParam(name = "sortOrder", required = false, defaultValue = "desc")
+                    SortOrder sortOrder) {
+        return this.serviceDetailsViewManager.getDeployedServicesPageByCsp(
+                category,
+                serviceName,
+                serviceVersion,
+                serviceState,
+                ServicePageRequest.of(pageSize, cursor, sortBy, sortOrder));
+    }
 }
@@ -15,12 +15,16 @@ import java.util.List;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
+import org.eclipse.xpanse.modules.database.service.ServicePageRequest;
 import org.eclipse.xpanse.modules.deployment.ServiceDetailsViewManager;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.enums.SortOrder;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceSortField;
 import org.eclipse.xpanse.modules.models.service.view.DeployedService;
 import org.eclipse.xpanse.modules.models.service.view.DeployedServiceDetails;
+import org.eclipse.xpanse.modules.models.service.view.DeployedServicesPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
@@ -84,6 +88,57 @@ public class IsvServiceDeployApi {
                 category, csp, serviceName, serviceVersion, serviceState);
     }
 
+    /**
+     * List one page of the deployed services by a user of ISV.
+     *
+     * @return page of services with the cursor of the next page.
+     */
+    @Tag(name = "Service", description = "APIs to manage the services")
+    @Operation(description = "List one page of services of an ISV deployed by users.")
+    @GetMapping(value = "/services/isv/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @AuditApiRequest(methodName = "getCspFromRequestUri")
+    public DeployedServicesPage getDeployedServicesPageByIsv(
+            @Parameter(name = "categoryName", description = "category of the service")
+                    @RequestParam(name = "categoryName", required = false)
+                    Category category,
+            @Parameter(name = "cspName", description = "name of the cloud service provider")
+                    @RequestParam(name = "cspName", required = false)
+                    Csp csp,
+            @Parameter(name = "serviceName", description = "name of the service")
+                    @RequestParam(name = "serviceName", required = false)
+                    String serviceName,
+            @Parameter(name = "serviceVersion", description = "version of the service")
+                    @RequestParam(name = "serviceVersion", required = false)
+                    String serviceVersion,
+            @Parameter(name = "serviceState", description = "deployment state of the service")
+                    @RequestParam(name = "serviceState", required = false)
+                    ServiceDeploymentState serviceState,
+            @Parameter(name = "pageSize", description = "count of services in the page")
+                    @RequestParam(name = "pageSize", required = false, defaultValue = "50")
+                    Integer pageSize,
+            @Parameter(
+                            name = "cursor",
+                            description =
+                                    "cursor returned with the previous page, omitted for the first"
+                                            + " page")
+                    @RequestParam(name = "cursor", required = false)
+                    String cursor,
+            @Parameter(name = "sortBy", description = "field to sort the services by")
+                    @RequestParam(name = "sortBy", required = false, defaultValue = "createdTime")
+                    ServiceSortField sortBy,
+            @Parameter(name = "sortOrder", description = "order of the sort")
+                    @RequestParam(name = "sortOrder", required = false, defaultValue = "desc")
+                    SortOrder sortOrder) {
+        return this.serviceDetailsViewManager.getDeployedServicesPageByIsv(
+                category,
+                csp,
+                serviceName,
+                serviceVersion,
+                serviceState,
+                ServicePageRequest.of(pageSize, cursor, sortBy, sortOrder));
+    }
+
     /**
      * Get details of the managed service by serviceId for ISV role.
      *
@@ -25,12 +25,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
 import org.eclipse.xpanse.api.config.OrderFailedApiResponses;
 import org.eclipse.xpanse.modules.cache.config.CacheProperties;
+import org.eclipse.xpanse.modules.database.service.ServicePageRequest;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
 import org.eclipse.xpanse.modules.deployment.DeployService;
 import org.eclipse.xpanse.modules.deployment.ServiceDetailsViewManager;
 import org.eclipse.xpanse.modules.deployment.servicelock.ServiceLockConfigService;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.enums.SortOrder;
 import org.eclipse.xpanse.modules.models.service.config.ServiceLockConfig;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
@@ -38,9 +40,11 @@ import org.eclipse.xpanse.modules.models.service.deployment.DeploymentStatusUpda
 import org.eclipse.xpanse.modules.models.service.deployment.ModifyRequest;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceSortField;
 import org.eclipse.xpanse.modules.models.service.order.ServiceOrder;
 import org.eclipse.xpanse.modules.models.service.view.DeployedService;
 import org.eclipse.xpanse.modules.models.service.view.DeployedServiceDetails;
+import org.eclipse.xpanse.modules.models.service.view.DeployedServicesPage;
 import org.eclipse.xpanse.modules.models.service.view.VendorHostedDeployedServiceDetails;
 import org.eclipse.xpanse.modules.models.servicetemplate.view.UserOrderableServiceVo;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -62,6 +66,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** REST interface methods for processing OCL. */
 @Slf4j
@@ -162,6 +167,57 @@ public class ServiceDeployerApi {
                 category, csp, serviceName, serviceVersion, serviceState);
     }
 
+    /**
+     * List one page of the services deployed by a user.
+     *
+     * @return page of services with the cursor of the next page.
+     */
+    @Tag(name = "Service", description = "APIs to manage the services")
+    @Operation(description = "List one page of the deployed services belongs to the user.")
+    @GetMapping(value = "/services/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @AuditApiRequest(methodName = "getCspFromRequestUri")
+    public DeployedServicesPage getDeployedServicesPage(
+            @Parameter(name = "categoryName", description = "category of the service")
+                    @RequestParam(name = "categoryName", required = false)
+                    Category category,
+            @Parameter(name = "cspName", description = "name of the cloud service provider")
+                    @RequestParam(name = "cspName", required = false)
+                    Csp csp,
+            @Parameter(name = "serviceName", description = "name of the service")
+                    @RequestParam(name = "serviceName", required = false)
+                    String serviceName,
+            @Parameter(name = "serviceVersion", description = "version of the service")
+                    @RequestParam(name = "serviceVersion", required = false)
+                    String serviceVersion,
+            @Parameter(name = "serviceState", description = "deployment state of the service")
+                    @RequestParam(name = "serviceState", required = false)
+                    ServiceDeploymentState serviceState,
+            @Parameter(name = "pageSize", description = "count of services in the page")
+                    @RequestParam(name = "pageSize", required = false, defaultValue = "50")
+                    Integer pageSize,
+            @Parameter(
+                            name = "cursor",
+                            description =
+                                    "cursor returned with the previous page, omitted for the first"
+                                            + " page")
+                    @RequestParam(name = "cursor", required = false)
+                    String cursor,
+            @Parameter(name = "sortBy", description = "field to sort the services by")
+                    @RequestParam(name = "sortBy", required = false, defaultValue = "createdTime")
+                    ServiceSortField sortBy,
+            @Parameter(name = "sortOrder", description = "order of the sort")
+                    @RequestParam(name = "sortOrder", required = false, defaultValue = "desc")
+                    SortOrder sortOrder) {
+        return this.serviceDetailsViewManager.listDeployedServicesPage(
+                category,
+                csp,
+                serviceName,
+                serviceVersion,
+                serviceState,
+                ServicePageRequest.of(pageSize, cursor, sortBy, sortOrder));
+    }
+
     /**
      * List all deployed services details.
      *
@@ -381,6 +437,26 @@ public class ServiceDeployerApi {
                 serviceId, lastKnownServiceDeploymentState);
     }
 
+    /** Method to stream the status updates of service deployment. */
+    @Tag(name = "Service", description = "APIs to manage the services")
+    @GetMapping(
+            value = "/services/{serviceId}/deployment/status/stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            description =
+                    "Stream the service deployment or service update status with server-sent"
+                            + " events. The current status is sent first, followed by each"
+                            + " change.")
+    @AuditApiRequest(methodName = "getCspFromServiceId", paramTypes = UUID.class)
+    @ResponseStatus(HttpStatus.OK)
+    @Secured({ROLE_ADMIN, ROLE_ISV, ROLE_USER})
+    public SseEmitter streamServiceDeploymentStatus(
+            @Parameter(name = "serviceId", description = "ID of the service")
+                    @PathVariable(name = "serviceId")
+                    UUID serviceId) {
+        return deployService.streamServiceDeploymentStatus(serviceId);
+    }
+
     /**
      * Get service template details by service id.
      *
@@ -36,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** Service Orders Management REST API. */
 @Slf4j
@@ -165,4 +166,23 @@ public class ServiceOrderManageApi {
         return serviceOrderManager.getLatestServiceOrderStatus(
                 orderId, lastKnownServiceOrderStatus);
     }
+
+    /** Method to stream the status updates of the service order. */
+    @Tag(name = "ServiceOrders", description = "APIs to manage orders of services")
+    @GetMapping(
+            value = "/services/orders/{orderId}/status/stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            description =
+                    "Stream the task status of the service order with server-sent events. The"
+                            + " current status is sent first and the stream is closed once the"
+                            + " order is completed.")
+    @AuditApiRequest(methodName = "getCspFromServiceOrderId", paramTypes = UUID.class)
+    @ResponseStatus(HttpStatus.OK)
+    public SseEmitter streamServiceOrderStatus(
+            @Parameter(name = "orderId", description = "Id of the service order")
+                    @PathVariable(name = "orderId")
+                    UUID orderId) {
+        return serviceOrderManager.streamServiceOrderStatus(orderId);
+    }
 }
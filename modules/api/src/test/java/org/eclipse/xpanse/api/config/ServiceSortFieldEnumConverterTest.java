@@ -0,0 +1,21 @@
+package org.eclipse.xpanse.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.xpanse.modules.models.common.exceptions.UnsupportedEnumValueException;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceSortField;
+import org.junit.jupiter.api.Test;
+
+class ServiceSortFieldEnumConverterTest {
+
+    private final ServiceSortFieldEnumConverter converterTest = new ServiceSortFieldEnumConverter();
+
+    @Test
+    void testConvert() {
+        assertThat(converterTest.convert("createdTime")).isEqualTo(ServiceSortField.CREATED_TIME);
+        assertThat(converterTest.convert("lastModifiedTime"))
+                .isEqualTo(ServiceSortField.LAST_MODIFIED_TIME);
+        assertThrows(UnsupportedEnumValueException.class, () -> converterTest.convert("unknown"));
+    }
+}
@@ -0,0 +1,20 @@
+package org.eclipse.xpanse.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.xpanse.modules.models.common.enums.SortOrder;
+import org.eclipse.xpanse.modules.models.common.exceptions.UnsupportedEnumValueException;
+import org.junit.jupiter.api.Test;
+
+class SortOrderEnumConverterTest {
+
+    private final SortOrderEnumConverter converterTest = new SortOrderEnumConverter();
+
+    @Test
+    void testConvert() {
+        assertThat(converterTest.convert("asc")).isEqualTo(SortOrder.ASC);
+        assertThat(converterTest.convert("desc")).isEqualTo(SortOrder.DESC);
+        assertThrows(UnsupportedEnumValueException.class, () -> converterTest.convert("unknown"));
+    }
+}
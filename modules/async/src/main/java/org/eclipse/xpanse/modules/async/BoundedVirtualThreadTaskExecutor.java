@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.async;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Executor which runs each task on its own virtual thread and limits the number of tasks running at
+ * the same time. Tasks submitted above the limit are rejected instead of being queued or run by the
+ * caller, so that a burst of work on this executor never spills over to other thread pools.
+ */
+public class BoundedVirtualThreadTaskExecutor implements TaskExecutor, MeterBinder, DisposableBean {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ExecutorService executorService;
+    private final AtomicLong completedTasks = new AtomicLong();
+    private final AtomicLong rejectedTasks = new AtomicLong();
+
+    /**
+     * Constructor method.
+     *
+     * @param name name of the executor, used as thread name prefix and metrics tag.
+     * @param maxConcurrency maximum number of tasks running at the same time.
+     */
+    public BoundedVirtualThreadTaskExecutor(String name, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0.");
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.executorService =
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            rejectedTasks.incrementAndGet();
+            throw new TaskRejectedException(
+                    String.format("Executor %s reached max concurrency %d.", name, maxConcurrency));
+        }
+        Runnable wrappedTask = ThreadMdcUtil.wrap(task, MDC.getCopyOfContextMap());
+        try {
+            executorService.execute(
+                    () -> {
+                        try {
+                            wrappedTask.run();
+                        } finally {
+                            completedTasks.incrementAndGet();
+                            permits.release();
+                        }
+                    });
+        } catch (RuntimeException e) {
+            permits.release();
+            rejectedTasks.incrementAndGet();
+            throw new TaskRejectedException("Executor " + name + " did not accept task.", e);
+        }
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTasks.get();
+    }
+
+    public long getRejectedTaskCount() {
+        return rejectedTasks.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(
+                        "xpanse.executor.active",
+                        this,
+                        BoundedVirtualThreadTaskExecutor::getActiveCount)
+                .tag("name", name)
+                .description("Number of tasks currently running on the executor.")
+                .register(registry);
+        Gauge.builder(
+                        "xpanse.executor.max.concurrency",
+                        this,
+                        BoundedVirtualThreadTaskExecutor::getMaxConcurrency)
+                .tag("name", name)
+                .description("Maximum number of tasks running at the same time on the executor.")
+                .register(registry);
+        FunctionCounter.builder(
+                        "xpanse.executor.completed",
+                        this,
+                        BoundedVirtualThreadTaskExecutor::getCompletedTaskCount)
+                .tag("name", name)
+                .description("Number of tasks completed by the executor.")
+                .register(registry);
+        FunctionCounter.builder(
+                        "xpanse.executor.rejected",
+                        this,
+                        BoundedVirtualThreadTaskExecutor::getRejectedTaskCount)
+                .tag("name", name)
+                .description("Number of tasks rejected because the executor was saturated.")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdown();
+    }
+}
@@ -8,6 +8,7 @@ package org.eclipse.xpanse.modules.async;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -19,6 +20,7 @@ import org.springframework.context.annotation.Configuration;
 public class TaskConfiguration {
 
     public static final String ASYNC_EXECUTOR_NAME = "xpanseAsyncTaskExecutor";
+    public static final String STATUS_UPDATE_EXECUTOR_NAME = "xpanseStatusUpdateTaskExecutor";
     private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
 
     /**
@@ -40,4 +42,19 @@ public class TaskConfiguration {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Define the executor used by server-sent events streams and agent long-polling requests which
+     * wait for status updates. It is separated from the async task executor, so that status
+     * requests and deployment tasks cannot starve each other.
+     *
+     * @param maxConcurrency maximum number of status update tasks running at the same time.
+     * @return executor
+     */
+    @Bean(STATUS_UPDATE_EXECUTOR_NAME)
+    public BoundedVirtualThreadTaskExecutor statusUpdateTaskExecutor(
+            @Value("${xpanse.async.status-update-executor.max-concurrency:200}")
+                    int maxConcurrency) {
+        return new BoundedVirtualThreadTaskExecutor("xpanse-status-update-thread", maxConcurrency);
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskRejectedException;
+
+/** Test of BoundedVirtualThreadTaskExecutor. */
+class BoundedVirtualThreadTaskExecutorTest {
+
+    private BoundedVirtualThreadTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BoundedVirtualThreadTaskExecutor("test-executor", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+        MDC.clear();
+    }
+
+    @Test
+    void testExecuteRunsTaskOnVirtualThreadWithMdc() throws InterruptedException {
+        MDC.put("key", "value");
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(
+                () -> {
+                    if (Thread.currentThread().isVirtual() && "value".equals(MDC.get("key"))) {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testExecuteRejectsTaskAboveMaxConcurrency() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(
+                () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {}));
+        assertEquals(1, executor.getActiveCount());
+        assertEquals(1, executor.getRejectedTaskCount());
+
+        release.countDown();
+        CountDownLatch next = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (executor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        executor.execute(next::countDown);
+        assertTrue(next.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBindTo() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executor.bindTo(registry);
+
+        assertEquals(
+                1,
+                registry.get("xpanse.executor.max.concurrency")
+                        .tag("name", "test-executor")
+                        .gauge()
+                        .value());
+        assertEquals(
+                0,
+                registry.get("xpanse.executor.rejected")
+                        .tag("name", "test-executor")
+                        .functionCounter()
+                        .count());
+    }
+}
@@ -35,4 +35,13 @@ class TaskConfigurationTest {
         assertNotNull(result);
         assertEquals(ServiceThreadPoolTaskExecutor.class, result.getClass());
     }
+
+    @Test
+    public void testStatusUpdateTaskExecutor() {
+        BoundedVirtualThreadTaskExecutor executor = taskConfiguration.statusUpdateTaskExecutor(50);
+
+        assertEquals(50, executor.getMaxConcurrency());
+        assertEquals(0, executor.getActiveCount());
+        executor.destroy();
+    }
 }
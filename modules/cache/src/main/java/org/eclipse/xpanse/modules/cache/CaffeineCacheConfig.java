@@ -6,25 +6,31 @@
 
 package org.eclipse.xpanse.modules.cache;
 
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.CACHE_PROVIDER_CAFFEINE;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.CREDENTIAL_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_SERVICE_OPENAPI_CACHE_MAX_MEGABYTES;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEPLOYER_VERSIONS_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_OPENAPI_CACHE_NAME;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.cache.config.CacheProperties;
 import org.eclipse.xpanse.modules.cache.credential.CredentialCacheKey;
 import org.eclipse.xpanse.modules.cache.credential.CredentialCaffeineCacheExpiry;
+import org.eclipse.xpanse.modules.cache.loader.SingleFlightCacheManager;
 import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsCacheKey;
+import org.eclipse.xpanse.modules.cache.openapi.ServiceOpenApiDocument;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,12 +48,13 @@ public class CaffeineCacheConfig {
     }
 
     /**
-     * Config cache manager with caffeine.
+     * Config cache manager with caffeine. The caches are decorated to load each missing value only
+     * once.
      *
      * @return caffeineCacheManager
      */
     @Bean
-    public CacheManager caffeineCacheManager() {
+    public SingleFlightCacheManager caffeineCacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.registerCustomCache(REGION_AZS_CACHE_NAME, getRegionAzsCache());
         cacheManager.registerCustomCache(
@@ -55,29 +62,67 @@ public class CaffeineCacheConfig {
         cacheManager.registerCustomCache(CREDENTIAL_CACHE_NAME, getCredentialsCache());
         cacheManager.registerCustomCache(MONITOR_METRICS_CACHE_NAME, getMonitorMetricsCache());
         cacheManager.registerCustomCache(DEPLOYER_VERSIONS_CACHE_NAME, getDeployerVersionsCache());
-        return cacheManager;
+        cacheManager.registerCustomCache(SERVICE_OPENAPI_CACHE_NAME, getServiceOpenApiCache());
+        Map<String, Duration> expireAfterWriteOfCaches =
+                Map.of(
+                        REGION_AZS_CACHE_NAME,
+                        Duration.ofMinutes(getRegionAzsCacheMinutes()),
+                        SERVICE_FLAVOR_PRICE_CACHE_NAME,
+                        Duration.ofMinutes(getServiceFlavorPriceCacheMinutes()),
+                        MONITOR_METRICS_CACHE_NAME,
+                        Duration.ofMinutes(getMonitorMetricsCacheMinutes()));
+        return new SingleFlightCacheManager(
+                CACHE_PROVIDER_CAFFEINE, cacheManager, cacheProperties, expireAfterWriteOfCaches);
     }
 
     private Cache<Object, Object> getRegionAzsCache() {
-        long duration =
-                cacheProperties.getAvailabilityZoneCacheMinutes() > 0
-                        ? cacheProperties.getMonitorMetricsCacheMinutes()
-                        : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
-        return Caffeine.newBuilder().expireAfterWrite(duration, TimeUnit.MINUTES).build();
+        return Caffeine.newBuilder()
+                .expireAfterWrite(getRegionAzsCacheMinutes(), TimeUnit.MINUTES)
+                .build();
+    }
+
+    private long getRegionAzsCacheMinutes() {
+        return cacheProperties.getAvailabilityZoneCacheMinutes() > 0
+                ? cacheProperties.getAvailabilityZoneCacheMinutes()
+                : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
     }
 
     private Cache<Object, Object> getServiceFlavorPriceCache() {
-        long duration =
-                cacheProperties.getServicePriceCacheMinutes() > 0
-                        ? cacheProperties.getServicePriceCacheMinutes()
-                        : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
-        return Caffeine.newBuilder().expireAfterWrite(duration, TimeUnit.MINUTES).build();
+        return Caffeine.newBuilder()
+                .expireAfterWrite(getServiceFlavorPriceCacheMinutes(), TimeUnit.MINUTES)
+                .build();
+    }
+
+    private long getServiceFlavorPriceCacheMinutes() {
+        return cacheProperties.getServicePriceCacheMinutes() > 0
+                ? cacheProperties.getServicePriceCacheMinutes()
+                : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
     }
 
     private Cache<Object, Object> getDeployerVersionsCache() {
         return Caffeine.newBuilder().build();
     }
 
+    private Cache<Object, Object> getServiceOpenApiCache() {
+        long duration =
+                cacheProperties.getServiceOpenApiCacheMinutes() > 0
+                        ? cacheProperties.getServiceOpenApiCacheMinutes()
+                        : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+        long maxMegabytes =
+                cacheProperties.getServiceOpenApiCacheMaxMegabytes() > 0
+                        ? cacheProperties.getServiceOpenApiCacheMaxMegabytes()
+                        : DEFAULT_SERVICE_OPENAPI_CACHE_MAX_MEGABYTES;
+        return Caffeine.newBuilder()
+                .expireAfterAccess(duration, TimeUnit.MINUTES)
+                .maximumWeight(maxMegabytes * 1024 * 1024)
+                .weigher(
+                        (Object key, Object value) ->
+                                value instanceof ServiceOpenApiDocument document
+                                        ? document.getWeight()
+                                        : 1)
+                .build();
+    }
+
     private Cache<Object, Object> getCredentialsCache() {
         return Caffeine.newBuilder()
                 .expireAfter(new CredentialCaffeineCacheExpiry())
@@ -92,12 +137,8 @@ public class CaffeineCacheConfig {
     }
 
     private Cache<Object, Object> getMonitorMetricsCache() {
-        long duration =
-                cacheProperties.getMonitorMetricsCacheMinutes() > 0
-                        ? cacheProperties.getMonitorMetricsCacheMinutes()
-                        : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
         return Caffeine.newBuilder()
-                .expireAfterWrite(duration, TimeUnit.MINUTES)
+                .expireAfterWrite(getMonitorMetricsCacheMinutes(), TimeUnit.MINUTES)
                 .removalListener(
                         (Object key, Object value, RemovalCause cause) -> {
                             if (Objects.nonNull(key) && key instanceof MonitorMetricsCacheKey) {
@@ -109,4 +150,10 @@ public class CaffeineCacheConfig {
                         })
                 .build();
     }
+
+    private long getMonitorMetricsCacheMinutes() {
+        return cacheProperties.getMonitorMetricsCacheMinutes() > 0
+                ? cacheProperties.getMonitorMetricsCacheMinutes()
+                : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+    }
 }
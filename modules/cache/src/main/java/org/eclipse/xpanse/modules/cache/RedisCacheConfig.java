@@ -14,10 +14,13 @@ import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEPLOYER_VE
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_OPENAPI_CACHE_NAME;
 
 import java.time.Duration;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.cache.config.CacheProperties;
+import org.eclipse.xpanse.modules.cache.loader.SingleFlightCacheManager;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.system.BackendSystemStatus;
 import org.eclipse.xpanse.modules.models.system.enums.BackendSystemType;
@@ -25,7 +28,6 @@ import org.eclipse.xpanse.modules.models.system.enums.HealthStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -64,13 +66,14 @@ public class RedisCacheConfig {
     }
 
     /**
-     * Config cache manager with caffeine.
+     * Config cache manager with redis. The caches are decorated to load each missing value only
+     * once per instance.
      *
-     * @return caffeineCacheManager
+     * @return redisCacheManager
      */
     @Primary
     @Bean
-    public CacheManager redisCacheManager() {
+    public SingleFlightCacheManager redisCacheManager() {
         checkRedisIsAvailable();
         log.info("Enable cache manager with Redis.");
         RedisCacheManager.RedisCacheManagerBuilder builder =
@@ -81,7 +84,19 @@ public class RedisCacheConfig {
         builder.withCacheConfiguration(CREDENTIAL_CACHE_NAME, getCredentialCache());
         builder.withCacheConfiguration(MONITOR_METRICS_CACHE_NAME, getMonitorMetricsCache());
         builder.withCacheConfiguration(DEPLOYER_VERSIONS_CACHE_NAME, getDeployerVersionsCache());
-        return builder.build();
+        builder.withCacheConfiguration(SERVICE_OPENAPI_CACHE_NAME, getServiceOpenApiCache());
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.initializeCaches();
+        Map<String, Duration> expireAfterWriteOfCaches =
+                Map.of(
+                        REGION_AZS_CACHE_NAME,
+                        Duration.ofMinutes(getRegionAzsCacheMinutes()),
+                        SERVICE_FLAVOR_PRICE_CACHE_NAME,
+                        Duration.ofMinutes(getServiceFlavorPriceCacheMinutes()),
+                        MONITOR_METRICS_CACHE_NAME,
+                        Duration.ofMinutes(getMonitorMetricsCacheMinutes()));
+        return new SingleFlightCacheManager(
+                CACHE_PROVIDER_REDIS, redisCacheManager, cacheProperties, expireAfterWriteOfCaches);
     }
 
     /**
@@ -118,23 +133,15 @@ public class RedisCacheConfig {
     }
 
     private RedisCacheConfiguration getRegionAzsCache() {
-        long duration =
-                this.cacheProperties.getAvailabilityZoneCacheMinutes() > 0
-                        ? this.cacheProperties.getAvailabilityZoneCacheMinutes()
-                        : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(duration))
+                .entryTtl(Duration.ofMinutes(getRegionAzsCacheMinutes()))
                 .serializeKeysWith(getStringRedisSerializer())
                 .serializeValuesWith(getJsonRedisSerializer());
     }
 
     private RedisCacheConfiguration getServiceFlavorPriceCache() {
-        long duration =
-                this.cacheProperties.getServicePriceCacheMinutes() > 0
-                        ? this.cacheProperties.getServicePriceCacheMinutes()
-                        : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(duration))
+                .entryTtl(Duration.ofMinutes(getServiceFlavorPriceCacheMinutes()))
                 .serializeKeysWith(getStringRedisSerializer())
                 .serializeValuesWith(getJdkRedisSerializer());
     }
@@ -147,22 +154,47 @@ public class RedisCacheConfig {
     }
 
     private RedisCacheConfiguration getMonitorMetricsCache() {
-        long duration =
-                this.cacheProperties.getMonitorMetricsCacheMinutes() > 0
-                        ? this.cacheProperties.getMonitorMetricsCacheMinutes()
-                        : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(duration))
+                .entryTtl(Duration.ofMinutes(getMonitorMetricsCacheMinutes()))
                 .serializeKeysWith(getStringRedisSerializer())
                 .serializeValuesWith(getJsonRedisSerializer());
     }
 
+    private long getRegionAzsCacheMinutes() {
+        return this.cacheProperties.getAvailabilityZoneCacheMinutes() > 0
+                ? this.cacheProperties.getAvailabilityZoneCacheMinutes()
+                : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+    }
+
+    private long getServiceFlavorPriceCacheMinutes() {
+        return this.cacheProperties.getServicePriceCacheMinutes() > 0
+                ? this.cacheProperties.getServicePriceCacheMinutes()
+                : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+    }
+
+    private long getMonitorMetricsCacheMinutes() {
+        return this.cacheProperties.getMonitorMetricsCacheMinutes() > 0
+                ? this.cacheProperties.getMonitorMetricsCacheMinutes()
+                : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+    }
+
     private RedisCacheConfiguration getDeployerVersionsCache() {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(getStringRedisSerializer())
                 .serializeValuesWith(getJdkRedisSerializer());
     }
 
+    private RedisCacheConfiguration getServiceOpenApiCache() {
+        long duration =
+                this.cacheProperties.getServiceOpenApiCacheMinutes() > 0
+                        ? this.cacheProperties.getServiceOpenApiCacheMinutes()
+                        : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(duration))
+                .serializeKeysWith(getStringRedisSerializer())
+                .serializeValuesWith(getJdkRedisSerializer());
+    }
+
     /**
      * Config redis template.
      *
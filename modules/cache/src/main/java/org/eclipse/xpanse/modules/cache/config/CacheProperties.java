@@ -5,6 +5,7 @@
 
 package org.eclipse.xpanse.modules.cache.config;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -26,4 +27,20 @@ public class CacheProperties {
 
     @Min(1)
     private int monitorMetricsCacheMinutes = 60;
+
+    @Min(1)
+    private int serviceOpenApiCacheMinutes = 1440;
+
+    @Min(1)
+    private int serviceOpenApiCacheMaxMegabytes = 64;
+
+    @Min(1)
+    @Max(100)
+    private int refreshAheadPercentage = 80;
+
+    @Min(0)
+    private int staleIfErrorMinutes = 60;
+
+    @Min(1)
+    private int maxTrackedKeysPerCache = 10000;
 }
@@ -19,10 +19,14 @@ public class CacheConstants {
 
     public static final String DEPLOYER_VERSIONS_CACHE_NAME = "DEPLOYER_VERSIONS_CACHE";
 
+    public static final String SERVICE_OPENAPI_CACHE_NAME = "SERVICE_OPENAPI_CACHE";
+
     public static final int DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES = 60;
 
     public static final int DEFAULT_CREDENTIAL_CACHE_EXPIRE_TIME_IN_SECONDS = 3600;
 
+    public static final int DEFAULT_SERVICE_OPENAPI_CACHE_MAX_MEGABYTES = 64;
+
     public static final String CACHE_PROVIDER_CAFFEINE = "Caffeine";
 
     public static final String CACHE_PROVIDER_REDIS = "Redis";
@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.cache.loader;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+/**
+ * Cache which decorates the cache of the Caffeine or Redis backend to load each missing value only
+ * once. Concurrent callers of {@link #get(Object, Callable)} for the same key wait for the load
+ * which is already running instead of calling the loader themselves. Values which are read after
+ * the refresh time are loaded again in the background, so that hot keys do not expire while they
+ * are used. When loading a value fails, e.g. because the csp API is not reachable, the last loaded
+ * value is returned for as long as the stale time allows.
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final Duration refreshAfterWrite;
+    private final Duration maxStaleAge;
+    private final Executor refreshExecutor;
+    private final Map<Object, CompletableFuture<Object>> runningLoads = new ConcurrentHashMap<>();
+    private final com.github.benmanes.caffeine.cache.Cache<Object, LoadedValue> loadedValues;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder staleValuesServed = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    /**
+     * Constructor method.
+     *
+     * @param delegate cache of the backend which stores the values.
+     * @param refreshAfterWrite age after which a read value is loaded again, null to disable.
+     * @param maxStaleAge maximum age of the last loaded value which is returned when loading fails.
+     * @param maxTrackedKeys maximum number of keys of which the last loaded value is kept.
+     * @param refreshExecutor executor to load the values in the background.
+     */
+    public SingleFlightCache(
+            Cache delegate,
+            Duration refreshAfterWrite,
+            Duration maxStaleAge,
+            long maxTrackedKeys,
+            Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.refreshAfterWrite = refreshAfterWrite;
+        this.maxStaleAge = maxStaleAge;
+        this.refreshExecutor = refreshExecutor;
+        this.loadedValues =
+                Caffeine.newBuilder()
+                        .maximumSize(maxTrackedKeys)
+                        .expireAfterWrite(maxStaleAge)
+                        .build();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return recordGet(delegate.get(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper valueWrapper = recordGet(delegate.get(key));
+        Object value = Objects.isNull(valueWrapper) ? null : valueWrapper.get();
+        if (Objects.nonNull(value) && Objects.nonNull(type) && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper valueWrapper = recordGet(delegate.get(key));
+        if (Objects.nonNull(valueWrapper)) {
+            refreshIfDue(key, valueLoader);
+            return (T) valueWrapper.get();
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> runningLoad = runningLoads.putIfAbsent(key, load);
+        if (Objects.nonNull(runningLoad)) {
+            coalescedCalls.increment();
+            return (T) awaitLoad(key, valueLoader, runningLoad);
+        }
+        runLoad(key, valueLoader, load, false);
+        return (T) awaitLoad(key, valueLoader, load);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(
+            Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        updateLoadedValue(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existingValue = delegate.putIfAbsent(key, value);
+        if (Objects.isNull(existingValue)) {
+            updateLoadedValue(key, value);
+        }
+        return existingValue;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        loadedValues.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        loadedValues.invalidate(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        loadedValues.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        loadedValues.invalidateAll();
+        return delegate.invalidate();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getCoalescedCallCount() {
+        return coalescedCalls.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    public long getStaleValueServedCount() {
+        return staleValuesServed.sum();
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccesses.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    public long getLoadCount() {
+        return loadSuccesses.sum() + loadFailures.sum();
+    }
+
+    public double getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos.sum();
+    }
+
+    private ValueWrapper recordGet(ValueWrapper valueWrapper) {
+        if (Objects.isNull(valueWrapper)) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return valueWrapper;
+    }
+
+    /**
+     * Only the values of keys which were loaded by this cache are kept for stale reads. Values
+     * written by put, e.g. for the caches without loader, replace a kept value but are not kept
+     * otherwise.
+     */
+    private void updateLoadedValue(Object key, Object value) {
+        loadedValues
+                .asMap()
+                .computeIfPresent(
+                        key, (k, loadedValue) -> new LoadedValue(value, System.nanoTime()));
+    }
+
+    /**
+     * Load the value again in the background when it is older than the refresh time. A value which
+     * was not loaded by this cache, e.g. loaded by another instance sharing the Redis cache, has an
+     * unknown age and is refreshed at once.
+     */
+    private void refreshIfDue(Object key, Callable<?> valueLoader) {
+        if (Objects.isNull(refreshAfterWrite)) {
+            return;
+        }
+        LoadedValue loadedValue = loadedValues.getIfPresent(key);
+        if (Objects.nonNull(loadedValue)
+                && System.nanoTime() - loadedValue.loadedAt() < refreshAfterWrite.toNanos()) {
+            return;
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        if (Objects.nonNull(runningLoads.putIfAbsent(key, load))) {
+            return;
+        }
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> runLoad(key, valueLoader, load, true));
+        } catch (RejectedExecutionException e) {
+            runningLoads.remove(key, load);
+            load.cancel(false);
+        }
+    }
+
+    private void runLoad(
+            Object key, Callable<?> valueLoader, CompletableFuture<Object> load, boolean refresh) {
+        long startTime = System.nanoTime();
+        try {
+            Object value = valueLoader.call();
+            totalLoadTimeNanos.add(System.nanoTime() - startTime);
+            loadSuccesses.increment();
+            delegate.put(key, value);
+            loadedValues.put(key, new LoadedValue(value, System.nanoTime()));
+            load.complete(value);
+        } catch (Exception e) {
+            totalLoadTimeNanos.add(System.nanoTime() - startTime);
+            loadFailures.increment();
+            if (refresh) {
+                log.warn(
+                        "Refreshing value of key {} in cache {} failed. {}",
+                        key,
+                        getName(),
+                        e.getMessage());
+                load.completeExceptionally(e);
+                return;
+            }
+            LoadedValue staleValue = getStaleValue(key);
+            if (Objects.nonNull(staleValue)) {
+                staleValuesServed.increment();
+                log.warn(
+                        "Loading value of key {} in cache {} failed, return the last loaded value."
+                                + " {}",
+                        key,
+                        getName(),
+                        e.getMessage());
+                load.complete(staleValue.value());
+            } else {
+                load.completeExceptionally(e);
+            }
+        } finally {
+            runningLoads.remove(key, load);
+        }
+    }
+
+    private LoadedValue getStaleValue(Object key) {
+        LoadedValue loadedValue = loadedValues.getIfPresent(key);
+        if (Objects.isNull(loadedValue)
+                || Objects.isNull(loadedValue.value())
+                || System.nanoTime() - loadedValue.loadedAt() > maxStaleAge.toNanos()) {
+            return null;
+        }
+        return loadedValue;
+    }
+
+    private Object awaitLoad(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = Objects.nonNull(e.getCause()) ? e.getCause() : e;
+            throw new ValueRetrievalException(key, valueLoader, cause);
+        }
+    }
+
+    /** Value loaded into the cache with the time when it was loaded. */
+    private record LoadedValue(Object value, long loadedAt) {}
+}
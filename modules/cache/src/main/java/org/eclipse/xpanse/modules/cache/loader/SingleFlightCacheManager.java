@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.cache.loader;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.eclipse.xpanse.modules.cache.config.CacheProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Cache manager which decorates the caches of the Caffeine or Redis cache manager with {@link
+ * SingleFlightCache}. Caches of which the entries expire after write are refreshed ahead of their
+ * expiry when they are read. The hits, misses, coalesced calls and load times of each cache are
+ * published as metrics tagged with the name of the cache and the cache provider.
+ */
+public class SingleFlightCacheManager implements CacheManager, MeterBinder, DisposableBean {
+
+    private final String cacheProvider;
+    private final CacheManager delegate;
+    private final CacheProperties cacheProperties;
+    private final Map<String, Duration> expireAfterWriteOfCaches;
+    private final Map<String, SingleFlightCache> caches = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("xpanse-cache-refresh-", 0).factory());
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * Constructor method.
+     *
+     * @param cacheProvider name of the cache provider.
+     * @param delegate cache manager of the cache provider.
+     * @param cacheProperties properties of the caches.
+     * @param expireAfterWriteOfCaches time to live of the entries by name of the cache.
+     */
+    public SingleFlightCacheManager(
+            String cacheProvider,
+            CacheManager delegate,
+            CacheProperties cacheProperties,
+            Map<String, Duration> expireAfterWriteOfCaches) {
+        this.cacheProvider = cacheProvider;
+        this.delegate = delegate;
+        this.cacheProperties = cacheProperties;
+        this.expireAfterWriteOfCaches = expireAfterWriteOfCaches;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        SingleFlightCache cache = caches.get(name);
+        if (Objects.nonNull(cache)) {
+            return cache;
+        }
+        Cache delegateCache = delegate.getCache(name);
+        if (Objects.isNull(delegateCache)) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(delegateCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        caches.values().forEach(cache -> bindCacheMetrics(registry, cache));
+        // caches which are created from now on are bound when they are created.
+        getCacheNames().forEach(this::getCache);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private SingleFlightCache createCache(Cache delegateCache) {
+        Duration expireAfterWrite = expireAfterWriteOfCaches.get(delegateCache.getName());
+        Duration staleIfError = Duration.ofMinutes(cacheProperties.getStaleIfErrorMinutes());
+        Duration refreshAfterWrite = null;
+        Duration maxStaleAge = staleIfError;
+        if (Objects.nonNull(expireAfterWrite)) {
+            refreshAfterWrite =
+                    expireAfterWrite
+                            .multipliedBy(cacheProperties.getRefreshAheadPercentage())
+                            .dividedBy(100);
+            maxStaleAge = expireAfterWrite.plus(staleIfError);
+        }
+        SingleFlightCache cache =
+                new SingleFlightCache(
+                        delegateCache,
+                        refreshAfterWrite,
+                        maxStaleAge,
+                        cacheProperties.getMaxTrackedKeysPerCache(),
+                        refreshExecutor);
+        MeterRegistry registry = this.meterRegistry;
+        if (Objects.nonNull(registry)) {
+            bindCacheMetrics(registry, cache);
+        }
+        return cache;
+    }
+
+    private void bindCacheMetrics(MeterRegistry registry, SingleFlightCache cache) {
+        Tags tags = Tags.of("cache", cache.getName(), "provider", cacheProvider);
+        registerCounter(
+                registry,
+                "xpanse.cache.gets",
+                "Number of reads which found a value in the cache.",
+                tags.and("result", "hit"),
+                cache,
+                SingleFlightCache::getHitCount);
+        registerCounter(
+                registry,
+                "xpanse.cache.gets",
+                "Number of reads which did not find a value in the cache.",
+                tags.and("result", "miss"),
+                cache,
+                SingleFlightCache::getMissCount);
+        registerCounter(
+                registry,
+                "xpanse.cache.coalesced.calls",
+                "Number of reads which waited for a load of the same key instead of loading.",
+                tags,
+                cache,
+                SingleFlightCache::getCoalescedCallCount);
+        registerCounter(
+                registry,
+                "xpanse.cache.refreshes",
+                "Number of values loaded again in the background before they expire.",
+                tags,
+                cache,
+                SingleFlightCache::getRefreshCount);
+        registerCounter(
+                registry,
+                "xpanse.cache.stale.served",
+                "Number of failed loads which returned the last loaded value.",
+                tags,
+                cache,
+                SingleFlightCache::getStaleValueServedCount);
+        registerCounter(
+                registry,
+                "xpanse.cache.loads",
+                "Number of values loaded successfully.",
+                tags.and("result", "success"),
+                cache,
+                SingleFlightCache::getLoadSuccessCount);
+        registerCounter(
+                registry,
+                "xpanse.cache.loads",
+                "Number of values which failed to load.",
+                tags.and("result", "failure"),
+                cache,
+                SingleFlightCache::getLoadFailureCount);
+        FunctionTimer.builder(
+                        "xpanse.cache.load.duration",
+                        cache,
+                        SingleFlightCache::getLoadCount,
+                        SingleFlightCache::getTotalLoadTimeNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Time spent to load the values of the cache.")
+                .tags(tags)
+                .register(registry);
+    }
+
+    private void registerCounter(
+            MeterRegistry registry,
+            String name,
+            String description,
+            Tags tags,
+            SingleFlightCache cache,
+            ToDoubleFunction<SingleFlightCache> count) {
+        FunctionCounter.builder(name, cache, count)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
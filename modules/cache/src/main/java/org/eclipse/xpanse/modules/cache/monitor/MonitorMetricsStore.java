@@ -47,7 +47,7 @@ public class MonitorMetricsStore {
      */
     @CachePut(cacheNames = MONITOR_METRICS_CACHE_NAME, key = "#key")
     public Metric storeMonitorMetric(MonitorMetricsCacheKey key, Metric metric) {
-        log.info("Store monitor metric cache entry with key:{}", key);
+        log.debug("Store monitor metric cache entry with key:{}", key);
         return metric;
     }
 
@@ -68,7 +68,7 @@ public class MonitorMetricsStore {
      */
     @CacheEvict(cacheNames = MONITOR_METRICS_CACHE_NAME, key = "#key")
     public void deleteMonitorMetric(MonitorMetricsCacheKey key) {
-        log.info("Delete monitor metric cache entry with key:{}", key);
+        log.debug("Delete monitor metric cache entry with key:{}", key);
     }
 
     /**
@@ -93,7 +93,7 @@ public class MonitorMetricsStore {
         try {
             Boolean flag = redisTemplate.expire(redisKey, timeToLive, TimeUnit.MINUTES);
             if (Boolean.TRUE.equals(flag)) {
-                log.info(
+                log.debug(
                         "Updated expiration of the redis key:{} with the time:{} in minutes "
                                 + "successfully.",
                         redisKey,
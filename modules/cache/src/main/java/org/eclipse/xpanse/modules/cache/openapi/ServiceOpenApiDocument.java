@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.openapi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+
+/**
+ * Generated OpenApi html of a service template. The html is kept gzip compressed, so it can be sent
+ * as it is to clients accepting gzip and needs less space in the cache.
+ */
+public class ServiceOpenApiDocument implements Serializable {
+
+    @Serial private static final long serialVersionUID = 3021545238165049817L;
+
+    /** Hash of the OpenApi document the html was rendered from. */
+    @Getter private final String contentHash;
+
+    /** Time when the html was rendered in milliseconds since epoch. */
+    @Getter private final long createdTime;
+
+    private final byte[] gzippedHtml;
+
+    /**
+     * Constructor method.
+     *
+     * @param contentHash hash of the OpenApi document.
+     * @param html html rendered from the OpenApi document.
+     */
+    public ServiceOpenApiDocument(String contentHash, String html) {
+        this.contentHash = contentHash;
+        this.createdTime = System.currentTimeMillis();
+        this.gzippedHtml = gzip(html);
+    }
+
+    /**
+     * Get the entity tag of the html used in http caching headers.
+     *
+     * @return quoted content hash.
+     */
+    public String getEtag() {
+        return "\"" + contentHash + "\"";
+    }
+
+    /**
+     * Get the gzip compressed html.
+     *
+     * @return copy of the compressed html.
+     */
+    public byte[] getGzippedHtml() {
+        return gzippedHtml.clone();
+    }
+
+    /**
+     * Get the size of the document in the cache.
+     *
+     * @return count of bytes of the compressed html.
+     */
+    public int getWeight() {
+        return gzippedHtml.length;
+    }
+
+    /**
+     * Get the uncompressed html.
+     *
+     * @return html of the document.
+     */
+    public String getHtml() {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzippedHtml))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(String html) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(html.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.openapi;
+
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_OPENAPI_CACHE_NAME;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.cache.exceptions.CacheNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Component which acts as the gateway to generated OpenApi documents stored in cache. Documents are
+ * stored by the ID and the last modification time of their service template, so an entry never
+ * becomes stale and is shared by all server instances using the same cache.
+ */
+@Slf4j
+@Component
+public class ServiceOpenApiStore {
+
+    /**
+     * Methods to add OpenApi document into store.
+     *
+     * @param documentKey key of the OpenApi document.
+     * @param document rendered document.
+     */
+    @CachePut(cacheNames = SERVICE_OPENAPI_CACHE_NAME, key = "#documentKey")
+    public ServiceOpenApiDocument storeDocument(
+            String documentKey, ServiceOpenApiDocument document) {
+        log.info("Store service OpenApi cache entry with key:{}", documentKey);
+        return document;
+    }
+
+    /**
+     * Methods to get OpenApi document from store.
+     *
+     * @param documentKey key of the OpenApi document.
+     * @return rendered document.
+     */
+    @Cacheable(cacheNames = SERVICE_OPENAPI_CACHE_NAME, key = "#documentKey")
+    public ServiceOpenApiDocument getDocument(String documentKey) {
+        throw new CacheNotFoundException(
+                "No service OpenApi cache entry found with key: " + documentKey);
+    }
+
+    /**
+     * Methods to remove OpenApi document from store.
+     *
+     * @param documentKey key of the OpenApi document.
+     */
+    @CacheEvict(cacheNames = SERVICE_OPENAPI_CACHE_NAME, key = "#documentKey")
+    public void deleteDocument(String documentKey) {
+        log.info("Delete service OpenApi cache entry with key:{}", documentKey);
+    }
+}
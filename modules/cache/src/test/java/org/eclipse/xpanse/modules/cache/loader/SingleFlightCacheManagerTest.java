@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.cache.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.eclipse.xpanse.modules.cache.config.CacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/** Test of SingleFlightCacheManager. */
+class SingleFlightCacheManagerTest {
+
+    private final SingleFlightCacheManager cacheManager =
+            new SingleFlightCacheManager(
+                    "local",
+                    new ConcurrentMapCacheManager("first", "second"),
+                    new CacheProperties(),
+                    Map.of("first", Duration.ofMinutes(10)));
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.destroy();
+    }
+
+    @Test
+    void testGetCache() {
+        Cache cache = cacheManager.getCache("first");
+
+        assertInstanceOf(SingleFlightCache.class, cache);
+        assertSame(cache, cacheManager.getCache("first"));
+        assertEquals("first", cache.getName());
+    }
+
+    @Test
+    void testBindTo() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cacheManager.bindTo(registry);
+        Cache cache = cacheManager.getCache("second");
+        cache.get("key", () -> "value");
+        cache.get("key", () -> "value");
+
+        assertEquals(
+                1,
+                registry.get("xpanse.cache.gets")
+                        .tags("cache", "second", "provider", "local", "result", "hit")
+                        .functionCounter()
+                        .count());
+        assertEquals(
+                1,
+                registry.get("xpanse.cache.gets")
+                        .tags("cache", "second", "result", "miss")
+                        .functionCounter()
+                        .count());
+        FunctionTimer loadTimer =
+                registry.get("xpanse.cache.load.duration").tag("cache", "second").functionTimer();
+        assertEquals(1, loadTimer.count());
+        assertEquals(
+                0,
+                registry.get("xpanse.cache.gets")
+                        .tags("cache", "first", "result", "hit")
+                        .functionCounter()
+                        .count());
+        assertNull(registry.find("xpanse.cache.gets").tag("cache", "third").functionCounter());
+    }
+}
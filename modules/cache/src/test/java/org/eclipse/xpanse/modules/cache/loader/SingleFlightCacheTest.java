@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.cache.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+/** Test of SingleFlightCache. */
+class SingleFlightCacheTest {
+
+    private final ConcurrentMapCache backendCache = new ConcurrentMapCache("test");
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private SingleFlightCache getCache(Duration refreshAfterWrite) {
+        return new SingleFlightCache(
+                backendCache, refreshAfterWrite, Duration.ofMinutes(1), 100, Runnable::run);
+    }
+
+    @Test
+    void testConcurrentLoadsOfSameKeyAreCoalesced() throws Exception {
+        SingleFlightCache cache = getCache(null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        List<String> value = List.of("az-1", "az-2");
+
+        Future<List<String>> first =
+                executorService.submit(
+                        () ->
+                                cache.get(
+                                        "key",
+                                        () -> {
+                                            loads.incrementAndGet();
+                                            loadStarted.countDown();
+                                            releaseLoad.await();
+                                            return value;
+                                        }));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<List<String>> second =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                cache.get(
+                                        "key",
+                                        () -> {
+                                            loads.incrementAndGet();
+                                            return List.of();
+                                        }),
+                        executorService);
+        while (cache.getCoalescedCallCount() == 0) {
+            Thread.sleep(5);
+        }
+        releaseLoad.countDown();
+
+        assertSame(value, first.get(5, TimeUnit.SECONDS));
+        assertSame(value, second.get(5, TimeUnit.SECONDS));
+        assertSame(value, cache.get("key", List::of));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getLoadSuccessCount());
+    }
+
+    @Test
+    void testFailedLoadReturnsLastLoadedValue() {
+        SingleFlightCache cache = getCache(null);
+        cache.get("key", () -> "value");
+        // the entry expires from the backend cache.
+        backendCache.evict("key");
+
+        assertEquals(
+                "value",
+                cache.get(
+                        "key",
+                        () -> {
+                            throw new IllegalStateException("csp not reachable");
+                        }));
+        assertEquals(1, cache.getStaleValueServedCount());
+        assertEquals(1, cache.getLoadFailureCount());
+    }
+
+    @Test
+    void testFailedLoadWithoutLastLoadedValue() {
+        SingleFlightCache cache = getCache(null);
+        IllegalStateException error = new IllegalStateException("csp not reachable");
+
+        Cache.ValueRetrievalException exception =
+                assertThrows(
+                        Cache.ValueRetrievalException.class,
+                        () ->
+                                cache.get(
+                                        "key",
+                                        () -> {
+                                            throw error;
+                                        }));
+        assertSame(error, exception.getCause());
+
+        cache.get("key", () -> "value");
+        cache.evict("key");
+        assertThrows(
+                Cache.ValueRetrievalException.class,
+                () ->
+                        cache.get(
+                                "key",
+                                () -> {
+                                    throw error;
+                                }));
+    }
+
+    @Test
+    void testValueIsRefreshedAfterWrite() {
+        SingleFlightCache cache = getCache(Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, cache.get("key", loads::incrementAndGet));
+        assertEquals(1, cache.get("key", loads::incrementAndGet));
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getRefreshCount());
+        assertEquals(2, cache.get("key", Integer.class));
+    }
+
+    @Test
+    void testPutValueIsNotKeptForStaleReads() {
+        SingleFlightCache cache = getCache(null);
+        cache.put("key", "value");
+        backendCache.evict("key");
+
+        assertThrows(
+                Cache.ValueRetrievalException.class,
+                () ->
+                        cache.get(
+                                "key",
+                                () -> {
+                                    throw new IllegalStateException("csp not reachable");
+                                }));
+        assertEquals(0, cache.getStaleValueServedCount());
+    }
+
+    @Test
+    void testValueNotLoadedByCacheIsRefreshed() {
+        SingleFlightCache cache = getCache(Duration.ofHours(1));
+        // the value is loaded by another instance which shares the backend cache.
+        backendCache.put("key", "old");
+
+        assertEquals("old", cache.get("key", () -> "new"));
+        assertEquals("new", cache.get("key", () -> "newer"));
+
+        assertEquals(1, cache.getRefreshCount());
+        assertEquals(1, cache.getLoadSuccessCount());
+    }
+}
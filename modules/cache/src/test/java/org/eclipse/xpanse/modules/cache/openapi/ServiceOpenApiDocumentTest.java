@@ -0,0 +1,46 @@
+package org.eclipse.xpanse.modules.cache.openapi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ServiceOpenApiDocumentTest {
+
+    private static final String HTML = "<html><body>" + "openapi ".repeat(1000) + "</body></html>";
+
+    private final ServiceOpenApiDocument testDocument = new ServiceOpenApiDocument("hash", HTML);
+
+    @Test
+    void testGetHtml() throws IOException {
+        Assertions.assertEquals(HTML, testDocument.getHtml());
+        Assertions.assertEquals("\"hash\"", testDocument.getEtag());
+        Assertions.assertTrue(testDocument.getWeight() < HTML.length());
+        try (GZIPInputStream inputStream =
+                new GZIPInputStream(new ByteArrayInputStream(testDocument.getGzippedHtml()))) {
+            Assertions.assertEquals(
+                    HTML, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testSerialization() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(testDocument);
+        }
+        try (ObjectInputStream objectInputStream =
+                new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ServiceOpenApiDocument document =
+                    (ServiceOpenApiDocument) objectInputStream.readObject();
+            Assertions.assertEquals(testDocument.getContentHash(), document.getContentHash());
+            Assertions.assertEquals(testDocument.getCreatedTime(), document.getCreatedTime());
+            Assertions.assertEquals(HTML, document.getHtml());
+        }
+    }
+}
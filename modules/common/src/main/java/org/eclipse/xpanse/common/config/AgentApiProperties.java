@@ -15,4 +15,5 @@ public class AgentApiProperties {
 
     private Boolean enableAgentApiOnly;
     private String endpoint;
+    private Integer longPollingSeconds = 30;
 }
@@ -14,16 +14,16 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @Data
 public class OpenApiGeneratorProperties {
 
-    @Valid private Client client;
-
     private String fileGenerationPath;
 
     private String fileResourcesUri;
 
+    @Valid private Renderer renderer = new Renderer();
+
     /** Config class. */
     @Data
-    public static class Client {
-        private String version;
-        private String downloadUrl;
+    public static class Renderer {
+        private int maxConcurrency = 2;
+        private int cacheSize = 64;
     }
 }
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.openapi;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.xpanse.common.config.OpenApiGeneratorProperties;
+import org.eclipse.xpanse.modules.models.common.exceptions.OpenApiFileGenerationException;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to render OpenApi documents to html with the html2 generator of openapi-generator inside the
+ * server process. The number of renderings running at the same time is limited, and html of
+ * documents rendered before is taken from a cache keyed by the hash of the document content.
+ */
+@Slf4j
+@Component
+public class OpenApiHtmlRenderer {
+
+    private static final String HTML_GENERATOR_NAME = "html2";
+    private static final String GENERATED_HTML_FILE_NAME = "index.html";
+    private final Semaphore renderPermits;
+    private final Map<String, String> renderedHtmlCache;
+
+    /** Constructor method. */
+    @Autowired
+    public OpenApiHtmlRenderer(OpenApiGeneratorProperties openApiGeneratorProperties) {
+        OpenApiGeneratorProperties.Renderer renderer =
+                Objects.nonNull(openApiGeneratorProperties.getRenderer())
+                        ? openApiGeneratorProperties.getRenderer()
+                        : new OpenApiGeneratorProperties.Renderer();
+        this.renderPermits = new Semaphore(Math.max(1, renderer.getMaxConcurrency()));
+        this.renderedHtmlCache =
+                Collections.synchronizedMap(
+                        new RenderedHtmlCache(Math.max(0, renderer.getCacheSize())));
+    }
+
+    /**
+     * Render the OpenApi document to html.
+     *
+     * @param apiDocs OpenApi document in json or yaml format.
+     * @return html page describing the API.
+     */
+    public String renderHtml(String apiDocs) {
+        String contentHash = getContentHash(apiDocs);
+        String cachedHtml = renderedHtmlCache.get(contentHash);
+        if (Objects.nonNull(cachedHtml)) {
+            log.debug("Html of OpenApi document {} found in cache.", contentHash);
+            return cachedHtml;
+        }
+        try {
+            renderPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenApiFileGenerationException(
+                    "Interrupted while waiting to render OpenApi html.");
+        }
+        try {
+            String html = renderedHtmlCache.get(contentHash);
+            if (Objects.isNull(html)) {
+                html = generateHtml(apiDocs);
+                renderedHtmlCache.put(contentHash, html);
+            }
+            return html;
+        } finally {
+            renderPermits.release();
+        }
+    }
+
+    private String generateHtml(String apiDocs) {
+        Path renderDir = null;
+        try {
+            renderDir = Files.createTempDirectory("xpanse-openapi-");
+            Path inputSpec = renderDir.resolve("openapi.json");
+            Files.writeString(inputSpec, apiDocs, StandardCharsets.UTF_8);
+            Path outputDir = renderDir.resolve("html");
+            CodegenConfigurator configurator =
+                    new CodegenConfigurator()
+                            .setGeneratorName(HTML_GENERATOR_NAME)
+                            .setInputSpec(inputSpec.toString())
+                            .setOutputDir(outputDir.toString());
+            ClientOptInput clientOptInput = configurator.toClientOptInput();
+            new DefaultGenerator().opts(clientOptInput).generate();
+            Path htmlFile = outputDir.resolve(GENERATED_HTML_FILE_NAME);
+            if (!Files.exists(htmlFile)) {
+                throw new OpenApiFileGenerationException(
+                        "OpenApi generator did not create " + GENERATED_HTML_FILE_NAME);
+            }
+            return Files.readString(htmlFile, StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+            log.error("Render OpenApi html error.", e);
+            throw new OpenApiFileGenerationException(
+                    "Render OpenApi html error: " + e.getMessage());
+        } finally {
+            if (Objects.nonNull(renderDir)) {
+                FileUtils.deleteQuietly(renderDir.toFile());
+            }
+        }
+    }
+
+    /**
+     * Get the hash of the OpenApi document used as key of rendered html.
+     *
+     * @param apiDocs OpenApi document.
+     * @return SHA-256 hash of the document as hex string.
+     */
+    public String getContentHash(String apiDocs) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                    .formatHex(messageDigest.digest(apiDocs.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported.", e);
+        }
+    }
+
+    /** Map which drops the least recently used html when it exceeds its size. */
+    private static class RenderedHtmlCache extends LinkedHashMap<String, String> {
+
+        @Serial private static final long serialVersionUID = 1L;
+        private final int cacheSize;
+
+        RenderedHtmlCache(int cacheSize) {
+            super(16, 0.75f, true);
+            this.cacheSize = cacheSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > cacheSize;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.openapi;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.common.config.OpenApiGeneratorProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/** Class to manage the work directory of the generated OpenApi documents. */
+@Getter
+@Component
+@Slf4j
+public class OpenApiWorkdirManage {
+
+    private final OpenApiGeneratorProperties openApiGeneratorProperties;
+
+    /** Constructor for instantiating OpenApiWorkdirManage bean. */
+    @Autowired
+    public OpenApiWorkdirManage(OpenApiGeneratorProperties openApiGeneratorProperties) {
+        this.openApiGeneratorProperties = openApiGeneratorProperties;
+    }
+
+    /** Method to determine the directory location where openapi files must be created. */
+    public String getOpenApiWorkdir() {
+        String rootPath = System.getProperty("user.dir");
+        try {
+            int modulesIndex = rootPath.indexOf("modules");
+            if (modulesIndex > 1) {
+                rootPath = rootPath.substring(0, modulesIndex);
+            }
+            int runtimeIndex = rootPath.indexOf("runtime");
+            if (runtimeIndex > 1) {
+                rootPath = rootPath.substring(0, runtimeIndex);
+            }
+            File openApiDir =
+                    new File(rootPath, openApiGeneratorProperties.getFileGenerationPath());
+            if (!openApiDir.exists() && !openApiDir.mkdirs()) {
+                throw new FileNotFoundException("Create open API workspace failed!");
+            }
+            return openApiDir.getPath();
+
+        } catch (IOException e) {
+            log.error("Create open API workdir failed!", e);
+        }
+        return rootPath;
+    }
+}
@@ -9,8 +9,10 @@ package org.eclipse.xpanse.common.systemcmd;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -19,9 +21,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.MDC;
 
 /** Executes operating system commands. */
@@ -30,10 +34,37 @@ import org.slf4j.MDC;
 @Slf4j
 public class SystemCmd {
 
+    public static final int DEFAULT_MAX_OUTPUT_HEAD_CHARS = 64 * 1024;
+    public static final int DEFAULT_MAX_OUTPUT_TAIL_CHARS = 256 * 1024;
+
+    /** Directory outside any workspace to write large command output to. */
+    public static final String DEFAULT_OUTPUT_SPILL_DIRECTORY =
+            Path.of(System.getProperty("java.io.tmpdir"), "xpanse-cmd-output").toString();
+
+    /**
+     * Readers of the command output streams. The reads block until the command writes output, so
+     * virtual threads are used and shared by all the commands.
+     */
+    private static final ExecutorService OUTPUT_READER_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("system-cmd-output-reader-", 0).factory());
+
     private Map<String, String> env;
 
     private String workDir = "";
 
+    private SystemCmdOutputListener outputListener;
+
+    /**
+     * Directory to write the output of the command to when it exceeds the in-memory limits. If not
+     * set, the complete output is kept in memory.
+     */
+    private String outputSpillDirectory;
+
+    private int maxOutputHeadChars = DEFAULT_MAX_OUTPUT_HEAD_CHARS;
+
+    private int maxOutputTailChars = DEFAULT_MAX_OUTPUT_TAIL_CHARS;
+
     public SystemCmdResult execute(String cmd) {
         return execute(cmd, 0);
     }
@@ -61,17 +92,11 @@ public class SystemCmd {
                 processBuilder.directory(new File(workDir));
             }
             Process process = processBuilder.start();
-            readProcessOutput(process, systemCmdResult);
-
-            if (waitSecond <= 0) {
-                process.waitFor();
-            } else {
-                if (!process.waitFor(waitSecond, TimeUnit.SECONDS)) {
-                    log.error("SystemCmd wait process failed");
-                    systemCmdResult.setCommandSuccessful(false);
-                }
-            }
-            if (process.exitValue() != 0) {
+            boolean isProcessCompleted = readProcessOutput(process, waitSecond, systemCmdResult);
+            if (!isProcessCompleted) {
+                log.error("SystemCmd wait process failed");
+                systemCmdResult.setCommandSuccessful(false);
+            } else if (process.exitValue() != 0) {
                 log.error("SystemCmd process finished with abnormal value.");
                 systemCmdResult.setCommandSuccessful(false);
             } else {
@@ -91,67 +116,106 @@ public class SystemCmd {
         return systemCmdResult;
     }
 
-    private String readStream(BufferedReader bufferedReader, Map<String, String> contextMap) {
+    private SystemCmdOutputCapture readStream(
+            InputStream inputStream,
+            Map<String, String> contextMap,
+            Consumer<String> lineConsumer,
+            SystemCmdOutputCapture outputCapture)
+            throws IOException {
         // copying MDC context of the main deployment thread to the stream reader thread.
         MDC.setContextMap(contextMap);
-        StringBuilder stringBuilder = new StringBuilder();
-        bufferedReader
-                .lines()
-                .forEach(
-                        line -> {
-                            log.info(line);
-                            // skip adding new line for the first line.
-                            if (!stringBuilder.isEmpty()) {
-                                stringBuilder.append(System.lineSeparator());
-                            }
-                            stringBuilder.append(line);
-                        });
-        return stringBuilder.toString();
+        try (outputCapture;
+                BufferedReader bufferedReader =
+                        new BufferedReader(
+                                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                log.info(line);
+                try {
+                    lineConsumer.accept(line);
+                } catch (RuntimeException e) {
+                    // the stream must be drained further, else the process blocks.
+                    log.error("SystemCmd output listener failed to process line.", e);
+                }
+                outputCapture.appendLine(line);
+            }
+        } finally {
+            MDC.clear();
+        }
+        return outputCapture;
     }
 
-    private void readProcessOutput(Process process, SystemCmdResult systemCmdResult)
-            throws IOException, ExecutionException, InterruptedException {
-        if (Objects.isNull(process)) {
-            return;
+    private SystemCmdOutputCapture createOutputCapture(String spillFileSuffix) {
+        if (StringUtils.isBlank(outputSpillDirectory)) {
+            return new SystemCmdOutputCapture();
         }
+        return new SystemCmdOutputCapture(
+                maxOutputHeadChars,
+                maxOutputTailChars,
+                Path.of(outputSpillDirectory),
+                spillFileSuffix);
+    }
+
+    private boolean readProcessOutput(
+            Process process, int waitSecond, SystemCmdResult systemCmdResult)
+            throws ExecutionException, InterruptedException {
         final Map<String, String> contextMap =
                 new HashMap<>(
                         Objects.nonNull(MDC.getCopyOfContextMap())
                                 ? MDC.getCopyOfContextMap()
                                 : new HashMap<>());
+        SystemCmdOutputListener listener =
+                Objects.nonNull(this.outputListener)
+                        ? this.outputListener
+                        : new SystemCmdOutputListener() {};
 
-        // Starting threads in parallel to read stdout and stderr. This is needed because in
-        // some cases reading stdout first works and in some cases reading stderr first works.
-        // we now let both stdout and stderr streams to be fully read in parallel and then read
-        // the output after the buffers are fully read.
-        try (BufferedReader stdoutReader =
-                new BufferedReader(
-                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-            ExecutorService threadToReadStdout = Executors.newSingleThreadExecutor();
-            Future<String> stdOutFuture =
-                    threadToReadStdout.submit(() -> readStream(stdoutReader, contextMap));
-
-            try (BufferedReader stdErrorReader =
-                    new BufferedReader(
-                            new InputStreamReader(
-                                    process.getErrorStream(), StandardCharsets.UTF_8))) {
-                ExecutorService threadToReadStdErr = Executors.newSingleThreadExecutor();
-                Future<String> stdErrFuture =
-                        threadToReadStdErr.submit(() -> readStream(stdErrorReader, contextMap));
-
-                int count = 0;
-                while (!stdOutFuture.isDone() || !stdErrFuture.isDone()) {
-                    if (count++ < 10 || count % 100000 == 0) {
-                        log.debug("Command output and error streams are still being read.");
-                    }
-                }
-
-                systemCmdResult.setCommandStdError(stdErrFuture.get());
-                systemCmdResult.setCommandStdOutput(stdOutFuture.get());
-                threadToReadStdout.shutdown();
-                threadToReadStdErr.shutdown();
-                // ... rest of the code using stdErrFuture and threadToReadStdErr
+        // stdout and stderr must be read in parallel. Otherwise, the process blocks as soon as
+        // the pipe buffer of the stream which is not being read is full. The readers block on the
+        // streams until the process closes them, so no thread is busy while the command waits.
+        SystemCmdOutputCapture stdOutputCapture = createOutputCapture(".stdout.log");
+        SystemCmdOutputCapture stdErrorCapture = createOutputCapture(".stderr.log");
+        final Future<SystemCmdOutputCapture> stdOutFuture =
+                OUTPUT_READER_EXECUTOR.submit(
+                        () ->
+                                readStream(
+                                        process.getInputStream(),
+                                        contextMap,
+                                        listener::onStdOutputLine,
+                                        stdOutputCapture));
+        final Future<SystemCmdOutputCapture> stdErrFuture =
+                OUTPUT_READER_EXECUTOR.submit(
+                        () ->
+                                readStream(
+                                        process.getErrorStream(),
+                                        contextMap,
+                                        listener::onStdErrorLine,
+                                        stdErrorCapture));
+        boolean isProcessCompleted = true;
+        try {
+            if (waitSecond <= 0) {
+                process.waitFor();
+            } else if (!process.waitFor(waitSecond, TimeUnit.SECONDS)) {
+                isProcessCompleted = false;
+                // the streams are closed once the process is gone and the readers complete.
+                process.destroyForcibly();
             }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+        try {
+            stdErrFuture.get();
+            stdOutFuture.get();
+        } catch (ExecutionException e) {
+            // the result is not returned, so nobody else can delete the output files.
+            stdOutputCapture.deleteSpillFile();
+            stdErrorCapture.deleteSpillFile();
+            throw e;
         }
+        systemCmdResult.setStdErrorCapture(stdErrorCapture);
+        systemCmdResult.setCommandStdError(stdErrorCapture.getOutput());
+        systemCmdResult.setStdOutputCapture(stdOutputCapture);
+        systemCmdResult.setCommandStdOutput(stdOutputCapture.getOutput());
+        return isProcessCompleted;
     }
 }
@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Captures one output stream of a system command. The head and the tail of the output are kept in
+ * memory within the configured limits. As soon as the output exceeds the limits, the complete
+ * output is written to a file in the spill directory and only the head and the tail stay in memory.
+ * Without a spill directory the complete output is kept in memory.
+ */
+@Slf4j
+public class SystemCmdOutputCapture implements Closeable {
+
+    private final int maxHeadChars;
+    private final int maxTailChars;
+    private final Path spillDirectory;
+    private final String spillFileSuffix;
+    private final StringBuilder head = new StringBuilder();
+    private final Deque<String> tailLines = new ArrayDeque<>();
+    private int tailChars;
+    private boolean isHeadFull;
+    private BufferedWriter spillWriter;
+
+    /** Total count of characters written to the stream including line separators. */
+    @Getter private long totalChars;
+
+    /** File with the complete output. Null if the output was not spilled to disk. */
+    @Getter private Path spillFile;
+
+    /** True if output was dropped from memory because it exceeded the limits. */
+    @Getter private boolean isTruncated;
+
+    /** Constructor to capture the complete output in memory. */
+    public SystemCmdOutputCapture() {
+        this(Integer.MAX_VALUE, Integer.MAX_VALUE, null, null);
+    }
+
+    /**
+     * Constructor to capture the output within the limits.
+     *
+     * @param maxHeadChars max count of characters kept from the beginning of the output.
+     * @param maxTailChars max count of characters kept from the end of the output.
+     * @param spillDirectory directory to write the complete output when it exceeds the limits.
+     * @param spillFileSuffix suffix of the file name the output is written to.
+     */
+    public SystemCmdOutputCapture(
+            int maxHeadChars, int maxTailChars, Path spillDirectory, String spillFileSuffix) {
+        this.maxHeadChars = maxHeadChars;
+        this.maxTailChars = maxTailChars;
+        this.spillDirectory = spillDirectory;
+        this.spillFileSuffix = Objects.nonNull(spillFileSuffix) ? spillFileSuffix : ".log";
+    }
+
+    /**
+     * Append a line of the output.
+     *
+     * @param line line without line separator.
+     */
+    public void appendLine(String line) {
+        String separatedLine = totalChars == 0 ? line : System.lineSeparator() + line;
+        totalChars += separatedLine.length();
+        if (!isHeadFull && head.length() + separatedLine.length() <= maxHeadChars) {
+            head.append(separatedLine);
+        } else {
+            isHeadFull = true;
+            appendToTail(separatedLine);
+        }
+        writeToSpillFile(separatedLine);
+    }
+
+    /**
+     * Get the output kept in memory. If the output was truncated, the head and the tail are joined
+     * by a line which describes the skipped part.
+     *
+     * @return output of the command.
+     */
+    public String getOutput() {
+        if (!isTruncated) {
+            return head + String.join("", tailLines);
+        }
+        String skipped =
+                System.lineSeparator()
+                        + "... "
+                        + (totalChars - head.length() - tailChars)
+                        + " characters skipped"
+                        + (Objects.nonNull(spillFile) ? ", full output in " + spillFile : "")
+                        + " ...";
+        return head + skipped + String.join("", tailLines);
+    }
+
+    /**
+     * Get the end of the output. Errors of the command are usually written last.
+     *
+     * @return tail of the output.
+     */
+    public String getTail() {
+        if (tailLines.isEmpty()) {
+            return head.toString();
+        }
+        String tail = String.join("", tailLines);
+        return tail.startsWith(System.lineSeparator())
+                ? tail.substring(System.lineSeparator().length())
+                : tail;
+    }
+
+    /**
+     * Open the complete output as stream. The output is read from the spill file if it was written
+     * to disk.
+     *
+     * @return stream of the complete output.
+     * @throws IOException if the spill file cannot be read.
+     */
+    public InputStream openStream() throws IOException {
+        if (Objects.nonNull(spillFile)) {
+            close();
+            return Files.newInputStream(spillFile);
+        }
+        return new ByteArrayInputStream(getOutput().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Delete the file with the complete output. The output kept in memory is still available. */
+    public void deleteSpillFile() {
+        if (Objects.isNull(spillFile)) {
+            return;
+        }
+        closeSpillWriterQuietly();
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            log.error("Failed to delete spill file {}.", spillFile, e);
+        }
+        spillFile = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (Objects.nonNull(spillWriter)) {
+            spillWriter.close();
+            spillWriter = null;
+        }
+    }
+
+    private void appendToTail(String separatedLine) {
+        if (!isTruncated && tailChars + separatedLine.length() > maxTailChars) {
+            // nothing is dropped yet, so the output read so far is the head and the tail.
+            startSpillFile();
+            isTruncated = true;
+        }
+        String tailLine =
+                separatedLine.length() > maxTailChars
+                        ? separatedLine.substring(separatedLine.length() - maxTailChars)
+                        : separatedLine;
+        tailLines.addLast(tailLine);
+        tailChars += tailLine.length();
+        while (tailChars > maxTailChars) {
+            tailChars -= tailLines.removeFirst().length();
+        }
+    }
+
+    private void startSpillFile() {
+        if (Objects.isNull(spillDirectory)) {
+            return;
+        }
+        try {
+            Files.createDirectories(spillDirectory);
+            spillFile = Files.createTempFile(spillDirectory, "xpanse-cmd-", spillFileSuffix);
+            spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+            spillWriter.write(head.toString());
+            for (String tailLine : tailLines) {
+                spillWriter.write(tailLine);
+            }
+        } catch (IOException e) {
+            log.error("Failed to write command output to spill file {}.", spillFile, e);
+            closeSpillWriterQuietly();
+            spillFile = null;
+        }
+    }
+
+    private void writeToSpillFile(String separatedLine) {
+        if (Objects.isNull(spillWriter)) {
+            return;
+        }
+        try {
+            spillWriter.write(separatedLine);
+        } catch (IOException e) {
+            log.error("Failed to write command output to spill file {}.", spillFile, e);
+            closeSpillWriterQuietly();
+            spillFile = null;
+        }
+    }
+
+    private void closeSpillWriterQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            spillWriter = null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+/**
+ * Receives the output of a system command line by line while the command is running. The methods
+ * are called from the threads reading the output streams of the process, stdout and stderr lines
+ * can therefore arrive concurrently.
+ */
+public interface SystemCmdOutputListener {
+
+    /**
+     * Called for each line written by the command to its standard output.
+     *
+     * @param line line without the line separator.
+     */
+    default void onStdOutputLine(String line) {}
+
+    /**
+     * Called for each line written by the command to its standard error.
+     *
+     * @param line line without the line separator.
+     */
+    default void onStdErrorLine(String line) {}
+}
@@ -5,7 +5,15 @@
 
 package org.eclipse.xpanse.common.systemcmd;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /** Encapsulates result of system command execution. */
 @Data
@@ -15,4 +23,62 @@ public class SystemCmdResult {
     private boolean isCommandSuccessful;
     private String commandStdOutput;
     private String commandStdError;
+
+    @ToString.Exclude @EqualsAndHashCode.Exclude private SystemCmdOutputCapture stdOutputCapture;
+
+    @ToString.Exclude @EqualsAndHashCode.Exclude private SystemCmdOutputCapture stdErrorCapture;
+
+    /**
+     * Get the end of the standard error of the command. The errors reported by the command are
+     * found here, also when the complete output was too large to be kept in memory.
+     *
+     * @return tail of the standard error.
+     */
+    public String getCommandStdErrorTail() {
+        return Optional.ofNullable(this.stdErrorCapture)
+                .map(SystemCmdOutputCapture::getTail)
+                .orElse(commandStdError);
+    }
+
+    /**
+     * Open the complete standard output of the command, read from disk if it exceeded the in-memory
+     * limits.
+     *
+     * @return stream of the standard output.
+     * @throws IOException if the output file cannot be read.
+     */
+    public InputStream openCommandStdOutputStream() throws IOException {
+        return openStream(this.stdOutputCapture, commandStdOutput);
+    }
+
+    /**
+     * Open the complete standard error of the command, read from disk if it exceeded the in-memory
+     * limits.
+     *
+     * @return stream of the standard error.
+     * @throws IOException if the output file cannot be read.
+     */
+    public InputStream openCommandStdErrorStream() throws IOException {
+        return openStream(this.stdErrorCapture, commandStdError);
+    }
+
+    /**
+     * Delete the files the complete output of the command was written to. Only the output kept in
+     * memory is available afterward.
+     */
+    public void deleteOutputSpillFiles() {
+        Optional.ofNullable(this.stdOutputCapture)
+                .ifPresent(SystemCmdOutputCapture::deleteSpillFile);
+        Optional.ofNullable(this.stdErrorCapture)
+                .ifPresent(SystemCmdOutputCapture::deleteSpillFile);
+    }
+
+    private static InputStream openStream(SystemCmdOutputCapture capture, String output)
+            throws IOException {
+        if (Objects.nonNull(capture)) {
+            return capture.openStream();
+        }
+        return new ByteArrayInputStream(
+                Objects.toString(output, "").getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.openapi;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.xpanse.common.config.OpenApiGeneratorProperties;
+import org.eclipse.xpanse.modules.models.common.exceptions.OpenApiFileGenerationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test of OpenApiHtmlRenderer. */
+class OpenApiHtmlRendererTest {
+
+    private static final String API_DOCS =
+            """
+            {
+              "openapi": "3.0.1",
+              "info": {"title": "Rendered Test Service", "version": "1.0.0"},
+              "paths": {
+                "/xpanse/services": {
+                  "get": {
+                    "operationId": "listServices",
+                    "responses": {"200": {"description": "OK"}}
+                  }
+                }
+              }
+            }
+            """;
+
+    private OpenApiHtmlRenderer openApiHtmlRenderer;
+
+    @BeforeEach
+    void setUp() {
+        openApiHtmlRenderer = new OpenApiHtmlRenderer(new OpenApiGeneratorProperties());
+    }
+
+    @Test
+    void testRenderHtml() {
+        String html = openApiHtmlRenderer.renderHtml(API_DOCS);
+
+        assertTrue(html.contains("Rendered Test Service"));
+        assertTrue(html.contains("listServices"));
+        assertSame(html, openApiHtmlRenderer.renderHtml(API_DOCS));
+    }
+
+    @Test
+    void testRenderHtmlOfInvalidDocument() {
+        assertThrows(
+                OpenApiFileGenerationException.class,
+                () -> openApiHtmlRenderer.renderHtml("not an openapi document"));
+    }
+}
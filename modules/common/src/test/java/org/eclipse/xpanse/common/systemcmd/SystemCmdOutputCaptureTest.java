@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test of SystemCmdOutputCapture. */
+class SystemCmdOutputCaptureTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void testCaptureWithinLimits() throws IOException {
+        SystemCmdOutputCapture capture = new SystemCmdOutputCapture(100, 100, tempDir, ".log");
+        capture.appendLine("line1");
+        capture.appendLine("line2");
+        capture.close();
+
+        String expected = "line1" + System.lineSeparator() + "line2";
+        assertEquals(expected, capture.getOutput());
+        assertFalse(capture.isTruncated());
+        assertNull(capture.getSpillFile());
+        try (InputStream inputStream = capture.openStream()) {
+            assertEquals(expected, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testCaptureSpillsCompleteOutputToDisk() throws IOException {
+        SystemCmdOutputCapture capture = new SystemCmdOutputCapture(20, 30, tempDir, ".log");
+        IntStream.range(0, 100).forEach(i -> capture.appendLine("line" + i));
+        capture.close();
+
+        String completeOutput =
+                IntStream.range(0, 100)
+                        .mapToObj(i -> "line" + i)
+                        .collect(Collectors.joining(System.lineSeparator()));
+        assertTrue(capture.isTruncated());
+        assertEquals(completeOutput.length(), capture.getTotalChars());
+        assertNotNull(capture.getSpillFile());
+        assertTrue(capture.getSpillFile().startsWith(tempDir));
+        assertTrue(capture.getTail().endsWith("line98" + System.lineSeparator() + "line99"));
+        assertTrue(capture.getTail().length() <= 30);
+        assertTrue(capture.getOutput().startsWith("line0"));
+        assertTrue(capture.getOutput().contains("characters skipped"));
+        try (InputStream inputStream = capture.openStream()) {
+            assertEquals(
+                    completeOutput, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        Path spillFile = capture.getSpillFile();
+        capture.deleteSpillFile();
+        assertFalse(Files.exists(spillFile));
+        assertNull(capture.getSpillFile());
+        assertTrue(capture.getTail().endsWith("line99"));
+    }
+
+    @Test
+    void testCaptureWithoutSpillDirectoryKeepsHeadAndTail() {
+        SystemCmdOutputCapture capture = new SystemCmdOutputCapture(10, 10, null, null);
+        IntStream.range(0, 100).forEach(i -> capture.appendLine("line" + i));
+
+        assertTrue(capture.isTruncated());
+        assertNull(capture.getSpillFile());
+        assertEquals("line99", capture.getTail());
+    }
+
+    @Test
+    void testCaptureOfSingleLongLine() {
+        SystemCmdOutputCapture capture = new SystemCmdOutputCapture(5, 5, null, null);
+        capture.appendLine("0123456789");
+
+        assertTrue(capture.isTruncated());
+        assertEquals("56789", capture.getTail());
+    }
+}
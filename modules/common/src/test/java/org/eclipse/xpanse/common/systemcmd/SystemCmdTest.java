@@ -5,9 +5,18 @@
 
 package org.eclipse.xpanse.common.systemcmd;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 /** Test of SystemCmd. */
 public class SystemCmdTest {
@@ -28,4 +37,63 @@ public class SystemCmdTest {
         Assertions.assertNull(systemCmd.getEnv());
         Assertions.assertNotNull(systemCmd.getWorkDir());
     }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandExecuteWithOutputListener() {
+        List<String> stdOutputLines = new CopyOnWriteArrayList<>();
+        List<String> stdErrorLines = new CopyOnWriteArrayList<>();
+        SystemCmd systemCmd = new SystemCmd();
+        systemCmd.setOutputListener(
+                new SystemCmdOutputListener() {
+                    @Override
+                    public void onStdOutputLine(String line) {
+                        stdOutputLines.add(line);
+                    }
+
+                    @Override
+                    public void onStdErrorLine(String line) {
+                        stdErrorLines.add(line);
+                    }
+                });
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("ls -d / /not-existing-path");
+
+        Assertions.assertFalse(systemCmdResult.isCommandSuccessful());
+        Assertions.assertEquals(List.of("/"), stdOutputLines);
+        Assertions.assertEquals(1, stdErrorLines.size());
+        Assertions.assertEquals("/", systemCmdResult.getCommandStdOutput());
+        Assertions.assertEquals(stdErrorLines.getFirst(), systemCmdResult.getCommandStdError());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandExecuteTimeout() {
+        SystemCmd systemCmd = new SystemCmd();
+        long start = System.currentTimeMillis();
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("sleep 30", 1);
+
+        Assertions.assertFalse(systemCmdResult.isCommandSuccessful());
+        Assertions.assertTrue(System.currentTimeMillis() - start < 10000);
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandExecuteWithBoundedOutputCapture(@TempDir Path tempDir) throws IOException {
+        SystemCmd systemCmd = new SystemCmd();
+        systemCmd.setOutputSpillDirectory(tempDir.toString());
+        systemCmd.setMaxOutputHeadChars(100);
+        systemCmd.setMaxOutputTailChars(100);
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("seq 1 10000");
+
+        Assertions.assertTrue(systemCmdResult.isCommandSuccessful());
+        Assertions.assertTrue(systemCmdResult.getCommandStdOutput().length() < 500);
+        Assertions.assertTrue(systemCmdResult.getStdOutputCapture().isTruncated());
+        try (InputStream inputStream = systemCmdResult.openCommandStdOutputStream()) {
+            String completeOutput = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            Assertions.assertEquals(10000, completeOutput.lines().count());
+        }
+    }
 }
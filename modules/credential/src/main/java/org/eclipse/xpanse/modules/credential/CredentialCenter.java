@@ -8,7 +8,9 @@ package org.eclipse.xpanse.modules.credential;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -29,6 +31,8 @@ import org.eclipse.xpanse.modules.models.credential.exceptions.CredentialVariabl
 import org.eclipse.xpanse.modules.models.credential.exceptions.CredentialsNotFoundException;
 import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspClientPool;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspTokenCache;
 import org.eclipse.xpanse.modules.security.secrets.SecretsManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -43,6 +47,8 @@ public class CredentialCenter {
     private final PluginManager pluginManager;
     private final CredentialsStore credentialsStore;
     private final CredentialOpenApiGenerator credentialOpenApiGenerator;
+    private final CspClientPool cspClientPool;
+    private final CspTokenCache cspTokenCache;
 
     /** Constructor of CredentialCenter. */
     @Autowired
@@ -50,11 +56,15 @@ public class CredentialCenter {
             SecretsManager secretsManager,
             PluginManager pluginManager,
             CredentialsStore credentialsStore,
-            CredentialOpenApiGenerator credentialOpenApiGenerator) {
+            CredentialOpenApiGenerator credentialOpenApiGenerator,
+            CspClientPool cspClientPool,
+            CspTokenCache cspTokenCache) {
         this.secretsManager = secretsManager;
         this.pluginManager = pluginManager;
         this.credentialsStore = credentialsStore;
         this.credentialOpenApiGenerator = credentialOpenApiGenerator;
+        this.cspClientPool = cspClientPool;
+        this.cspTokenCache = cspTokenCache;
     }
 
     /**
@@ -264,6 +274,8 @@ public class CredentialCenter {
                         credential.getUserId());
         credentialsStore.storeCredential(cacheKey, credential);
         credentialsStore.updateCredentialCacheTimeToLive(cacheKey);
+        cspClientPool.invalidateClients(credential.getCsp());
+        cspTokenCache.invalidateTokens(credential.getCsp());
     }
 
     /**
@@ -284,6 +296,8 @@ public class CredentialCenter {
         CredentialCacheKey cacheKey =
                 new CredentialCacheKey(csp, siteName, credentialType, credentialName, userKey);
         credentialsStore.deleteCredential(cacheKey);
+        cspClientPool.invalidateClients(csp);
+        cspTokenCache.invalidateTokens(csp);
     }
 
     /**
@@ -344,15 +358,20 @@ public class CredentialCenter {
         // Spring cache always returns the reference to the original object. So any changes to it
         // must be avoided.
         CredentialVariables credentialVariablesClone = credentialVariables.clone();
-        List<CredentialVariable> variables = credentialVariablesClone.getVariables();
-        variables.forEach(
-                variable -> {
-                    if (!Objects.isNull(variable) && variable.getIsSensitive()) {
-                        if (StringUtils.isNotBlank(variable.getValue())) {
-                            variable.setValue(secretsManager.decrypt(variable.getValue()));
-                        }
-                    }
-                });
+        List<CredentialVariable> sensitiveVariables =
+                credentialVariablesClone.getVariables().stream()
+                        .filter(
+                                variable ->
+                                        !Objects.isNull(variable)
+                                                && variable.getIsSensitive()
+                                                && StringUtils.isNotBlank(variable.getValue()))
+                        .toList();
+        Map<String, String> encryptedValues = new LinkedHashMap<>();
+        sensitiveVariables.forEach(
+                variable -> encryptedValues.put(variable.getName(), variable.getValue()));
+        Map<String, String> decryptedValues = secretsManager.decryptAll(encryptedValues);
+        sensitiveVariables.forEach(
+                variable -> variable.setValue(decryptedValues.get(variable.getName())));
         return credentialVariablesClone;
     }
 
@@ -8,11 +8,8 @@ package org.eclipse.xpanse.modules.credential;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
@@ -21,8 +18,9 @@ import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.xpanse.common.openapi.OpenApiGeneratorJarManage;
+import org.eclipse.xpanse.common.openapi.OpenApiHtmlRenderer;
 import org.eclipse.xpanse.common.openapi.OpenApiUrlManage;
+import org.eclipse.xpanse.common.openapi.OpenApiWorkdirManage;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
@@ -50,7 +48,8 @@ public class CredentialOpenApiGenerator implements ApplicationListener<Applicati
     private final String appVersion;
     private final OpenApiUrlManage openApiUrlManage;
     private final PluginManager pluginManager;
-    private final OpenApiGeneratorJarManage openApiGeneratorJarManage;
+    private final OpenApiWorkdirManage openApiWorkdirManage;
+    private final OpenApiHtmlRenderer openApiHtmlRenderer;
     private final ZitadelIdentityProviderService zitadelIdentityProviderService;
 
     private final SecurityProperties securityProperties;
@@ -62,13 +61,15 @@ public class CredentialOpenApiGenerator implements ApplicationListener<Applicati
             @Nullable ZitadelIdentityProviderService zitadelIdentityProviderService,
             PluginManager pluginManager,
             OpenApiUrlManage openApiUrlManage,
-            OpenApiGeneratorJarManage openApiGeneratorJarManage,
+            OpenApiWorkdirManage openApiWorkdirManage,
+            OpenApiHtmlRenderer openApiHtmlRenderer,
             SecurityProperties securityProperties) {
         this.appVersion = appVersion;
         this.zitadelIdentityProviderService = zitadelIdentityProviderService;
         this.pluginManager = pluginManager;
         this.openApiUrlManage = openApiUrlManage;
-        this.openApiGeneratorJarManage = openApiGeneratorJarManage;
+        this.openApiWorkdirManage = openApiWorkdirManage;
+        this.openApiHtmlRenderer = openApiHtmlRenderer;
         this.securityProperties = securityProperties;
     }
 
@@ -87,7 +88,7 @@ public class CredentialOpenApiGenerator implements ApplicationListener<Applicati
      * @return workdir The work directory of the credentialApi.
      */
     private String getCredentialApiDir() {
-        return this.openApiGeneratorJarManage.getOpenApiWorkdir();
+        return this.openApiWorkdirManage.getOpenApiWorkdir();
     }
 
     @Override
@@ -127,9 +128,6 @@ public class CredentialOpenApiGenerator implements ApplicationListener<Applicati
      * @param credentialVariables credentialDefinition
      */
     public void createCredentialApi(CredentialVariables credentialVariables) {
-        String jsonFileName =
-                getCredentialApiFileName(
-                        credentialVariables.getCsp(), credentialVariables.getType(), ".json");
         String htmlFileName =
                 getCredentialApiFileName(
                         credentialVariables.getCsp(), credentialVariables.getType(), ".html");
@@ -138,75 +136,18 @@ public class CredentialOpenApiGenerator implements ApplicationListener<Applicati
         if (!dir.exists()) {
             log.info("Create service openApi dir:{} successfully.", credentialApiDir);
         }
-        File jsonFile = new File(credentialApiDir, jsonFileName);
         File htmlFile = new File(credentialApiDir, htmlFileName);
         htmlFile.deleteOnExit();
         try {
             String apiDocsJson = getApiDocsJson(credentialVariables);
-            try (FileWriter apiWriter =
-                    new FileWriter(jsonFile.getPath(), StandardCharsets.UTF_8)) {
-                apiWriter.write(apiDocsJson);
-            }
-            log.info("credentialApi jsonFile:{} creation successful.", jsonFile.getName());
-            File jarPath = getJarPath();
-            if (jsonFile.exists() && jarPath.exists()) {
-                String comm =
-                        String.format(
-                                "java -jar %s generate -g html2 " + "-i %s -o %s",
-                                jarPath.getPath(), jsonFile.getPath(), credentialApiDir);
-                ProcessBuilder processBuilder = new ProcessBuilder(comm.split("\\s+"));
-                processBuilder.redirectErrorStream(true);
-                Process process = processBuilder.start();
-                StringBuilder stdErrOut = new StringBuilder();
-                try (BufferedReader outputReader =
-                        new BufferedReader(
-                                new InputStreamReader(
-                                        process.getInputStream(), StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = outputReader.readLine()) != null) {
-                        stdErrOut.append(line);
-                    }
-                }
-                int exitCode = process.waitFor();
-                if (exitCode != 0) {
-                    log.error(
-                            "credentialApi htmlFile:{} creation failed.{}",
-                            htmlFile.getName(),
-                            stdErrOut);
-                }
-                File tempHtmlFile = new File(credentialApiDir, "index.html");
-                if (tempHtmlFile.exists() && (tempHtmlFile.renameTo(htmlFile))) {
-                    log.info("credentialApi htmlFile:{} creation successful.", htmlFile.getName());
-                }
-            } else {
-                log.error(
-                        "Not generating {} file. Missing json or openapi-generator jar file",
-                        htmlFile.getName());
-            }
-        } catch (IOException | InterruptedException ex) {
+            String html = openApiHtmlRenderer.renderHtml(apiDocsJson);
+            Files.writeString(htmlFile.toPath(), html, StandardCharsets.UTF_8);
+            log.info("credentialApi htmlFile:{} creation successful.", htmlFile.getName());
+        } catch (IOException | RuntimeException ex) {
             log.error("credentialApi html file:{} creation failed.", htmlFile.getName(), ex);
-        } finally {
-            // Delete the json file named ${Csp}_credentialApi.yaml
-            if (jsonFile.exists()) {
-                try {
-                    Files.delete(jsonFile.toPath());
-                    log.info("Deleted temp json file:{} successfully.", jsonFile.getName());
-                } catch (IOException ioException) {
-                    log.info("Deleting temp json file:{} failed.", jsonFile.getName(), ioException);
-                }
-            }
         }
     }
 
-    /**
-     * Get the path of the openapi-generator-cli.jar used.
-     *
-     * @return File The openapi-generator-cli.jar path.
-     */
-    private File getJarPath() {
-        return this.openApiGeneratorJarManage.getCliFile();
-    }
-
     /**
      * Get credential openApi Url.
      *
@@ -246,20 +187,18 @@ public class CredentialOpenApiGenerator implements ApplicationListener<Applicati
                 throw new NoCredentialDefinitionAvailable(errorMsg);
             }
         }
-        if (openApiGeneratorJarManage
+        if (openApiWorkdirManage
                 .getOpenApiGeneratorProperties()
                 .getFileGenerationPath()
                 .endsWith("/")) {
             return getServiceUrl()
                     + "/"
-                    + openApiGeneratorJarManage
-                            .getOpenApiGeneratorProperties()
-                            .getFileGenerationPath()
+                    + openApiWorkdirManage.getOpenApiGeneratorProperties().getFileGenerationPath()
                     + htmlFileName;
         }
         return getServiceUrl()
                 + "/"
-                + openApiGeneratorJarManage.getOpenApiGeneratorProperties().getFileGenerationPath()
+                + openApiWorkdirManage.getOpenApiGeneratorProperties().getFileGenerationPath()
                 + "/"
                 + htmlFileName;
     }
@@ -10,6 +10,8 @@ import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.eclipse.xpanse.modules.models.service.statemanagement.enums.ServiceState;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -74,4 +76,22 @@ public class DatabaseServiceResourceStorage implements ServiceResourceStorage {
         }
         return null;
     }
+
+    @Override
+    public List<ServiceResourceEntity> listServiceResourcesByKindAndServiceState(
+            DeployResourceKind resourceKind, ServiceState serviceState) {
+        Specification<ServiceResourceEntity> specification =
+                (root, query, criteriaBuilder) -> {
+                    List<Predicate> predicateList = new ArrayList<>();
+                    predicateList.add(
+                            criteriaBuilder.equal(root.get("resourceKind"), resourceKind));
+                    predicateList.add(
+                            criteriaBuilder.equal(
+                                    root.get("serviceDeploymentEntity").get("serviceState"),
+                                    serviceState));
+                    return query.where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
+                            .getRestriction();
+                };
+        return serviceResourceRepository.findAll(specification);
+    }
 }
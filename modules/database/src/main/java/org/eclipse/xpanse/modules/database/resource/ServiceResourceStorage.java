@@ -6,7 +6,10 @@
 
 package org.eclipse.xpanse.modules.database.resource;
 
+import java.util.List;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.eclipse.xpanse.modules.models.service.statemanagement.enums.ServiceState;
 
 /** Interface for persist of ServiceResource. */
 public interface ServiceResourceStorage {
@@ -28,4 +31,14 @@ public interface ServiceResourceStorage {
      * @return DeployResourceEntity
      */
     ServiceResourceEntity findServiceResourceByResourceId(String resourceId);
+
+    /**
+     * List the resources of the given kind of all services in the given run state.
+     *
+     * @param resourceKind kind of the resources.
+     * @param serviceState run state of the services.
+     * @return list of resources together with their service.
+     */
+    List<ServiceResourceEntity> listServiceResourcesByKindAndServiceState(
+            DeployResourceKind resourceKind, ServiceState serviceState);
 }
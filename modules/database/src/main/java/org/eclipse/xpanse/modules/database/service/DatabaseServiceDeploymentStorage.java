@@ -6,13 +6,33 @@
 
 package org.eclipse.xpanse.modules.database.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.enums.SortOrder;
+import org.eclipse.xpanse.modules.models.service.config.ServiceLockConfig;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceSortField;
+import org.eclipse.xpanse.modules.models.service.statemanagement.enums.ServiceState;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -24,6 +44,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DatabaseServiceDeploymentStorage implements ServiceDeploymentStorage {
 
     private final ServiceDeploymentRepository serviceDeploymentRepository;
+    @PersistenceContext private EntityManager entityManager;
 
     @Autowired
     public DatabaseServiceDeploymentStorage(ServiceDeploymentRepository repository) {
@@ -52,56 +73,8 @@ public class DatabaseServiceDeploymentStorage implements ServiceDeploymentStorag
 
         Specification<ServiceDeploymentEntity> specification =
                 (root, query, criteriaBuilder) -> {
-                    List<Predicate> predicateList = new ArrayList<>();
-                    if (Objects.nonNull(serviceQuery.getServiceTemplateId())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("serviceTemplateEntity").get("id"),
-                                        serviceQuery.getServiceTemplateId()));
-                    }
-                    if (Objects.nonNull(serviceQuery.getCategory())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("category"), serviceQuery.getCategory()));
-                    }
-                    if (Objects.nonNull(serviceQuery.getCsp())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(root.get("csp"), serviceQuery.getCsp()));
-                    }
-                    if (StringUtils.isNotBlank(serviceQuery.getServiceName())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("name"),
-                                        StringUtils.lowerCase(serviceQuery.getServiceName())));
-                    }
-                    if (StringUtils.isNotBlank(serviceQuery.getServiceVersion())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("version"),
-                                        StringUtils.lowerCase(serviceQuery.getServiceVersion())));
-                    }
-
-                    if (Objects.nonNull(serviceQuery.getServiceState())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("serviceDeploymentState"),
-                                        serviceQuery.getServiceState()));
-                    }
-                    predicateList.add(
-                            criteriaBuilder.isNotNull(root.get("serviceDeploymentState")));
-
-                    if (Objects.nonNull(serviceQuery.getUserId())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("userId"), serviceQuery.getUserId()));
-                    }
-
-                    if (Objects.nonNull(serviceQuery.getServiceVendor())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("serviceVendor"),
-                                        serviceQuery.getServiceVendor()));
-                    }
+                    List<Predicate> predicateList =
+                            getPredicates(serviceQuery, root, criteriaBuilder);
 
                     query.where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
                             .getRestriction();
@@ -114,6 +87,177 @@ public class DatabaseServiceDeploymentStorage implements ServiceDeploymentStorag
         return serviceDeploymentRepository.findAll(specification);
     }
 
+    /**
+     * Method to list one keyset page of summaries of services. Only the columns of the summary are
+     * selected, the collections of the entities are never loaded.
+     *
+     * @param serviceQuery query model for search service deployment entity.
+     * @param pageRequest page request with sort and cursor.
+     * @return page of service summaries.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ServiceSummaryPage listServiceSummaries(
+            ServiceQueryModel serviceQuery, ServicePageRequest pageRequest) {
+        if (pageRequest.getPageSize() < 1
+                || pageRequest.getPageSize() > ServicePageRequest.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Page size must be between 1 and %d.",
+                            ServicePageRequest.MAX_PAGE_SIZE));
+        }
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ServiceDeploymentEntity> root = query.from(ServiceDeploymentEntity.class);
+        List<Predicate> predicateList = getPredicates(serviceQuery, root, criteriaBuilder);
+        Path<OffsetDateTime> sortPath = root.get(pageRequest.getSortField().toValue());
+        Path<UUID> idPath = root.get("id");
+        boolean isAscending = pageRequest.getSortOrder() == SortOrder.ASC;
+        if (StringUtils.isNotBlank(pageRequest.getCursor())) {
+            ServicePageCursor cursor = ServicePageCursor.decode(pageRequest);
+            // (sortValue, id) after the last row of the previous page.
+            predicateList.add(
+                    isAscending
+                            ? criteriaBuilder.or(
+                                    criteriaBuilder.greaterThan(sortPath, cursor.getSortValue()),
+                                    criteriaBuilder.and(
+                                            criteriaBuilder.equal(sortPath, cursor.getSortValue()),
+                                            criteriaBuilder.greaterThan(idPath, cursor.getId())))
+                            : criteriaBuilder.or(
+                                    criteriaBuilder.lessThan(sortPath, cursor.getSortValue()),
+                                    criteriaBuilder.and(
+                                            criteriaBuilder.equal(sortPath, cursor.getSortValue()),
+                                            criteriaBuilder.lessThan(idPath, cursor.getId()))));
+        }
+        query.multiselect(
+                        idPath.alias("id"),
+                        root.get("userId").alias("userId"),
+                        root.get("category").alias("category"),
+                        root.get("name").alias("name"),
+                        root.get("version").alias("version"),
+                        root.get("customerServiceName").alias("customerServiceName"),
+                        root.get("serviceVendor").alias("serviceVendor"),
+                        root.get("csp").alias("csp"),
+                        root.get("serviceHostingType").alias("serviceHostingType"),
+                        root.get("region").alias("region"),
+                        root.get("availabilityZones").alias("availabilityZones"),
+                        root.get("flavor").alias("flavor"),
+                        root.get("billingMode").alias("billingMode"),
+                        root.get("serviceDeploymentState").alias("serviceDeploymentState"),
+                        root.get("serviceState").alias("serviceState"),
+                        root.get("serviceTemplateEntity").get("id").alias("serviceTemplateId"),
+                        root.get("createdTime").alias("createdTime"),
+                        root.get("lastModifiedTime").alias("lastModifiedTime"),
+                        root.get("lastStartedAt").alias("lastStartedAt"),
+                        root.get("lastStoppedAt").alias("lastStoppedAt"),
+                        root.get("lockConfig").alias("lockConfig"))
+                .where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
+                .orderBy(
+                        isAscending
+                                ? criteriaBuilder.asc(sortPath)
+                                : criteriaBuilder.desc(sortPath),
+                        isAscending ? criteriaBuilder.asc(idPath) : criteriaBuilder.desc(idPath));
+        // query one more row to know whether there is a next page.
+        List<ServiceDeploymentSummary> summaries =
+                entityManager
+                        .createQuery(query)
+                        .setMaxResults(pageRequest.getPageSize() + 1)
+                        .getResultStream()
+                        .map(this::toServiceDeploymentSummary)
+                        .collect(Collectors.toCollection(ArrayList::new));
+        if (summaries.size() <= pageRequest.getPageSize()) {
+            return new ServiceSummaryPage(summaries, null);
+        }
+        List<ServiceDeploymentSummary> pageSummaries =
+                new ArrayList<>(summaries.subList(0, pageRequest.getPageSize()));
+        ServiceDeploymentSummary lastSummary = pageSummaries.getLast();
+        OffsetDateTime lastSortValue =
+                pageRequest.getSortField() == ServiceSortField.LAST_MODIFIED_TIME
+                        ? lastSummary.getLastModifiedTime()
+                        : lastSummary.getCreatedTime();
+        return new ServiceSummaryPage(
+                pageSummaries,
+                new ServicePageCursor(lastSortValue, lastSummary.getId()).encode(pageRequest));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ServiceDeploymentSummary toServiceDeploymentSummary(Tuple tuple) {
+        ServiceDeploymentSummary summary = new ServiceDeploymentSummary();
+        summary.setId(tuple.get("id", UUID.class));
+        summary.setUserId(tuple.get("userId", String.class));
+        summary.setCategory(tuple.get("category", Category.class));
+        summary.setName(tuple.get("name", String.class));
+        summary.setVersion(tuple.get("version", String.class));
+        summary.setCustomerServiceName(tuple.get("customerServiceName", String.class));
+        summary.setServiceVendor(tuple.get("serviceVendor", String.class));
+        summary.setCsp(tuple.get("csp", Csp.class));
+        summary.setServiceHostingType(tuple.get("serviceHostingType", ServiceHostingType.class));
+        summary.setRegion(tuple.get("region", Region.class));
+        summary.setAvailabilityZones(tuple.get("availabilityZones", Map.class));
+        summary.setFlavor(tuple.get("flavor", String.class));
+        summary.setBillingMode(tuple.get("billingMode", BillingMode.class));
+        summary.setServiceDeploymentState(
+                tuple.get("serviceDeploymentState", ServiceDeploymentState.class));
+        summary.setServiceState(tuple.get("serviceState", ServiceState.class));
+        summary.setServiceTemplateId(tuple.get("serviceTemplateId", UUID.class));
+        summary.setCreatedTime(tuple.get("createdTime", OffsetDateTime.class));
+        summary.setLastModifiedTime(tuple.get("lastModifiedTime", OffsetDateTime.class));
+        summary.setLastStartedAt(tuple.get("lastStartedAt", OffsetDateTime.class));
+        summary.setLastStoppedAt(tuple.get("lastStoppedAt", OffsetDateTime.class));
+        summary.setLockConfig(tuple.get("lockConfig", ServiceLockConfig.class));
+        return summary;
+    }
+
+    private List<Predicate> getPredicates(
+            ServiceQueryModel serviceQuery,
+            Root<ServiceDeploymentEntity> root,
+            CriteriaBuilder criteriaBuilder) {
+        List<Predicate> predicateList = new ArrayList<>();
+        if (Objects.nonNull(serviceQuery.getServiceTemplateId())) {
+            predicateList.add(
+                    criteriaBuilder.equal(
+                            root.get("serviceTemplateEntity").get("id"),
+                            serviceQuery.getServiceTemplateId()));
+        }
+        if (Objects.nonNull(serviceQuery.getCategory())) {
+            predicateList.add(
+                    criteriaBuilder.equal(root.get("category"), serviceQuery.getCategory()));
+        }
+        if (Objects.nonNull(serviceQuery.getCsp())) {
+            predicateList.add(criteriaBuilder.equal(root.get("csp"), serviceQuery.getCsp()));
+        }
+        if (StringUtils.isNotBlank(serviceQuery.getServiceName())) {
+            predicateList.add(
+                    criteriaBuilder.equal(
+                            root.get("name"),
+                            StringUtils.lowerCase(serviceQuery.getServiceName())));
+        }
+        if (StringUtils.isNotBlank(serviceQuery.getServiceVersion())) {
+            predicateList.add(
+                    criteriaBuilder.equal(
+                            root.get("version"),
+                            StringUtils.lowerCase(serviceQuery.getServiceVersion())));
+        }
+
+        if (Objects.nonNull(serviceQuery.getServiceState())) {
+            predicateList.add(
+                    criteriaBuilder.equal(
+                            root.get("serviceDeploymentState"), serviceQuery.getServiceState()));
+        }
+        predicateList.add(criteriaBuilder.isNotNull(root.get("serviceDeploymentState")));
+
+        if (Objects.nonNull(serviceQuery.getUserId())) {
+            predicateList.add(criteriaBuilder.equal(root.get("userId"), serviceQuery.getUserId()));
+        }
+
+        if (Objects.nonNull(serviceQuery.getServiceVendor())) {
+            predicateList.add(
+                    criteriaBuilder.equal(
+                            root.get("serviceVendor"), serviceQuery.getServiceVendor()));
+        }
+        return predicateList;
+    }
+
     /**
      * Get detail of deployed service using ID.
      *
@@ -126,6 +270,22 @@ public class DatabaseServiceDeploymentStorage implements ServiceDeploymentStorag
         return optional.orElse(null);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ServiceDeploymentMetadata findServiceDeploymentMetadataById(UUID id) {
+        return entityManager
+                .createQuery(
+                        "select new org.eclipse.xpanse.modules.database.service"
+                                + ".ServiceDeploymentMetadata(s.id, s.csp, s.userId,"
+                                + " s.serviceDeploymentState, s.serviceTemplateEntity.id)"
+                                + " from ServiceDeploymentEntity s where s.id = :id",
+                        ServiceDeploymentMetadata.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
     @Override
     public void deleteServiceDeployment(ServiceDeploymentEntity serviceDeploymentEntity) {
         this.serviceDeploymentRepository.delete(serviceDeploymentEntity);
@@ -20,6 +20,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapKeyColumn;
@@ -53,7 +54,20 @@ import org.hibernate.annotations.Type;
 import org.springframework.format.annotation.DateTimeFormat;
 
 /** ServiceDeploymentEntity for persistence. */
-@Table(name = "SERVICE_DEPLOYMENT")
+@Table(
+        name = "SERVICE_DEPLOYMENT",
+        indexes = {
+            @Index(name = "IDX_SERVICE_DEPLOYMENT_CREATED_TIME", columnList = "CREATED_TIME, ID"),
+            @Index(
+                    name = "IDX_SERVICE_DEPLOYMENT_LAST_MODIFIED_TIME",
+                    columnList = "LAST_MODIFIED_TIME, ID"),
+            @Index(
+                    name = "IDX_SERVICE_DEPLOYMENT_USER_CREATED_TIME",
+                    columnList = "USER_ID, CREATED_TIME, ID"),
+            @Index(
+                    name = "IDX_SERVICE_DEPLOYMENT_VENDOR_CREATED_TIME",
+                    columnList = "SERVICE_VENDOR, CREATED_TIME, ID")
+        })
 @Entity
 @Data
 @EqualsAndHashCode(callSuper = true)
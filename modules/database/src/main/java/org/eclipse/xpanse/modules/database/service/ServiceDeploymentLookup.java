@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Bean which caches the service deployments loaded while handling one API request. The audit
+ * aspect, the ownership checks and the managers all look up the same service by its id, each
+ * through its own transaction. With this lookup the service is loaded from the database only once
+ * per request, and callers which only need the csp, the owner or the state use the metadata
+ * projection instead of loading the entity. Outside of a web request every call goes to the
+ * storage.
+ */
+@Slf4j
+@Component
+public class ServiceDeploymentLookup implements MeterBinder {
+
+    private static final String REQUEST_CACHE_ATTRIBUTE =
+            ServiceDeploymentLookup.class.getName() + ".REQUEST_CACHE";
+
+    private final ServiceDeploymentStorage serviceDeploymentStorage;
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicReference<DistributionSummary> savedLoadsPerRequest =
+            new AtomicReference<>();
+
+    /** Constructor method. */
+    @Autowired
+    public ServiceDeploymentLookup(ServiceDeploymentStorage serviceDeploymentStorage) {
+        this.serviceDeploymentStorage = serviceDeploymentStorage;
+    }
+
+    /**
+     * Get the service deployment entity by id, loading it only once per request.
+     *
+     * @param id the ID of deployed service.
+     * @return serviceDeploymentEntity, null if the service does not exist.
+     */
+    public ServiceDeploymentEntity getServiceDeploymentEntity(UUID id) {
+        RequestCache requestCache = getRequestCache();
+        if (Objects.isNull(requestCache)) {
+            return serviceDeploymentStorage.findServiceDeploymentById(id);
+        }
+        ServiceDeploymentEntity cachedEntity = requestCache.entities.get(id);
+        if (Objects.nonNull(cachedEntity)) {
+            requestCache.recordHit();
+            return cachedEntity;
+        }
+        requestCache.recordMiss();
+        ServiceDeploymentEntity serviceDeploymentEntity =
+                serviceDeploymentStorage.findServiceDeploymentById(id);
+        if (Objects.nonNull(serviceDeploymentEntity)) {
+            requestCache.entities.put(id, serviceDeploymentEntity);
+            requestCache.metadata.remove(id);
+        }
+        return serviceDeploymentEntity;
+    }
+
+    /**
+     * Get the metadata of the service deployment by id. It is taken from the entity when the entity
+     * is already loaded in this request, otherwise only the metadata columns are selected.
+     *
+     * @param id the ID of deployed service.
+     * @return metadata of the service deployment, null if the service does not exist.
+     */
+    public ServiceDeploymentMetadata getServiceDeploymentMetadata(UUID id) {
+        RequestCache requestCache = getRequestCache();
+        if (Objects.isNull(requestCache)) {
+            return serviceDeploymentStorage.findServiceDeploymentMetadataById(id);
+        }
+        // the loaded entity always has the latest state changed in this request.
+        ServiceDeploymentEntity cachedEntity = requestCache.entities.get(id);
+        if (Objects.nonNull(cachedEntity)) {
+            requestCache.recordHit();
+            return ServiceDeploymentMetadata.of(cachedEntity);
+        }
+        ServiceDeploymentMetadata cachedMetadata = requestCache.metadata.get(id);
+        if (Objects.nonNull(cachedMetadata)) {
+            requestCache.recordHit();
+            return cachedMetadata;
+        }
+        requestCache.recordMiss();
+        ServiceDeploymentMetadata metadata =
+                serviceDeploymentStorage.findServiceDeploymentMetadataById(id);
+        if (Objects.nonNull(metadata)) {
+            requestCache.metadata.put(id, metadata);
+        }
+        return metadata;
+    }
+
+    /**
+     * Remove the service deployment from the cache of the current request, e.g. after it is
+     * deleted.
+     *
+     * @param id the ID of deployed service.
+     */
+    public void evict(UUID id) {
+        RequestCache requestCache = getRequestCache();
+        if (Objects.nonNull(requestCache)) {
+            requestCache.entities.remove(id);
+            requestCache.metadata.remove(id);
+        }
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMisses.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(
+                        "xpanse.service.lookup.hits",
+                        this,
+                        ServiceDeploymentLookup::getCacheHitCount)
+                .description("Number of service deployment loads saved by the request cache.")
+                .register(registry);
+        FunctionCounter.builder(
+                        "xpanse.service.lookup.misses",
+                        this,
+                        ServiceDeploymentLookup::getCacheMissCount)
+                .description("Number of service deployment loads sent to the database.")
+                .register(registry);
+        savedLoadsPerRequest.set(
+                DistributionSummary.builder("xpanse.service.lookup.saved.per.request")
+                        .description("Number of service deployment loads saved per API request.")
+                        .register(registry));
+    }
+
+    private RequestCache getRequestCache() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (Objects.isNull(requestAttributes)) {
+            return null;
+        }
+        Object cache =
+                requestAttributes.getAttribute(
+                        REQUEST_CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache instanceof RequestCache requestCache) {
+            return requestCache;
+        }
+        RequestCache requestCache = new RequestCache();
+        requestAttributes.setAttribute(
+                REQUEST_CACHE_ATTRIBUTE, requestCache, RequestAttributes.SCOPE_REQUEST);
+        requestAttributes.registerDestructionCallback(
+                REQUEST_CACHE_ATTRIBUTE, requestCache::complete, RequestAttributes.SCOPE_REQUEST);
+        return requestCache;
+    }
+
+    /** Service deployments loaded in one request. A request is handled by one thread at a time. */
+    private class RequestCache {
+
+        private final Map<UUID, ServiceDeploymentEntity> entities = new HashMap<>();
+        private final Map<UUID, ServiceDeploymentMetadata> metadata = new HashMap<>();
+        private int hits;
+        private int misses;
+
+        void recordHit() {
+            hits++;
+            cacheHits.incrementAndGet();
+        }
+
+        void recordMiss() {
+            misses++;
+            cacheMisses.incrementAndGet();
+        }
+
+        void complete() {
+            if (hits + misses == 0) {
+                return;
+            }
+            DistributionSummary summary = savedLoadsPerRequest.get();
+            if (Objects.nonNull(summary)) {
+                summary.record(hits);
+            }
+            log.debug(
+                    "Service deployment lookups of the request: {} loaded from database, {} saved.",
+                    misses,
+                    hits);
+        }
+    }
+}
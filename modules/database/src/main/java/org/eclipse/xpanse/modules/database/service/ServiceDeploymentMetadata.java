@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.service;
+
+import java.util.Objects;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+
+/**
+ * Projection of the columns of ServiceDeploymentEntity needed to route and authorize a request to
+ * the deployed service. Only these columns are selected, none of the element collections or
+ * associations of the entity are loaded with it.
+ *
+ * @param id id of the deployed service.
+ * @param csp csp of the deployed service.
+ * @param userId id of the user who owns the deployed service.
+ * @param serviceDeploymentState deployment state of the service.
+ * @param serviceTemplateId id of the service template of the deployed service.
+ */
+public record ServiceDeploymentMetadata(
+        UUID id,
+        Csp csp,
+        String userId,
+        ServiceDeploymentState serviceDeploymentState,
+        UUID serviceTemplateId) {
+
+    /**
+     * Get the metadata of an already loaded service deployment entity.
+     *
+     * @param serviceDeploymentEntity entity of the deployed service.
+     * @return metadata of the deployed service.
+     */
+    public static ServiceDeploymentMetadata of(ServiceDeploymentEntity serviceDeploymentEntity) {
+        return new ServiceDeploymentMetadata(
+                serviceDeploymentEntity.getId(),
+                serviceDeploymentEntity.getCsp(),
+                serviceDeploymentEntity.getUserId(),
+                serviceDeploymentEntity.getServiceDeploymentState(),
+                Objects.nonNull(serviceDeploymentEntity.getServiceTemplateEntity())
+                        ? serviceDeploymentEntity.getServiceTemplateEntity().getId()
+                        : null);
+    }
+}
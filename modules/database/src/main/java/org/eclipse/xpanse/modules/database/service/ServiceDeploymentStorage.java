@@ -28,6 +28,16 @@ public interface ServiceDeploymentStorage {
      */
     List<ServiceDeploymentEntity> listServices(ServiceQueryModel query);
 
+    /**
+     * Method to get one keyset page of service summaries by query model.
+     *
+     * @param query service query model.
+     * @param pageRequest page request with sort and cursor of the page.
+     * @return page of service summaries with the cursor of the next page.
+     */
+    ServiceSummaryPage listServiceSummaries(
+            ServiceQueryModel query, ServicePageRequest pageRequest);
+
     /**
      * Get detail of service deployment using ID.
      *
@@ -36,6 +46,14 @@ public interface ServiceDeploymentStorage {
      */
     ServiceDeploymentEntity findServiceDeploymentById(UUID id);
 
+    /**
+     * Get the metadata of service deployment using ID without loading the entity.
+     *
+     * @param id the ID of deployed service.
+     * @return metadata of the service deployment, null if the service does not exist.
+     */
+    ServiceDeploymentMetadata findServiceDeploymentMetadataById(UUID id);
+
     /**
      * purge service deployment using service model.
      *
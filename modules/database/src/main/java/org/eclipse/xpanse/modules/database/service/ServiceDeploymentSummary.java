@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.service;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Data;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.config.ServiceLockConfig;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.statemanagement.enums.ServiceState;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
+
+/**
+ * Projection of the columns of ServiceDeploymentEntity shown in lists of deployed services. The
+ * input properties, output properties, generated files and the associations of the entity are never
+ * loaded with it.
+ */
+@Data
+public class ServiceDeploymentSummary {
+
+    private UUID id;
+
+    private String userId;
+
+    private Category category;
+
+    private String name;
+
+    private String version;
+
+    private String customerServiceName;
+
+    private String serviceVendor;
+
+    private Csp csp;
+
+    private ServiceHostingType serviceHostingType;
+
+    private Region region;
+
+    private Map<String, String> availabilityZones;
+
+    private String flavor;
+
+    private BillingMode billingMode;
+
+    private ServiceDeploymentState serviceDeploymentState;
+
+    private ServiceState serviceState;
+
+    private UUID serviceTemplateId;
+
+    private OffsetDateTime createdTime;
+
+    private OffsetDateTime lastModifiedTime;
+
+    private OffsetDateTime lastStartedAt;
+
+    private OffsetDateTime lastStoppedAt;
+
+    private ServiceLockConfig lockConfig;
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.database.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Position of the last service of a keyset page. The cursor holds the sort field and order it was
+ * created with, so it can not be used to continue a listing with a different sort.
+ */
+@Getter
+class ServicePageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final OffsetDateTime sortValue;
+    private final UUID id;
+
+    ServicePageCursor(OffsetDateTime sortValue, UUID id) {
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * Encode the cursor of a page to an opaque string.
+     *
+     * @param pageRequest request of the page.
+     * @return cursor string.
+     */
+    String encode(ServicePageRequest pageRequest) {
+        String cursor =
+                String.join(
+                        SEPARATOR,
+                        pageRequest.getSortField().toValue(),
+                        pageRequest.getSortOrder().toValue(),
+                        sortValue.toString(),
+                        id.toString());
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode the cursor of the page request.
+     *
+     * @param pageRequest request of the page.
+     * @return decoded cursor.
+     * @throws IllegalArgumentException if the cursor is invalid or created with another sort.
+     */
+    static ServicePageCursor decode(ServicePageRequest pageRequest) {
+        String[] parts;
+        try {
+            parts =
+                    StringUtils.split(
+                            new String(
+                                    Base64.getUrlDecoder().decode(pageRequest.getCursor()),
+                                    StandardCharsets.UTF_8),
+                            SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor " + pageRequest.getCursor(), e);
+        }
+        if (parts.length != 4
+                || !StringUtils.equals(parts[0], pageRequest.getSortField().toValue())
+                || !StringUtils.equals(parts[1], pageRequest.getSortOrder().toValue())) {
+            throw new IllegalArgumentException(
+                    "Invalid cursor "
+                            + pageRequest.getCursor()
+                            + " for the sort by "
+                            + pageRequest.getSortField().toValue()
+                            + " "
+                            + pageRequest.getSortOrder().toValue());
+        }
+        try {
+            return new ServicePageCursor(OffsetDateTime.parse(parts[2]), UUID.fromString(parts[3]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor " + pageRequest.getCursor(), e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.database.service;
+
+import lombok.Data;
+import org.eclipse.xpanse.modules.models.common.enums.SortOrder;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceSortField;
+
+/** The keyset page request for listing services. */
+@Data
+public class ServicePageRequest {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    private ServiceSortField sortField = ServiceSortField.CREATED_TIME;
+
+    private SortOrder sortOrder = SortOrder.DESC;
+
+    /** Cursor returned with the previous page, null to query the first page. */
+    private String cursor;
+
+    /**
+     * Create page request from the request parameters of the list APIs.
+     *
+     * @param pageSize count of services in the page.
+     * @param cursor cursor returned with the previous page.
+     * @param sortField field to sort the services by.
+     * @param sortOrder order of the sort.
+     * @return page request.
+     */
+    public static ServicePageRequest of(
+            int pageSize, String cursor, ServiceSortField sortField, SortOrder sortOrder) {
+        ServicePageRequest pageRequest = new ServicePageRequest();
+        pageRequest.setPageSize(pageSize);
+        pageRequest.setCursor(cursor);
+        pageRequest.setSortField(sortField);
+        pageRequest.setSortOrder(sortOrder);
+        return pageRequest;
+    }
+}
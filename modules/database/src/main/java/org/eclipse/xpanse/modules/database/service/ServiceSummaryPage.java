@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.database.service;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** One keyset page of deployed service summaries. */
+@Data
+@AllArgsConstructor
+public class ServiceSummaryPage {
+
+    private List<ServiceDeploymentSummary> summaries;
+
+    /** Cursor to query the next page with, null if this is the last page. */
+    private String nextCursor;
+}
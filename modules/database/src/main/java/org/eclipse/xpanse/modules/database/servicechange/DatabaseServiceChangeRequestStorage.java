@@ -12,8 +12,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.models.servicechange.enums.ServiceChangeStatus;
 import org.eclipse.xpanse.modules.models.servicechange.exceptions.ServiceChangeRequestEntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -83,6 +85,33 @@ public class DatabaseServiceChangeRequestStorage implements ServiceChangeRequest
         return repository.findAll(specification);
     }
 
+    @Override
+    public ServiceChangeRequestEntity lockOldestPendingServiceChangeRequest(
+            UUID serviceId, String resourceName) {
+        return repository
+                .findUnlockedRequestsOrderByCreatedTime(
+                        serviceId, resourceName, ServiceChangeStatus.PENDING, Limit.of(1))
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public boolean existsPendingServiceChangeRequest(UUID serviceId, String resourceName) {
+        Specification<ServiceChangeRequestEntity> specification =
+                (root, query, criteriaBuilder) ->
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(
+                                        root.get("serviceDeploymentEntity").get("id"), serviceId),
+                                criteriaBuilder.equal(
+                                        criteriaBuilder.lower(root.get("resourceName")),
+                                        StringUtils.lowerCase(resourceName)),
+                                criteriaBuilder.equal(
+                                        root.get("status"), ServiceChangeStatus.PENDING));
+        // exists is not covered by the pessimistic lock of findAll.
+        return repository.exists(specification);
+    }
+
     @Override
     public ServiceChangeRequestEntity findById(UUID changeId) {
         return repository
@@ -15,6 +15,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -35,7 +36,12 @@ import org.hibernate.annotations.Type;
 
 /** ServiceChangeRequestEntity for persistence. */
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "SERVICE_CHANGE_REQUEST")
+@Table(
+        name = "SERVICE_CHANGE_REQUEST",
+        indexes =
+                @Index(
+                        name = "IDX_SERVICE_CHANGE_REQUEST_CLAIM",
+                        columnList = "SERVICE_ID, RESOURCE_NAME, STATUS, CREATED_TIME"))
 @Entity
 @Data
 public class ServiceChangeRequestEntity extends CreatedModifiedTime {
@@ -11,10 +11,14 @@ import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.database.CustomJpaRepository;
+import org.eclipse.xpanse.modules.models.servicechange.enums.ServiceChangeStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.Nullable;
 
 /** Interface to access default JPA methods. */
@@ -28,4 +32,17 @@ public interface ServiceChangeRequestRepository
     @Override
     List<ServiceChangeRequestEntity> findAll(
             @Nullable Specification<ServiceChangeRequestEntity> spec);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // -2 skips the rows locked by other transactions instead of waiting for them.
+    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "-2")})
+    @Query(
+            "SELECT r FROM ServiceChangeRequestEntity r WHERE r.serviceDeploymentEntity.id ="
+                    + " :serviceId AND lower(r.resourceName) = lower(:resourceName) AND r.status"
+                    + " = :status ORDER BY r.createdTime ASC")
+    List<ServiceChangeRequestEntity> findUnlockedRequestsOrderByCreatedTime(
+            @Param("serviceId") UUID serviceId,
+            @Param("resourceName") String resourceName,
+            @Param("status") ServiceChangeStatus status,
+            Limit limit);
 }
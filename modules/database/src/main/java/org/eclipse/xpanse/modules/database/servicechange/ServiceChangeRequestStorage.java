@@ -26,6 +26,28 @@ public interface ServiceChangeRequestStorage {
     List<ServiceChangeRequestEntity> getServiceChangeRequestEntities(
             ServiceChangeRequestQueryModel query);
 
+    /**
+     * Lock the oldest pending request for the resource of the service. Requests already locked by
+     * other transactions are skipped, so concurrent callers never wait for each other and never get
+     * the same request. The lock is held until the surrounding transaction ends.
+     *
+     * @param serviceId id of the service.
+     * @param resourceName name of the resource of the service.
+     * @return locked request, or null if no unlocked pending request exists.
+     */
+    ServiceChangeRequestEntity lockOldestPendingServiceChangeRequest(
+            UUID serviceId, String resourceName);
+
+    /**
+     * Check if there is a pending request for the resource of the service, without locking the
+     * requests.
+     *
+     * @param serviceId id of the service.
+     * @param resourceName name of the resource of the service.
+     * @return true if at least one pending request exists.
+     */
+    boolean existsPendingServiceChangeRequest(UUID serviceId, String resourceName);
+
     /**
      * Query ServiceChangeRequestEntity by id.
      *
@@ -16,6 +16,7 @@ import java.util.Optional;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.eclipse.xpanse.modules.models.service.statemanagement.enums.ServiceState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -110,4 +111,20 @@ class DatabaseServiceResourceStorageTest {
                         "resourceId");
         assertThat(result).isNull();
     }
+
+    @Test
+    void testListServiceResourcesByKindAndServiceState() {
+        final ServiceResourceEntity serviceResourceEntity = new ServiceResourceEntity();
+        serviceResourceEntity.setResourceId("resourceId");
+        serviceResourceEntity.setResourceKind(DeployResourceKind.VM);
+        final ServiceDeploymentEntity deployService = new ServiceDeploymentEntity();
+        deployService.setServiceState(ServiceState.RUNNING);
+        serviceResourceEntity.setServiceDeploymentEntity(deployService);
+        when(mockServiceResourceRepository.findAll(any(Specification.class)))
+                .thenReturn(List.of(serviceResourceEntity));
+        final List<ServiceResourceEntity> result =
+                databaseDeployResourceStorageUnderTest.listServiceResourcesByKindAndServiceState(
+                        DeployResourceKind.VM, ServiceState.RUNNING);
+        assertThat(result).containsExactly(serviceResourceEntity);
+    }
 }
@@ -0,0 +1,182 @@
+package org.eclipse.xpanse.modules.database.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateRepository;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.enums.SortOrder;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceSortField;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.models.servicetemplate.ServiceProviderContactDetails;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceTemplateRegistrationState;
+import org.eclipse.xpanse.modules.models.servicetemplate.utils.JsonObjectSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@DataJpaTest
+class DatabaseServiceDeploymentStoragePagingTest {
+
+    private static final int SERVICES_COUNT = 7;
+    private static final int PAGE_SIZE = 3;
+    private final OffsetDateTime baseTime = OffsetDateTime.now();
+    @Autowired private ServiceTemplateRepository serviceTemplateRepository;
+    @Autowired private ServiceDeploymentRepository serviceDeploymentRepository;
+    @Autowired private DatabaseServiceDeploymentStorage databaseServiceDeploymentStorage;
+
+    @BeforeEach
+    void setUp() {
+        ServiceTemplateEntity serviceTemplate = new ServiceTemplateEntity();
+        serviceTemplate.setName("name");
+        serviceTemplate.setShortCode("shortCode");
+        serviceTemplate.setVersion("1.0.0");
+        serviceTemplate.setCsp(Csp.HUAWEI_CLOUD);
+        serviceTemplate.setCategory(Category.AI);
+        serviceTemplate.setServiceVendor("vendor");
+        serviceTemplate.setServiceHostingType(ServiceHostingType.SELF);
+        serviceTemplate.setOcl(new Ocl());
+        serviceTemplate.setServiceTemplateRegistrationState(
+                ServiceTemplateRegistrationState.APPROVED);
+        serviceTemplate.setServiceProviderContactDetails(new ServiceProviderContactDetails());
+        serviceTemplate.setJsonObjectSchema(new JsonObjectSchema());
+        serviceTemplate = serviceTemplateRepository.saveAndFlush(serviceTemplate);
+        for (int i = 0; i < SERVICES_COUNT; i++) {
+            ServiceDeploymentEntity service = new ServiceDeploymentEntity();
+            service.setUserId(i % 2 == 0 ? "userId" : "otherUserId");
+            service.setCategory(Category.AI);
+            service.setName("name");
+            service.setVersion("1.0.0");
+            service.setServiceVendor("vendor");
+            service.setCsp(Csp.HUAWEI_CLOUD);
+            service.setServiceHostingType(ServiceHostingType.SELF);
+            Region region = new Region();
+            region.setName("region");
+            service.setRegion(region);
+            service.setAvailabilityZones(Map.of("zone", "zone-1"));
+            service.setFlavor("flavor");
+            service.setBillingMode(BillingMode.FIXED);
+            service.setIsEulaAccepted(true);
+            service.setServiceDeploymentState(ServiceDeploymentState.DEPLOY_SUCCESS);
+            service.setServiceTemplateEntity(serviceTemplate);
+            service.setInputProperties(new HashMap<>(Map.of("key", "value")));
+            // several services with the same created time to page through ties.
+            service.setCreatedTime(baseTime.minusMinutes(i < 4 ? 0 : i));
+            service.setLastModifiedTime(baseTime.minusMinutes(i));
+            serviceDeploymentRepository.saveAndFlush(service);
+        }
+    }
+
+    @Test
+    void testListServiceSummaries() {
+        for (ServiceSortField sortField : ServiceSortField.values()) {
+            for (SortOrder sortOrder : SortOrder.values()) {
+                ServicePageRequest pageRequest = new ServicePageRequest();
+                pageRequest.setPageSize(PAGE_SIZE);
+                pageRequest.setSortField(sortField);
+                pageRequest.setSortOrder(sortOrder);
+                List<ServiceDeploymentSummary> summaries = new ArrayList<>();
+                int pages = 0;
+                do {
+                    ServiceSummaryPage page =
+                            databaseServiceDeploymentStorage.listServiceSummaries(
+                                    new ServiceQueryModel(), pageRequest);
+                    summaries.addAll(page.getSummaries());
+                    pageRequest.setCursor(page.getNextCursor());
+                    pages++;
+                } while (pageRequest.getCursor() != null);
+
+                assertThat(pages).isEqualTo(3);
+                assertThat(summaries.stream().map(ServiceDeploymentSummary::getId).distinct())
+                        .hasSize(SERVICES_COUNT);
+                List<OffsetDateTime> sortValues =
+                        summaries.stream()
+                                .map(
+                                        summary ->
+                                                sortField == ServiceSortField.CREATED_TIME
+                                                        ? summary.getCreatedTime()
+                                                        : summary.getLastModifiedTime())
+                                .toList();
+                assertThat(sortValues)
+                        .isSortedAccordingTo(
+                                sortOrder == SortOrder.ASC
+                                        ? OffsetDateTime::compareTo
+                                        : (a, b) -> b.compareTo(a));
+                ServiceDeploymentSummary summary = summaries.getFirst();
+                assertThat(summary.getRegion().getName()).isEqualTo("region");
+                assertThat(summary.getAvailabilityZones()).containsEntry("zone", "zone-1");
+                assertThat(summary.getServiceTemplateId()).isNotNull();
+            }
+        }
+    }
+
+    @Test
+    void testListServiceSummariesWithQueryModel() {
+        ServiceQueryModel query = new ServiceQueryModel();
+        query.setUserId("userId");
+        ServiceSummaryPage page =
+                databaseServiceDeploymentStorage.listServiceSummaries(
+                        query, new ServicePageRequest());
+        assertThat(page.getSummaries()).hasSize(4);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testListServiceSummariesWithInvalidRequest() {
+        ServicePageRequest pageRequest = new ServicePageRequest();
+        pageRequest.setPageSize(ServicePageRequest.MAX_PAGE_SIZE + 1);
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        databaseServiceDeploymentStorage.listServiceSummaries(
+                                new ServiceQueryModel(), pageRequest));
+        pageRequest.setPageSize(PAGE_SIZE);
+        pageRequest.setCursor("invalid");
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        databaseServiceDeploymentStorage.listServiceSummaries(
+                                new ServiceQueryModel(), pageRequest));
+    }
+
+    @Test
+    void testFindServiceDeploymentMetadataById() {
+        ServiceDeploymentEntity service =
+                databaseServiceDeploymentStorage.listServices(new ServiceQueryModel()).getFirst();
+
+        ServiceDeploymentMetadata metadata =
+                databaseServiceDeploymentStorage.findServiceDeploymentMetadataById(service.getId());
+
+        assertThat(metadata).isEqualTo(ServiceDeploymentMetadata.of(service));
+        assertThat(metadata.serviceTemplateId()).isNotNull();
+        assertThat(
+                        databaseServiceDeploymentStorage.findServiceDeploymentMetadataById(
+                                UUID.randomUUID()))
+                .isNull();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan("org.eclipse.xpanse.modules.database")
+    @EnableJpaRepositories("org.eclipse.xpanse.modules.database")
+    @Import(DatabaseServiceDeploymentStorage.class)
+    static class TestConfiguration {}
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/** Test of ServiceDeploymentLookup. */
+@ExtendWith(MockitoExtension.class)
+class ServiceDeploymentLookupTest {
+
+    private final UUID id = UUID.fromString("9803512b-16b7-4eef-8aba-5e2495aa6fd2");
+    @Mock private ServiceDeploymentStorage mockServiceDeploymentStorage;
+    private ServiceDeploymentLookup serviceDeploymentLookupUnderTest;
+    private SimpleMeterRegistry meterRegistry;
+    private ServletRequestAttributes requestAttributes;
+
+    @BeforeEach
+    void setUp() {
+        serviceDeploymentLookupUnderTest =
+                new ServiceDeploymentLookup(mockServiceDeploymentStorage);
+        meterRegistry = new SimpleMeterRegistry();
+        serviceDeploymentLookupUnderTest.bindTo(meterRegistry);
+        requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private ServiceDeploymentEntity getServiceDeploymentEntity() {
+        ServiceDeploymentEntity serviceDeploymentEntity = new ServiceDeploymentEntity();
+        serviceDeploymentEntity.setId(id);
+        serviceDeploymentEntity.setUserId("userId");
+        serviceDeploymentEntity.setCsp(Csp.HUAWEI_CLOUD);
+        serviceDeploymentEntity.setServiceDeploymentState(ServiceDeploymentState.DEPLOY_SUCCESS);
+        return serviceDeploymentEntity;
+    }
+
+    @Test
+    void testGetServiceDeploymentEntityLoadsOncePerRequest() {
+        ServiceDeploymentEntity serviceDeploymentEntity = getServiceDeploymentEntity();
+        when(mockServiceDeploymentStorage.findServiceDeploymentById(id))
+                .thenReturn(serviceDeploymentEntity);
+
+        assertThat(serviceDeploymentLookupUnderTest.getServiceDeploymentEntity(id))
+                .isSameAs(serviceDeploymentEntity);
+        assertThat(serviceDeploymentLookupUnderTest.getServiceDeploymentEntity(id))
+                .isSameAs(serviceDeploymentEntity);
+        ServiceDeploymentMetadata metadata =
+                serviceDeploymentLookupUnderTest.getServiceDeploymentMetadata(id);
+
+        assertThat(metadata.csp()).isEqualTo(Csp.HUAWEI_CLOUD);
+        assertThat(metadata.userId()).isEqualTo("userId");
+        verify(mockServiceDeploymentStorage, times(1)).findServiceDeploymentById(id);
+        verify(mockServiceDeploymentStorage, never()).findServiceDeploymentMetadataById(id);
+        requestAttributes.requestCompleted();
+        assertThat(meterRegistry.get("xpanse.service.lookup.hits").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("xpanse.service.lookup.misses").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(
+                        meterRegistry
+                                .get("xpanse.service.lookup.saved.per.request")
+                                .summary()
+                                .totalAmount())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void testGetServiceDeploymentMetadataWithoutLoadingEntity() {
+        ServiceDeploymentMetadata metadata =
+                new ServiceDeploymentMetadata(
+                        id,
+                        Csp.HUAWEI_CLOUD,
+                        "userId",
+                        ServiceDeploymentState.DEPLOY_SUCCESS,
+                        UUID.randomUUID());
+        when(mockServiceDeploymentStorage.findServiceDeploymentMetadataById(id))
+                .thenReturn(metadata);
+
+        assertThat(serviceDeploymentLookupUnderTest.getServiceDeploymentMetadata(id))
+                .isEqualTo(metadata);
+        assertThat(serviceDeploymentLookupUnderTest.getServiceDeploymentMetadata(id))
+                .isEqualTo(metadata);
+
+        verify(mockServiceDeploymentStorage, times(1)).findServiceDeploymentMetadataById(id);
+        verify(mockServiceDeploymentStorage, never()).findServiceDeploymentById(id);
+    }
+
+    @Test
+    void testGetServiceDeploymentEntityAfterEvict() {
+        when(mockServiceDeploymentStorage.findServiceDeploymentById(id))
+                .thenReturn(getServiceDeploymentEntity(), (ServiceDeploymentEntity) null);
+
+        assertThat(serviceDeploymentLookupUnderTest.getServiceDeploymentEntity(id)).isNotNull();
+        serviceDeploymentLookupUnderTest.evict(id);
+
+        assertThat(serviceDeploymentLookupUnderTest.getServiceDeploymentEntity(id)).isNull();
+        verify(mockServiceDeploymentStorage, times(2)).findServiceDeploymentById(id);
+    }
+
+    @Test
+    void testGetServiceDeploymentEntityOutsideOfRequest() {
+        RequestContextHolder.resetRequestAttributes();
+        when(mockServiceDeploymentStorage.findServiceDeploymentById(id))
+                .thenReturn(getServiceDeploymentEntity());
+
+        serviceDeploymentLookupUnderTest.getServiceDeploymentEntity(id);
+        serviceDeploymentLookupUnderTest.getServiceDeploymentEntity(id);
+
+        verify(mockServiceDeploymentStorage, times(2)).findServiceDeploymentById(id);
+        assertThat(serviceDeploymentLookupUnderTest.getCacheHitCount()).isZero();
+    }
+}
@@ -0,0 +1,48 @@
+package org.eclipse.xpanse.modules.database.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.models.common.enums.SortOrder;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceSortField;
+import org.junit.jupiter.api.Test;
+
+class ServicePageCursorTest {
+
+    private final OffsetDateTime sortValue = OffsetDateTime.parse("2025-01-02T03:04:05.123456Z");
+    private final UUID id = UUID.fromString("9803512b-16b7-4eef-8aba-5e2495aa6fd2");
+
+    @Test
+    void testEncodeAndDecode() {
+        ServicePageRequest pageRequest = new ServicePageRequest();
+        pageRequest.setCursor(new ServicePageCursor(sortValue, id).encode(pageRequest));
+
+        ServicePageCursor cursor = ServicePageCursor.decode(pageRequest);
+
+        assertThat(cursor.getSortValue()).isEqualTo(sortValue);
+        assertThat(cursor.getId()).isEqualTo(id);
+    }
+
+    @Test
+    void testDecodeWithOtherSort() {
+        ServicePageRequest pageRequest = new ServicePageRequest();
+        pageRequest.setCursor(new ServicePageCursor(sortValue, id).encode(pageRequest));
+        pageRequest.setSortOrder(SortOrder.ASC);
+        assertThrows(IllegalArgumentException.class, () -> ServicePageCursor.decode(pageRequest));
+
+        pageRequest.setSortOrder(SortOrder.DESC);
+        pageRequest.setSortField(ServiceSortField.LAST_MODIFIED_TIME);
+        assertThrows(IllegalArgumentException.class, () -> ServicePageCursor.decode(pageRequest));
+    }
+
+    @Test
+    void testDecodeInvalidCursor() {
+        ServicePageRequest pageRequest = new ServicePageRequest();
+        pageRequest.setCursor("not a cursor");
+        assertThrows(IllegalArgumentException.class, () -> ServicePageCursor.decode(pageRequest));
+        pageRequest.setCursor("Y3JlYXRlZFRpbWV8ZGVzY3xub3cgfGlk");
+        assertThrows(IllegalArgumentException.class, () -> ServicePageCursor.decode(pageRequest));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.database.servicechange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentRepository;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderRepository;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateRepository;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.enums.Handler;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
+import org.eclipse.xpanse.modules.models.servicechange.enums.ServiceChangeStatus;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.models.servicetemplate.ServiceProviderContactDetails;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceTemplateRegistrationState;
+import org.eclipse.xpanse.modules.models.servicetemplate.utils.JsonObjectSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/** Test of claiming service change requests with DatabaseServiceChangeRequestStorage. */
+@DataJpaTest
+class DatabaseServiceChangeRequestStorageClaimTest {
+
+    private static final String RESOURCE_NAME = "vm-1";
+    private final OffsetDateTime baseTime = OffsetDateTime.now();
+    @Autowired private ServiceTemplateRepository serviceTemplateRepository;
+    @Autowired private ServiceDeploymentRepository serviceDeploymentRepository;
+    @Autowired private ServiceOrderRepository serviceOrderRepository;
+    @Autowired private DatabaseServiceChangeRequestStorage databaseServiceChangeRequestStorage;
+    private ServiceDeploymentEntity service;
+    private ServiceOrderEntity serviceOrder;
+
+    @BeforeEach
+    void setUp() {
+        ServiceTemplateEntity serviceTemplate = new ServiceTemplateEntity();
+        serviceTemplate.setName("name");
+        serviceTemplate.setShortCode("shortCode");
+        serviceTemplate.setVersion("1.0.0");
+        serviceTemplate.setCsp(Csp.HUAWEI_CLOUD);
+        serviceTemplate.setCategory(Category.AI);
+        serviceTemplate.setServiceVendor("vendor");
+        serviceTemplate.setServiceHostingType(ServiceHostingType.SELF);
+        serviceTemplate.setOcl(new Ocl());
+        serviceTemplate.setServiceTemplateRegistrationState(
+                ServiceTemplateRegistrationState.APPROVED);
+        serviceTemplate.setServiceProviderContactDetails(new ServiceProviderContactDetails());
+        serviceTemplate.setJsonObjectSchema(new JsonObjectSchema());
+        serviceTemplate = serviceTemplateRepository.saveAndFlush(serviceTemplate);
+        service = new ServiceDeploymentEntity();
+        service.setUserId("userId");
+        service.setCategory(Category.AI);
+        service.setName("name");
+        service.setVersion("1.0.0");
+        service.setServiceVendor("vendor");
+        service.setCsp(Csp.HUAWEI_CLOUD);
+        service.setServiceHostingType(ServiceHostingType.SELF);
+        Region region = new Region();
+        region.setName("region");
+        service.setRegion(region);
+        service.setAvailabilityZones(Map.of("zone", "zone-1"));
+        service.setFlavor("flavor");
+        service.setBillingMode(BillingMode.FIXED);
+        service.setIsEulaAccepted(true);
+        service.setServiceDeploymentState(ServiceDeploymentState.DEPLOY_SUCCESS);
+        service.setServiceTemplateEntity(serviceTemplate);
+        service = serviceDeploymentRepository.saveAndFlush(service);
+        serviceOrder = new ServiceOrderEntity();
+        serviceOrder.setServiceDeploymentEntity(service);
+        serviceOrder.setTaskType(ServiceOrderType.CONFIG_CHANGE);
+        serviceOrder.setUserId("userId");
+        serviceOrder.setOrderStatus(OrderStatus.CREATED);
+        serviceOrder.setHandler(Handler.AGENT);
+        serviceOrder.setStartedTime(baseTime);
+        serviceOrder = serviceOrderRepository.saveAndFlush(serviceOrder);
+    }
+
+    private ServiceChangeRequestEntity storeServiceChangeRequest(
+            String resourceName, ServiceChangeStatus status, OffsetDateTime createdTime) {
+        ServiceChangeRequestEntity request = new ServiceChangeRequestEntity();
+        request.setServiceOrderEntity(serviceOrder);
+        request.setServiceDeploymentEntity(service);
+        request.setResourceName(resourceName);
+        request.setChangeHandler("handler");
+        request.setStatus(status);
+        request.setCreatedTime(createdTime);
+        return databaseServiceChangeRequestStorage.storeAndFlush(request);
+    }
+
+    @Test
+    void testLockOldestPendingServiceChangeRequest() {
+        storeServiceChangeRequest(
+                RESOURCE_NAME, ServiceChangeStatus.PROCESSING, baseTime.minusMinutes(3));
+        storeServiceChangeRequest("vm-2", ServiceChangeStatus.PENDING, baseTime.minusMinutes(2));
+        storeServiceChangeRequest(RESOURCE_NAME, ServiceChangeStatus.PENDING, baseTime);
+        ServiceChangeRequestEntity oldestRequest =
+                storeServiceChangeRequest(
+                        RESOURCE_NAME, ServiceChangeStatus.PENDING, baseTime.minusMinutes(1));
+
+        ServiceChangeRequestEntity lockedRequest =
+                databaseServiceChangeRequestStorage.lockOldestPendingServiceChangeRequest(
+                        service.getId(), RESOURCE_NAME);
+
+        assertThat(lockedRequest.getId()).isEqualTo(oldestRequest.getId());
+        assertThat(
+                        databaseServiceChangeRequestStorage.lockOldestPendingServiceChangeRequest(
+                                UUID.randomUUID(), RESOURCE_NAME))
+                .isNull();
+        assertThat(
+                        databaseServiceChangeRequestStorage.lockOldestPendingServiceChangeRequest(
+                                service.getId(), "vm-3"))
+                .isNull();
+    }
+
+    @Test
+    void testLockPendingServiceChangeRequestWithResourceNameInOtherCase() {
+        ServiceChangeRequestEntity request =
+                storeServiceChangeRequest("VM-1", ServiceChangeStatus.PENDING, baseTime);
+
+        assertThat(
+                        databaseServiceChangeRequestStorage.existsPendingServiceChangeRequest(
+                                service.getId(), RESOURCE_NAME))
+                .isTrue();
+        ServiceChangeRequestEntity lockedRequest =
+                databaseServiceChangeRequestStorage.lockOldestPendingServiceChangeRequest(
+                        service.getId(), RESOURCE_NAME);
+        assertThat(lockedRequest).isNotNull();
+        assertThat(lockedRequest.getId()).isEqualTo(request.getId());
+    }
+
+    @Test
+    void testExistsPendingServiceChangeRequest() {
+        storeServiceChangeRequest(RESOURCE_NAME, ServiceChangeStatus.PROCESSING, baseTime);
+        assertThat(
+                        databaseServiceChangeRequestStorage.existsPendingServiceChangeRequest(
+                                service.getId(), RESOURCE_NAME))
+                .isFalse();
+
+        storeServiceChangeRequest(RESOURCE_NAME, ServiceChangeStatus.PENDING, baseTime);
+        assertThat(
+                        databaseServiceChangeRequestStorage.existsPendingServiceChangeRequest(
+                                service.getId(), RESOURCE_NAME))
+                .isTrue();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan("org.eclipse.xpanse.modules.database")
+    @EnableJpaRepositories("org.eclipse.xpanse.modules.database")
+    @Import(DatabaseServiceChangeRequestStorage.class)
+    static class TestConfiguration {}
+}
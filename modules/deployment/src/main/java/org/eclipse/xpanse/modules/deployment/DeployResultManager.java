@@ -26,6 +26,7 @@ import org.eclipse.xpanse.modules.database.serviceconfiguration.ServiceConfigura
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangeNotifier;
 import org.eclipse.xpanse.modules.deployment.recreate.consts.RecreateConstants;
 import org.eclipse.xpanse.modules.deployment.serviceporting.consts.ServicePortingConstants;
 import org.eclipse.xpanse.modules.models.common.exceptions.XpanseUnhandledException;
@@ -66,6 +67,7 @@ public class DeployResultManager {
     private final ServiceDeploymentEntityConverter serviceDeploymentEntityConverter;
     private final ServiceOrderManager serviceOrderManager;
     private final DeployerKindManager deployerKindManager;
+    private final ServiceStatusChangeNotifier serviceStatusChangeNotifier;
 
     /** Constructor method. */
     @Autowired
@@ -77,7 +79,8 @@ public class DeployResultManager {
             SensitiveDataHandler sensitiveDataHandler,
             ServiceDeploymentEntityConverter serviceDeploymentEntityConverter,
             ServiceOrderManager serviceOrderManager,
-            DeployerKindManager deployerKindManager) {
+            DeployerKindManager deployerKindManager,
+            ServiceStatusChangeNotifier serviceStatusChangeNotifier) {
         this.serviceDeploymentStorage = serviceDeploymentStorage;
         this.serviceOrderStorage = serviceOrderStorage;
         this.resourceHandlerManager = resourceHandlerManager;
@@ -86,6 +89,7 @@ public class DeployResultManager {
         this.serviceDeploymentEntityConverter = serviceDeploymentEntityConverter;
         this.serviceOrderManager = serviceOrderManager;
         this.deployerKindManager = deployerKindManager;
+        this.serviceStatusChangeNotifier = serviceStatusChangeNotifier;
     }
 
     /**
@@ -266,7 +270,10 @@ public class DeployResultManager {
                             deployResult.getResources(), serviceDeploymentToUpdate));
         }
 
-        return serviceDeploymentStorage.storeAndFlush(serviceDeploymentToUpdate);
+        ServiceDeploymentEntity updatedServiceDeployment =
+                serviceDeploymentStorage.storeAndFlush(serviceDeploymentToUpdate);
+        serviceStatusChangeNotifier.publishDeploymentStatusChange(updatedServiceDeployment);
+        return updatedServiceDeployment;
     }
 
     private boolean isFailedDeployTask(boolean isTaskSuccessful, ServiceOrderType taskType) {
@@ -527,7 +534,8 @@ public class DeployResultManager {
         serviceOrder.setOrderStatus(OrderStatus.FAILED);
         serviceOrder.setErrorResponse(
                 ErrorResponse.errorResponse(errorType, List.of(errorMessage)));
-        serviceDeploymentStorage.storeAndFlush(serviceEntity);
-        serviceOrderStorage.storeAndFlush(serviceOrder);
+        serviceStatusChangeNotifier.publishDeploymentStatusChange(
+                serviceDeploymentStorage.storeAndFlush(serviceEntity));
+        serviceOrderManager.storeAndPublishOrderStatusChange(serviceOrder);
     }
 }
@@ -6,8 +6,6 @@
 
 package org.eclipse.xpanse.modules.deployment;
 
-import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
-
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -17,7 +15,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -31,6 +28,7 @@ import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateQueryM
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
 import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
 import org.eclipse.xpanse.modules.deployment.polling.ServiceDeploymentStatusChangePolling;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangeEventStream;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.enums.UserOperation;
 import org.eclipse.xpanse.modules.models.service.config.ServiceLockConfig;
@@ -64,12 +62,12 @@ import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
 import org.eclipse.xpanse.modules.orchestrator.deployment.Deployer;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Main class which orchestrates the OCL request processing. Calls the available plugins to deploy
@@ -91,7 +89,7 @@ public class DeployService {
     private final ServiceDeploymentEntityConverter serviceDeploymentEntityConverter;
     private final ServiceOrderManager serviceOrderManager;
     private final ServiceDeploymentStatusChangePolling serviceDeploymentStatusChangePolling;
-    private final Executor taskExecutor;
+    private final ServiceStatusChangeEventStream serviceStatusChangeEventStream;
     private final String activeProfiles;
 
     /** Constructor method. */
@@ -109,7 +107,7 @@ public class DeployService {
             ServiceDeploymentEntityConverter serviceDeploymentEntityConverter,
             ServiceOrderManager serviceOrderManager,
             ServiceDeploymentStatusChangePolling serviceDeploymentStatusChangePolling,
-            @Qualifier(ASYNC_EXECUTOR_NAME) Executor taskExecutor,
+            ServiceStatusChangeEventStream serviceStatusChangeEventStream,
             @Value("${spring.profiles.active}") String activeProfiles) {
         this.userServiceHelper = userServiceHelper;
         this.pluginManager = pluginManager;
@@ -124,7 +122,7 @@ public class DeployService {
         this.serviceDeploymentEntityConverter = serviceDeploymentEntityConverter;
         this.serviceOrderManager = serviceOrderManager;
         this.serviceDeploymentStatusChangePolling = serviceDeploymentStatusChangePolling;
-        this.taskExecutor = taskExecutor;
+        this.serviceStatusChangeEventStream = serviceStatusChangeEventStream;
         this.activeProfiles = activeProfiles;
     }
 
@@ -670,7 +668,7 @@ public class DeployService {
             }
         } else {
             log.info("No resources of service {} need to clear", purgeTask.getServiceId());
-            serviceDeploymentStorage.deleteServiceDeployment(serviceDeployment);
+            serviceDeploymentEntityHandler.deleteServiceDeployment(serviceDeployment);
         }
     }
 
@@ -781,18 +779,18 @@ public class DeployService {
      */
     public DeferredResult<DeploymentStatusUpdate> getLatestServiceDeploymentStatus(
             UUID serviceId, ServiceDeploymentState lastKnownDeploymentState) {
-        DeferredResult<DeploymentStatusUpdate> stateDeferredResult = new DeferredResult<>();
-        taskExecutor.execute(
-                () -> {
-                    try {
-                        this.serviceDeploymentStatusChangePolling
-                                .fetchServiceDeploymentStatusWithPolling(
-                                        stateDeferredResult, serviceId, lastKnownDeploymentState);
-                    } catch (RuntimeException exception) {
-                        stateDeferredResult.setErrorResult(exception);
-                    }
-                });
-        return stateDeferredResult;
+        return serviceDeploymentStatusChangePolling.waitForServiceDeploymentStatusChange(
+                serviceId, lastKnownDeploymentState);
+    }
+
+    /**
+     * Stream the deployment status updates of the service.
+     *
+     * @param serviceId service id.
+     * @return SseEmitter.
+     */
+    public SseEmitter streamServiceDeploymentStatus(UUID serviceId) {
+        return serviceStatusChangeEventStream.streamServiceDeploymentStatus(serviceId);
     }
 
     /**
@@ -106,98 +106,79 @@ public class PolicyValidator {
         if (StringUtils.isEmpty(planJson)) {
             return;
         }
-        evaluateDeploymentPlanWithServicePolicies(
-                servicePolicies, planJson, deployTask.getDeployRequest().getFlavor());
-        evaluateDeploymentPlanWithUserPolicies(userPolicies, planJson);
+        List<ServicePolicy> flavorServicePolicies =
+                getFlavorServicePolicies(
+                        servicePolicies, deployTask.getDeployRequest().getFlavor());
+        evaluateDeploymentPlanWithPolicies(flavorServicePolicies, userPolicies, planJson);
     }
 
-    private void evaluateDeploymentPlanWithServicePolicies(
-            List<ServicePolicy> servicePolicies, String planJson, String flavorName) {
-        if (!CollectionUtils.isEmpty(servicePolicies)) {
-            List<String> policyList = new ArrayList<>();
-            for (ServicePolicy servicePolicy : servicePolicies) {
-                if (CollectionUtils.isEmpty(servicePolicy.getFlavorNameList())) {
-                    policyList.add(servicePolicy.getPolicy());
-                } else if (servicePolicy.getFlavorNameList().contains(flavorName)) {
-                    policyList.add(servicePolicy.getPolicy());
-                }
+    private List<ServicePolicy> getFlavorServicePolicies(
+            List<ServicePolicy> servicePolicies, String flavorName) {
+        List<ServicePolicy> flavorServicePolicies = new ArrayList<>();
+        for (ServicePolicy servicePolicy : servicePolicies) {
+            if (CollectionUtils.isEmpty(servicePolicy.getFlavorNameList())
+                    || servicePolicy.getFlavorNameList().contains(flavorName)) {
+                flavorServicePolicies.add(servicePolicy);
             }
+        }
+        return flavorServicePolicies;
+    }
 
-            String errMsg = "Evaluate deployment plan with service policies failed.";
-            EvalResult evalResult = policyManager.evaluatePolicies(policyList, planJson);
-            if (!evalResult.getIsSuccessful()) {
-                ServicePolicy failedServicePolicy =
-                        servicePolicies.stream()
-                                .filter(
-                                        servicePolicy ->
-                                                servicePolicy
-                                                        .getPolicy()
-                                                        .equals(evalResult.getPolicy()))
-                                .findFirst()
-                                .orElse(null);
-                if (Objects.nonNull(failedServicePolicy)) {
-                    errMsg =
-                            String.format(
-                                    errMsg
-                                            + "\n Failed by the service policy with id: %s."
-                                            + "\n Deployment plan: %s",
-                                    failedServicePolicy.getServicePolicyId(),
-                                    planJson);
-                } else {
-                    errMsg =
-                            String.format(
-                                    errMsg
-                                            + "\n Failed by the service policy with context"
-                                            + ": %s.\"\nDeployment plan: %s",
-                                    evalResult.getPolicy(),
-                                    planJson);
-                }
-                log.error(errMsg);
-                throw new PoliciesEvaluationFailedException(errMsg);
-            } else {
-                log.info("Evaluate deployment plan with service policies successful.");
-            }
+    /**
+     * Evaluate the deployment plan with the service policies and the user policies in one request
+     * to the policy-man, so that the plan is sent only once. The failed policy is looked up in the
+     * service policies first to keep the order of the evaluation.
+     */
+    private void evaluateDeploymentPlanWithPolicies(
+            List<ServicePolicy> servicePolicies, List<UserPolicy> userPolicies, String planJson) {
+        List<String> policyList = new ArrayList<>();
+        servicePolicies.forEach(servicePolicy -> policyList.add(servicePolicy.getPolicy()));
+        userPolicies.forEach(userPolicy -> policyList.add(userPolicy.getPolicy()));
+        if (policyList.isEmpty()) {
+            return;
+        }
+        EvalResult evalResult = policyManager.evaluatePolicies(policyList, planJson);
+        if (evalResult.getIsSuccessful()) {
+            log.info("Evaluate deployment plan with service and user policies successful.");
+            return;
         }
+        String errMsg = getEvaluationFailedMessage(servicePolicies, userPolicies, evalResult);
+        errMsg = errMsg + "\n Deployment plan: " + planJson;
+        log.error(errMsg);
+        throw new PoliciesEvaluationFailedException(errMsg);
     }
 
-    private void evaluateDeploymentPlanWithUserPolicies(
-            List<UserPolicy> userPolicies, String planJson) {
-        if (!CollectionUtils.isEmpty(userPolicies)) {
-            String errMsg = "Evaluate deployment plan with user policies failed.";
-            List<String> userPolicyList = userPolicies.stream().map(UserPolicy::getPolicy).toList();
-            EvalResult evalResult = policyManager.evaluatePolicies(userPolicyList, planJson);
-            if (!evalResult.getIsSuccessful()) {
-                UserPolicy failedUserPolicy =
-                        userPolicies.stream()
-                                .filter(
-                                        userPolicy ->
-                                                userPolicy
-                                                        .getPolicy()
-                                                        .equals(evalResult.getPolicy()))
-                                .findFirst()
-                                .orElse(null);
-                if (Objects.nonNull(failedUserPolicy)) {
-                    errMsg =
-                            String.format(
-                                    errMsg
-                                            + "\n Failed by the user policy with id: %s."
-                                            + "\n Deployment plan: %s",
-                                    failedUserPolicy.getUserPolicyId(),
-                                    planJson);
-                } else {
-                    errMsg =
-                            String.format(
-                                    errMsg
-                                            + "\n Failed by the user policy with context: %s."
-                                            + "\nDeployment plan: %s",
-                                    evalResult.getPolicy(),
-                                    planJson);
-                }
-                log.error(errMsg);
-                throw new PoliciesEvaluationFailedException(errMsg);
-            } else {
-                log.info("Evaluate deployment plan with user policies successful.");
-            }
+    private String getEvaluationFailedMessage(
+            List<ServicePolicy> servicePolicies,
+            List<UserPolicy> userPolicies,
+            EvalResult evalResult) {
+        ServicePolicy failedServicePolicy =
+                servicePolicies.stream()
+                        .filter(
+                                servicePolicy ->
+                                        servicePolicy.getPolicy().equals(evalResult.getPolicy()))
+                        .findFirst()
+                        .orElse(null);
+        if (Objects.nonNull(failedServicePolicy)) {
+            return String.format(
+                    "Evaluate deployment plan with service policies failed."
+                            + "\n Failed by the service policy with id: %s.",
+                    failedServicePolicy.getServicePolicyId());
+        }
+        UserPolicy failedUserPolicy =
+                userPolicies.stream()
+                        .filter(userPolicy -> userPolicy.getPolicy().equals(evalResult.getPolicy()))
+                        .findFirst()
+                        .orElse(null);
+        if (Objects.nonNull(failedUserPolicy)) {
+            return String.format(
+                    "Evaluate deployment plan with user policies failed."
+                            + "\n Failed by the user policy with id: %s.",
+                    failedUserPolicy.getUserPolicyId());
         }
+        return String.format(
+                "Evaluate deployment plan with policies failed."
+                        + "\n Failed by the policy with context: %s.",
+                evalResult.getPolicy());
     }
 }
@@ -7,6 +7,7 @@
 package org.eclipse.xpanse.modules.deployment;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -87,19 +88,20 @@ public class SensitiveDataHandler {
                 || CollectionUtils.isEmpty(serviceRequestProperties)) {
             return;
         }
+        Map<String, String> sensitiveProperties = new HashMap<>();
         inputVariables.stream()
                 .filter(variable -> variable.getSensitiveScope() != SensitiveScope.NONE)
                 .forEach(
                         variable -> {
                             if (serviceRequestProperties.containsKey(variable.getName())) {
-                                serviceRequestProperties.put(
+                                sensitiveProperties.put(
                                         variable.getName(),
-                                        secretsManager.encrypt(
-                                                serviceRequestProperties
-                                                        .get(variable.getName())
-                                                        .toString()));
+                                        serviceRequestProperties
+                                                .get(variable.getName())
+                                                .toString());
                             }
                         });
+        serviceRequestProperties.putAll(secretsManager.encryptAll(sensitiveProperties));
     }
 
     /**
@@ -134,17 +136,18 @@ public class SensitiveDataHandler {
         if (CollectionUtils.isEmpty(outputVariables) || CollectionUtils.isEmpty(outputProperties)) {
             return;
         }
+        Map<String, String> sensitiveProperties = new HashMap<>();
         outputVariables.stream()
                 .filter(variable -> variable.getSensitiveScope() != SensitiveScope.NONE)
                 .forEach(
                         variable -> {
                             if (outputProperties.containsKey(variable.getName())) {
-                                String encodedValue =
-                                        secretsManager.encrypt(
-                                                outputProperties.get(variable.getName()));
-                                outputProperties.put(variable.getName(), encodedValue);
+                                sensitiveProperties.put(
+                                        variable.getName(),
+                                        outputProperties.get(variable.getName()));
                             }
                         });
+        outputProperties.putAll(secretsManager.encryptAll(sensitiveProperties));
     }
 
     /**
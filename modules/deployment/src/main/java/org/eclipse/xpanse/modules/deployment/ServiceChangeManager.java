@@ -8,7 +8,6 @@ package org.eclipse.xpanse.modules.deployment;
 
 import jakarta.transaction.Transactional;
 import java.time.OffsetDateTime;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -113,33 +112,9 @@ public class ServiceChangeManager {
 
     private ServiceChangeRequestEntity getOldestPendingServiceChangeRequest(
             UUID serviceId, String resourceName) {
-        ServiceChangeRequestQueryModel model =
-                ServiceChangeRequestQueryModel.builder()
-                        .serviceId(serviceId)
-                        .resourceName(resourceName)
-                        .status(ServiceChangeStatus.PENDING)
-                        .build();
-        List<ServiceChangeRequestEntity> requests =
-                serviceChangeRequestStorage.getServiceChangeRequestEntities(model);
-        if (CollectionUtils.isEmpty(requests)) {
-            return null;
-        }
-        Optional<ServiceChangeRequestEntity> oldestRequestOptional =
-                requests.stream()
-                        .filter(
-                                request ->
-                                        Objects.isNull(request.getResourceName())
-                                                || resourceName.equals(request.getResourceName()))
-                        .filter(
-                                request ->
-                                        request.getServiceOrderEntity() != null
-                                                && request.getServiceOrderEntity().getStartedTime()
-                                                        != null)
-                        .min(
-                                Comparator.comparing(
-                                        request ->
-                                                request.getServiceOrderEntity().getStartedTime()));
-        return oldestRequestOptional.orElse(null);
+        // locks only the claimed request, requests claimed by other agents are skipped.
+        return serviceChangeRequestStorage.lockOldestPendingServiceChangeRequest(
+                serviceId, resourceName);
     }
 
     private ServiceChangeRequestEntity updateServiceChangeRequestState(
@@ -19,6 +19,7 @@ import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestQue
 import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestStorage;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangeNotifier;
 import org.eclipse.xpanse.modules.models.response.ErrorResponse;
 import org.eclipse.xpanse.modules.models.response.ErrorType;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
@@ -40,14 +41,17 @@ public class ServiceChangeRequestsManager {
 
     private final ServiceChangeRequestStorage serviceChangeRequestStorage;
     private final ServiceOrderManager serviceOrderManager;
+    private final ServiceStatusChangeNotifier serviceStatusChangeNotifier;
 
     /** Constructor method. */
     @Autowired
     public ServiceChangeRequestsManager(
             ServiceChangeRequestStorage serviceChangeRequestStorage,
-            ServiceOrderManager serviceOrderManager) {
+            ServiceOrderManager serviceOrderManager,
+            ServiceStatusChangeNotifier serviceStatusChangeNotifier) {
         this.serviceChangeRequestStorage = serviceChangeRequestStorage;
         this.serviceOrderManager = serviceOrderManager;
+        this.serviceStatusChangeNotifier = serviceStatusChangeNotifier;
     }
 
     /**
@@ -120,6 +124,8 @@ public class ServiceChangeRequestsManager {
                                 }));
         if (!requests.isEmpty()) {
             serviceChangeRequestStorage.saveAll(requests);
+            // wake up the agents waiting for changes of the service resources.
+            serviceStatusChangeNotifier.publishServiceChangeRequestsCreated(requests);
         } else {
             // if no requests were created, then the order is completed as failed.
             serviceOrderManager.completeOrderProgress(
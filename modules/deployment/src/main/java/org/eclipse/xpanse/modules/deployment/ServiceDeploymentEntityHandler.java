@@ -10,7 +10,9 @@ import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentLookup;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangeNotifier;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.InvalidServiceDeploymentStateException;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
@@ -24,22 +26,29 @@ import org.springframework.stereotype.Component;
 public class ServiceDeploymentEntityHandler {
 
     private final ServiceDeploymentStorage serviceDeploymentStorage;
+    private final ServiceDeploymentLookup serviceDeploymentLookup;
+    private final ServiceStatusChangeNotifier serviceStatusChangeNotifier;
 
     /** Constructor method. */
     @Autowired
-    public ServiceDeploymentEntityHandler(ServiceDeploymentStorage serviceDeploymentStorage) {
+    public ServiceDeploymentEntityHandler(
+            ServiceDeploymentStorage serviceDeploymentStorage,
+            ServiceDeploymentLookup serviceDeploymentLookup,
+            ServiceStatusChangeNotifier serviceStatusChangeNotifier) {
         this.serviceDeploymentStorage = serviceDeploymentStorage;
+        this.serviceDeploymentLookup = serviceDeploymentLookup;
+        this.serviceStatusChangeNotifier = serviceStatusChangeNotifier;
     }
 
     /**
-     * Get deploy service entity by id.
+     * Get deploy service entity by id. The entity is loaded only once per API request.
      *
      * @param id service id.
      * @return deploy service entity.
      */
     public ServiceDeploymentEntity getServiceDeploymentEntity(UUID id) {
         ServiceDeploymentEntity serviceDeploymentEntity =
-                serviceDeploymentStorage.findServiceDeploymentById(id);
+                serviceDeploymentLookup.getServiceDeploymentEntity(id);
         if (Objects.isNull(serviceDeploymentEntity)) {
             String errorMsg = String.format("Service with id %s not found.", id);
             log.error(errorMsg);
@@ -106,13 +115,21 @@ public class ServiceDeploymentEntityHandler {
     }
 
     /**
-     * Store and flush service deployment entity.
+     * Store and flush service deployment entity and publish its deployment state to the clients
+     * waiting for a change.
      *
      * @param serviceDeploymentEntity service deployment entity.
      * @return updated service deployment entity.
      */
     public ServiceDeploymentEntity storeAndFlush(ServiceDeploymentEntity serviceDeploymentEntity) {
-        return serviceDeploymentStorage.storeAndFlush(serviceDeploymentEntity);
+        ServiceDeploymentEntity storedServiceDeployment =
+                serviceDeploymentStorage.storeAndFlush(serviceDeploymentEntity);
+        if (storedServiceDeployment != serviceDeploymentEntity) {
+            // a detached entity was merged, the cached instance is no longer the stored one.
+            serviceDeploymentLookup.evict(storedServiceDeployment.getId());
+        }
+        serviceStatusChangeNotifier.publishDeploymentStatusChange(storedServiceDeployment);
+        return storedServiceDeployment;
     }
 
     /**
@@ -124,6 +141,16 @@ public class ServiceDeploymentEntityHandler {
     public void updateServiceDeploymentStatus(
             ServiceDeploymentEntity serviceDeployment, ServiceDeploymentState state) {
         serviceDeployment.setServiceDeploymentState(state);
-        serviceDeploymentStorage.storeAndFlush(serviceDeployment);
+        storeAndFlush(serviceDeployment);
+    }
+
+    /**
+     * Delete the service deployment entity.
+     *
+     * @param serviceDeploymentEntity service deployment entity.
+     */
+    public void deleteServiceDeployment(ServiceDeploymentEntity serviceDeploymentEntity) {
+        serviceDeploymentStorage.deleteServiceDeployment(serviceDeploymentEntity);
+        serviceDeploymentLookup.evict(serviceDeploymentEntity.getId());
     }
 }
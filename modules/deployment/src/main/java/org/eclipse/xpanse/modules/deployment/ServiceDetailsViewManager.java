@@ -8,17 +8,23 @@ package org.eclipse.xpanse.modules.deployment;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentSummary;
+import org.eclipse.xpanse.modules.database.service.ServicePageRequest;
 import org.eclipse.xpanse.modules.database.service.ServiceQueryModel;
+import org.eclipse.xpanse.modules.database.service.ServiceSummaryPage;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
 import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
@@ -27,6 +33,7 @@ import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ServiceDe
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
 import org.eclipse.xpanse.modules.models.service.view.DeployedService;
 import org.eclipse.xpanse.modules.models.service.view.DeployedServiceDetails;
+import org.eclipse.xpanse.modules.models.service.view.DeployedServicesPage;
 import org.eclipse.xpanse.modules.models.service.view.VendorHostedDeployedServiceDetails;
 import org.eclipse.xpanse.modules.models.serviceconfiguration.ServiceConfigurationDetails;
 import org.eclipse.xpanse.modules.models.servicetemplate.InputVariable;
@@ -45,11 +52,18 @@ import org.springframework.util.CollectionUtils;
 @Component
 public class ServiceDetailsViewManager {
 
+    private static final Set<ServiceDeploymentState> SERVICE_STATES_IN_PROGRESS =
+            EnumSet.of(
+                    ServiceDeploymentState.DEPLOYING,
+                    ServiceDeploymentState.DESTROYING,
+                    ServiceDeploymentState.MODIFYING);
+
     private final ServiceDeploymentEntityHandler serviceDeploymentEntityHandler;
     private final UserServiceHelper userServiceHelper;
     private final ServiceDeploymentStorage serviceDeploymentStorage;
     private final ServiceResultReFetchManager serviceResultReFetchManager;
     private final SensitiveDataHandler sensitiveDataHandler;
+    private final ServiceTemplateStorage serviceTemplateStorage;
 
     /** Constructor method. */
     @Autowired
@@ -58,12 +72,14 @@ public class ServiceDetailsViewManager {
             UserServiceHelper userServiceHelper,
             ServiceDeploymentStorage serviceDeploymentStorage,
             ServiceResultReFetchManager serviceResultReFetchManager,
-            SensitiveDataHandler sensitiveDataHandler) {
+            SensitiveDataHandler sensitiveDataHandler,
+            ServiceTemplateStorage serviceTemplateStorage) {
         this.serviceDeploymentEntityHandler = serviceDeploymentEntityHandler;
         this.userServiceHelper = userServiceHelper;
         this.serviceDeploymentStorage = serviceDeploymentStorage;
         this.serviceResultReFetchManager = serviceResultReFetchManager;
         this.sensitiveDataHandler = sensitiveDataHandler;
+        this.serviceTemplateStorage = serviceTemplateStorage;
     }
 
     /**
@@ -299,6 +315,129 @@ public class ServiceDetailsViewManager {
         return setServiceConfigurationForDeployedServiceList(deployServices);
     }
 
+    /**
+     * List one page of the services deployed by the current user with query model.
+     *
+     * @param category of the services to be filtered.
+     * @param csp of the services to be filtered.
+     * @param serviceName of the services to be filtered.
+     * @param serviceVersion of the services to be filtered.
+     * @param state of the services to be filtered.
+     * @param pageRequest sort and cursor of the page.
+     * @return page of deployed services.
+     */
+    public DeployedServicesPage listDeployedServicesPage(
+            Category category,
+            Csp csp,
+            String serviceName,
+            String serviceVersion,
+            ServiceDeploymentState state,
+            ServicePageRequest pageRequest) {
+        ServiceQueryModel query =
+                getServiceQueryModel(category, csp, serviceName, serviceVersion, state);
+        query.setUserId(userServiceHelper.getCurrentUserId());
+        return getDeployedServicesPage(query, pageRequest);
+    }
+
+    /**
+     * List one page of the services of the ISV managed by the current user.
+     *
+     * @param category of the services to be filtered.
+     * @param csp of the services to be filtered.
+     * @param serviceName of the services to be filtered.
+     * @param serviceVersion of the services to be filtered.
+     * @param state of the services to be filtered.
+     * @param pageRequest sort and cursor of the page.
+     * @return page of deployed services.
+     */
+    public DeployedServicesPage getDeployedServicesPageByIsv(
+            Category category,
+            Csp csp,
+            String serviceName,
+            String serviceVersion,
+            ServiceDeploymentState state,
+            ServicePageRequest pageRequest) {
+        ServiceQueryModel query =
+                getServiceQueryModel(category, csp, serviceName, serviceVersion, state);
+        query.setServiceVendor(userServiceHelper.getIsvManagedByCurrentUser());
+        return getDeployedServicesPage(query, pageRequest);
+    }
+
+    /**
+     * List one page of the services of the CSP managed by the current user.
+     *
+     * @param category of the services to be filtered.
+     * @param serviceName of the services to be filtered.
+     * @param serviceVersion of the services to be filtered.
+     * @param state of the services to be filtered.
+     * @param pageRequest sort and cursor of the page.
+     * @return page of deployed services.
+     */
+    public DeployedServicesPage getDeployedServicesPageByCsp(
+            Category category,
+            String serviceName,
+            String serviceVersion,
+            ServiceDeploymentState state,
+            ServicePageRequest pageRequest) {
+        Csp csp = userServiceHelper.getCspManagedByCurrentUser();
+        ServiceQueryModel query =
+                getServiceQueryModel(category, csp, serviceName, serviceVersion, state);
+        return getDeployedServicesPage(query, pageRequest);
+    }
+
+    private DeployedServicesPage getDeployedServicesPage(
+            ServiceQueryModel query, ServicePageRequest pageRequest) {
+        ServiceSummaryPage summaryPage =
+                serviceDeploymentStorage.listServiceSummaries(query, pageRequest);
+        reFetchDeploymentStateForServicesInProgress(summaryPage.getSummaries());
+        // services of a page are mostly deployed from a few templates.
+        Map<UUID, ServiceTemplateEntity> serviceTemplates = new HashMap<>();
+        List<DeployedService> deployedServices =
+                summaryPage.getSummaries().stream()
+                        .map(
+                                summary -> {
+                                    DeployedService deployedService =
+                                            EntityTranslationUtils.convertToDeployedService(
+                                                    summary);
+                                    ServiceTemplateEntity serviceTemplate =
+                                            serviceTemplates.computeIfAbsent(
+                                                    summary.getServiceTemplateId(),
+                                                    serviceTemplateStorage::getServiceTemplateById);
+                                    setServiceConfigurationDetailsForDeployedService(
+                                            deployedService, serviceTemplate);
+                                    return deployedService;
+                                })
+                        .toList();
+        DeployedServicesPage deployedServicesPage = new DeployedServicesPage();
+        deployedServicesPage.setServices(deployedServices);
+        deployedServicesPage.setNextCursor(summaryPage.getNextCursor());
+        return deployedServicesPage;
+    }
+
+    /**
+     * Only services in progress may miss the result of their order, so only the entities of these
+     * services are loaded to re-fetch the deployment state.
+     */
+    private void reFetchDeploymentStateForServicesInProgress(
+            List<ServiceDeploymentSummary> summaries) {
+        List<ServiceDeploymentEntity> servicesInProgress =
+                summaries.stream()
+                        .filter(
+                                summary ->
+                                        SERVICE_STATES_IN_PROGRESS.contains(
+                                                summary.getServiceDeploymentState()))
+                        .map(
+                                summary ->
+                                        serviceDeploymentStorage.findServiceDeploymentById(
+                                                summary.getId()))
+                        .filter(Objects::nonNull)
+                        .toList();
+        if (!servicesInProgress.isEmpty()) {
+            serviceResultReFetchManager.batchReFetchDeploymentStateForMissingOrdersFromDeployers(
+                    servicesInProgress);
+        }
+    }
+
     private List<DeployedService> setServiceConfigurationForDeployedServiceList(
             List<ServiceDeploymentEntity> deployServices) {
         return deployServices.stream()
@@ -6,7 +6,6 @@
 
 package org.eclipse.xpanse.modules.deployment;
 
-import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
 import static org.eclipse.xpanse.modules.security.auth.common.RoleConstants.ROLE_ADMIN;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -18,7 +17,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
@@ -26,6 +24,8 @@ import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
 import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
 import org.eclipse.xpanse.modules.deployment.polling.ServiceOrderStatusChangePolling;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangeEventStream;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangeNotifier;
 import org.eclipse.xpanse.modules.deployment.utils.MdcUtils;
 import org.eclipse.xpanse.modules.models.common.enums.UserOperation;
 import org.eclipse.xpanse.modules.models.common.exceptions.XpanseUnhandledException;
@@ -42,10 +42,10 @@ import org.eclipse.xpanse.modules.models.service.order.exceptions.ServiceOrderNo
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** Bean to manage service order tasks. */
 @Slf4j
@@ -58,7 +58,8 @@ public class ServiceOrderManager {
     private final ServiceDeploymentStorage serviceDeploymentStorage;
     private final UserServiceHelper userServiceHelper;
     private final ServiceOrderStatusChangePolling serviceOrderStatusChangePolling;
-    private final Executor taskExecutor;
+    private final ServiceStatusChangeNotifier serviceStatusChangeNotifier;
+    private final ServiceStatusChangeEventStream serviceStatusChangeEventStream;
 
     /** Constructor method. */
     @Autowired
@@ -67,12 +68,14 @@ public class ServiceOrderManager {
             ServiceDeploymentStorage serviceDeploymentStorage,
             UserServiceHelper userServiceHelper,
             ServiceOrderStatusChangePolling serviceOrderStatusChangePolling,
-            @Qualifier(ASYNC_EXECUTOR_NAME) Executor taskExecutor) {
+            ServiceStatusChangeNotifier serviceStatusChangeNotifier,
+            ServiceStatusChangeEventStream serviceStatusChangeEventStream) {
         this.serviceOrderStorage = serviceOrderStorage;
         this.serviceDeploymentStorage = serviceDeploymentStorage;
         this.userServiceHelper = userServiceHelper;
         this.serviceOrderStatusChangePolling = serviceOrderStatusChangePolling;
-        this.taskExecutor = taskExecutor;
+        this.serviceStatusChangeNotifier = serviceStatusChangeNotifier;
+        this.serviceStatusChangeEventStream = serviceStatusChangeEventStream;
     }
 
     /**
@@ -94,7 +97,7 @@ public class ServiceOrderManager {
         orderTask.setStartedTime(OffsetDateTime.now());
         orderTask.setRequestBody(getRequestBody(task.getRequest()));
         orderTask.setHandler(handler);
-        orderTask = serviceOrderStorage.storeAndFlush(orderTask);
+        orderTask = storeAndPublishOrderStatusChange(orderTask);
         MdcUtils.putServiceIdAndOrderId(
                 serviceDeploymentEntity.getId().toString(), orderTask.getOrderId().toString());
         task.setOrderId(orderTask.getOrderId());
@@ -137,7 +140,7 @@ public class ServiceOrderManager {
         serviceOrderEntity.setStartedTime(OffsetDateTime.now());
         serviceOrderEntity.setRequestBody(getRequestBody(originalRequest));
         serviceOrderEntity.setHandler(handler);
-        return serviceOrderStorage.storeAndFlush(serviceOrderEntity);
+        return storeAndPublishOrderStatusChange(serviceOrderEntity);
     }
 
     /**
@@ -149,7 +152,7 @@ public class ServiceOrderManager {
     public ServiceOrderEntity startOrderProgress(ServiceOrderEntity serviceOrder) {
         serviceOrder.setOrderStatus(OrderStatus.IN_PROGRESS);
         serviceOrder.setStartedTime(OffsetDateTime.now());
-        return serviceOrderStorage.storeAndFlush(serviceOrder);
+        return storeAndPublishOrderStatusChange(serviceOrder);
     }
 
     /**
@@ -175,7 +178,7 @@ public class ServiceOrderManager {
         if (Objects.nonNull(errorResponse)) {
             serviceOrder.setErrorResponse(errorResponse);
         }
-        serviceOrderStorage.storeAndFlush(serviceOrder);
+        storeAndPublishOrderStatusChange(serviceOrder);
     }
 
     /**
@@ -198,7 +201,7 @@ public class ServiceOrderManager {
         }
         serviceOrder.setCompletedTime(OffsetDateTime.now());
         serviceOrder.setResultProperties(getResultProperties(deployResult));
-        serviceOrderStorage.storeAndFlush(serviceOrder);
+        storeAndPublishOrderStatusChange(serviceOrder);
     }
 
     /**
@@ -246,17 +249,18 @@ public class ServiceOrderManager {
      */
     public DeferredResult<ServiceOrderStatusUpdate> getLatestServiceOrderStatus(
             UUID orderId, OrderStatus lastKnownOrderStatus) {
-        DeferredResult<ServiceOrderStatusUpdate> stateDeferredResult = new DeferredResult<>();
-        taskExecutor.execute(
-                () -> {
-                    try {
-                        this.serviceOrderStatusChangePolling.fetchServiceOrderStatusWithPolling(
-                                stateDeferredResult, orderId, lastKnownOrderStatus);
-                    } catch (Exception exception) {
-                        stateDeferredResult.setErrorResult(exception);
-                    }
-                });
-        return stateDeferredResult;
+        return serviceOrderStatusChangePolling.waitForServiceOrderStatusChange(
+                orderId, lastKnownOrderStatus);
+    }
+
+    /**
+     * Stream the task status updates of the service order until the order is completed.
+     *
+     * @param orderId id of the service order.
+     * @return emitter of the service order status updates.
+     */
+    public SseEmitter streamServiceOrderStatus(UUID orderId) {
+        return serviceStatusChangeEventStream.streamServiceOrderStatus(orderId);
     }
 
     /**
@@ -338,6 +342,18 @@ public class ServiceOrderManager {
         return orderEntity;
     }
 
+    /**
+     * Store the service order and publish its status to the clients waiting for a change.
+     *
+     * @param serviceOrder service order entity.
+     * @return stored service order entity.
+     */
+    public ServiceOrderEntity storeAndPublishOrderStatusChange(ServiceOrderEntity serviceOrder) {
+        ServiceOrderEntity storedServiceOrder = serviceOrderStorage.storeAndFlush(serviceOrder);
+        serviceStatusChangeNotifier.publishOrderStatusChange(storedServiceOrder);
+        return storedServiceOrder;
+    }
+
     private void checkPermission(
             ServiceDeploymentEntity serviceDeploymentEntity, UserOperation userOperation) {
         boolean isOwner = userServiceHelper.currentUserIsOwner(serviceDeploymentEntity.getUserId());
@@ -13,7 +13,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
@@ -104,18 +107,33 @@ public class ServiceStateManager {
             OrchestratorPlugin plugin,
             ServiceStateManageRequest request,
             ServiceDeploymentEntity service) {
-        serviceOrderTaskEntity = serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
+        ServiceOrderEntity orderEntity =
+                serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
         service.setServiceState(ServiceState.STARTING);
         serviceDeploymentHandler.storeAndFlush(service);
-        boolean result = false;
-        try {
-            result = plugin.startService(request);
-        } catch (Exception e) {
+        getResultAsync(() -> plugin.startServiceAsync(request))
+                .whenComplete(
+                        (result, e) ->
+                                runCompletion(
+                                        orderEntity,
+                                        ErrorType.ASYNC_START_SERVICE_ERROR,
+                                        () ->
+                                                completeStartService(
+                                                        orderEntity, service, result, e)));
+    }
+
+    private void completeStartService(
+            ServiceOrderEntity serviceOrderTaskEntity,
+            ServiceDeploymentEntity service,
+            Boolean result,
+            Throwable throwable) {
+        if (Objects.nonNull(throwable)) {
             serviceOrderTaskEntity.setErrorResponse(
                     ErrorResponse.errorResponse(
-                            ErrorType.ASYNC_START_SERVICE_ERROR, List.of(e.getMessage())));
+                            ErrorType.ASYNC_START_SERVICE_ERROR,
+                            List.of(getErrorMessage(throwable))));
         }
-        if (result) {
+        if (Boolean.TRUE.equals(result)) {
             serviceOrderTaskEntity.setOrderStatus(OrderStatus.SUCCESSFUL);
             service.setLastStartedAt(OffsetDateTime.now());
             service.setServiceState(ServiceState.RUNNING);
@@ -157,18 +175,33 @@ public class ServiceStateManager {
             ServiceStateManageRequest request,
             ServiceDeploymentEntity service) {
         serviceOrderTaskEntity.setOrderStatus(OrderStatus.IN_PROGRESS);
-        serviceOrderTaskEntity = serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
+        ServiceOrderEntity orderEntity =
+                serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
         service.setServiceState(ServiceState.STOPPING);
         serviceDeploymentHandler.storeAndFlush(service);
-        boolean result = false;
-        try {
-            result = plugin.stopService(request);
-        } catch (Exception e) {
+        getResultAsync(() -> plugin.stopServiceAsync(request))
+                .whenComplete(
+                        (result, e) ->
+                                runCompletion(
+                                        orderEntity,
+                                        ErrorType.ASYNC_STOP_SERVICE_ERROR,
+                                        () ->
+                                                completeStopService(
+                                                        orderEntity, service, result, e)));
+    }
+
+    private void completeStopService(
+            ServiceOrderEntity serviceOrderTaskEntity,
+            ServiceDeploymentEntity service,
+            Boolean result,
+            Throwable throwable) {
+        if (Objects.nonNull(throwable)) {
             serviceOrderTaskEntity.setErrorResponse(
                     ErrorResponse.errorResponse(
-                            ErrorType.ASYNC_STOP_SERVICE_ERROR, List.of(e.getMessage())));
+                            ErrorType.ASYNC_STOP_SERVICE_ERROR,
+                            List.of(getErrorMessage(throwable))));
         }
-        if (result) {
+        if (Boolean.TRUE.equals(result)) {
             serviceOrderTaskEntity.setOrderStatus(OrderStatus.SUCCESSFUL);
             service.setLastStoppedAt(OffsetDateTime.now());
             service.setServiceState(ServiceState.STOPPED);
@@ -209,18 +242,33 @@ public class ServiceStateManager {
             OrchestratorPlugin plugin,
             ServiceStateManageRequest request,
             ServiceDeploymentEntity service) {
-        serviceOrderTaskEntity = serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
+        ServiceOrderEntity orderEntity =
+                serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
         service.setServiceState(ServiceState.RESTARTING);
         serviceDeploymentHandler.storeAndFlush(service);
-        boolean result = false;
-        try {
-            result = plugin.restartService(request);
-        } catch (Exception e) {
+        getResultAsync(() -> plugin.restartServiceAsync(request))
+                .whenComplete(
+                        (result, e) ->
+                                runCompletion(
+                                        orderEntity,
+                                        ErrorType.ASYNC_RESTART_SERVICE_ERROR,
+                                        () ->
+                                                completeRestartService(
+                                                        orderEntity, service, result, e)));
+    }
+
+    private void completeRestartService(
+            ServiceOrderEntity serviceOrderTaskEntity,
+            ServiceDeploymentEntity service,
+            Boolean result,
+            Throwable throwable) {
+        if (Objects.nonNull(throwable)) {
             serviceOrderTaskEntity.setErrorResponse(
                     ErrorResponse.errorResponse(
-                            ErrorType.ASYNC_RESTART_SERVICE_ERROR, List.of(e.getMessage())));
+                            ErrorType.ASYNC_RESTART_SERVICE_ERROR,
+                            List.of(getErrorMessage(throwable))));
         }
-        if (result) {
+        if (Boolean.TRUE.equals(result)) {
             serviceOrderTaskEntity.setOrderStatus(OrderStatus.SUCCESSFUL);
             service.setLastStartedAt(OffsetDateTime.now());
             service.setServiceState(ServiceState.RUNNING);
@@ -235,6 +283,51 @@ public class ServiceStateManager {
         serviceDeploymentHandler.storeAndFlush(service);
     }
 
+    private CompletableFuture<Boolean> getResultAsync(Supplier<CompletableFuture<Boolean>> action) {
+        try {
+            return action.get();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Run the completion of the order. The completion runs in a callback of the future of the
+     * plugin, so errors thrown by it, e.g. by the database, are not seen by anyone else. The order
+     * is marked as failed instead of staying in progress.
+     */
+    private void runCompletion(
+            ServiceOrderEntity serviceOrderTaskEntity, ErrorType errorType, Runnable completion) {
+        try {
+            completion.run();
+        } catch (Exception e) {
+            String errorMsg =
+                    String.format(
+                            "Completing service order %s failed. %s",
+                            serviceOrderTaskEntity.getOrderId(), e.getMessage());
+            log.error(errorMsg, e);
+            try {
+                serviceOrderManager.completeOrderProgress(
+                        serviceOrderTaskEntity.getOrderId(),
+                        OrderStatus.FAILED,
+                        ErrorResponse.errorResponse(errorType, List.of(errorMsg)));
+            } catch (Exception ex) {
+                log.error(
+                        "Marking service order {} as failed failed. {}",
+                        serviceOrderTaskEntity.getOrderId(),
+                        ex.getMessage(),
+                        ex);
+            }
+        }
+    }
+
+    private String getErrorMessage(Throwable throwable) {
+        if (throwable instanceof CompletionException && Objects.nonNull(throwable.getCause())) {
+            return throwable.getCause().getMessage();
+        }
+        return throwable.getMessage();
+    }
+
     private ServiceDeploymentEntity getDeployedServiceAndValidateState(
             UUID serviceId, ServiceOrderType taskType) {
         ServiceDeploymentEntity service =
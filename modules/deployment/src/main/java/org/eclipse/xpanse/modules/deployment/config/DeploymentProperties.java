@@ -22,6 +22,7 @@ public class DeploymentProperties {
     private Helm helm;
     private TerraBoot terraBoot;
     private TofuMaker tofuMaker;
+    private PlanReuse planReuse = new PlanReuse();
 
     /** Properties class. */
     @Data
@@ -32,6 +33,7 @@ public class DeploymentProperties {
         private List<String> defaultSupportedVersions;
         private Workspace workspace;
         private Debug debug;
+        private PluginCache pluginCache;
     }
 
     /** Properties class. */
@@ -43,6 +45,7 @@ public class DeploymentProperties {
         private String downloadBaseUrl;
         private Workspace workspace;
         private Debug debug;
+        private PluginCache pluginCache;
     }
 
     /** Properties class. */
@@ -83,6 +86,21 @@ public class DeploymentProperties {
         private String directory;
     }
 
+    /** Properties class. */
+    @Data
+    public static class PluginCache {
+        private Boolean enabled;
+        private String directory;
+        private Boolean prewarmEnabled;
+    }
+
+    /** Properties class. */
+    @Data
+    public static class PlanReuse {
+        private Boolean enabled = true;
+        private Integer maxAgeInSeconds = 600;
+    }
+
     /** Properties class. */
     @Data
     public static class Debug {
@@ -14,4 +14,12 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class GitProperties {
 
     private Integer commandTimeoutSeconds;
+    private MirrorCache mirrorCache;
+
+    /** Configuration of the local mirrors of scripts repos. */
+    @Data
+    public static class MirrorCache {
+        private Boolean enabled;
+        private String directory;
+    }
 }
@@ -21,5 +21,6 @@ public class OrderProperties {
     public static class OrderStatus {
         private Integer longPollingSeconds;
         private Integer pollingIntervalSeconds;
+        private Integer streamingSeconds = 1800;
     }
 }
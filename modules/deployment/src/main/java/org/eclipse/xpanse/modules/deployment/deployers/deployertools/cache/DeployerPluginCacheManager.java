@@ -0,0 +1,397 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache;
+
+import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
+
+import jakarta.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.common.systemcmd.SystemCmd;
+import org.eclipse.xpanse.common.systemcmd.SystemCmdResult;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateQueryModel;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.deployment.config.DeploymentProperties;
+import org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal.OpenTofuInstaller;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal.TerraformInstaller;
+import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Bean to manage the provider plugin caches shared by all task workspaces of the Terraform and
+ * OpenTofu local deployers. The deployer tool lays out the cache by registry host, provider and
+ * version itself. Installing a provider into the cache is not safe for concurrent runs of init, so
+ * the runs of init are serialised per provider, across threads with in-memory locks and across
+ * processes sharing the cache directory with file locks.
+ */
+@Slf4j
+@Component
+public class DeployerPluginCacheManager implements ApplicationListener<ApplicationReadyEvent> {
+
+    public static final String TF_PLUGIN_CACHE_DIR = "TF_PLUGIN_CACHE_DIR";
+
+    /**
+     * Allows the deployer tool to use the cache also when the scripts have no dependency lock file
+     * with checksums of the providers, which is the case for most service templates.
+     */
+    public static final String TF_PLUGIN_CACHE_MAY_BREAK_DEPENDENCY_LOCK_FILE =
+            "TF_PLUGIN_CACHE_MAY_BREAK_DEPENDENCY_LOCK_FILE";
+
+    private static final String LOCKS_DIR_NAME = ".locks";
+    private static final String DEFAULT_LOCK_NAME = "default";
+    private static final String PREWARM_DIR_NAME = ".prewarm";
+    private static final String PREWARM_SCRIPT_FILE_NAME = "providers.tf";
+    private static final String SCRIPT_FILE_EXTENSION = ".tf";
+    private static final Pattern REQUIRED_PROVIDERS_PATTERN =
+            Pattern.compile("required_providers\\s*\\{((?:[^{}]|\\{[^{}]*})*)}");
+    private static final Pattern REQUIRED_PROVIDER_PATTERN =
+            Pattern.compile("([\\w-]+)\\s*=\\s*\\{[^{}]*}");
+    private static final Pattern PROVIDER_BLOCK_PATTERN =
+            Pattern.compile("provider\\s+\"([\\w-]+)\"\\s*\\{");
+
+    private final Map<String, ReentrantLock> providerLocks = new ConcurrentHashMap<>();
+    private final DeploymentProperties deploymentProperties;
+    private final ServiceTemplateStorage serviceTemplateStorage;
+    private final TerraformInstaller terraformInstaller;
+    private final OpenTofuInstaller openTofuInstaller;
+    private final Executor taskExecutor;
+
+    /** Constructor method. */
+    @Autowired
+    public DeployerPluginCacheManager(
+            DeploymentProperties deploymentProperties,
+            ServiceTemplateStorage serviceTemplateStorage,
+            TerraformInstaller terraformInstaller,
+            OpenTofuInstaller openTofuInstaller,
+            @Qualifier(ASYNC_EXECUTOR_NAME) Executor taskExecutor) {
+        this.deploymentProperties = deploymentProperties;
+        this.serviceTemplateStorage = serviceTemplateStorage;
+        this.terraformInstaller = terraformInstaller;
+        this.openTofuInstaller = openTofuInstaller;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /** Start to pre-warm the plugin caches with providers required by the service templates. */
+    @Override
+    public void onApplicationEvent(@Nonnull ApplicationReadyEvent event) {
+        for (DeployerKind deployerKind : List.of(DeployerKind.TERRAFORM, DeployerKind.OPEN_TOFU)) {
+            DeploymentProperties.PluginCache pluginCache = getPluginCacheProperties(deployerKind);
+            if (isPluginCacheEnabled(deployerKind)
+                    && Boolean.TRUE.equals(pluginCache.getPrewarmEnabled())) {
+                taskExecutor.execute(() -> prewarmPluginCache(deployerKind));
+            }
+        }
+    }
+
+    /**
+     * Check if the plugin cache is enabled for the deployer tool.
+     *
+     * @param deployerKind kind of the deployer tool.
+     * @return true if the plugin cache is enabled.
+     */
+    public boolean isPluginCacheEnabled(DeployerKind deployerKind) {
+        DeploymentProperties.PluginCache pluginCache = getPluginCacheProperties(deployerKind);
+        return Objects.nonNull(pluginCache)
+                && Boolean.TRUE.equals(pluginCache.getEnabled())
+                && StringUtils.isNotBlank(pluginCache.getDirectory());
+    }
+
+    /**
+     * Get the environment variables which make the deployer tool use the shared plugin cache.
+     *
+     * @param deployerKind kind of the deployer tool.
+     * @return environment variables, empty if the plugin cache is not enabled.
+     */
+    public Map<String, String> getPluginCacheEnvironmentVariables(DeployerKind deployerKind) {
+        Map<String, String> variables = new HashMap<>();
+        if (!isPluginCacheEnabled(deployerKind)) {
+            return variables;
+        }
+        Path pluginCacheDir = getPluginCacheDirectory(deployerKind);
+        try {
+            Files.createDirectories(pluginCacheDir);
+        } catch (IOException e) {
+            log.error("Failed to create plugin cache directory {}.", pluginCacheDir, e);
+            return variables;
+        }
+        variables.put(TF_PLUGIN_CACHE_DIR, pluginCacheDir.toString());
+        variables.put(TF_PLUGIN_CACHE_MAY_BREAK_DEPENDENCY_LOCK_FILE, Boolean.TRUE.toString());
+        return variables;
+    }
+
+    /**
+     * Run the init command of the deployer tool while holding the locks of all providers required
+     * by the scripts in the workspace.
+     *
+     * @param deployerKind kind of the deployer tool.
+     * @param scriptsWorkspace directory with the scripts to be initialized.
+     * @param initCommand init command to be run.
+     * @return result of the init command.
+     */
+    public <T> T executeWithPluginCacheLocks(
+            DeployerKind deployerKind, String scriptsWorkspace, Supplier<T> initCommand) {
+        if (!isPluginCacheEnabled(deployerKind)) {
+            return initCommand.get();
+        }
+        Set<String> providerNames = getRequiredProviderNames(Path.of(scriptsWorkspace));
+        if (providerNames.isEmpty()) {
+            providerNames.add(DEFAULT_LOCK_NAME);
+        }
+        Path locksDir = getPluginCacheDirectory(deployerKind).resolve(LOCKS_DIR_NAME);
+        Deque<ReentrantLock> heldLocks = new ArrayDeque<>();
+        Deque<FileChannel> heldFileLocks = new ArrayDeque<>();
+        try {
+            // the caches of Terraform and OpenTofu may be configured to the same directory. The
+            // in-memory locks are keyed by the real path of the lock file, so that the same file is
+            // never locked twice by this process, which the file lock does not allow.
+            Path realLocksDir = Files.createDirectories(locksDir).toRealPath();
+            // locks are always taken in the same order to avoid dead locks.
+            for (String providerName : providerNames) {
+                Path lockFile = realLocksDir.resolve(providerName + ".lock");
+                ReentrantLock lock =
+                        providerLocks.computeIfAbsent(
+                                lockFile.toString(), key -> new ReentrantLock());
+                lock.lock();
+                heldLocks.push(lock);
+                if (lock.getHoldCount() == 1) {
+                    heldFileLocks.push(lockFile(lockFile));
+                }
+            }
+            return initCommand.get();
+        } catch (IOException | OverlappingFileLockException e) {
+            log.error(
+                    "Failed to lock plugin cache of {}. Run init without lock.",
+                    deployerKind.toValue(),
+                    e);
+            releaseLocks(heldLocks, heldFileLocks);
+            return initCommand.get();
+        } finally {
+            releaseLocks(heldLocks, heldFileLocks);
+        }
+    }
+
+    private FileChannel lockFile(Path lockFile) throws IOException {
+        FileChannel channel =
+                FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock fileLock = channel.lock();
+            log.debug("Acquired plugin cache lock {}.", fileLock);
+            return channel;
+        } catch (IOException | OverlappingFileLockException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void releaseLocks(Deque<ReentrantLock> heldLocks, Deque<FileChannel> heldFileLocks) {
+        while (!heldFileLocks.isEmpty()) {
+            FileChannel channel = heldFileLocks.pop();
+            try {
+                // closing the channel releases the file lock.
+                channel.close();
+            } catch (IOException e) {
+                log.error("Failed to release plugin cache file lock.", e);
+            }
+        }
+        while (!heldLocks.isEmpty()) {
+            heldLocks.pop().unlock();
+        }
+    }
+
+    /**
+     * Get the names of the providers referenced by the scripts in the directory.
+     *
+     * @param scriptsDir directory with the scripts.
+     * @return sorted names of the providers.
+     */
+    Set<String> getRequiredProviderNames(Path scriptsDir) {
+        Set<String> providerNames = new TreeSet<>();
+        try (Stream<Path> files = Files.walk(scriptsDir)) {
+            files.filter(file -> file.toString().endsWith(SCRIPT_FILE_EXTENSION))
+                    .filter(file -> !file.toString().contains(File.separator + ".terraform"))
+                    .forEach(
+                            file -> {
+                                try {
+                                    providerNames.addAll(
+                                            getRequiredProviderNames(Files.readString(file)));
+                                } catch (IOException e) {
+                                    log.warn("Failed to read script file {}.", file, e);
+                                }
+                            });
+        } catch (IOException e) {
+            log.warn("Failed to read scripts in {}.", scriptsDir, e);
+        }
+        return providerNames;
+    }
+
+    private Set<String> getRequiredProviderNames(String script) {
+        Set<String> providerNames = new HashSet<>(getRequiredProviders(script).keySet());
+        Matcher providerBlockMatcher = PROVIDER_BLOCK_PATTERN.matcher(script);
+        while (providerBlockMatcher.find()) {
+            providerNames.add(providerBlockMatcher.group(1));
+        }
+        return providerNames;
+    }
+
+    /** Returns the blocks of the required providers in the script keyed by the provider name. */
+    private Map<String, String> getRequiredProviders(String script) {
+        Map<String, String> requiredProviders = new TreeMap<>();
+        Matcher requiredProvidersMatcher = REQUIRED_PROVIDERS_PATTERN.matcher(script);
+        while (requiredProvidersMatcher.find()) {
+            Matcher providerMatcher =
+                    REQUIRED_PROVIDER_PATTERN.matcher(requiredProvidersMatcher.group(1));
+            while (providerMatcher.find()) {
+                requiredProviders.put(providerMatcher.group(1), providerMatcher.group());
+            }
+        }
+        return requiredProviders;
+    }
+
+    private void prewarmPluginCache(DeployerKind deployerKind) {
+        log.info("Pre-warming plugin cache of {}.", deployerKind.toValue());
+        // group the providers by the version of the deployer tool to run init with.
+        Map<String, Map<String, String>> providersByToolVersion = new HashMap<>();
+        List<ServiceTemplateEntity> serviceTemplates =
+                serviceTemplateStorage.listServiceTemplates(
+                        ServiceTemplateQueryModel.builder().build());
+        for (ServiceTemplateEntity serviceTemplate : serviceTemplates) {
+            Deployment deployment =
+                    Objects.nonNull(serviceTemplate.getOcl())
+                            ? serviceTemplate.getOcl().getDeployment()
+                            : null;
+            if (Objects.isNull(deployment)
+                    || Objects.isNull(deployment.getDeployerTool())
+                    || deployment.getDeployerTool().getKind() != deployerKind
+                    || Objects.isNull(deployment.getTerraformDeployment())
+                    || CollectionUtils.isEmpty(
+                            deployment.getTerraformDeployment().getScriptFiles())) {
+                continue;
+            }
+            Map<String, String> providers =
+                    providersByToolVersion.computeIfAbsent(
+                            Objects.toString(deployment.getDeployerTool().getVersion(), ""),
+                            version -> new TreeMap<>());
+            deployment
+                    .getTerraformDeployment()
+                    .getScriptFiles()
+                    .values()
+                    .forEach(script -> getRequiredProviders(script).forEach(providers::put));
+        }
+        providersByToolVersion.forEach(
+                (toolVersion, providers) -> {
+                    try {
+                        prewarmProviders(deployerKind, toolVersion, providers);
+                    } catch (Exception e) {
+                        log.error(
+                                "Failed to pre-warm plugin cache of {} with providers {}.",
+                                deployerKind.toValue(),
+                                providers.keySet(),
+                                e);
+                    }
+                });
+        log.info("Pre-warmed plugin cache of {}.", deployerKind.toValue());
+    }
+
+    private void prewarmProviders(
+            DeployerKind deployerKind, String toolVersion, Map<String, String> providers)
+            throws IOException {
+        if (providers.isEmpty()) {
+            return;
+        }
+        String executorPath =
+                deployerKind == DeployerKind.TERRAFORM
+                        ? terraformInstaller.getExecutorPathThatMatchesRequiredVersion(toolVersion)
+                        : openTofuInstaller.getExecutorPathThatMatchesRequiredVersion(toolVersion);
+        Path prewarmDir =
+                getPluginCacheDirectory(deployerKind)
+                        .resolve(PREWARM_DIR_NAME)
+                        .resolve(UUID.randomUUID().toString());
+        Files.createDirectories(prewarmDir);
+        try {
+            String script =
+                    "terraform {\n  required_providers {\n"
+                            + String.join("\n", providers.values())
+                            + "\n  }\n}\n";
+            Files.writeString(
+                    prewarmDir.resolve(PREWARM_SCRIPT_FILE_NAME), script, StandardCharsets.UTF_8);
+            SystemCmd systemCmd = new SystemCmd();
+            systemCmd.setEnv(getPluginCacheEnvironmentVariables(deployerKind));
+            systemCmd.setWorkDir(prewarmDir.toString());
+            SystemCmdResult result =
+                    executeWithPluginCacheLocks(
+                            deployerKind,
+                            prewarmDir.toString(),
+                            () ->
+                                    systemCmd.execute(
+                                            executorPath + " init -backend=false -no-color"));
+            if (!result.isCommandSuccessful()) {
+                log.error(
+                        "Pre-warming plugin cache of {} with providers {} failed. {}",
+                        deployerKind.toValue(),
+                        providers.keySet(),
+                        result.getCommandStdErrorTail());
+            }
+        } finally {
+            FileUtils.deleteQuietly(prewarmDir.toFile());
+        }
+    }
+
+    private Path getPluginCacheDirectory(DeployerKind deployerKind) {
+        Path directory = Path.of(getPluginCacheProperties(deployerKind).getDirectory());
+        if (directory.isAbsolute()) {
+            return directory;
+        }
+        // relative directories are resolved like the task workspaces.
+        return Path.of(System.getProperty("java.io.tmpdir")).resolve(directory);
+    }
+
+    private DeploymentProperties.PluginCache getPluginCacheProperties(DeployerKind deployerKind) {
+        if (deployerKind == DeployerKind.TERRAFORM
+                && Objects.nonNull(deploymentProperties.getTerraformLocal())) {
+            return deploymentProperties.getTerraformLocal().getPluginCache();
+        }
+        if (deployerKind == DeployerKind.OPEN_TOFU
+                && Objects.nonNull(deploymentProperties.getOpentofuLocal())) {
+            return deploymentProperties.getOpentofuLocal().getPluginCache();
+        }
+        return null;
+    }
+}
@@ -37,7 +37,7 @@ public class DeployerToolVersionsCache {
      *
      * @return Set of available versions.
      */
-    @Cacheable(value = DEPLOYER_VERSIONS_CACHE_NAME, key = "#deployerKind")
+    @Cacheable(value = DEPLOYER_VERSIONS_CACHE_NAME, key = "#deployerKind", sync = true)
     public Set<String> getVersionsCacheOfDeployerTool(DeployerKind deployerKind) {
         if (deploymentProperties.getSupportOnlyDefaultVersionsEnabled()) {
             return new HashSet<>(versionsFetcher.getDefaultVersionsByDeployerKind(deployerKind));
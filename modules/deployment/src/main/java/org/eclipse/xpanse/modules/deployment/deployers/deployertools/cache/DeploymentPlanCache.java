@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.deployment.config.DeploymentProperties;
+import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to keep the plans computed by the local deployers to evaluate the policies of a deployment,
+ * so that the deployment of the same order applies the evaluated plan instead of running init and
+ * plan a second time. A saved plan is only handed out once, and only when it is not older than the
+ * configured maximum age and was computed with the same deployer tool and variables. Plans which
+ * are never taken, e.g. because the policy evaluation failed, are removed with their workspace when
+ * they expire.
+ */
+@Slf4j
+@Component
+public class DeploymentPlanCache {
+
+    /** Name of the saved plan file in the scripts location of the task workspace. */
+    public static final String PLAN_FILE_NAME = "tfplan.binary";
+
+    private static final ObjectMapper OBJECT_MAPPER =
+            new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final Map<UUID, SavedDeploymentPlan> savedPlans = new ConcurrentHashMap<>();
+    private final DeploymentProperties deploymentProperties;
+    private final DeploymentScriptsHelper scriptsHelper;
+
+    /** Constructor method. */
+    @Autowired
+    public DeploymentPlanCache(
+            DeploymentProperties deploymentProperties, DeploymentScriptsHelper scriptsHelper) {
+        this.deploymentProperties = deploymentProperties;
+        this.scriptsHelper = scriptsHelper;
+    }
+
+    /**
+     * Check if the plans computed for the policy evaluation are reused by the deployment.
+     *
+     * @return true if the plans are reused.
+     */
+    public boolean isPlanReuseEnabled() {
+        return Boolean.TRUE.equals(deploymentProperties.getPlanReuse().getEnabled());
+    }
+
+    /**
+     * Save the plan computed for the order to be applied by its deployment.
+     *
+     * @param savedDeploymentPlan plan kept in its task workspace.
+     */
+    public void savePlan(SavedDeploymentPlan savedDeploymentPlan) {
+        if (!isPlanReuseEnabled()) {
+            return;
+        }
+        SavedDeploymentPlan replacedPlan =
+                savedPlans.put(savedDeploymentPlan.orderId(), savedDeploymentPlan);
+        if (Objects.nonNull(replacedPlan)
+                && !replacedPlan.taskWorkspace().equals(savedDeploymentPlan.taskWorkspace())) {
+            scriptsHelper.deleteTaskWorkspace(replacedPlan.taskWorkspace());
+        }
+        log.info(
+                "Saved {} plan of order {} in workspace {}.",
+                savedDeploymentPlan.deployerKind().toValue(),
+                savedDeploymentPlan.orderId(),
+                savedDeploymentPlan.taskWorkspace());
+    }
+
+    /**
+     * Take the saved plan of the order. The plan is removed from the cache.
+     *
+     * @param orderId id of the order.
+     * @param deployerKind kind of the deployer tool of the deployment.
+     * @param fingerprint fingerprint of the deployer tool and the variables of the deployment.
+     * @return saved plan, null if there is no plan which can be applied by the deployment.
+     */
+    public SavedDeploymentPlan takePlan(
+            UUID orderId, DeployerKind deployerKind, String fingerprint) {
+        SavedDeploymentPlan savedDeploymentPlan = savedPlans.remove(orderId);
+        if (Objects.isNull(savedDeploymentPlan)) {
+            return null;
+        }
+        if (savedDeploymentPlan.deployerKind() != deployerKind
+                || !savedDeploymentPlan.fingerprint().equals(fingerprint)) {
+            log.info("Saved plan of order {} does not match the deployment. Plan again.", orderId);
+            return null;
+        }
+        if (isExpired(savedDeploymentPlan, Instant.now())) {
+            log.info("Saved plan of order {} has expired. Plan again.", orderId);
+            return null;
+        }
+        return savedDeploymentPlan;
+    }
+
+    /**
+     * Get the fingerprint of the inputs of a plan. Plans computed with another deployer tool
+     * version or other variables cannot be applied.
+     *
+     * @param executorPath path of the deployer tool executable.
+     * @param variables variables of the plan.
+     * @return fingerprint of the inputs.
+     */
+    public String getFingerprint(String executorPath, Map<String, Object> variables) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(executorPath.getBytes(StandardCharsets.UTF_8));
+            digest.update(OBJECT_MAPPER.writeValueAsBytes(variables));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Computing fingerprint of the plan failed.", e);
+        }
+    }
+
+    /** Remove the expired plans which were never applied together with their task workspace. */
+    @Scheduled(fixedDelay = 60000L)
+    public void removeExpiredPlans() {
+        Instant now = Instant.now();
+        for (SavedDeploymentPlan savedDeploymentPlan : savedPlans.values()) {
+            // the plan could be taken by its deployment in the meantime.
+            if (isExpired(savedDeploymentPlan, now)
+                    && savedPlans.remove(savedDeploymentPlan.orderId(), savedDeploymentPlan)) {
+                log.info("Removing expired plan of order {}.", savedDeploymentPlan.orderId());
+                scriptsHelper.deleteTaskWorkspace(savedDeploymentPlan.taskWorkspace());
+            }
+        }
+    }
+
+    private boolean isExpired(SavedDeploymentPlan savedDeploymentPlan, Instant now) {
+        Duration maxAge =
+                Duration.ofSeconds(deploymentProperties.getPlanReuse().getMaxAgeInSeconds());
+        return savedDeploymentPlan.createdAt().plus(maxAge).isBefore(now);
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+
+/**
+ * Plan of a deployment task computed to evaluate the policies, kept in its initialized task
+ * workspace to be applied by the deployment of the same order.
+ *
+ * @param orderId id of the order the plan was computed for.
+ * @param deployerKind kind of the deployer tool which computed the plan.
+ * @param taskWorkspace workspace of the task with the scripts and the saved plan file.
+ * @param preparedFiles deployment script files prepared in the workspace.
+ * @param fingerprint fingerprint of the deployer tool and the variables used for the plan.
+ * @param createdAt time when the plan was computed.
+ */
+public record SavedDeploymentPlan(
+        UUID orderId,
+        DeployerKind deployerKind,
+        String taskWorkspace,
+        List<File> preparedFiles,
+        String fingerprint,
+        Instant createdAt) {}
@@ -9,6 +9,7 @@ package org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal;
 import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
 
 import java.io.File;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +20,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.deployment.ServiceDeploymentEntityHandler;
 import org.eclipse.xpanse.modules.deployment.config.DeploymentProperties;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeploymentPlanCache;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.SavedDeploymentPlan;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.callbacks.OpenTofuDeploymentResultCallbackManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.TofuMakerDeployment;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.model.OpenTofuResult;
@@ -49,7 +53,9 @@ public class OpenTofuLocalDeployment implements Deployer {
     private final OpenTofuDeploymentResultCallbackManager openTofuResultCallbackManager;
     private final ServiceDeploymentEntityHandler serviceDeploymentEntityHandler;
     private final DeploymentScriptsHelper scriptsHelper;
+    private final DeployerPluginCacheManager deployerPluginCacheManager;
     private final Executor taskExecutor;
+    private final DeploymentPlanCache deploymentPlanCache;
 
     /** Constructor method. */
     @Autowired
@@ -60,14 +66,18 @@ public class OpenTofuLocalDeployment implements Deployer {
             OpenTofuDeploymentResultCallbackManager openTofuResultCallbackManager,
             ServiceDeploymentEntityHandler serviceDeploymentEntityHandler,
             DeploymentScriptsHelper scriptsHelper,
-            @Qualifier(ASYNC_EXECUTOR_NAME) Executor taskExecutor) {
+            @Qualifier(ASYNC_EXECUTOR_NAME) Executor taskExecutor,
+            DeployerPluginCacheManager deployerPluginCacheManager,
+            DeploymentPlanCache deploymentPlanCache) {
         this.openTofuInstaller = openTofuInstaller;
         this.deployEnvironments = deployEnvironments;
         this.deploymentProperties = deploymentProperties;
         this.openTofuResultCallbackManager = openTofuResultCallbackManager;
         this.serviceDeploymentEntityHandler = serviceDeploymentEntityHandler;
         this.scriptsHelper = scriptsHelper;
+        this.deployerPluginCacheManager = deployerPluginCacheManager;
         this.taskExecutor = taskExecutor;
+        this.deploymentPlanCache = deploymentPlanCache;
     }
 
     /**
@@ -119,16 +129,29 @@ public class OpenTofuLocalDeployment implements Deployer {
         String workspace =
                 scriptsHelper.createWorkspaceForTask(
                         getDeployerConfigWorkspace(), task.getOrderId());
-        List<File> preparedFiles =
-                scriptsHelper.prepareDeploymentScripts(
-                        workspace, task.getOcl().getDeployment(), null);
         OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
+        // the plan evaluated with the policies is applied when it is still valid.
+        SavedDeploymentPlan savedPlan =
+                deploymentPlanCache.takePlan(
+                        task.getOrderId(),
+                        DeployerKind.OPEN_TOFU,
+                        deploymentPlanCache.getFingerprint(
+                                executor.getExecutorPath(), executor.getVariables()));
+        List<File> preparedFiles =
+                Objects.nonNull(savedPlan)
+                        ? savedPlan.preparedFiles()
+                        : scriptsHelper.prepareDeploymentScripts(
+                                workspace, task.getOcl().getDeployment(), null);
         // Execute the openTofu command asynchronously.
         taskExecutor.execute(
                 () -> {
                     Exception exception = null;
                     try {
-                        executor.deploy();
+                        if (Objects.nonNull(savedPlan)) {
+                            executor.deployWithSavedPlan();
+                        } else {
+                            executor.deploy();
+                        }
                     } catch (Exception tfEx) {
                         log.error("Execute OpenTofu deploy script failed. {}", tfEx.getMessage());
                         exception = tfEx;
@@ -225,10 +248,23 @@ public class OpenTofuLocalDeployment implements Deployer {
         String workspace =
                 scriptsHelper.createWorkspaceForTask(
                         getDeployerConfigWorkspace(), task.getOrderId());
-        scriptsHelper.prepareDeploymentScripts(workspace, task.getOcl().getDeployment(), null);
+        List<File> preparedFiles =
+                scriptsHelper.prepareDeploymentScripts(
+                        workspace, task.getOcl().getDeployment(), null);
         // Execute the openTofu command.
         OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
-        return executor.getOpenTofuPlanAsJson();
+        String planJson = executor.getOpenTofuPlanAsJson();
+        // keep the initialized workspace and the plan to be applied by the deployment.
+        deploymentPlanCache.savePlan(
+                new SavedDeploymentPlan(
+                        task.getOrderId(),
+                        DeployerKind.OPEN_TOFU,
+                        workspace,
+                        preparedFiles,
+                        deploymentPlanCache.getFingerprint(
+                                executor.getExecutorPath(), executor.getVariables()),
+                        Instant.now()));
+        return planJson;
     }
 
     /**
@@ -259,6 +295,8 @@ public class OpenTofuLocalDeployment implements Deployer {
                     TF_DEBUG_FLAG,
                     deploymentProperties.getOpentofuLocal().getDebug().getLevelValue());
         }
+        envVariables.putAll(
+                deployEnvironments.getPluginCacheEnvironmentVariables(DeployerKind.OPEN_TOFU));
         String executorPath =
                 openTofuInstaller.getExecutorPathThatMatchesRequiredVersion(
                         deployment.getDeployerTool().getVersion());
@@ -266,7 +304,10 @@ public class OpenTofuLocalDeployment implements Deployer {
                 executorPath,
                 envVariables,
                 inputVariables,
-                scriptsHelper.getScriptsLocationInWorkspace(workspace, deployment));
+                scriptsHelper.getScriptsLocationInWorkspace(workspace, deployment),
+                deployerPluginCacheManager.isPluginCacheEnabled(DeployerKind.OPEN_TOFU)
+                        ? deployerPluginCacheManager
+                        : null);
     }
 
     /** Get the deployer kind. */
@@ -6,6 +6,7 @@
 
 package org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal;
 
+import static org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeploymentPlanCache.PLAN_FILE_NAME;
 import static org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper.TF_VARS_FILE_NAME;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -13,13 +14,19 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.common.systemcmd.SystemCmd;
 import org.eclipse.xpanse.common.systemcmd.SystemCmdResult;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuExecutorException;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeploymentScriptValidationResult;
 
 /** An executor for OpenTofu. */
@@ -32,10 +39,19 @@ public class OpenTofuLocalExecutor {
         OBJECT_MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
+    /** Errors of apply with which the saved plan is discarded and the deployment plans again. */
+    private static final List<String> UNUSABLE_SAVED_PLAN_ERRORS =
+            List.of(
+                    "Saved plan is stale",
+                    "Failed to load",
+                    "Failed to read plan",
+                    "Inconsistent dependency lock file");
+
     @Getter private final String executorPath;
     @Getter private final String taskWorkspace;
     private final Map<String, String> env;
-    private final Map<String, Object> variables;
+    @Getter private final Map<String, Object> variables;
+    private final DeployerPluginCacheManager pluginCacheManager;
 
     /**
      * Constructor for openTofuExecutor.
@@ -50,10 +66,29 @@ public class OpenTofuLocalExecutor {
             Map<String, String> env,
             Map<String, Object> variables,
             String taskWorkspace) {
+        this(executorPath, env, variables, taskWorkspace, null);
+    }
+
+    /**
+     * Constructor for openTofuExecutor.
+     *
+     * @param executorPath path of the open tofu executor.
+     * @param env environment for the open tofu command line.
+     * @param variables variables for the open tofu command line.
+     * @param taskWorkspace workspace with scripts for the open tofu command line.
+     * @param pluginCacheManager manager of the shared provider plugin cache, null if not used.
+     */
+    OpenTofuLocalExecutor(
+            String executorPath,
+            Map<String, String> env,
+            Map<String, Object> variables,
+            String taskWorkspace,
+            DeployerPluginCacheManager pluginCacheManager) {
         this.executorPath = executorPath;
         this.env = env;
         this.variables = variables;
         this.taskWorkspace = taskWorkspace;
+        this.pluginCacheManager = pluginCacheManager;
         log.info(
                 "Created OpenTofuLocalExecutor with executorPath: {} and taskWorkspace: {}",
                 executorPath,
@@ -66,7 +101,13 @@ public class OpenTofuLocalExecutor {
      * @return Returns result of SystemCmd executed.
      */
     public SystemCmdResult tfInit() {
-        return execute(this.executorPath + " init -no-color");
+        if (Objects.isNull(pluginCacheManager)) {
+            return execute(this.executorPath + " init -no-color");
+        }
+        return pluginCacheManager.executeWithPluginCacheLocks(
+                DeployerKind.OPEN_TOFU,
+                this.taskWorkspace,
+                () -> execute(this.executorPath + " init -no-color"));
     }
 
     /**
@@ -87,7 +128,9 @@ public class OpenTofuLocalExecutor {
     public SystemCmdResult tfPlanWithOutput() {
         return executeWithVariables(
                 new StringBuilder(
-                        this.executorPath + " plan -input=false -no-color --out tfplan.binary"));
+                        this.executorPath
+                                + " plan -input=false -no-color --out "
+                                + PLAN_FILE_NAME));
     }
 
     /**
@@ -101,6 +144,19 @@ public class OpenTofuLocalExecutor {
                         this.executorPath + " apply -auto-approve -input=false -no-color "));
     }
 
+    /**
+     * Executes open tofu apply command with the saved plan. The variables are part of the saved
+     * plan.
+     *
+     * @return Returns result of SystemCmd executed.
+     */
+    public SystemCmdResult tfApplySavedPlan() {
+        return execute(
+                this.executorPath
+                        + " apply -auto-approve -input=false -no-color "
+                        + PLAN_FILE_NAME);
+    }
+
     /**
      * Executes open tofu destroy command.
      *
@@ -152,32 +208,78 @@ public class OpenTofuLocalExecutor {
      * @return SystemCmdResult
      */
     private SystemCmdResult execute(String cmd) {
+        SystemCmdResult systemCmdResult = executeWithCompleteOutput(cmd);
+        // only the errors kept in memory are used, so the output files are not needed.
+        systemCmdResult.deleteOutputSpillFiles();
+        return systemCmdResult;
+    }
+
+    /**
+     * Executes open tofu commands of which the complete output is read with {@link
+     * #readCompleteStdOutput(SystemCmdResult)}. Large output is written to files outside the task
+     * workspace, so that it is not collected with the files generated by the deployment.
+     *
+     * @return SystemCmdResult
+     */
+    private SystemCmdResult executeWithCompleteOutput(String cmd) {
         SystemCmd systemCmd = new SystemCmd();
         systemCmd.setEnv(env);
         systemCmd.setWorkDir(taskWorkspace);
+        systemCmd.setOutputSpillDirectory(SystemCmd.DEFAULT_OUTPUT_SPILL_DIRECTORY);
         return systemCmd.execute(cmd);
     }
 
+    private String readCompleteStdOutput(SystemCmdResult systemCmdResult) {
+        try (InputStream stdOutput = systemCmdResult.openCommandStdOutputStream()) {
+            return new String(stdOutput.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Reading complete command output failed.", e);
+        } finally {
+            systemCmdResult.deleteOutputSpillFiles();
+        }
+    }
+
     /** Deploy source by OpenTofu. */
     public void deploy() {
         SystemCmdResult initResult = tfInit();
         if (!initResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor.tfInit failed.");
             throw new OpenTofuExecutorException(
-                    "OpenTofuExecutor.tfInit failed.", initResult.getCommandStdError());
+                    "OpenTofuExecutor.tfInit failed.", initResult.getCommandStdErrorTail());
         }
         SystemCmdResult planResult = tfPlan();
         if (!planResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor.tfPlan failed.");
             throw new OpenTofuExecutorException(
-                    "OpenTofuExecutor.tfPlan failed.", planResult.getCommandStdError());
+                    "OpenTofuExecutor.tfPlan failed.", planResult.getCommandStdErrorTail());
         }
         SystemCmdResult applyResult = tfApply();
         if (!applyResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor.tfApply failed.");
             throw new OpenTofuExecutorException(
-                    "OpenTofuExecutor.tfApply failed.", applyResult.getCommandStdError());
+                    "OpenTofuExecutor.tfApply failed.", applyResult.getCommandStdErrorTail());
+        }
+    }
+
+    /**
+     * Deploy source by applying the plan saved in the workspace when the deployment plan was
+     * computed. When the saved plan can no longer be applied, e.g. because the state changed in the
+     * meantime, the source is deployed with a new plan.
+     */
+    public void deployWithSavedPlan() {
+        SystemCmdResult applyResult = tfApplySavedPlan();
+        if (applyResult.isCommandSuccessful()) {
+            return;
+        }
+        String stdErrorTail = applyResult.getCommandStdErrorTail();
+        if (Objects.nonNull(stdErrorTail)
+                && UNUSABLE_SAVED_PLAN_ERRORS.stream().anyMatch(stdErrorTail::contains)) {
+            log.warn("OpenTofuExecutor.tfApply with saved plan failed. Deploying with a new plan.");
+            deploy();
+            return;
         }
+        log.error("OpenTofuExecutor.tfApply failed.");
+        throw new OpenTofuExecutorException("OpenTofuExecutor.tfApply failed.", stdErrorTail);
     }
 
     /** Destroy resource of the service. */
@@ -186,19 +288,19 @@ public class OpenTofuLocalExecutor {
         if (!initResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor.tfInit failed.");
             throw new OpenTofuExecutorException(
-                    "OpenTofuExecutor.tfInit failed.", initResult.getCommandStdError());
+                    "OpenTofuExecutor.tfInit failed.", initResult.getCommandStdErrorTail());
         }
         SystemCmdResult planResult = tfPlan();
         if (!planResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor.tfPlan failed.");
             throw new OpenTofuExecutorException(
-                    "OpenTofuExecutor.tfPlan failed.", planResult.getCommandStdError());
+                    "OpenTofuExecutor.tfPlan failed.", planResult.getCommandStdErrorTail());
         }
         SystemCmdResult destroyResult = tfDestroy();
         if (!destroyResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor.tfDestroy failed.");
             throw new OpenTofuExecutorException(
-                    "OpenTofuExecutor.tfDestroy failed.", destroyResult.getCommandStdError());
+                    "OpenTofuExecutor.tfDestroy failed.", destroyResult.getCommandStdErrorTail());
         }
     }
 
@@ -208,21 +310,24 @@ public class OpenTofuLocalExecutor {
         if (!initResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor.tfInit failed.");
             throw new OpenTofuExecutorException(
-                    "OpenTofuExecutor.tfInit failed.", initResult.getCommandStdError());
+                    "OpenTofuExecutor.tfInit failed.", initResult.getCommandStdErrorTail());
         }
         SystemCmdResult tfPlanResult = tfPlanWithOutput();
         if (!tfPlanResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor.tfPlan failed.");
             throw new OpenTofuExecutorException(
-                    "OpenTofuExecutor.tfPlan failed.", tfPlanResult.getCommandStdError());
+                    "OpenTofuExecutor.tfPlan failed.", tfPlanResult.getCommandStdErrorTail());
         }
-        SystemCmdResult planJsonResult = execute(this.executorPath + " show -json tfplan.binary");
+        SystemCmdResult planJsonResult =
+                executeWithCompleteOutput(this.executorPath + " show -json " + PLAN_FILE_NAME);
         if (!planJsonResult.isCommandSuccessful()) {
+            planJsonResult.deleteOutputSpillFiles();
             log.error("Reading OpenTofu plan as JSON failed.");
             throw new OpenTofuExecutorException(
-                    "Reading OpenTofu plan as JSON failed.", planJsonResult.getCommandStdError());
+                    "Reading OpenTofu plan as JSON failed.",
+                    planJsonResult.getCommandStdErrorTail());
         }
-        return planJsonResult.getCommandStdOutput();
+        return readCompleteStdOutput(planJsonResult);
     }
 
     /**
@@ -235,18 +340,20 @@ public class OpenTofuLocalExecutor {
         if (!initResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor.tfInit failed.");
             throw new OpenTofuExecutorException(
-                    "OpenTofuExecutor.tfInit failed.", initResult.getCommandStdError());
+                    "OpenTofuExecutor.tfInit failed.", initResult.getCommandStdErrorTail());
         }
-        SystemCmdResult validateResult = execute(this.executorPath + " validate -json -no-color");
+        SystemCmdResult validateResult =
+                executeWithCompleteOutput(this.executorPath + " validate -json -no-color");
 
         if (!validateResult.isCommandSuccessful()) {
+            validateResult.deleteOutputSpillFiles();
             log.error("OpenTofuExecutor get validate json failed.");
             throw new OpenTofuExecutorException(
                     "OpenTofuExecutor get validate json failed.",
-                    validateResult.getCommandStdError());
+                    validateResult.getCommandStdErrorTail());
         }
         try {
-            String commandStdOutput = validateResult.getCommandStdOutput();
+            String commandStdOutput = readCompleteStdOutput(validateResult);
             String cleanedJson = commandStdOutput.substring(commandStdOutput.indexOf('{'));
             return new ObjectMapper()
                     .readValue(cleanedJson, DeploymentScriptValidationResult.class);
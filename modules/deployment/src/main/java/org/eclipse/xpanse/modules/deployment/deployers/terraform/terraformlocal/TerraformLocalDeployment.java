@@ -8,6 +8,7 @@ package org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal
 import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
 
 import java.io.File;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +19,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.deployment.ServiceDeploymentEntityHandler;
 import org.eclipse.xpanse.modules.deployment.config.DeploymentProperties;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeploymentPlanCache;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.SavedDeploymentPlan;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.callbacks.TerraformDeploymentResultCallbackManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraboot.TerraBootDeployment;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraboot.generated.model.TerraformResult;
@@ -48,6 +52,8 @@ public class TerraformLocalDeployment implements Deployer {
     private final TerraformDeploymentResultCallbackManager terraformResultCallbackManager;
     private final ServiceDeploymentEntityHandler serviceDeploymentEntityHandler;
     private final DeploymentScriptsHelper scriptsHelper;
+    private final DeployerPluginCacheManager deployerPluginCacheManager;
+    private final DeploymentPlanCache deploymentPlanCache;
 
     /** Constructor method. */
     @Autowired
@@ -58,7 +64,9 @@ public class TerraformLocalDeployment implements Deployer {
             @Qualifier(ASYNC_EXECUTOR_NAME) Executor taskExecutor,
             TerraformDeploymentResultCallbackManager terraformResultCallbackManager,
             ServiceDeploymentEntityHandler serviceDeploymentEntityHandler,
-            DeploymentScriptsHelper scriptsHelper) {
+            DeploymentScriptsHelper scriptsHelper,
+            DeployerPluginCacheManager deployerPluginCacheManager,
+            DeploymentPlanCache deploymentPlanCache) {
         this.terraformInstaller = terraformInstaller;
         this.deployEnvironments = deployEnvironments;
         this.deploymentProperties = deploymentProperties;
@@ -66,6 +74,8 @@ public class TerraformLocalDeployment implements Deployer {
         this.terraformResultCallbackManager = terraformResultCallbackManager;
         this.serviceDeploymentEntityHandler = serviceDeploymentEntityHandler;
         this.scriptsHelper = scriptsHelper;
+        this.deployerPluginCacheManager = deployerPluginCacheManager;
+        this.deploymentPlanCache = deploymentPlanCache;
     }
 
     /**
@@ -117,16 +127,29 @@ public class TerraformLocalDeployment implements Deployer {
         String workspace =
                 scriptsHelper.createWorkspaceForTask(
                         getDeployerConfigWorkspace(), task.getOrderId());
-        List<File> preparedFiles =
-                scriptsHelper.prepareDeploymentScripts(
-                        workspace, task.getOcl().getDeployment(), null);
         TerraformLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
+        // the plan evaluated with the policies is applied when it is still valid.
+        SavedDeploymentPlan savedPlan =
+                deploymentPlanCache.takePlan(
+                        task.getOrderId(),
+                        DeployerKind.TERRAFORM,
+                        deploymentPlanCache.getFingerprint(
+                                executor.getExecutorPath(), executor.getVariables()));
+        List<File> preparedFiles =
+                Objects.nonNull(savedPlan)
+                        ? savedPlan.preparedFiles()
+                        : scriptsHelper.prepareDeploymentScripts(
+                                workspace, task.getOcl().getDeployment(), null);
         // Execute the terraform command asynchronously.
         taskExecutor.execute(
                 () -> {
                     Exception exception = null;
                     try {
-                        executor.deploy();
+                        if (Objects.nonNull(savedPlan)) {
+                            executor.deployWithSavedPlan();
+                        } else {
+                            executor.deploy();
+                        }
                     } catch (Exception tfEx) {
                         log.error("Execute Terraform deploy script failed. {}", tfEx.getMessage());
                         exception = tfEx;
@@ -226,10 +249,23 @@ public class TerraformLocalDeployment implements Deployer {
         String workspace =
                 scriptsHelper.createWorkspaceForTask(
                         getDeployerConfigWorkspace(), task.getOrderId());
-        scriptsHelper.prepareDeploymentScripts(workspace, task.getOcl().getDeployment(), null);
+        List<File> preparedFiles =
+                scriptsHelper.prepareDeploymentScripts(
+                        workspace, task.getOcl().getDeployment(), null);
         // Execute the terraform command.
         TerraformLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
-        return executor.getTerraformPlanAsJson();
+        String planJson = executor.getTerraformPlanAsJson();
+        // keep the initialized workspace and the plan to be applied by the deployment.
+        deploymentPlanCache.savePlan(
+                new SavedDeploymentPlan(
+                        task.getOrderId(),
+                        DeployerKind.TERRAFORM,
+                        workspace,
+                        preparedFiles,
+                        deploymentPlanCache.getFingerprint(
+                                executor.getExecutorPath(), executor.getVariables()),
+                        Instant.now()));
+        return planJson;
     }
 
     /**
@@ -260,6 +296,8 @@ public class TerraformLocalDeployment implements Deployer {
                     TF_DEBUG_FLAG,
                     deploymentProperties.getTerraformLocal().getDebug().getLevelValue());
         }
+        envVariables.putAll(
+                deployEnvironments.getPluginCacheEnvironmentVariables(DeployerKind.TERRAFORM));
         String executorPath =
                 terraformInstaller.getExecutorPathThatMatchesRequiredVersion(
                         deployment.getDeployerTool().getVersion());
@@ -267,7 +305,10 @@ public class TerraformLocalDeployment implements Deployer {
                 executorPath,
                 envVariables,
                 inputVariables,
-                scriptsHelper.getScriptsLocationInWorkspace(workspace, deployment));
+                scriptsHelper.getScriptsLocationInWorkspace(workspace, deployment),
+                deployerPluginCacheManager.isPluginCacheEnabled(DeployerKind.TERRAFORM)
+                        ? deployerPluginCacheManager
+                        : null);
     }
 
     /** Get the deployer kind. */
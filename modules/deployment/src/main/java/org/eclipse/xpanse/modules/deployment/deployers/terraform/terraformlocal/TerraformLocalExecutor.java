@@ -5,6 +5,7 @@
 
 package org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal;
 
+import static org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeploymentPlanCache.PLAN_FILE_NAME;
 import static org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper.TF_VARS_FILE_NAME;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -12,14 +13,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.common.systemcmd.SystemCmd;
 import org.eclipse.xpanse.common.systemcmd.SystemCmdResult;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuExecutorException;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformExecutorException;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeploymentScriptValidationResult;
 
 /** An executor for terraform. */
@@ -32,10 +39,19 @@ public class TerraformLocalExecutor {
         OBJECT_MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
+    /** Errors of apply with which the saved plan is discarded and the deployment plans again. */
+    private static final List<String> UNUSABLE_SAVED_PLAN_ERRORS =
+            List.of(
+                    "Saved plan is stale",
+                    "Failed to load",
+                    "Failed to read plan",
+                    "Inconsistent dependency lock file");
+
     @Getter private final String executorPath;
     @Getter private final String taskWorkspace;
     private final Map<String, String> env;
-    private final Map<String, Object> variables;
+    @Getter private final Map<String, Object> variables;
+    private final DeployerPluginCacheManager pluginCacheManager;
 
     /**
      * Constructor for terraformExecutor.
@@ -50,10 +66,29 @@ public class TerraformLocalExecutor {
             Map<String, String> env,
             Map<String, Object> variables,
             String taskWorkspace) {
+        this(executorPath, env, variables, taskWorkspace, null);
+    }
+
+    /**
+     * Constructor for terraformExecutor.
+     *
+     * @param executorPath path of the terraform executor.
+     * @param env environment for the terraform command line.
+     * @param variables variables for the terraform command line.
+     * @param taskWorkspace taskWorkspace for the terraform command line.
+     * @param pluginCacheManager manager of the shared provider plugin cache, null if not used.
+     */
+    TerraformLocalExecutor(
+            String executorPath,
+            Map<String, String> env,
+            Map<String, Object> variables,
+            String taskWorkspace,
+            DeployerPluginCacheManager pluginCacheManager) {
         this.executorPath = executorPath;
         this.env = env;
         this.variables = variables;
         this.taskWorkspace = taskWorkspace;
+        this.pluginCacheManager = pluginCacheManager;
         log.info(
                 "Created TerraformLocalExecutor with executorPath: {} and taskWorkspace: {}",
                 executorPath,
@@ -66,7 +101,13 @@ public class TerraformLocalExecutor {
      * @return Returns result of SystemCmd executed.
      */
     public SystemCmdResult tfInit() {
-        return execute(this.executorPath + " init -no-color");
+        if (Objects.isNull(pluginCacheManager)) {
+            return execute(this.executorPath + " init -no-color");
+        }
+        return pluginCacheManager.executeWithPluginCacheLocks(
+                DeployerKind.TERRAFORM,
+                this.taskWorkspace,
+                () -> execute(this.executorPath + " init -no-color"));
     }
 
     /**
@@ -87,7 +128,9 @@ public class TerraformLocalExecutor {
     public SystemCmdResult tfPlanWithOutput() {
         return executeWithVariables(
                 new StringBuilder(
-                        this.executorPath + " plan -input=false -no-color --out tfplan.binary"));
+                        this.executorPath
+                                + " plan -input=false -no-color --out "
+                                + PLAN_FILE_NAME));
     }
 
     /**
@@ -101,6 +144,19 @@ public class TerraformLocalExecutor {
                         this.executorPath + " apply -auto-approve -input=false -no-color "));
     }
 
+    /**
+     * Executes terraform apply command with the saved plan. The variables are part of the saved
+     * plan.
+     *
+     * @return Returns result of SystemCmd executed.
+     */
+    public SystemCmdResult tfApplySavedPlan() {
+        return execute(
+                this.executorPath
+                        + " apply -auto-approve -input=false -no-color "
+                        + PLAN_FILE_NAME);
+    }
+
     /**
      * Executes terraform destroy command.
      *
@@ -152,32 +208,78 @@ public class TerraformLocalExecutor {
      * @return SystemCmdResult
      */
     private SystemCmdResult execute(String cmd) {
+        SystemCmdResult systemCmdResult = executeWithCompleteOutput(cmd);
+        // only the errors kept in memory are used, so the output files are not needed.
+        systemCmdResult.deleteOutputSpillFiles();
+        return systemCmdResult;
+    }
+
+    /**
+     * Executes terraform commands of which the complete output is read with {@link
+     * #readCompleteStdOutput(SystemCmdResult)}. Large output is written to files outside the task
+     * workspace, so that it is not collected with the files generated by the deployment.
+     *
+     * @return SystemCmdResult
+     */
+    private SystemCmdResult executeWithCompleteOutput(String cmd) {
         SystemCmd systemCmd = new SystemCmd();
         systemCmd.setEnv(env);
         systemCmd.setWorkDir(taskWorkspace);
+        systemCmd.setOutputSpillDirectory(SystemCmd.DEFAULT_OUTPUT_SPILL_DIRECTORY);
         return systemCmd.execute(cmd);
     }
 
+    private String readCompleteStdOutput(SystemCmdResult systemCmdResult) {
+        try (InputStream stdOutput = systemCmdResult.openCommandStdOutputStream()) {
+            return new String(stdOutput.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Reading complete command output failed.", e);
+        } finally {
+            systemCmdResult.deleteOutputSpillFiles();
+        }
+    }
+
     /** Deploy source by terraform. */
     public void deploy() {
         SystemCmdResult initResult = tfInit();
         if (!initResult.isCommandSuccessful()) {
             log.error("TFExecutor.tfInit failed.");
             throw new TerraformExecutorException(
-                    "TFExecutor.tfInit failed.", initResult.getCommandStdError());
+                    "TFExecutor.tfInit failed.", initResult.getCommandStdErrorTail());
         }
         SystemCmdResult planResult = tfPlan();
         if (!planResult.isCommandSuccessful()) {
             log.error("TFExecutor.tfPlan failed.");
             throw new TerraformExecutorException(
-                    "TFExecutor.tfPlan failed.", planResult.getCommandStdError());
+                    "TFExecutor.tfPlan failed.", planResult.getCommandStdErrorTail());
         }
         SystemCmdResult applyResult = tfApply();
         if (!applyResult.isCommandSuccessful()) {
             log.error("TFExecutor.tfApply failed.");
             throw new TerraformExecutorException(
-                    "TFExecutor.tfApply failed.", applyResult.getCommandStdError());
+                    "TFExecutor.tfApply failed.", applyResult.getCommandStdErrorTail());
+        }
+    }
+
+    /**
+     * Deploy source by applying the plan saved in the workspace when the deployment plan was
+     * computed. When the saved plan can no longer be applied, e.g. because the state changed in the
+     * meantime, the source is deployed with a new plan.
+     */
+    public void deployWithSavedPlan() {
+        SystemCmdResult applyResult = tfApplySavedPlan();
+        if (applyResult.isCommandSuccessful()) {
+            return;
+        }
+        String stdErrorTail = applyResult.getCommandStdErrorTail();
+        if (Objects.nonNull(stdErrorTail)
+                && UNUSABLE_SAVED_PLAN_ERRORS.stream().anyMatch(stdErrorTail::contains)) {
+            log.warn("TFExecutor.tfApply with saved plan failed. Deploying with a new plan.");
+            deploy();
+            return;
         }
+        log.error("TFExecutor.tfApply failed.");
+        throw new TerraformExecutorException("TFExecutor.tfApply failed.", stdErrorTail);
     }
 
     /** Destroy resource of the service. */
@@ -186,19 +288,19 @@ public class TerraformLocalExecutor {
         if (!initResult.isCommandSuccessful()) {
             log.error("TFExecutor.tfInit failed.");
             throw new TerraformExecutorException(
-                    "TFExecutor.tfInit failed.", initResult.getCommandStdError());
+                    "TFExecutor.tfInit failed.", initResult.getCommandStdErrorTail());
         }
         SystemCmdResult planResult = tfPlan();
         if (!planResult.isCommandSuccessful()) {
             log.error("TFExecutor.tfPlan failed.");
             throw new TerraformExecutorException(
-                    "TFExecutor.tfPlan failed.", planResult.getCommandStdError());
+                    "TFExecutor.tfPlan failed.", planResult.getCommandStdErrorTail());
         }
         SystemCmdResult destroyResult = tfDestroy();
         if (!destroyResult.isCommandSuccessful()) {
             log.error("TFExecutor.tfDestroy failed.");
             throw new TerraformExecutorException(
-                    "TFExecutor.tfDestroy failed.", destroyResult.getCommandStdError());
+                    "TFExecutor.tfDestroy failed.", destroyResult.getCommandStdErrorTail());
         }
     }
 
@@ -208,21 +310,24 @@ public class TerraformLocalExecutor {
         if (!initResult.isCommandSuccessful()) {
             log.error("TFExecutor.tfInit failed.");
             throw new TerraformExecutorException(
-                    "TFExecutor.tfInit failed.", initResult.getCommandStdError());
+                    "TFExecutor.tfInit failed.", initResult.getCommandStdErrorTail());
         }
         SystemCmdResult tfPlanResult = tfPlanWithOutput();
         if (!tfPlanResult.isCommandSuccessful()) {
             log.error("TFExecutor.tfPlan failed.");
             throw new TerraformExecutorException(
-                    "TFExecutor.tfPlan failed.", tfPlanResult.getCommandStdError());
+                    "TFExecutor.tfPlan failed.", tfPlanResult.getCommandStdErrorTail());
         }
-        SystemCmdResult planJsonResult = execute(this.executorPath + " show -json tfplan.binary");
+        SystemCmdResult planJsonResult =
+                executeWithCompleteOutput(this.executorPath + " show -json " + PLAN_FILE_NAME);
         if (!planJsonResult.isCommandSuccessful()) {
+            planJsonResult.deleteOutputSpillFiles();
             log.error("Reading Terraform plan as JSON failed.");
             throw new TerraformExecutorException(
-                    "Reading Terraform plan as JSON failed.", planJsonResult.getCommandStdError());
+                    "Reading Terraform plan as JSON failed.",
+                    planJsonResult.getCommandStdErrorTail());
         }
-        return planJsonResult.getCommandStdOutput();
+        return readCompleteStdOutput(planJsonResult);
     }
 
     /**
@@ -235,13 +340,14 @@ public class TerraformLocalExecutor {
         if (!initResult.isCommandSuccessful()) {
             log.error("TFExecutor.tfInit failed.");
             throw new TerraformExecutorException(
-                    "TFExecutor.tfInit failed.", initResult.getCommandStdError());
+                    "TFExecutor.tfInit failed.", initResult.getCommandStdErrorTail());
         }
-        SystemCmdResult systemCmdResult = execute(this.executorPath + " validate -json -no-color");
+        SystemCmdResult systemCmdResult =
+                executeWithCompleteOutput(this.executorPath + " validate -json -no-color");
         try {
             return new ObjectMapper()
                     .readValue(
-                            systemCmdResult.getCommandStdOutput(),
+                            readCompleteStdOutput(systemCmdResult),
                             DeploymentScriptValidationResult.class);
         } catch (JsonProcessingException ex) {
             throw new IllegalStateException("Serialising string to object failed.", ex);
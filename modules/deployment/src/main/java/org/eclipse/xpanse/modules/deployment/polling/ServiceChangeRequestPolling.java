@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import static org.eclipse.xpanse.modules.async.TaskConfiguration.STATUS_UPDATE_EXECUTOR_NAME;
+
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.common.config.AgentApiProperties;
+import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestStorage;
+import org.eclipse.xpanse.modules.deployment.ServiceChangeManager;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Bean implements long-polling mechanism for agents to get the pending service change requests of a
+ * resource. The waiting request is parked as a listener on {@link ServiceStatusChangeNotifier} and
+ * only claims a request when one is created for the resource, instead of the agent polling the
+ * database in a tight loop. Requests are still claimed by {@link
+ * ServiceChangeManager#getPendingServiceChangeRequest(UUID, String)} with its pessimistic lock, so
+ * agents using the long-polling and the plain polling API never get the same request.
+ */
+@Slf4j
+@Component
+public class ServiceChangeRequestPolling {
+
+    private final AgentApiProperties agentApiProperties;
+    private final ServiceChangeManager serviceChangeManager;
+    private final ServiceChangeRequestStorage serviceChangeRequestStorage;
+    private final ServiceStatusChangeNotifier serviceStatusChangeNotifier;
+    private final Executor statusUpdateExecutor;
+
+    /** Constructor method. */
+    @Autowired
+    public ServiceChangeRequestPolling(
+            AgentApiProperties agentApiProperties,
+            ServiceChangeManager serviceChangeManager,
+            ServiceChangeRequestStorage serviceChangeRequestStorage,
+            ServiceStatusChangeNotifier serviceStatusChangeNotifier,
+            @Qualifier(STATUS_UPDATE_EXECUTOR_NAME) Executor statusUpdateExecutor) {
+        this.agentApiProperties = agentApiProperties;
+        this.serviceChangeManager = serviceChangeManager;
+        this.serviceChangeRequestStorage = serviceChangeRequestStorage;
+        this.serviceStatusChangeNotifier = serviceStatusChangeNotifier;
+        this.statusUpdateExecutor = statusUpdateExecutor;
+    }
+
+    /**
+     * Wait for a pending service change request of the resource for a fixed period of time.
+     *
+     * @param serviceId id of the service.
+     * @param resourceName name of the resource of the service.
+     * @return deferredResult which is completed with the claimed request, or with no content when
+     *     no request is created for the resource within the waiting time.
+     */
+    public DeferredResult<ResponseEntity<ServiceChangeRequest>> waitForPendingServiceChangeRequest(
+            UUID serviceId, String resourceName) {
+        log.debug(
+                "Start waiting for service change request of resource {} in service {}",
+                resourceName,
+                serviceId);
+        PendingRequestWaiter waiter =
+                new PendingRequestWaiter(
+                        serviceId,
+                        resourceName,
+                        new DeferredResult<>(
+                                TimeUnit.SECONDS.toMillis(
+                                        agentApiProperties.getLongPollingSeconds())));
+        serviceStatusChangeNotifier.addServiceChangeRequestListener(serviceId, waiter);
+        waiter.deferredResult.onCompletion(
+                () ->
+                        serviceStatusChangeNotifier.removeServiceChangeRequestListener(
+                                serviceId, waiter));
+        // requests created on other server instances are not published here.
+        waiter.deferredResult.onTimeout(waiter::completeWithLatestPendingRequest);
+        // first check runs without wait, after the listener is registered to not miss requests.
+        waiter.scheduleClaim();
+        return waiter.deferredResult;
+    }
+
+    /**
+     * One waiting agent request. Claims are serialized per waiter and never run after the result is
+     * set, so a waiter claims at most one service change request.
+     */
+    private class PendingRequestWaiter implements Consumer<String> {
+
+        private final UUID serviceId;
+        private final String resourceName;
+        private final DeferredResult<ResponseEntity<ServiceChangeRequest>> deferredResult;
+        private final AtomicBoolean claimScheduled = new AtomicBoolean(false);
+
+        PendingRequestWaiter(
+                UUID serviceId,
+                String resourceName,
+                DeferredResult<ResponseEntity<ServiceChangeRequest>> deferredResult) {
+            this.serviceId = serviceId;
+            this.resourceName = resourceName;
+            this.deferredResult = deferredResult;
+        }
+
+        @Override
+        public void accept(String createdRequestResourceName) {
+            if (resourceName.equalsIgnoreCase(createdRequestResourceName)) {
+                scheduleClaim();
+            }
+        }
+
+        void scheduleClaim() {
+            if (deferredResult.isSetOrExpired() || !claimScheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                statusUpdateExecutor.execute(
+                        () -> {
+                            claimScheduled.set(false);
+                            claimPendingRequest(false);
+                        });
+            } catch (TaskRejectedException e) {
+                claimScheduled.set(false);
+                log.warn(
+                        "Status update executor is saturated. Service change requests of resource"
+                                + " {} in service {} will be checked when the waiting times out.",
+                        resourceName,
+                        serviceId);
+            }
+        }
+
+        void completeWithLatestPendingRequest() {
+            claimPendingRequest(true);
+        }
+
+        private synchronized void claimPendingRequest(boolean isLastCheck) {
+            if (deferredResult.isSetOrExpired()) {
+                return;
+            }
+            try {
+                ResponseEntity<ServiceChangeRequest> response = noPendingRequest();
+                if (serviceChangeRequestStorage.existsPendingServiceChangeRequest(
+                        serviceId, resourceName)) {
+                    response =
+                            serviceChangeManager.getPendingServiceChangeRequest(
+                                    serviceId, resourceName);
+                }
+                if (HttpStatus.OK.equals(response.getStatusCode()) || isLastCheck) {
+                    deferredResult.setResult(response);
+                }
+            } catch (Exception exception) {
+                log.error(
+                        "Error occurred while getting service change request of resource {} in"
+                                + " service {}",
+                        resourceName,
+                        serviceId,
+                        exception);
+                deferredResult.setErrorResult(exception);
+            }
+        }
+
+        private ResponseEntity<ServiceChangeRequest> noPendingRequest() {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
+        }
+    }
+}
@@ -5,15 +5,11 @@
 
 package org.eclipse.xpanse.modules.deployment.polling;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
 import org.eclipse.xpanse.modules.deployment.config.OrderProperties;
@@ -24,86 +20,104 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.async.DeferredResult;
 
-/** Bean implements long-polling mechanism to return the status of the order. */
+/**
+ * Bean implements long-polling mechanism to return the deployment state of the service. The waiting
+ * request is parked as a listener on {@link ServiceStatusChangeNotifier} and completed as soon as a
+ * state change is published, without holding a thread or reading the database while waiting.
+ */
 @Slf4j
 @Component
 public class ServiceDeploymentStatusChangePolling {
 
-    private static final List<ServiceDeploymentState> FINAL_SERVICE_DEPLOYMENT_STATES =
-            Arrays.asList(
-                    ServiceDeploymentState.DEPLOY_FAILED,
-                    ServiceDeploymentState.DEPLOY_SUCCESS,
-                    ServiceDeploymentState.DESTROY_FAILED,
-                    ServiceDeploymentState.DESTROY_SUCCESS,
-                    ServiceDeploymentState.MODIFICATION_FAILED,
-                    ServiceDeploymentState.MODIFICATION_SUCCESSFUL,
-                    ServiceDeploymentState.ROLLBACK_FAILED,
-                    ServiceDeploymentState.MANUAL_CLEANUP_REQUIRED);
-
     private final OrderProperties orderProperties;
     private final ServiceDeploymentStorage serviceDeploymentStorage;
+    private final ServiceStatusChangeNotifier serviceStatusChangeNotifier;
 
+    /** Constructor method. */
     @Autowired
     public ServiceDeploymentStatusChangePolling(
-            OrderProperties orderProperties, ServiceDeploymentStorage serviceDeploymentStorage) {
+            OrderProperties orderProperties,
+            ServiceDeploymentStorage serviceDeploymentStorage,
+            ServiceStatusChangeNotifier serviceStatusChangeNotifier) {
         this.orderProperties = orderProperties;
         this.serviceDeploymentStorage = serviceDeploymentStorage;
+        this.serviceStatusChangeNotifier = serviceStatusChangeNotifier;
     }
 
     /**
-     * Method to fetch order status by polling database for a fixed period of time.
+     * Wait for a change of the service deployment state for a fixed period of time.
      *
-     * @param deferredResult DeferredResult object from the original HTTP thread to which the result
-     *     object must be set.
      * @param serviceId ID of the service.
      * @param previousKnownServiceDeploymentState previously known state of the service deployment
-     *     to client. If not null, the poller will wait as long as there is a change to this.
+     *     to client. If not null, the request will wait as long as there is a change to this.
+     * @return deferredResult which is completed with the deployment state of the service.
      */
-    public void fetchServiceDeploymentStatusWithPolling(
-            DeferredResult<DeploymentStatusUpdate> deferredResult,
-            UUID serviceId,
-            ServiceDeploymentState previousKnownServiceDeploymentState) {
-        AtomicReference<DeploymentStatusUpdate> ref =
-                new AtomicReference<>(
-                        new DeploymentStatusUpdate(
-                                previousKnownServiceDeploymentState,
-                                FINAL_SERVICE_DEPLOYMENT_STATES.contains(
-                                        previousKnownServiceDeploymentState)));
+    public DeferredResult<DeploymentStatusUpdate> waitForServiceDeploymentStatusChange(
+            UUID serviceId, ServiceDeploymentState previousKnownServiceDeploymentState) {
+        DeferredResult<DeploymentStatusUpdate> deferredResult =
+                new DeferredResult<>(
+                        TimeUnit.SECONDS.toMillis(
+                                orderProperties.getOrderStatus().getLongPollingSeconds()));
+        Consumer<DeploymentStatusUpdate> listener =
+                new Consumer<>() {
+                    @Override
+                    public void accept(DeploymentStatusUpdate statusUpdate) {
+                        if (isStateChanged(statusUpdate, previousKnownServiceDeploymentState)
+                                && deferredResult.setResult(statusUpdate)) {
+                            serviceStatusChangeNotifier.removeDeploymentStatusListener(
+                                    serviceId, this);
+                        }
+                    }
+                };
+        serviceStatusChangeNotifier.addDeploymentStatusListener(serviceId, listener);
+        deferredResult.onCompletion(
+                () ->
+                        serviceStatusChangeNotifier.removeDeploymentStatusListener(
+                                serviceId, listener));
+        // no change published within the waiting time, reconcile with the stored service.
+        deferredResult.onTimeout(
+                () -> {
+                    log.info("No change to service deployment status yet.");
+                    setLatestServiceDeploymentStatus(deferredResult, serviceId);
+                });
+        // first check runs without wait, after the listener is registered to not miss changes.
+        try {
+            DeploymentStatusUpdate currentStatus = getCurrentServiceDeploymentStatus(serviceId);
+            if (isStateChanged(currentStatus, previousKnownServiceDeploymentState)) {
+                deferredResult.setResult(currentStatus);
+            }
+        } catch (Exception exception) {
+            deferredResult.setErrorResult(exception);
+        }
+        if (deferredResult.isSetOrExpired()) {
+            serviceStatusChangeNotifier.removeDeploymentStatusListener(serviceId, listener);
+        }
+        return deferredResult;
+    }
+
+    private void setLatestServiceDeploymentStatus(
+            DeferredResult<DeploymentStatusUpdate> deferredResult, UUID serviceId) {
         try {
-            Awaitility.await()
-                    .atMost(
-                            orderProperties.getOrderStatus().getLongPollingSeconds(),
-                            TimeUnit.SECONDS)
-                    .pollDelay(0, TimeUnit.SECONDS) // first check runs without wait.
-                    .pollInterval(
-                            orderProperties.getOrderStatus().getPollingIntervalSeconds(),
-                            TimeUnit.SECONDS)
-                    .until(
-                            () -> {
-                                ServiceDeploymentEntity serviceDeploymentEntity =
-                                        serviceDeploymentStorage.findServiceDeploymentById(
-                                                serviceId);
-                                if (Objects.isNull(serviceDeploymentEntity)) {
-                                    throw new ServiceNotDeployedException(
-                                            "Service with id " + serviceId + " not found");
-                                }
-                                ref.set(
-                                        new DeploymentStatusUpdate(
-                                                serviceDeploymentEntity.getServiceDeploymentState(),
-                                                FINAL_SERVICE_DEPLOYMENT_STATES.contains(
-                                                        serviceDeploymentEntity
-                                                                .getServiceDeploymentState())));
-                                return Objects.isNull(previousKnownServiceDeploymentState)
-                                        || FINAL_SERVICE_DEPLOYMENT_STATES.contains(
-                                                serviceDeploymentEntity.getServiceDeploymentState())
-                                        || serviceDeploymentEntity.getServiceDeploymentState()
-                                                != previousKnownServiceDeploymentState;
-                            });
-        } catch (ConditionTimeoutException conditionTimeoutException) {
-            log.info("No change to service deployment status yet.");
+            deferredResult.setResult(getCurrentServiceDeploymentStatus(serviceId));
         } catch (Exception exception) {
             deferredResult.setErrorResult(exception);
         }
-        deferredResult.setResult(ref.get());
+    }
+
+    private DeploymentStatusUpdate getCurrentServiceDeploymentStatus(UUID serviceId) {
+        ServiceDeploymentEntity serviceDeploymentEntity =
+                serviceDeploymentStorage.findServiceDeploymentById(serviceId);
+        if (Objects.isNull(serviceDeploymentEntity)) {
+            throw new ServiceNotDeployedException("Service with id " + serviceId + " not found");
+        }
+        return ServiceStatusChangeNotifier.getDeploymentStatusUpdate(serviceDeploymentEntity);
+    }
+
+    private boolean isStateChanged(
+            DeploymentStatusUpdate statusUpdate,
+            ServiceDeploymentState previousKnownServiceDeploymentState) {
+        return Objects.isNull(previousKnownServiceDeploymentState)
+                || statusUpdate.getIsOrderCompleted()
+                || statusUpdate.getServiceDeploymentState() != previousKnownServiceDeploymentState;
     }
 }
@@ -5,15 +5,11 @@
 
 package org.eclipse.xpanse.modules.deployment.polling;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
 import org.eclipse.xpanse.modules.deployment.config.OrderProperties;
@@ -23,78 +19,103 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.async.DeferredResult;
 
-/** Bean implements long-polling mechanism to return the task status of the service order. */
+/**
+ * Bean implements long-polling mechanism to return the task status of the service order. The
+ * waiting request is parked as a listener on {@link ServiceStatusChangeNotifier} and completed as
+ * soon as a status change is published, without holding a thread or reading the database while
+ * waiting.
+ */
 @Slf4j
 @Component
 public class ServiceOrderStatusChangePolling {
 
-    private static final List<OrderStatus> FINAL_TASK_STATUS =
-            Arrays.asList(OrderStatus.FAILED, OrderStatus.SUCCESSFUL);
-
     private final OrderProperties orderProperties;
     private final ServiceOrderStorage orderStorage;
+    private final ServiceStatusChangeNotifier serviceStatusChangeNotifier;
 
+    /** Constructor method. */
     @Autowired
     public ServiceOrderStatusChangePolling(
-            OrderProperties orderProperties, ServiceOrderStorage orderStorage) {
+            OrderProperties orderProperties,
+            ServiceOrderStorage orderStorage,
+            ServiceStatusChangeNotifier serviceStatusChangeNotifier) {
         this.orderProperties = orderProperties;
         this.orderStorage = orderStorage;
+        this.serviceStatusChangeNotifier = serviceStatusChangeNotifier;
     }
 
     /**
-     * Fetch status of the service order by polling database for a fixed period of time.
+     * Wait for a change of the task status of the service order for a fixed period of time.
      *
-     * @param deferredResult deferredResult object from the original HTTP thread to which the result
-     *     object must be set.
      * @param orderId id of the service order.
      * @param previousKnownOrderStatus previously known task status of the service order to the
-     *     client. the poller will wait as long as there is a change to this.
+     *     client. the request will wait as long as there is a change to this.
+     * @return deferredResult which is completed with the status of the service order.
      */
-    public void fetchServiceOrderStatusWithPolling(
-            DeferredResult<ServiceOrderStatusUpdate> deferredResult,
-            UUID orderId,
-            OrderStatus previousKnownOrderStatus) {
-        log.info("Start polling for service order status with order id: {}", orderId);
-        AtomicReference<ServiceOrderStatusUpdate> ref =
-                new AtomicReference<>(
-                        new ServiceOrderStatusUpdate(
-                                previousKnownOrderStatus,
-                                FINAL_TASK_STATUS.contains(previousKnownOrderStatus),
-                                null));
+    public DeferredResult<ServiceOrderStatusUpdate> waitForServiceOrderStatusChange(
+            UUID orderId, OrderStatus previousKnownOrderStatus) {
+        log.info("Start waiting for service order status with order id: {}", orderId);
+        DeferredResult<ServiceOrderStatusUpdate> deferredResult =
+                new DeferredResult<>(
+                        TimeUnit.SECONDS.toMillis(
+                                orderProperties.getOrderStatus().getLongPollingSeconds()));
+        Consumer<ServiceOrderStatusUpdate> listener =
+                new Consumer<>() {
+                    @Override
+                    public void accept(ServiceOrderStatusUpdate statusUpdate) {
+                        if (isStatusChanged(statusUpdate, previousKnownOrderStatus)
+                                && deferredResult.setResult(statusUpdate)) {
+                            serviceStatusChangeNotifier.removeOrderStatusListener(orderId, this);
+                        }
+                    }
+                };
+        serviceStatusChangeNotifier.addOrderStatusListener(orderId, listener);
+        deferredResult.onCompletion(
+                () -> serviceStatusChangeNotifier.removeOrderStatusListener(orderId, listener));
+        // no change published within the waiting time, reconcile with the stored order.
+        deferredResult.onTimeout(
+                () -> {
+                    log.info("The service order is not completed or status not changed yet.");
+                    setLatestServiceOrderStatus(deferredResult, orderId);
+                });
+        // first check runs without wait, after the listener is registered to not miss changes.
         try {
-            Awaitility.await()
-                    .atMost(
-                            orderProperties.getOrderStatus().getLongPollingSeconds(),
-                            TimeUnit.SECONDS)
-                    .pollDelay(0, TimeUnit.SECONDS) // first check runs without wait.
-                    .pollInterval(
-                            orderProperties.getOrderStatus().getPollingIntervalSeconds(),
-                            TimeUnit.SECONDS)
-                    .until(
-                            () -> {
-                                ServiceOrderEntity serviceOrderEntity =
-                                        orderStorage.getEntityById(orderId);
-                                OrderStatus orderStatus = serviceOrderEntity.getOrderStatus();
-                                boolean isOrderCompleted = FINAL_TASK_STATUS.contains(orderStatus);
-                                ref.set(
-                                        new ServiceOrderStatusUpdate(
-                                                orderStatus,
-                                                isOrderCompleted,
-                                                serviceOrderEntity.getErrorResponse()));
-                                boolean statusIsChanged =
-                                        Objects.nonNull(previousKnownOrderStatus)
-                                                && orderStatus != previousKnownOrderStatus;
-                                return isOrderCompleted || statusIsChanged;
-                            });
-        } catch (ConditionTimeoutException conditionTimeoutException) {
-            log.error("The service order is not completed or status not changed yet.");
+            ServiceOrderStatusUpdate currentStatus = getCurrentServiceOrderStatus(orderId);
+            if (isStatusChanged(currentStatus, previousKnownOrderStatus)) {
+                deferredResult.setResult(currentStatus);
+            }
         } catch (Exception exception) {
             log.error(
-                    "Error occurred while polling for service order status with order id: {}",
+                    "Error occurred while getting service order status with order id: {}",
                     orderId,
                     exception);
             deferredResult.setErrorResult(exception);
         }
-        deferredResult.setResult(ref.get());
+        if (deferredResult.isSetOrExpired()) {
+            serviceStatusChangeNotifier.removeOrderStatusListener(orderId, listener);
+        }
+        return deferredResult;
+    }
+
+    private void setLatestServiceOrderStatus(
+            DeferredResult<ServiceOrderStatusUpdate> deferredResult, UUID orderId) {
+        try {
+            deferredResult.setResult(getCurrentServiceOrderStatus(orderId));
+        } catch (Exception exception) {
+            deferredResult.setErrorResult(exception);
+        }
+    }
+
+    private ServiceOrderStatusUpdate getCurrentServiceOrderStatus(UUID orderId) {
+        ServiceOrderEntity serviceOrderEntity = orderStorage.getEntityById(orderId);
+        return ServiceStatusChangeNotifier.getServiceOrderStatusUpdate(serviceOrderEntity);
+    }
+
+    private boolean isStatusChanged(
+            ServiceOrderStatusUpdate statusUpdate, OrderStatus previousKnownOrderStatus) {
+        boolean statusIsChanged =
+                Objects.nonNull(previousKnownOrderStatus)
+                        && statusUpdate.getOrderStatus() != previousKnownOrderStatus;
+        return statusUpdate.getIsOrderCompleted() || statusIsChanged;
     }
 }
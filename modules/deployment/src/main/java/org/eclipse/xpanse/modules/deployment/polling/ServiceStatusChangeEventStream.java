@@ -0,0 +1,259 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import static org.eclipse.xpanse.modules.async.TaskConfiguration.STATUS_UPDATE_EXECUTOR_NAME;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
+import org.eclipse.xpanse.modules.deployment.config.OrderProperties;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentStatusUpdate;
+import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ServiceNotDeployedException;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Bean to stream the status changes of service orders and service deployments to clients with
+ * server-sent events. Each stream starts with the current status and then receives every change
+ * published to {@link ServiceStatusChangeNotifier}. Events are written on the status update
+ * executor, one at a time per stream, so a slow client never blocks the thread publishing the
+ * change.
+ */
+@Slf4j
+@Component
+public class ServiceStatusChangeEventStream {
+
+    public static final String ORDER_STATUS_EVENT_NAME = "order-status";
+    public static final String DEPLOYMENT_STATUS_EVENT_NAME = "deployment-status";
+
+    private final OrderProperties orderProperties;
+    private final ServiceOrderStorage serviceOrderStorage;
+    private final ServiceDeploymentStorage serviceDeploymentStorage;
+    private final ServiceStatusChangeNotifier serviceStatusChangeNotifier;
+    private final Executor statusUpdateExecutor;
+
+    /** Constructor method. */
+    @Autowired
+    public ServiceStatusChangeEventStream(
+            OrderProperties orderProperties,
+            ServiceOrderStorage serviceOrderStorage,
+            ServiceDeploymentStorage serviceDeploymentStorage,
+            ServiceStatusChangeNotifier serviceStatusChangeNotifier,
+            @Qualifier(STATUS_UPDATE_EXECUTOR_NAME) Executor statusUpdateExecutor) {
+        this.orderProperties = orderProperties;
+        this.serviceOrderStorage = serviceOrderStorage;
+        this.serviceDeploymentStorage = serviceDeploymentStorage;
+        this.serviceStatusChangeNotifier = serviceStatusChangeNotifier;
+        this.statusUpdateExecutor = statusUpdateExecutor;
+    }
+
+    /**
+     * Stream the task status of the service order until the order is completed.
+     *
+     * @param orderId id of the service order.
+     * @return emitter which sends the status updates of the service order.
+     */
+    public SseEmitter streamServiceOrderStatus(UUID orderId) {
+        StatusUpdateStream<ServiceOrderStatusUpdate> stream =
+                new StatusUpdateStream<>(
+                        ORDER_STATUS_EVENT_NAME,
+                        ServiceOrderStatusUpdate::getIsOrderCompleted,
+                        () ->
+                                ServiceStatusChangeNotifier.getServiceOrderStatusUpdate(
+                                        serviceOrderStorage.getEntityById(orderId)));
+        stream.onClose(
+                () -> serviceStatusChangeNotifier.removeOrderStatusListener(orderId, stream));
+        serviceStatusChangeNotifier.addOrderStatusListener(orderId, stream);
+        stream.start();
+        return stream.getEmitter();
+    }
+
+    /**
+     * Stream the deployment state of the service until the stream times out or the client
+     * disconnects.
+     *
+     * @param serviceId id of the service.
+     * @return emitter which sends the deployment status updates of the service.
+     */
+    public SseEmitter streamServiceDeploymentStatus(UUID serviceId) {
+        StatusUpdateStream<DeploymentStatusUpdate> stream =
+                new StatusUpdateStream<>(
+                        DEPLOYMENT_STATUS_EVENT_NAME,
+                        statusUpdate -> false,
+                        () -> getCurrentServiceDeploymentStatus(serviceId));
+        stream.onClose(
+                () ->
+                        serviceStatusChangeNotifier.removeDeploymentStatusListener(
+                                serviceId, stream));
+        serviceStatusChangeNotifier.addDeploymentStatusListener(serviceId, stream);
+        stream.start();
+        return stream.getEmitter();
+    }
+
+    private DeploymentStatusUpdate getCurrentServiceDeploymentStatus(UUID serviceId) {
+        ServiceDeploymentEntity serviceDeploymentEntity =
+                serviceDeploymentStorage.findServiceDeploymentById(serviceId);
+        if (Objects.isNull(serviceDeploymentEntity)) {
+            throw new ServiceNotDeployedException("Service with id " + serviceId + " not found");
+        }
+        return ServiceStatusChangeNotifier.getDeploymentStatusUpdate(serviceDeploymentEntity);
+    }
+
+    /**
+     * One server-sent events connection. Status updates are queued by the publishing thread and
+     * written by a single drain task on the status update executor, which keeps them in order.
+     */
+    private class StatusUpdateStream<T> implements Consumer<T> {
+
+        private final String eventName;
+        private final Predicate<T> isLastUpdate;
+        private final Supplier<T> currentStatusSupplier;
+        private final SseEmitter emitter;
+        private final Queue<T> pendingUpdates = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private final AtomicLong eventId = new AtomicLong();
+        private Runnable closeCallback = () -> {};
+        private T lastSentUpdate;
+
+        StatusUpdateStream(
+                String eventName, Predicate<T> isLastUpdate, Supplier<T> currentStatusSupplier) {
+            this.eventName = eventName;
+            this.isLastUpdate = isLastUpdate;
+            this.currentStatusSupplier = currentStatusSupplier;
+            this.emitter =
+                    new SseEmitter(
+                            TimeUnit.SECONDS.toMillis(
+                                    orderProperties.getOrderStatus().getStreamingSeconds()));
+            this.emitter.onCompletion(this::close);
+            this.emitter.onTimeout(this::complete);
+            this.emitter.onError(error -> close());
+        }
+
+        SseEmitter getEmitter() {
+            return emitter;
+        }
+
+        void onClose(Runnable callback) {
+            this.closeCallback = callback;
+        }
+
+        /** Send the current status first, the listener is already registered to not miss any. */
+        void start() {
+            try {
+                statusUpdateExecutor.execute(
+                        () -> {
+                            try {
+                                pendingUpdates.add(currentStatusSupplier.get());
+                            } catch (Exception e) {
+                                completeWithError(e);
+                                return;
+                            }
+                            drain();
+                        });
+            } catch (TaskRejectedException e) {
+                completeWithError(e);
+            }
+        }
+
+        @Override
+        public void accept(T statusUpdate) {
+            if (closed.get()) {
+                return;
+            }
+            pendingUpdates.add(statusUpdate);
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    statusUpdateExecutor.execute(this::drainPendingUpdates);
+                } catch (TaskRejectedException e) {
+                    draining.set(false);
+                    completeWithError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            if (draining.compareAndSet(false, true)) {
+                drainPendingUpdates();
+            }
+        }
+
+        private void drainPendingUpdates() {
+            try {
+                T statusUpdate;
+                while (!closed.get() && Objects.nonNull(statusUpdate = pendingUpdates.poll())) {
+                    send(statusUpdate);
+                }
+            } finally {
+                draining.set(false);
+            }
+            // updates added after the queue was found empty and before the flag was reset.
+            if (!closed.get() && !pendingUpdates.isEmpty()) {
+                drain();
+            }
+        }
+
+        private void send(T statusUpdate) {
+            if (Objects.equals(statusUpdate, lastSentUpdate)) {
+                return;
+            }
+            try {
+                emitter.send(
+                        SseEmitter.event()
+                                .id(String.valueOf(eventId.incrementAndGet()))
+                                .name(eventName)
+                                .data(statusUpdate));
+                lastSentUpdate = statusUpdate;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Failed to send {} event. Client disconnected.", eventName);
+                close();
+                return;
+            }
+            if (isLastUpdate.test(statusUpdate)) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            if (!closed.get()) {
+                emitter.complete();
+                close();
+            }
+        }
+
+        private void completeWithError(Exception e) {
+            if (!closed.get()) {
+                emitter.completeWithError(e);
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                pendingUpdates.clear();
+                closeCallback.run();
+            }
+        }
+    }
+}
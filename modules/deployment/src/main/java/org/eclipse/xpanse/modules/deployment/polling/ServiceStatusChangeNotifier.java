@@ -0,0 +1,292 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentStatusUpdate;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory hub which receives the status transitions of service orders and service deployments and
+ * the creation of service change requests, and hands them over to the listeners registered for the
+ * order or service id. Listeners are invoked on the thread which publishes the change, so they must
+ * not block.
+ */
+@Slf4j
+@Component
+public class ServiceStatusChangeNotifier {
+
+    private static final Set<OrderStatus> FINAL_ORDER_STATUSES =
+            Set.of(OrderStatus.FAILED, OrderStatus.SUCCESSFUL);
+
+    private static final Set<ServiceDeploymentState> FINAL_SERVICE_DEPLOYMENT_STATES =
+            Set.of(
+                    ServiceDeploymentState.DEPLOY_FAILED,
+                    ServiceDeploymentState.DEPLOY_SUCCESS,
+                    ServiceDeploymentState.DESTROY_FAILED,
+                    ServiceDeploymentState.DESTROY_SUCCESS,
+                    ServiceDeploymentState.MODIFICATION_FAILED,
+                    ServiceDeploymentState.MODIFICATION_SUCCESSFUL,
+                    ServiceDeploymentState.ROLLBACK_FAILED,
+                    ServiceDeploymentState.MANUAL_CLEANUP_REQUIRED);
+
+    private final Map<UUID, Set<Consumer<ServiceOrderStatusUpdate>>> orderStatusListeners =
+            new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Consumer<DeploymentStatusUpdate>>> deploymentStatusListeners =
+            new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Consumer<String>>> serviceChangeRequestListeners =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Check if the order status is a final status.
+     *
+     * @param orderStatus status of the service order.
+     * @return true if the order is completed.
+     */
+    public static boolean isOrderCompleted(OrderStatus orderStatus) {
+        return Objects.nonNull(orderStatus) && FINAL_ORDER_STATUSES.contains(orderStatus);
+    }
+
+    /**
+     * Check if the service deployment state is a final state.
+     *
+     * @param state state of the service deployment.
+     * @return true if the deployment request is completed.
+     */
+    public static boolean isDeploymentCompleted(ServiceDeploymentState state) {
+        return Objects.nonNull(state) && FINAL_SERVICE_DEPLOYMENT_STATES.contains(state);
+    }
+
+    /**
+     * Convert the service order entity to the status update sent to clients.
+     *
+     * @param serviceOrderEntity service order entity.
+     * @return status update of the service order.
+     */
+    public static ServiceOrderStatusUpdate getServiceOrderStatusUpdate(
+            ServiceOrderEntity serviceOrderEntity) {
+        return new ServiceOrderStatusUpdate(
+                serviceOrderEntity.getOrderStatus(),
+                isOrderCompleted(serviceOrderEntity.getOrderStatus()),
+                serviceOrderEntity.getErrorResponse());
+    }
+
+    /**
+     * Convert the service deployment entity to the status update sent to clients.
+     *
+     * @param serviceDeploymentEntity service deployment entity.
+     * @return status update of the service deployment.
+     */
+    public static DeploymentStatusUpdate getDeploymentStatusUpdate(
+            ServiceDeploymentEntity serviceDeploymentEntity) {
+        return new DeploymentStatusUpdate(
+                serviceDeploymentEntity.getServiceDeploymentState(),
+                isDeploymentCompleted(serviceDeploymentEntity.getServiceDeploymentState()));
+    }
+
+    /**
+     * Register a listener for the status changes of the service order.
+     *
+     * @param orderId id of the service order.
+     * @param listener listener to be called with each status change.
+     */
+    public void addOrderStatusListener(UUID orderId, Consumer<ServiceOrderStatusUpdate> listener) {
+        addListener(orderStatusListeners, orderId, listener);
+    }
+
+    /**
+     * Remove a listener registered for the status changes of the service order.
+     *
+     * @param orderId id of the service order.
+     * @param listener listener to be removed.
+     */
+    public void removeOrderStatusListener(
+            UUID orderId, Consumer<ServiceOrderStatusUpdate> listener) {
+        removeListener(orderStatusListeners, orderId, listener);
+    }
+
+    /**
+     * Register a listener for the deployment state changes of the service.
+     *
+     * @param serviceId id of the service.
+     * @param listener listener to be called with each state change.
+     */
+    public void addDeploymentStatusListener(
+            UUID serviceId, Consumer<DeploymentStatusUpdate> listener) {
+        addListener(deploymentStatusListeners, serviceId, listener);
+    }
+
+    /**
+     * Remove a listener registered for the deployment state changes of the service.
+     *
+     * @param serviceId id of the service.
+     * @param listener listener to be removed.
+     */
+    public void removeDeploymentStatusListener(
+            UUID serviceId, Consumer<DeploymentStatusUpdate> listener) {
+        removeListener(deploymentStatusListeners, serviceId, listener);
+    }
+
+    /**
+     * Register a listener for the service change requests created for the service.
+     *
+     * @param serviceId id of the service.
+     * @param listener listener to be called with the resource name of each created request.
+     */
+    public void addServiceChangeRequestListener(UUID serviceId, Consumer<String> listener) {
+        addListener(serviceChangeRequestListeners, serviceId, listener);
+    }
+
+    /**
+     * Remove a listener registered for the service change requests created for the service.
+     *
+     * @param serviceId id of the service.
+     * @param listener listener to be removed.
+     */
+    public void removeServiceChangeRequestListener(UUID serviceId, Consumer<String> listener) {
+        removeListener(serviceChangeRequestListeners, serviceId, listener);
+    }
+
+    /**
+     * Publish the resource names of the stored service change requests to all listeners registered
+     * for their services. When called within a transaction, the listeners are only notified after
+     * the commit, so they can claim the requests right away.
+     *
+     * @param serviceChangeRequests stored service change requests.
+     */
+    public void publishServiceChangeRequestsCreated(
+            Collection<ServiceChangeRequestEntity> serviceChangeRequests) {
+        Map<UUID, Set<String>> resourceNamesByServiceId = new HashMap<>();
+        for (ServiceChangeRequestEntity request : serviceChangeRequests) {
+            if (Objects.nonNull(request.getServiceDeploymentEntity())
+                    && Objects.nonNull(request.getServiceDeploymentEntity().getId())
+                    && Objects.nonNull(request.getResourceName())) {
+                resourceNamesByServiceId
+                        .computeIfAbsent(
+                                request.getServiceDeploymentEntity().getId(),
+                                serviceId -> new HashSet<>())
+                        .add(request.getResourceName());
+            }
+        }
+        if (resourceNamesByServiceId.isEmpty()) {
+            return;
+        }
+        Runnable notification =
+                () ->
+                        resourceNamesByServiceId.forEach(
+                                (serviceId, resourceNames) ->
+                                        resourceNames.forEach(
+                                                resourceName ->
+                                                        notifyListeners(
+                                                                serviceChangeRequestListeners,
+                                                                serviceId,
+                                                                resourceName)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new AfterCommitNotification(notification));
+        } else {
+            notification.run();
+        }
+    }
+
+    /**
+     * Publish the current status of the stored service order to all registered listeners.
+     *
+     * @param serviceOrderEntity stored service order entity.
+     */
+    public void publishOrderStatusChange(ServiceOrderEntity serviceOrderEntity) {
+        if (Objects.isNull(serviceOrderEntity)
+                || Objects.isNull(serviceOrderEntity.getOrderId())
+                || Objects.isNull(serviceOrderEntity.getOrderStatus())) {
+            return;
+        }
+        notifyListeners(
+                orderStatusListeners,
+                serviceOrderEntity.getOrderId(),
+                getServiceOrderStatusUpdate(serviceOrderEntity));
+    }
+
+    /**
+     * Publish the current deployment state of the stored service to all registered listeners.
+     *
+     * @param serviceDeploymentEntity stored service deployment entity.
+     */
+    public void publishDeploymentStatusChange(ServiceDeploymentEntity serviceDeploymentEntity) {
+        if (Objects.isNull(serviceDeploymentEntity)
+                || Objects.isNull(serviceDeploymentEntity.getId())
+                || Objects.isNull(serviceDeploymentEntity.getServiceDeploymentState())) {
+            return;
+        }
+        notifyListeners(
+                deploymentStatusListeners,
+                serviceDeploymentEntity.getId(),
+                getDeploymentStatusUpdate(serviceDeploymentEntity));
+    }
+
+    private <T> void addListener(
+            Map<UUID, Set<Consumer<T>>> listeners, UUID id, Consumer<T> listener) {
+        listeners.compute(
+                id,
+                (key, registered) -> {
+                    Set<Consumer<T>> updated =
+                            Objects.isNull(registered) ? ConcurrentHashMap.newKeySet() : registered;
+                    updated.add(listener);
+                    return updated;
+                });
+    }
+
+    private <T> void removeListener(
+            Map<UUID, Set<Consumer<T>>> listeners, UUID id, Consumer<T> listener) {
+        listeners.computeIfPresent(
+                id,
+                (key, registered) -> {
+                    registered.remove(listener);
+                    return registered.isEmpty() ? null : registered;
+                });
+    }
+
+    private <T> void notifyListeners(
+            Map<UUID, Set<Consumer<T>>> listeners, UUID id, T statusUpdate) {
+        Set<Consumer<T>> registered = listeners.get(id);
+        if (Objects.isNull(registered)) {
+            return;
+        }
+        for (Consumer<T> listener : registered) {
+            try {
+                listener.accept(statusUpdate);
+            } catch (RuntimeException e) {
+                log.error("Failed to notify status change {} for id {}.", statusUpdate, id, e);
+            }
+        }
+    }
+
+    /** Runs the notification once the surrounding transaction is committed. */
+    private record AfterCommitNotification(Runnable notification)
+            implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            notification.run();
+        }
+    }
+}
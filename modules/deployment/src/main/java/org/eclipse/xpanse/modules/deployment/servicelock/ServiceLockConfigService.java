@@ -11,7 +11,6 @@ import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
-import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
 import org.eclipse.xpanse.modules.deployment.ServiceDeploymentEntityHandler;
 import org.eclipse.xpanse.modules.deployment.ServiceOrderManager;
 import org.eclipse.xpanse.modules.models.common.enums.UserOperation;
@@ -33,7 +32,6 @@ public class ServiceLockConfigService {
 
     private final ServiceOrderManager serviceOrderManager;
     private final ServiceDeploymentEntityHandler serviceDeploymentEntityHandler;
-    private final ServiceOrderStorage serviceOrderStorage;
     private final UserServiceHelper userServiceHelper;
 
     /** Constructor method. */
@@ -41,11 +39,9 @@ public class ServiceLockConfigService {
     public ServiceLockConfigService(
             ServiceOrderManager serviceOrderManager,
             ServiceDeploymentEntityHandler serviceDeploymentEntityHandler,
-            ServiceOrderStorage serviceOrderStorage,
             UserServiceHelper userServiceHelper) {
         this.serviceOrderManager = serviceOrderManager;
         this.serviceDeploymentEntityHandler = serviceDeploymentEntityHandler;
-        this.serviceOrderStorage = serviceOrderStorage;
         this.userServiceHelper = userServiceHelper;
     }
 
@@ -82,7 +78,7 @@ public class ServiceLockConfigService {
         serviceDeploymentEntityHandler.storeAndFlush(deployedService);
         serviceOrder.setCompletedTime(OffsetDateTime.now());
         serviceOrder.setOrderStatus(OrderStatus.SUCCESSFUL);
-        serviceOrderStorage.storeAndFlush(serviceOrder);
+        serviceOrderManager.storeAndPublishOrderStatusChange(serviceOrder);
         return new ServiceOrder(serviceOrder.getOrderId(), deployedService.getId());
     }
 }
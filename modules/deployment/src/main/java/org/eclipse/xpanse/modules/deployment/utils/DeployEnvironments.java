@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.common.config.AgentApiProperties;
 import org.eclipse.xpanse.modules.credential.CredentialCenter;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
@@ -24,6 +25,7 @@ import org.eclipse.xpanse.modules.models.servicetemplate.AvailabilityZoneConfig;
 import org.eclipse.xpanse.modules.models.servicetemplate.InputVariable;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavor;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.SensitiveScope;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.VariableKind;
@@ -56,6 +58,8 @@ public class DeployEnvironments {
 
     private final AgentApiProperties agentApiProperties;
 
+    private final DeployerPluginCacheManager deployerPluginCacheManager;
+
     /**
      * Constructor to initialize DeployEnvironments bean.
      *
@@ -63,6 +67,8 @@ public class DeployEnvironments {
      * @param secretsManager SecretsManager bean
      * @param pluginManager PluginManager bean
      * @param environment Environment bean
+     * @param agentApiProperties AgentApiProperties bean
+     * @param deployerPluginCacheManager DeployerPluginCacheManager bean
      */
     @Autowired
     public DeployEnvironments(
@@ -70,12 +76,14 @@ public class DeployEnvironments {
             SecretsManager secretsManager,
             PluginManager pluginManager,
             Environment environment,
-            AgentApiProperties agentApiProperties) {
+            AgentApiProperties agentApiProperties,
+            DeployerPluginCacheManager deployerPluginCacheManager) {
         this.credentialCenter = credentialCenter;
         this.secretsManager = secretsManager;
         this.pluginManager = pluginManager;
         this.environment = environment;
         this.agentApiProperties = agentApiProperties;
+        this.deployerPluginCacheManager = deployerPluginCacheManager;
     }
 
     /**
@@ -341,6 +349,16 @@ public class DeployEnvironments {
         return envVariables;
     }
 
+    /**
+     * Builds a map of the environment variables which make the local deployer tool use the shared
+     * provider plugin cache.
+     *
+     * @param deployerKind kind of the deployer tool.
+     */
+    public Map<String, String> getPluginCacheEnvironmentVariables(DeployerKind deployerKind) {
+        return deployerPluginCacheManager.getPluginCacheEnvironmentVariables(deployerKind);
+    }
+
     /** Builds a map of all variables that must be passed to the deployer. */
     public Map<String, Object> getInputVariables(DeployTask deployTask, boolean isDeployRequest) {
         Map<String, Object> inputVariables = new HashMap<>();
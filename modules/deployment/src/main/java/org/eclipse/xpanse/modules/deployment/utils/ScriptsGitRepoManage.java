@@ -35,10 +35,14 @@ import org.springframework.stereotype.Component;
 public class ScriptsGitRepoManage {
 
     private final GitProperties gitProperties;
+    private final ScriptsGitRepoMirrorCache scriptsGitRepoMirrorCache;
 
+    /** Constructor method. */
     @Autowired
-    public ScriptsGitRepoManage(GitProperties gitProperties) {
+    public ScriptsGitRepoManage(
+            GitProperties gitProperties, ScriptsGitRepoMirrorCache scriptsGitRepoMirrorCache) {
         this.gitProperties = gitProperties;
+        this.scriptsGitRepoMirrorCache = scriptsGitRepoMirrorCache;
     }
 
     /**
@@ -56,7 +60,10 @@ public class ScriptsGitRepoManage {
         File workspaceDirectory = new File(workspace);
         FileRepositoryBuilder repositoryBuilder = new FileRepositoryBuilder();
         repositoryBuilder.findGitDir(workspaceDirectory);
-        if (Objects.isNull(repositoryBuilder.getGitDir())) {
+        if (Objects.isNull(repositoryBuilder.getGitDir())
+                && scriptsGitRepoMirrorCache.isMirrorCacheEnabled()) {
+            scriptsGitRepoMirrorCache.checkoutScripts(workspaceDirectory, scriptsRepo);
+        } else if (Objects.isNull(repositoryBuilder.getGitDir())) {
             int timeoutSeconds =
                     gitProperties.getCommandTimeoutSeconds() > 0
                             ? gitProperties.getCommandTimeoutSeconds()
@@ -0,0 +1,296 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.xpanse.modules.deployment.config.GitProperties;
+import org.eclipse.xpanse.modules.deployment.exceptions.DeploymentScriptsCreationFailedException;
+import org.eclipse.xpanse.modules.models.common.exceptions.GitRepoCloneException;
+import org.eclipse.xpanse.modules.models.servicetemplate.ScriptsRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to keep a local bare mirror of each scripts repo. The mirror is created once per repo URL
+ * and then only updated with incremental fetches. Scripts are written into the task workspace
+ * directly from the object database of the mirror, limited to the scripts path of the repo.
+ */
+@Slf4j
+@Component
+public class ScriptsGitRepoMirrorCache implements MeterBinder {
+
+    private static final String MIRROR_DIR_SUFFIX = ".git";
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    private final GitProperties gitProperties;
+    private final Map<String, ReentrantLock> mirrorLocks = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastFetchTimes = new ConcurrentHashMap<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong fetches = new AtomicLong();
+
+    @Autowired
+    public ScriptsGitRepoMirrorCache(GitProperties gitProperties) {
+        this.gitProperties = gitProperties;
+    }
+
+    /**
+     * Check if the mirror cache is enabled.
+     *
+     * @return true if scripts must be checked out from the mirror cache.
+     */
+    public boolean isMirrorCacheEnabled() {
+        GitProperties.MirrorCache mirrorCache = gitProperties.getMirrorCache();
+        return Objects.nonNull(mirrorCache) && Boolean.TRUE.equals(mirrorCache.getEnabled());
+    }
+
+    /**
+     * Write the scripts of the repo at the requested branch, tag or commit into the workspace. The
+     * layout of the repo is kept, so the scripts are found in the scripts path below the workspace.
+     *
+     * @param workspace directory where the scripts must be written.
+     * @param scriptsRepo repo, revision and directory of the scripts.
+     */
+    public void checkoutScripts(File workspace, ScriptsRepo scriptsRepo) {
+        String repoUrl = scriptsRepo.getRepoUrl();
+        String mirrorKey =
+                UUID.nameUUIDFromBytes(repoUrl.getBytes(StandardCharsets.UTF_8)).toString();
+        Path mirrorDir = getMirrorCacheDirectory().resolve(mirrorKey + MIRROR_DIR_SUFFIX);
+        long requestTime = System.nanoTime();
+        ReentrantLock lock = mirrorLocks.computeIfAbsent(mirrorKey, key -> new ReentrantLock());
+        lock.lock();
+        try (FileChannel ignored = lockMirror(mirrorDir)) {
+            if (Files.isDirectory(mirrorDir)) {
+                cacheHits.incrementAndGet();
+                updateMirror(mirrorKey, mirrorDir, scriptsRepo, requestTime);
+            } else {
+                cacheMisses.incrementAndGet();
+                createMirror(mirrorKey, mirrorDir, repoUrl);
+            }
+        } catch (IOException e) {
+            throw new GitRepoCloneException(
+                    String.format("Lock mirror of repo %s error. %s", repoUrl, e.getMessage()));
+        } finally {
+            lock.unlock();
+        }
+        // objects in the mirror are never changed by a fetch, so no lock is needed to read them.
+        writeScripts(mirrorDir, workspace.toPath(), scriptsRepo);
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMisses.get();
+    }
+
+    public long getFetchCount() {
+        return fetches.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(
+                        "xpanse.git.mirror.cache.requests",
+                        this,
+                        ScriptsGitRepoMirrorCache::getCacheHitCount)
+                .tag("result", "hit")
+                .description("Number of scripts checkouts served from an existing repo mirror.")
+                .register(registry);
+        FunctionCounter.builder(
+                        "xpanse.git.mirror.cache.requests",
+                        this,
+                        ScriptsGitRepoMirrorCache::getCacheMissCount)
+                .tag("result", "miss")
+                .description("Number of scripts checkouts which had to clone a new repo mirror.")
+                .register(registry);
+        FunctionCounter.builder(
+                        "xpanse.git.mirror.cache.fetches",
+                        this,
+                        ScriptsGitRepoMirrorCache::getFetchCount)
+                .description("Number of incremental fetches to update repo mirrors.")
+                .register(registry);
+    }
+
+    private void createMirror(String mirrorKey, Path mirrorDir, String repoUrl) {
+        log.info("Creating mirror of scripts repo {} in {}.", repoUrl, mirrorDir);
+        long fetchTime = System.nanoTime();
+        try (Git ignored =
+                Git.cloneRepository()
+                        .setURI(repoUrl)
+                        .setDirectory(mirrorDir.toFile())
+                        .setBare(true)
+                        .setMirror(true)
+                        .setProgressMonitor(null)
+                        .setTimeout(getTimeoutSeconds())
+                        .call()) {
+            lastFetchTimes.put(mirrorKey, fetchTime);
+        } catch (GitAPIException e) {
+            FileUtils.deleteQuietly(mirrorDir.toFile());
+            String errorMsg =
+                    String.format("Clone mirror of repo %s error. %s", repoUrl, e.getMessage());
+            log.error(errorMsg);
+            throw new GitRepoCloneException(errorMsg);
+        }
+    }
+
+    private void updateMirror(
+            String mirrorKey, Path mirrorDir, ScriptsRepo scriptsRepo, long requestTime) {
+        Long lastFetchTime = lastFetchTimes.get(mirrorKey);
+        // a fetch started after this request already contains everything the request needs.
+        if (Objects.nonNull(lastFetchTime) && lastFetchTime - requestTime > 0) {
+            log.debug("Mirror of repo {} fetched while waiting.", scriptsRepo.getRepoUrl());
+            return;
+        }
+        try (Git git = Git.open(mirrorDir.toFile())) {
+            if (isCommitId(scriptsRepo.getBranch())
+                    && Objects.nonNull(resolveRevision(git.getRepository(), scriptsRepo))) {
+                log.debug("Commit {} already present in mirror.", scriptsRepo.getBranch());
+                return;
+            }
+            fetches.incrementAndGet();
+            long fetchTime = System.nanoTime();
+            git.fetch()
+                    .setRemoveDeletedRefs(true)
+                    .setProgressMonitor(null)
+                    .setTimeout(getTimeoutSeconds())
+                    .call();
+            lastFetchTimes.put(mirrorKey, fetchTime);
+        } catch (IOException | GitAPIException e) {
+            String errorMsg =
+                    String.format(
+                            "Fetch mirror of repo %s error. %s",
+                            scriptsRepo.getRepoUrl(), e.getMessage());
+            log.error(errorMsg);
+            throw new GitRepoCloneException(errorMsg);
+        }
+    }
+
+    private void writeScripts(Path mirrorDir, Path workspace, ScriptsRepo scriptsRepo) {
+        try (Git git = Git.open(mirrorDir.toFile());
+                RevWalk revWalk = new RevWalk(git.getRepository());
+                TreeWalk treeWalk = new TreeWalk(git.getRepository())) {
+            Repository repository = git.getRepository();
+            ObjectId revision = resolveRevision(repository, scriptsRepo);
+            if (Objects.isNull(revision)) {
+                throw new GitRepoCloneException(
+                        String.format(
+                                "Branch %s not found in repo %s.",
+                                scriptsRepo.getBranch(), scriptsRepo.getRepoUrl()));
+            }
+            RevCommit commit = revWalk.parseCommit(revision);
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            String scriptsPath = StringUtils.strip(scriptsRepo.getScriptsPath(), "/");
+            if (StringUtils.isNotBlank(scriptsPath)) {
+                treeWalk.setFilter(PathFilter.create(scriptsPath));
+            }
+            while (treeWalk.next()) {
+                FileMode fileMode = treeWalk.getFileMode(0);
+                if (!FileMode.REGULAR_FILE.equals(fileMode)
+                        && !FileMode.EXECUTABLE_FILE.equals(fileMode)) {
+                    log.debug("Skipped {} of repo {}.", treeWalk.getPathString(), mirrorDir);
+                    continue;
+                }
+                Path file = workspace.resolve(treeWalk.getPathString());
+                Files.createDirectories(file.getParent());
+                try (OutputStream outputStream = Files.newOutputStream(file)) {
+                    repository.open(treeWalk.getObjectId(0)).copyTo(outputStream);
+                }
+                if (FileMode.EXECUTABLE_FILE.equals(fileMode)
+                        && !file.toFile().setExecutable(true)) {
+                    log.warn("Failed to set {} executable.", file);
+                }
+            }
+            log.info(
+                    "Checked out scripts from commit {} of repo {}.",
+                    commit.getName(),
+                    scriptsRepo.getRepoUrl());
+        } catch (IOException e) {
+            throw new DeploymentScriptsCreationFailedException(
+                    String.format(
+                            "Write scripts of repo %s to workspace %s error. %s",
+                            scriptsRepo.getRepoUrl(), workspace, e.getMessage()));
+        }
+    }
+
+    private ObjectId resolveRevision(Repository repository, ScriptsRepo scriptsRepo)
+            throws IOException {
+        String branch = scriptsRepo.getBranch();
+        for (String revision :
+                new String[] {Constants.R_HEADS + branch, Constants.R_TAGS + branch, branch}) {
+            ObjectId objectId = repository.resolve(revision + "^{commit}");
+            if (Objects.nonNull(objectId)) {
+                return objectId;
+            }
+        }
+        return null;
+    }
+
+    private boolean isCommitId(String branch) {
+        return ObjectId.isId(branch);
+    }
+
+    private FileChannel lockMirror(Path mirrorDir) throws IOException {
+        Files.createDirectories(mirrorDir.getParent());
+        Path lockFile = mirrorDir.resolveSibling(mirrorDir.getFileName() + LOCK_FILE_SUFFIX);
+        FileChannel channel =
+                FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock fileLock = channel.lock();
+            log.trace("Locked mirror {} with {}.", mirrorDir, fileLock);
+            return channel;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private int getTimeoutSeconds() {
+        return Objects.nonNull(gitProperties.getCommandTimeoutSeconds())
+                        && gitProperties.getCommandTimeoutSeconds() > 0
+                ? gitProperties.getCommandTimeoutSeconds()
+                : 10;
+    }
+
+    private Path getMirrorCacheDirectory() {
+        Path directory = Path.of(gitProperties.getMirrorCache().getDirectory());
+        if (directory.isAbsolute()) {
+            return directory;
+        }
+        return Path.of(System.getProperty("java.io.tmpdir")).resolve(directory);
+    }
+}
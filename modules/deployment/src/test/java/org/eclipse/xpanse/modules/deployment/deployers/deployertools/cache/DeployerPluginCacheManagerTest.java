@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager.TF_PLUGIN_CACHE_DIR;
+import static org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager.TF_PLUGIN_CACHE_MAY_BREAK_DEPENDENCY_LOCK_FILE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.deployment.config.DeploymentProperties;
+import org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal.OpenTofuInstaller;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal.TerraformInstaller;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Test of DeployerPluginCacheManager. */
+@ExtendWith(MockitoExtension.class)
+class DeployerPluginCacheManagerTest {
+
+    private static final String SCRIPT =
+            """
+            terraform {
+              required_providers {
+                huaweicloud = {
+                  source  = "huaweicloud/huaweicloud"
+                  version = "~> 1.61.0"
+                }
+                random = {
+                  source = "hashicorp/random"
+                }
+              }
+            }
+
+            provider "huaweicloud" {
+              region = var.region
+            }
+
+            provider "openstack" {
+            }
+            """;
+
+    @TempDir private Path tempDir;
+    @Mock private ServiceTemplateStorage serviceTemplateStorage;
+    @Mock private TerraformInstaller terraformInstaller;
+    @Mock private OpenTofuInstaller openTofuInstaller;
+    private DeploymentProperties.PluginCache pluginCache;
+    private DeploymentProperties deploymentProperties;
+    private DeployerPluginCacheManager deployerPluginCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        pluginCache = new DeploymentProperties.PluginCache();
+        pluginCache.setEnabled(true);
+        pluginCache.setDirectory(tempDir.resolve("cache").toString());
+        pluginCache.setPrewarmEnabled(false);
+        DeploymentProperties.TerraformLocal terraformLocal =
+                new DeploymentProperties.TerraformLocal();
+        terraformLocal.setPluginCache(pluginCache);
+        deploymentProperties = new DeploymentProperties();
+        deploymentProperties.setTerraformLocal(terraformLocal);
+        deployerPluginCacheManager =
+                new DeployerPluginCacheManager(
+                        deploymentProperties,
+                        serviceTemplateStorage,
+                        terraformInstaller,
+                        openTofuInstaller,
+                        Runnable::run);
+    }
+
+    @Test
+    void testGetPluginCacheEnvironmentVariables() {
+        Map<String, String> variables =
+                deployerPluginCacheManager.getPluginCacheEnvironmentVariables(
+                        DeployerKind.TERRAFORM);
+
+        assertThat(variables)
+                .containsEntry(TF_PLUGIN_CACHE_DIR, tempDir.resolve("cache").toString())
+                .containsEntry(TF_PLUGIN_CACHE_MAY_BREAK_DEPENDENCY_LOCK_FILE, "true");
+        assertThat(tempDir.resolve("cache")).isDirectory();
+        assertThat(
+                        deployerPluginCacheManager.getPluginCacheEnvironmentVariables(
+                                DeployerKind.OPEN_TOFU))
+                .isEmpty();
+    }
+
+    @Test
+    void testGetPluginCacheEnvironmentVariablesWhenDisabled() {
+        pluginCache.setEnabled(false);
+
+        assertThat(deployerPluginCacheManager.isPluginCacheEnabled(DeployerKind.TERRAFORM))
+                .isFalse();
+        assertThat(
+                        deployerPluginCacheManager.getPluginCacheEnvironmentVariables(
+                                DeployerKind.TERRAFORM))
+                .isEmpty();
+    }
+
+    @Test
+    void testGetRequiredProviderNames() throws IOException {
+        Path scriptsDir = Files.createDirectories(tempDir.resolve("scripts"));
+        Files.writeString(scriptsDir.resolve("main.tf"), SCRIPT);
+        Files.writeString(scriptsDir.resolve("README.md"), "provider \"ignored\" {");
+
+        assertThat(deployerPluginCacheManager.getRequiredProviderNames(scriptsDir))
+                .containsExactly("huaweicloud", "openstack", "random");
+    }
+
+    @Test
+    void testExecuteWithPluginCacheLocksSerialisesInitOfSameProvider() throws Exception {
+        assertThat(runConcurrentInits(DeployerKind.TERRAFORM, DeployerKind.TERRAFORM)).isEqualTo(1);
+        assertThat(tempDir.resolve("cache").resolve(".locks").resolve("huaweicloud.lock")).exists();
+    }
+
+    @Test
+    void testExecuteWithPluginCacheLocksOfDeployersSharingCacheDirectory() throws Exception {
+        DeploymentProperties.OpentofuLocal opentofuLocal = new DeploymentProperties.OpentofuLocal();
+        opentofuLocal.setPluginCache(pluginCache);
+        deploymentProperties.setOpentofuLocal(opentofuLocal);
+
+        assertThat(runConcurrentInits(DeployerKind.TERRAFORM, DeployerKind.OPEN_TOFU)).isEqualTo(1);
+    }
+
+    private int runConcurrentInits(DeployerKind firstDeployerKind, DeployerKind secondDeployerKind)
+            throws Exception {
+        Path scriptsDir = Files.createDirectories(tempDir.resolve("scripts"));
+        Files.writeString(scriptsDir.resolve("main.tf"), SCRIPT);
+        AtomicInteger runningInits = new AtomicInteger();
+        AtomicInteger maxRunningInits = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Set<Future<String>> results =
+                    Set.of(
+                            executorService.submit(
+                                    () ->
+                                            runInit(
+                                                    firstDeployerKind,
+                                                    scriptsDir,
+                                                    started,
+                                                    runningInits,
+                                                    maxRunningInits)),
+                            executorService.submit(
+                                    () ->
+                                            runInit(
+                                                    secondDeployerKind,
+                                                    scriptsDir,
+                                                    started,
+                                                    runningInits,
+                                                    maxRunningInits)));
+            for (Future<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("initialized");
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return maxRunningInits.get();
+    }
+
+    private String runInit(
+            DeployerKind deployerKind,
+            Path scriptsDir,
+            CountDownLatch started,
+            AtomicInteger runningInits,
+            AtomicInteger maxRunningInits) {
+        started.countDown();
+        return deployerPluginCacheManager.executeWithPluginCacheLocks(
+                deployerKind,
+                scriptsDir.toString(),
+                () -> {
+                    maxRunningInits.accumulateAndGet(runningInits.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    runningInits.decrementAndGet();
+                    return "initialized";
+                });
+    }
+}
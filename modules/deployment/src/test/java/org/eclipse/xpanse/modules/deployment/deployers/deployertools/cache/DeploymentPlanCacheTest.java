@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.deployment.config.DeploymentProperties;
+import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Test of DeploymentPlanCache. */
+@ExtendWith(MockitoExtension.class)
+class DeploymentPlanCacheTest {
+
+    private final UUID orderId = UUID.randomUUID();
+    private final String executorPath = "/opt/terraform/terraform-1.6.0";
+    private final Map<String, Object> variables = Map.of("region", "cn-southwest-2", "size", 1);
+    @Mock private DeploymentScriptsHelper scriptsHelper;
+    private DeploymentProperties deploymentProperties;
+    private DeploymentPlanCache deploymentPlanCache;
+
+    @BeforeEach
+    void setUp() {
+        deploymentProperties = new DeploymentProperties();
+        deploymentPlanCache = new DeploymentPlanCache(deploymentProperties, scriptsHelper);
+    }
+
+    private SavedDeploymentPlan getSavedPlan(Instant createdAt) {
+        return new SavedDeploymentPlan(
+                orderId,
+                DeployerKind.TERRAFORM,
+                "/tmp/ws/" + orderId,
+                List.of(),
+                deploymentPlanCache.getFingerprint(executorPath, variables),
+                createdAt);
+    }
+
+    @Test
+    void testTakePlanOnlyOnce() {
+        SavedDeploymentPlan savedPlan = getSavedPlan(Instant.now());
+        deploymentPlanCache.savePlan(savedPlan);
+        String fingerprint =
+                deploymentPlanCache.getFingerprint(
+                        executorPath, Map.of("size", 1, "region", "cn-southwest-2"));
+
+        assertThat(deploymentPlanCache.takePlan(orderId, DeployerKind.TERRAFORM, fingerprint))
+                .isEqualTo(savedPlan);
+        assertThat(deploymentPlanCache.takePlan(orderId, DeployerKind.TERRAFORM, fingerprint))
+                .isNull();
+    }
+
+    @Test
+    void testTakePlanWithChangedInputs() {
+        deploymentPlanCache.savePlan(getSavedPlan(Instant.now()));
+        assertThat(
+                        deploymentPlanCache.takePlan(
+                                orderId,
+                                DeployerKind.TERRAFORM,
+                                deploymentPlanCache.getFingerprint(
+                                        executorPath, Map.of("region", "cn-north-4"))))
+                .isNull();
+
+        deploymentPlanCache.savePlan(getSavedPlan(Instant.now()));
+        assertThat(
+                        deploymentPlanCache.takePlan(
+                                orderId,
+                                DeployerKind.OPEN_TOFU,
+                                deploymentPlanCache.getFingerprint(executorPath, variables)))
+                .isNull();
+    }
+
+    @Test
+    void testTakeExpiredPlan() {
+        deploymentProperties.getPlanReuse().setMaxAgeInSeconds(60);
+        deploymentPlanCache.savePlan(getSavedPlan(Instant.now().minusSeconds(61)));
+
+        assertThat(
+                        deploymentPlanCache.takePlan(
+                                orderId,
+                                DeployerKind.TERRAFORM,
+                                deploymentPlanCache.getFingerprint(executorPath, variables)))
+                .isNull();
+    }
+
+    @Test
+    void testRemoveExpiredPlans() {
+        deploymentProperties.getPlanReuse().setMaxAgeInSeconds(60);
+        SavedDeploymentPlan expiredPlan = getSavedPlan(Instant.now().minusSeconds(61));
+        deploymentPlanCache.savePlan(expiredPlan);
+
+        deploymentPlanCache.removeExpiredPlans();
+
+        verify(scriptsHelper).deleteTaskWorkspace(expiredPlan.taskWorkspace());
+        assertThat(
+                        deploymentPlanCache.takePlan(
+                                orderId,
+                                DeployerKind.TERRAFORM,
+                                deploymentPlanCache.getFingerprint(executorPath, variables)))
+                .isNull();
+    }
+
+    @Test
+    void testSavePlanWhenPlanReuseDisabled() {
+        deploymentProperties.getPlanReuse().setEnabled(false);
+        deploymentPlanCache.savePlan(getSavedPlan(Instant.now()));
+
+        deploymentPlanCache.removeExpiredPlans();
+
+        assertThat(
+                        deploymentPlanCache.takePlan(
+                                orderId,
+                                DeployerKind.TERRAFORM,
+                                deploymentPlanCache.getFingerprint(executorPath, variables)))
+                .isNull();
+        verify(scriptsHelper, never()).deleteTaskWorkspace("/tmp/ws/" + orderId);
+    }
+}
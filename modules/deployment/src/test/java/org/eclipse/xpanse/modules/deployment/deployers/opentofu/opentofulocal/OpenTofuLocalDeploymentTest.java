@@ -31,12 +31,15 @@ import org.eclipse.xpanse.modules.deployment.ServiceDeploymentEntityHandler;
 import org.eclipse.xpanse.modules.deployment.config.DeploymentProperties;
 import org.eclipse.xpanse.modules.deployment.config.GitProperties;
 import org.eclipse.xpanse.modules.deployment.config.OrderProperties;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeploymentPlanCache;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.callbacks.OpenTofuDeploymentResultCallbackManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuExecutorException;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
 import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
 import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoManage;
+import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoMirrorCache;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
@@ -70,9 +73,11 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ContextConfiguration(
         classes = {
             OpenTofuLocalDeployment.class,
+            DeploymentPlanCache.class,
             DeploymentScriptsHelper.class,
             OpenTofuInstaller.class,
             ScriptsGitRepoManage.class,
+            ScriptsGitRepoMirrorCache.class,
             DeployEnvironments.class,
             PluginManager.class,
             DeployService.class,
@@ -115,6 +120,7 @@ class OpenTofuLocalDeploymentTest {
     @MockitoBean DeployService deployService;
     @MockitoBean CredentialCenter credentialCenter;
     @MockitoBean PluginManager pluginManager;
+    @MockitoBean DeployerPluginCacheManager deployerPluginCacheManager;
     private Ocl ocl;
     private Ocl oclWithGitScripts;
 
@@ -19,6 +19,7 @@ import org.eclipse.xpanse.modules.deployment.config.OrderProperties;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.resources.TfState;
 import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
 import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoManage;
+import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoMirrorCache;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
 import org.eclipse.xpanse.modules.models.servicetemplate.utils.OclLoader;
 import org.junit.jupiter.api.BeforeAll;
@@ -38,6 +39,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ContextConfiguration(
         classes = {
             ScriptsGitRepoManage.class,
+            ScriptsGitRepoMirrorCache.class,
             OrderProperties.class,
             DeploymentProperties.class,
             GitProperties.class,
@@ -30,12 +30,15 @@ import org.eclipse.xpanse.modules.deployment.ServiceDeploymentEntityHandler;
 import org.eclipse.xpanse.modules.deployment.config.DeploymentProperties;
 import org.eclipse.xpanse.modules.deployment.config.GitProperties;
 import org.eclipse.xpanse.modules.deployment.config.OrderProperties;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeploymentPlanCache;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.callbacks.TerraformDeploymentResultCallbackManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformExecutorException;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
 import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
 import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoManage;
+import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoMirrorCache;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
@@ -68,8 +71,10 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ContextConfiguration(
         classes = {
             TerraformLocalDeployment.class,
+            DeploymentPlanCache.class,
             DeploymentScriptsHelper.class,
             ScriptsGitRepoManage.class,
+            ScriptsGitRepoMirrorCache.class,
             DeployEnvironments.class,
             PluginManager.class,
             DeployService.class,
@@ -112,6 +117,7 @@ class TerraformLocalDeploymentTest {
     @MockitoBean DeployService deployService;
     @MockitoBean CredentialCenter credentialCenter;
     @MockitoBean PluginManager pluginManager;
+    @MockitoBean DeployerPluginCacheManager deployerPluginCacheManager;
     @Autowired TerraformLocalDeployment terraformLocalDeployment;
 
     private Ocl ocl;
@@ -26,6 +26,7 @@ import org.eclipse.xpanse.modules.deployment.config.OrderProperties;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfState;
 import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
 import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoManage;
+import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoMirrorCache;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
 import org.eclipse.xpanse.modules.models.servicetemplate.utils.OclLoader;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeploymentScriptValidationResult;
@@ -46,6 +47,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ContextConfiguration(
         classes = {
             ScriptsGitRepoManage.class,
+            ScriptsGitRepoMirrorCache.class,
             OrderProperties.class,
             DeploymentProperties.class,
             GitProperties.class,
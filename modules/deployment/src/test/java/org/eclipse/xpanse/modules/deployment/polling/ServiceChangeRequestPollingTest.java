@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.common.config.AgentApiProperties;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestEntity;
+import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestStorage;
+import org.eclipse.xpanse.modules.deployment.ServiceChangeManager;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/** Test of ServiceChangeRequestPolling. */
+@ExtendWith(MockitoExtension.class)
+class ServiceChangeRequestPollingTest {
+
+    private final UUID serviceId = UUID.randomUUID();
+    private final String resourceName = "vm-1";
+    @Mock private ServiceChangeManager serviceChangeManager;
+    @Mock private ServiceChangeRequestStorage serviceChangeRequestStorage;
+    private ServiceStatusChangeNotifier serviceStatusChangeNotifier;
+    private ServiceChangeRequestPolling serviceChangeRequestPolling;
+
+    @BeforeEach
+    void setUp() {
+        AgentApiProperties agentApiProperties = new AgentApiProperties();
+        agentApiProperties.setLongPollingSeconds(10);
+        serviceStatusChangeNotifier = new ServiceStatusChangeNotifier();
+        serviceChangeRequestPolling =
+                new ServiceChangeRequestPolling(
+                        agentApiProperties,
+                        serviceChangeManager,
+                        serviceChangeRequestStorage,
+                        serviceStatusChangeNotifier,
+                        Runnable::run);
+    }
+
+    private ServiceChangeRequestEntity getServiceChangeRequestEntity(
+            UUID requestServiceId, String requestResourceName) {
+        ServiceDeploymentEntity serviceDeploymentEntity = new ServiceDeploymentEntity();
+        serviceDeploymentEntity.setId(requestServiceId);
+        ServiceChangeRequestEntity request = new ServiceChangeRequestEntity();
+        request.setServiceDeploymentEntity(serviceDeploymentEntity);
+        request.setResourceName(requestResourceName);
+        return request;
+    }
+
+    private ResponseEntity<ServiceChangeRequest> getClaimedRequest() {
+        ServiceChangeRequest serviceChangeRequest = new ServiceChangeRequest();
+        serviceChangeRequest.setChangeId(UUID.randomUUID());
+        return ResponseEntity.ok(serviceChangeRequest);
+    }
+
+    @Test
+    void testWaitForPendingServiceChangeRequestWithAlreadyPendingRequest() {
+        ResponseEntity<ServiceChangeRequest> claimedRequest = getClaimedRequest();
+        when(serviceChangeRequestStorage.existsPendingServiceChangeRequest(serviceId, resourceName))
+                .thenReturn(true);
+        when(serviceChangeManager.getPendingServiceChangeRequest(serviceId, resourceName))
+                .thenReturn(claimedRequest);
+
+        DeferredResult<ResponseEntity<ServiceChangeRequest>> result =
+                serviceChangeRequestPolling.waitForPendingServiceChangeRequest(
+                        serviceId, resourceName);
+
+        assertThat(result.getResult()).isEqualTo(claimedRequest);
+    }
+
+    @Test
+    void testWaitForPendingServiceChangeRequestCompletedByCreatedRequest() {
+        ResponseEntity<ServiceChangeRequest> claimedRequest = getClaimedRequest();
+        when(serviceChangeRequestStorage.existsPendingServiceChangeRequest(serviceId, resourceName))
+                .thenReturn(false, true);
+        when(serviceChangeManager.getPendingServiceChangeRequest(serviceId, resourceName))
+                .thenReturn(claimedRequest);
+
+        DeferredResult<ResponseEntity<ServiceChangeRequest>> result =
+                serviceChangeRequestPolling.waitForPendingServiceChangeRequest(
+                        serviceId, resourceName);
+        assertThat(result.hasResult()).isFalse();
+
+        serviceStatusChangeNotifier.publishServiceChangeRequestsCreated(
+                List.of(
+                        getServiceChangeRequestEntity(serviceId, "vm-2"),
+                        getServiceChangeRequestEntity(UUID.randomUUID(), resourceName)));
+        assertThat(result.hasResult()).isFalse();
+
+        serviceStatusChangeNotifier.publishServiceChangeRequestsCreated(
+                List.of(getServiceChangeRequestEntity(serviceId, resourceName.toUpperCase())));
+        assertThat(result.getResult()).isEqualTo(claimedRequest);
+        // no request is claimed while waiting for the change request.
+        verify(serviceChangeRequestStorage, times(2))
+                .existsPendingServiceChangeRequest(serviceId, resourceName);
+        verify(serviceChangeManager, times(1))
+                .getPendingServiceChangeRequest(serviceId, resourceName);
+    }
+
+    @Test
+    void testWaitForPendingServiceChangeRequestKeepsWaitingWhenClaimedByOtherAgent() {
+        when(serviceChangeRequestStorage.existsPendingServiceChangeRequest(serviceId, resourceName))
+                .thenReturn(false, true);
+        when(serviceChangeManager.getPendingServiceChangeRequest(serviceId, resourceName))
+                .thenReturn(ResponseEntity.status(HttpStatus.NO_CONTENT).body(null));
+
+        DeferredResult<ResponseEntity<ServiceChangeRequest>> result =
+                serviceChangeRequestPolling.waitForPendingServiceChangeRequest(
+                        serviceId, resourceName);
+        serviceStatusChangeNotifier.publishServiceChangeRequestsCreated(
+                List.of(getServiceChangeRequestEntity(serviceId, resourceName)));
+
+        assertThat(result.hasResult()).isFalse();
+    }
+
+    @Test
+    void testWaitForPendingServiceChangeRequestWithoutPendingRequest() {
+        DeferredResult<ResponseEntity<ServiceChangeRequest>> result =
+                serviceChangeRequestPolling.waitForPendingServiceChangeRequest(
+                        serviceId, resourceName);
+
+        assertThat(result.hasResult()).isFalse();
+        verify(serviceChangeRequestStorage)
+                .existsPendingServiceChangeRequest(serviceId, resourceName);
+        verify(serviceChangeManager, never())
+                .getPendingServiceChangeRequest(serviceId, resourceName);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
+import org.eclipse.xpanse.modules.deployment.config.OrderProperties;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/** Test of ServiceOrderStatusChangePolling. */
+@ExtendWith(MockitoExtension.class)
+class ServiceOrderStatusChangePollingTest {
+
+    private final UUID orderId = UUID.randomUUID();
+    @Mock private ServiceOrderStorage serviceOrderStorage;
+    private ServiceStatusChangeNotifier serviceStatusChangeNotifier;
+    private ServiceOrderStatusChangePolling serviceOrderStatusChangePolling;
+
+    @BeforeEach
+    void setUp() {
+        OrderProperties.OrderStatus orderStatusProperties = new OrderProperties.OrderStatus();
+        orderStatusProperties.setLongPollingSeconds(10);
+        orderStatusProperties.setPollingIntervalSeconds(5);
+        OrderProperties orderProperties = new OrderProperties();
+        orderProperties.setOrderStatus(orderStatusProperties);
+        serviceStatusChangeNotifier = new ServiceStatusChangeNotifier();
+        serviceOrderStatusChangePolling =
+                new ServiceOrderStatusChangePolling(
+                        orderProperties, serviceOrderStorage, serviceStatusChangeNotifier);
+    }
+
+    private ServiceOrderEntity getServiceOrderEntity(OrderStatus orderStatus) {
+        ServiceOrderEntity serviceOrderEntity = new ServiceOrderEntity();
+        serviceOrderEntity.setOrderId(orderId);
+        serviceOrderEntity.setOrderStatus(orderStatus);
+        return serviceOrderEntity;
+    }
+
+    @Test
+    void testWaitForServiceOrderStatusChangeWithAlreadyChangedStatus() {
+        when(serviceOrderStorage.getEntityById(orderId))
+                .thenReturn(getServiceOrderEntity(OrderStatus.IN_PROGRESS));
+
+        DeferredResult<ServiceOrderStatusUpdate> result =
+                serviceOrderStatusChangePolling.waitForServiceOrderStatusChange(
+                        orderId, OrderStatus.CREATED);
+
+        assertThat(result.getResult())
+                .isEqualTo(new ServiceOrderStatusUpdate(OrderStatus.IN_PROGRESS, false, null));
+    }
+
+    @Test
+    void testWaitForServiceOrderStatusChangeCompletedByPublishedChange() {
+        when(serviceOrderStorage.getEntityById(orderId))
+                .thenReturn(getServiceOrderEntity(OrderStatus.IN_PROGRESS));
+
+        DeferredResult<ServiceOrderStatusUpdate> result =
+                serviceOrderStatusChangePolling.waitForServiceOrderStatusChange(orderId, null);
+        assertThat(result.hasResult()).isFalse();
+
+        serviceStatusChangeNotifier.publishOrderStatusChange(
+                getServiceOrderEntity(OrderStatus.IN_PROGRESS));
+        assertThat(result.hasResult()).isFalse();
+
+        serviceStatusChangeNotifier.publishOrderStatusChange(
+                getServiceOrderEntity(OrderStatus.SUCCESSFUL));
+        assertThat(result.getResult())
+                .isEqualTo(new ServiceOrderStatusUpdate(OrderStatus.SUCCESSFUL, true, null));
+        // no database read while waiting for the change.
+        verify(serviceOrderStorage, times(1)).getEntityById(orderId);
+    }
+
+    @Test
+    void testWaitForServiceOrderStatusChangeIgnoresOtherOrders() {
+        when(serviceOrderStorage.getEntityById(orderId))
+                .thenReturn(getServiceOrderEntity(OrderStatus.CREATED));
+
+        DeferredResult<ServiceOrderStatusUpdate> result =
+                serviceOrderStatusChangePolling.waitForServiceOrderStatusChange(
+                        orderId, OrderStatus.CREATED);
+
+        ServiceOrderEntity otherOrder = getServiceOrderEntity(OrderStatus.FAILED);
+        otherOrder.setOrderId(UUID.randomUUID());
+        serviceStatusChangeNotifier.publishOrderStatusChange(otherOrder);
+        assertThat(result.hasResult()).isFalse();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
+import org.eclipse.xpanse.modules.deployment.config.OrderProperties;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** Test of ServiceStatusChangeEventStream. */
+@ExtendWith(MockitoExtension.class)
+class ServiceStatusChangeEventStreamTest {
+
+    private final UUID orderId = UUID.randomUUID();
+    private final UUID serviceId = UUID.randomUUID();
+    @Mock private ServiceOrderStorage serviceOrderStorage;
+    @Mock private ServiceDeploymentStorage serviceDeploymentStorage;
+    private OrderProperties orderProperties;
+    private ServiceStatusChangeNotifier serviceStatusChangeNotifier;
+    private ServiceStatusChangeEventStream serviceStatusChangeEventStream;
+
+    @BeforeEach
+    void setUp() {
+        OrderProperties.OrderStatus orderStatusProperties = new OrderProperties.OrderStatus();
+        orderStatusProperties.setStreamingSeconds(60);
+        orderProperties = new OrderProperties();
+        orderProperties.setOrderStatus(orderStatusProperties);
+        serviceStatusChangeNotifier = spy(new ServiceStatusChangeNotifier());
+        serviceStatusChangeEventStream =
+                new ServiceStatusChangeEventStream(
+                        orderProperties,
+                        serviceOrderStorage,
+                        serviceDeploymentStorage,
+                        serviceStatusChangeNotifier,
+                        Runnable::run);
+    }
+
+    private ServiceOrderEntity getServiceOrderEntity(OrderStatus orderStatus) {
+        ServiceOrderEntity serviceOrderEntity = new ServiceOrderEntity();
+        serviceOrderEntity.setOrderId(orderId);
+        serviceOrderEntity.setOrderStatus(orderStatus);
+        return serviceOrderEntity;
+    }
+
+    private ServiceDeploymentEntity getServiceDeploymentEntity(ServiceDeploymentState state) {
+        ServiceDeploymentEntity serviceDeploymentEntity = new ServiceDeploymentEntity();
+        serviceDeploymentEntity.setId(serviceId);
+        serviceDeploymentEntity.setServiceDeploymentState(state);
+        return serviceDeploymentEntity;
+    }
+
+    @Test
+    void testStreamServiceOrderStatusClosedWhenOrderCompleted() {
+        when(serviceOrderStorage.getEntityById(orderId))
+                .thenReturn(getServiceOrderEntity(OrderStatus.IN_PROGRESS));
+
+        SseEmitter emitter = serviceStatusChangeEventStream.streamServiceOrderStatus(orderId);
+
+        assertThat(emitter.getTimeout()).isEqualTo(60000L);
+        verify(serviceStatusChangeNotifier).addOrderStatusListener(eq(orderId), any());
+        verify(serviceStatusChangeNotifier, never()).removeOrderStatusListener(eq(orderId), any());
+
+        serviceStatusChangeNotifier.publishOrderStatusChange(
+                getServiceOrderEntity(OrderStatus.SUCCESSFUL));
+
+        verify(serviceStatusChangeNotifier).removeOrderStatusListener(eq(orderId), any());
+        // updates are pushed without reading the database again.
+        verify(serviceOrderStorage, times(1)).getEntityById(orderId);
+    }
+
+    @Test
+    void testStreamServiceOrderStatusOfCompletedOrder() {
+        when(serviceOrderStorage.getEntityById(orderId))
+                .thenReturn(getServiceOrderEntity(OrderStatus.FAILED));
+
+        serviceStatusChangeEventStream.streamServiceOrderStatus(orderId);
+
+        verify(serviceStatusChangeNotifier).removeOrderStatusListener(eq(orderId), any());
+    }
+
+    @Test
+    void testStreamServiceDeploymentStatusStaysOpenAfterFinalState() {
+        when(serviceDeploymentStorage.findServiceDeploymentById(serviceId))
+                .thenReturn(getServiceDeploymentEntity(ServiceDeploymentState.DEPLOYING));
+
+        serviceStatusChangeEventStream.streamServiceDeploymentStatus(serviceId);
+        serviceStatusChangeNotifier.publishDeploymentStatusChange(
+                getServiceDeploymentEntity(ServiceDeploymentState.DEPLOY_SUCCESS));
+
+        verify(serviceStatusChangeNotifier).addDeploymentStatusListener(eq(serviceId), any());
+        verify(serviceStatusChangeNotifier, never())
+                .removeDeploymentStatusListener(eq(serviceId), any());
+    }
+
+    @Test
+    void testStreamServiceDeploymentStatusOfMissingService() {
+        when(serviceDeploymentStorage.findServiceDeploymentById(serviceId)).thenReturn(null);
+
+        serviceStatusChangeEventStream.streamServiceDeploymentStatus(serviceId);
+
+        verify(serviceStatusChangeNotifier).removeDeploymentStatusListener(eq(serviceId), any());
+    }
+
+    @Test
+    void testStreamServiceOrderStatusWithSaturatedExecutor() {
+        serviceStatusChangeEventStream =
+                new ServiceStatusChangeEventStream(
+                        orderProperties,
+                        serviceOrderStorage,
+                        serviceDeploymentStorage,
+                        serviceStatusChangeNotifier,
+                        task -> {
+                            throw new TaskRejectedException("saturated");
+                        });
+
+        serviceStatusChangeEventStream.streamServiceOrderStatus(orderId);
+
+        verify(serviceStatusChangeNotifier).removeOrderStatusListener(eq(orderId), any());
+        verifyNoInteractions(serviceOrderStorage);
+    }
+}
@@ -24,6 +24,7 @@ import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.common.config.AgentApiProperties;
 import org.eclipse.xpanse.modules.credential.CredentialCenter;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache.DeployerPluginCacheManager;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
@@ -80,6 +81,7 @@ class DeployEnvironmentsTest {
     @Mock private Environment environment;
     @Mock private OrchestratorPlugin mockOrchestratorPlugin;
     @Mock private AgentApiProperties agentApiProperties;
+    @Mock private DeployerPluginCacheManager deployerPluginCacheManager;
     private DeployEnvironments deployEnvironmentsUnderTest;
 
     @BeforeEach
@@ -157,7 +159,8 @@ class DeployEnvironmentsTest {
                         secretsManager,
                         pluginManager,
                         environment,
-                        agentApiProperties);
+                        agentApiProperties,
+                        deployerPluginCacheManager);
     }
 
     @Test
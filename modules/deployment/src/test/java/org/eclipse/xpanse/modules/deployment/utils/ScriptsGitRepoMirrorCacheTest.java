@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.xpanse.modules.deployment.config.GitProperties;
+import org.eclipse.xpanse.modules.models.common.exceptions.GitRepoCloneException;
+import org.eclipse.xpanse.modules.models.servicetemplate.ScriptsRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test of ScriptsGitRepoMirrorCache. */
+class ScriptsGitRepoMirrorCacheTest {
+
+    @TempDir private Path tempDir;
+    private Path originRepo;
+    private RevCommit firstCommit;
+    private ScriptsGitRepoMirrorCache scriptsGitRepoMirrorCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        originRepo = tempDir.resolve("origin");
+        try (Git git =
+                Git.init().setDirectory(originRepo.toFile()).setInitialBranch("main").call()) {
+            Files.createDirectories(originRepo.resolve("scripts"));
+            Files.writeString(originRepo.resolve("scripts/main.tf"), "resource \"a\" \"b\" {}");
+            Files.writeString(originRepo.resolve("README.md"), "readme");
+            git.add().addFilepattern(".").call();
+            firstCommit = git.commit().setMessage("first").setSign(false).call();
+        }
+        GitProperties.MirrorCache mirrorCache = new GitProperties.MirrorCache();
+        mirrorCache.setEnabled(true);
+        mirrorCache.setDirectory(tempDir.resolve("mirrors").toString());
+        GitProperties gitProperties = new GitProperties();
+        gitProperties.setCommandTimeoutSeconds(10);
+        gitProperties.setMirrorCache(mirrorCache);
+        scriptsGitRepoMirrorCache = new ScriptsGitRepoMirrorCache(gitProperties);
+    }
+
+    @Test
+    void testCheckoutScriptsOnlyFromScriptsPath() {
+        File workspace = tempDir.resolve("workspace").toFile();
+
+        scriptsGitRepoMirrorCache.checkoutScripts(workspace, getScriptsRepo("main"));
+
+        assertThat(workspace.toPath().resolve("scripts/main.tf")).exists();
+        assertThat(workspace.toPath().resolve("README.md")).doesNotExist();
+        assertThat(workspace.toPath().resolve(".git")).doesNotExist();
+        assertThat(scriptsGitRepoMirrorCache.getCacheMissCount()).isEqualTo(1);
+        assertThat(scriptsGitRepoMirrorCache.getCacheHitCount()).isZero();
+    }
+
+    @Test
+    void testCheckoutScriptsFetchesChangesIntoExistingMirror() throws Exception {
+        scriptsGitRepoMirrorCache.checkoutScripts(
+                tempDir.resolve("workspace1").toFile(), getScriptsRepo("main"));
+        try (Git git = Git.open(originRepo.toFile())) {
+            Files.writeString(originRepo.resolve("scripts/variables.tf"), "variable \"a\" {}");
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("second").setSign(false).call();
+        }
+        Path workspace = tempDir.resolve("workspace2");
+
+        scriptsGitRepoMirrorCache.checkoutScripts(workspace.toFile(), getScriptsRepo("main"));
+
+        assertThat(workspace.resolve("scripts/variables.tf")).exists();
+        assertThat(scriptsGitRepoMirrorCache.getCacheMissCount()).isEqualTo(1);
+        assertThat(scriptsGitRepoMirrorCache.getCacheHitCount()).isEqualTo(1);
+        assertThat(scriptsGitRepoMirrorCache.getFetchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testCheckoutScriptsOfKnownCommitWithoutFetch() {
+        scriptsGitRepoMirrorCache.checkoutScripts(
+                tempDir.resolve("workspace1").toFile(), getScriptsRepo("main"));
+        Path workspace = tempDir.resolve("workspace2");
+
+        scriptsGitRepoMirrorCache.checkoutScripts(
+                workspace.toFile(), getScriptsRepo(firstCommit.getName()));
+
+        assertThat(workspace.resolve("scripts/main.tf")).exists();
+        assertThat(scriptsGitRepoMirrorCache.getFetchCount()).isZero();
+    }
+
+    @Test
+    void testCheckoutScriptsOfUnknownBranch() {
+        File workspace = tempDir.resolve("workspace").toFile();
+        ScriptsRepo scriptsRepo = getScriptsRepo("unknown");
+
+        assertThrows(
+                GitRepoCloneException.class,
+                () -> scriptsGitRepoMirrorCache.checkoutScripts(workspace, scriptsRepo));
+    }
+
+    private ScriptsRepo getScriptsRepo(String branch) {
+        ScriptsRepo scriptsRepo = new ScriptsRepo();
+        scriptsRepo.setRepoUrl(originRepo.toUri().toString());
+        scriptsRepo.setBranch(branch);
+        scriptsRepo.setScriptsPath("scripts");
+        return scriptsRepo;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.models.common.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.models.common.exceptions.UnsupportedEnumValueException;
+
+/** Enumeration class for the order of sorted query results. */
+public enum SortOrder {
+    ASC("asc"),
+    DESC("desc");
+
+    private final String value;
+
+    SortOrder(String value) {
+        this.value = value;
+    }
+
+    /** For SortOrder deserialize. */
+    @JsonCreator
+    public static SortOrder getByValue(String value) {
+        for (SortOrder entry : values()) {
+            if (StringUtils.equalsIgnoreCase(entry.value, value)) {
+                return entry;
+            }
+        }
+        throw new UnsupportedEnumValueException(
+                String.format("SortOrder value %s is not supported.", value));
+    }
+
+    /** For SortOrder serialize. */
+    @JsonValue
+    public String toValue() {
+        return this.value;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.models.service.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.models.common.exceptions.UnsupportedEnumValueException;
+
+/** Enumeration class for the fields which deployed services can be sorted by. */
+public enum ServiceSortField {
+    CREATED_TIME("createdTime"),
+    LAST_MODIFIED_TIME("lastModifiedTime");
+
+    private final String value;
+
+    ServiceSortField(String value) {
+        this.value = value;
+    }
+
+    /** For ServiceSortField deserialize. */
+    @JsonCreator
+    public static ServiceSortField getByValue(String value) {
+        for (ServiceSortField entry : values()) {
+            if (StringUtils.equalsIgnoreCase(entry.value, value)) {
+                return entry;
+            }
+        }
+        throw new UnsupportedEnumValueException(
+                String.format("ServiceSortField value %s is not supported.", value));
+    }
+
+    /** For ServiceSortField serialize. */
+    @JsonValue
+    public String toValue() {
+        return this.value;
+    }
+}
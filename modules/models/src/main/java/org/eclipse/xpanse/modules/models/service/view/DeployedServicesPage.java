@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.view;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Data;
+
+/** Define view object for UI Client to query one page of deployed services. */
+@Data
+public class DeployedServicesPage {
+
+    @NotNull
+    @Schema(
+            description =
+                    "The deployed services of the page. Input and output properties of the"
+                            + " services are not included, they can be queried with the"
+                            + " details of a service.")
+    private List<DeployedService> services;
+
+    @Schema(
+            description =
+                    "The cursor to query the next page with. Null if there are no more services.")
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package org.eclipse.xpanse.modules.models.common.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.xpanse.modules.models.common.exceptions.UnsupportedEnumValueException;
+import org.junit.jupiter.api.Test;
+
+class SortOrderTest {
+
+    @Test
+    void testGetByValue() {
+        assertThat(SortOrder.getByValue("asc")).isEqualTo(SortOrder.ASC);
+        assertThat(SortOrder.getByValue("DESC")).isEqualTo(SortOrder.DESC);
+        assertThrows(UnsupportedEnumValueException.class, () -> SortOrder.getByValue("unknown"));
+    }
+
+    @Test
+    void testToValue() {
+        assertThat(SortOrder.ASC.toValue()).isEqualTo("asc");
+        assertThat(SortOrder.DESC.toValue()).isEqualTo("desc");
+    }
+}
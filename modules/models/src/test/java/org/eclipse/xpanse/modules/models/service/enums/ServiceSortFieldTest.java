@@ -0,0 +1,26 @@
+package org.eclipse.xpanse.modules.models.service.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.xpanse.modules.models.common.exceptions.UnsupportedEnumValueException;
+import org.junit.jupiter.api.Test;
+
+class ServiceSortFieldTest {
+
+    @Test
+    void testGetByValue() {
+        assertThat(ServiceSortField.getByValue("createdTime"))
+                .isEqualTo(ServiceSortField.CREATED_TIME);
+        assertThat(ServiceSortField.getByValue("lastModifiedTime"))
+                .isEqualTo(ServiceSortField.LAST_MODIFIED_TIME);
+        assertThrows(
+                UnsupportedEnumValueException.class, () -> ServiceSortField.getByValue("name"));
+    }
+
+    @Test
+    void testToValue() {
+        assertThat(ServiceSortField.CREATED_TIME.toValue()).isEqualTo("createdTime");
+        assertThat(ServiceSortField.LAST_MODIFIED_TIME.toValue()).isEqualTo("lastModifiedTime");
+    }
+}
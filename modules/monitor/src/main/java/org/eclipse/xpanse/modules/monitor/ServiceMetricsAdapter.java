@@ -13,7 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
 import org.eclipse.xpanse.modules.database.resource.ServiceResourceStorage;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
-import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentLookup;
 import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
 import org.eclipse.xpanse.modules.models.common.enums.UserOperation;
 import org.eclipse.xpanse.modules.models.monitor.Metric;
@@ -24,6 +24,8 @@ import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.monitor.aggregation.MetricsDownsampler;
+import org.eclipse.xpanse.modules.monitor.collector.MetricsCollector;
 import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
@@ -41,22 +43,28 @@ import org.springframework.util.CollectionUtils;
 public class ServiceMetricsAdapter {
 
     private static final long FIVE_MINUTES_MILLISECONDS = 5 * 60 * 1000;
-    private final ServiceDeploymentStorage serviceDeploymentStorage;
+    private final ServiceDeploymentLookup serviceDeploymentLookup;
     private final ServiceResourceStorage serviceResourceStorage;
     private final PluginManager pluginManager;
     private final UserServiceHelper userServiceHelper;
+    private final MetricsCollector metricsCollector;
+    private final MetricsDownsampler metricsDownsampler;
 
     /** Constructor method. */
     @Autowired
     public ServiceMetricsAdapter(
-            ServiceDeploymentStorage serviceDeploymentStorage,
+            ServiceDeploymentLookup serviceDeploymentLookup,
             ServiceResourceStorage serviceResourceStorage,
             PluginManager pluginManager,
-            UserServiceHelper userServiceHelper) {
-        this.serviceDeploymentStorage = serviceDeploymentStorage;
+            UserServiceHelper userServiceHelper,
+            MetricsCollector metricsCollector,
+            MetricsDownsampler metricsDownsampler) {
+        this.serviceDeploymentLookup = serviceDeploymentLookup;
         this.serviceResourceStorage = serviceResourceStorage;
         this.pluginManager = pluginManager;
         this.userServiceHelper = userServiceHelper;
+        this.metricsCollector = metricsCollector;
+        this.metricsDownsampler = metricsDownsampler;
     }
 
     /** Get metrics of the service instance. */
@@ -95,7 +103,18 @@ public class ServiceMetricsAdapter {
                         granularity,
                         onlyLastKnownMetric,
                         serviceEntity.getUserId());
-        return orchestratorPlugin.getMetricsForService(serviceMetricRequest);
+        List<Metric> collectedMetrics =
+                getCollectedMetrics(
+                        vmResources.stream().map(DeployResource::getResourceId).toList(),
+                        serviceMetricRequest.getMonitorResourceType(),
+                        serviceMetricRequest.getFrom(),
+                        serviceMetricRequest.getTo(),
+                        onlyLastKnownMetric);
+        if (Objects.nonNull(collectedMetrics)) {
+            return metricsDownsampler.downsample(collectedMetrics, granularity);
+        }
+        return metricsDownsampler.downsample(
+                orchestratorPlugin.getMetricsForService(serviceMetricRequest), granularity);
     }
 
     /** Get metrics of the resource instance. */
@@ -138,12 +157,41 @@ public class ServiceMetricsAdapter {
                         granularity,
                         onlyLastKnownMetric,
                         serviceEntity.getUserId());
-        return orchestratorPlugin.getMetricsForResource(resourceMetricRequest);
+        List<Metric> collectedMetrics =
+                getCollectedMetrics(
+                        List.of(deployResource.getResourceId()),
+                        resourceMetricRequest.getMonitorResourceType(),
+                        resourceMetricRequest.getFrom(),
+                        resourceMetricRequest.getTo(),
+                        onlyLastKnownMetric);
+        if (Objects.nonNull(collectedMetrics)) {
+            return metricsDownsampler.downsample(collectedMetrics, granularity);
+        }
+        return metricsDownsampler.downsample(
+                orchestratorPlugin.getMetricsForResource(resourceMetricRequest), granularity);
+    }
+
+    private List<Metric> getCollectedMetrics(
+            List<String> resourceIds,
+            MonitorResourceType monitorType,
+            Long from,
+            Long to,
+            boolean onlyLastKnownMetric) {
+        if (!metricsCollector.isCollectorEnabled()) {
+            return null;
+        }
+        List<Metric> collectedMetrics =
+                metricsCollector.getCollectedMetrics(
+                        resourceIds, monitorType, from, to, onlyLastKnownMetric);
+        if (Objects.isNull(collectedMetrics)) {
+            log.debug("Collected metrics do not cover the request. Query metrics from the csp.");
+        }
+        return collectedMetrics;
     }
 
     private ServiceDeploymentEntity findDeployServiceEntity(UUID id) {
         ServiceDeploymentEntity serviceEntity =
-                serviceDeploymentStorage.findServiceDeploymentById(id);
+                serviceDeploymentLookup.getServiceDeploymentEntity(id);
         if (Objects.isNull(serviceEntity)) {
             throw new ServiceNotDeployedException("Service not found.");
         }
@@ -0,0 +1,14 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.aggregation;
+
+/** Function to aggregate the samples of a metric in one bucket. */
+public enum AggregationType {
+    MIN,
+    MAX,
+    AVG,
+    LAST
+}
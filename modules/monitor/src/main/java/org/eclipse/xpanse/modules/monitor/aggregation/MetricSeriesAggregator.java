@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.aggregation;
+
+import java.util.Arrays;
+
+/** Aggregate and downsample the samples of a metric. */
+public final class MetricSeriesAggregator {
+
+    private MetricSeriesAggregator() {
+        // static methods only
+    }
+
+    /**
+     * Aggregate the samples in buckets of a fixed length. Each bucket with samples results in one
+     * sample with the start time of the bucket.
+     *
+     * @param series samples in the order of their timestamps.
+     * @param bucketMillis length of the buckets in milliseconds.
+     * @param aggregationType function to aggregate the samples of one bucket.
+     * @return aggregated samples.
+     */
+    public static SampledSeries aggregate(
+            SampledSeries series, long bucketMillis, AggregationType aggregationType) {
+        if (bucketMillis <= 0 || series.size() == 0) {
+            return series;
+        }
+        long[] timestamps = series.timestamps();
+        double[] values = series.values();
+        long[] bucketTimestamps = new long[timestamps.length];
+        double[] bucketValues = new double[timestamps.length];
+        int buckets = 0;
+        int bucketFirst = 0;
+        long bucketStart = getBucketStart(timestamps[0], bucketMillis);
+        for (int i = 1; i <= timestamps.length; i++) {
+            if (i < timestamps.length
+                    && getBucketStart(timestamps[i], bucketMillis) == bucketStart) {
+                continue;
+            }
+            bucketTimestamps[buckets] = bucketStart;
+            bucketValues[buckets] = aggregateBucket(values, bucketFirst, i, aggregationType);
+            buckets++;
+            if (i < timestamps.length) {
+                bucketFirst = i;
+                bucketStart = getBucketStart(timestamps[i], bucketMillis);
+            }
+        }
+        return new SampledSeries(
+                Arrays.copyOf(bucketTimestamps, buckets), Arrays.copyOf(bucketValues, buckets));
+    }
+
+    /**
+     * Downsample the samples with the Largest-Triangle-Three-Buckets algorithm. The first and the
+     * last sample are kept, and from each bucket in between the sample which forms the largest
+     * triangle with its neighbours, so that the peaks of the series stay visible in charts.
+     *
+     * @param series samples in the order of their timestamps.
+     * @param threshold maximum number of samples to return.
+     * @return downsampled samples, the given samples if they do not exceed the threshold.
+     */
+    public static SampledSeries largestTriangleThreeBuckets(SampledSeries series, int threshold) {
+        int size = series.size();
+        if (threshold < 3 || size <= threshold) {
+            return series;
+        }
+        long[] timestamps = series.timestamps();
+        double[] values = series.values();
+        long[] sampledTimestamps = new long[threshold];
+        double[] sampledValues = new double[threshold];
+        sampledTimestamps[0] = timestamps[0];
+        sampledValues[0] = values[0];
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int selected = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // average of the next bucket is the third point of the triangles.
+            int nextFirst = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double avgTimestamp = 0;
+            double avgValue = 0;
+            for (int i = nextFirst; i < nextEnd; i++) {
+                avgTimestamp += timestamps[i];
+                avgValue += values[i];
+            }
+            int nextCount = nextEnd - nextFirst;
+            avgTimestamp /= nextCount;
+            avgValue /= nextCount;
+
+            int first = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int maxAreaIndex = first;
+            for (int i = first; i < end; i++) {
+                double area =
+                        Math.abs(
+                                (timestamps[selected] - avgTimestamp)
+                                                * (values[i] - values[selected])
+                                        - (timestamps[selected] - timestamps[i])
+                                                * (avgValue - values[selected]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxAreaIndex = i;
+                }
+            }
+            sampledTimestamps[bucket + 1] = timestamps[maxAreaIndex];
+            sampledValues[bucket + 1] = values[maxAreaIndex];
+            selected = maxAreaIndex;
+        }
+        sampledTimestamps[threshold - 1] = timestamps[size - 1];
+        sampledValues[threshold - 1] = values[size - 1];
+        return new SampledSeries(sampledTimestamps, sampledValues);
+    }
+
+    private static long getBucketStart(long timestamp, long bucketMillis) {
+        return timestamp - Math.floorMod(timestamp, bucketMillis);
+    }
+
+    private static double aggregateBucket(
+            double[] values, int first, int end, AggregationType aggregationType) {
+        double result = aggregationType == AggregationType.LAST ? values[end - 1] : values[first];
+        for (int i = first + 1; i < end; i++) {
+            switch (aggregationType) {
+                case MIN -> result = Math.min(result, values[i]);
+                case MAX -> result = Math.max(result, values[i]);
+                case AVG -> result += values[i];
+                default -> {
+                    // the last value is already taken.
+                }
+            }
+        }
+        return aggregationType == AggregationType.AVG ? result / (end - first) : result;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.aggregation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.MetricItem;
+import org.eclipse.xpanse.modules.monitor.config.MonitorProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean which aggregates the metric items returned by the csp plugins or the collector before they
+ * are returned by the API. The plugins handle the requested granularity differently, so the items
+ * are aggregated in buckets of the granularity here for all of them, and long time ranges are
+ * downsampled to the configured maximum number of items per metric.
+ */
+@Component
+public class MetricsDownsampler {
+
+    private final MonitorProperties monitorProperties;
+
+    /** Constructor method. */
+    @Autowired
+    public MetricsDownsampler(MonitorProperties monitorProperties) {
+        this.monitorProperties = monitorProperties;
+    }
+
+    /**
+     * Aggregate and downsample the items of the metrics.
+     *
+     * @param metrics metrics to downsample, the items are replaced.
+     * @param granularity length of the buckets in seconds, null to keep the items as they are.
+     * @return the given metrics.
+     */
+    public List<Metric> downsample(List<Metric> metrics, Integer granularity) {
+        if (Objects.isNull(metrics)) {
+            return metrics;
+        }
+        MonitorProperties.Aggregation aggregation = monitorProperties.getAggregation();
+        long bucketMillis =
+                Objects.nonNull(granularity) && granularity > 0 ? granularity * 1000L : 0L;
+        int maxItems = aggregation.getMaxItemsPerMetric();
+        for (Metric metric : metrics) {
+            List<MetricItem> metricItems = metric.getMetrics();
+            if (Objects.isNull(metricItems) || metricItems.size() <= 1) {
+                continue;
+            }
+            if (bucketMillis == 0 && metricItems.size() <= maxItems) {
+                continue;
+            }
+            SampledSeries series = toSampledSeries(metricItems);
+            SampledSeries sampledSeries =
+                    MetricSeriesAggregator.largestTriangleThreeBuckets(
+                            MetricSeriesAggregator.aggregate(
+                                    series, bucketMillis, aggregation.getBucketFunction()),
+                            maxItems);
+            if (sampledSeries != series) {
+                metric.setMetrics(toMetricItems(sampledSeries, metricItems.getFirst()));
+            }
+        }
+        return metrics;
+    }
+
+    private SampledSeries toSampledSeries(List<MetricItem> metricItems) {
+        List<MetricItem> validItems =
+                metricItems.stream()
+                        .filter(
+                                item ->
+                                        Objects.nonNull(item.getTimeStamp())
+                                                && Objects.nonNull(item.getValue()))
+                        .sorted(Comparator.comparing(MetricItem::getTimeStamp))
+                        .toList();
+        long[] timestamps = new long[validItems.size()];
+        double[] values = new double[validItems.size()];
+        for (int i = 0; i < validItems.size(); i++) {
+            timestamps[i] = validItems.get(i).getTimeStamp();
+            values[i] = validItems.get(i).getValue().doubleValue();
+        }
+        return new SampledSeries(timestamps, values);
+    }
+
+    private List<MetricItem> toMetricItems(SampledSeries series, MetricItem template) {
+        List<MetricItem> metricItems = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            MetricItem metricItem = new MetricItem();
+            metricItem.setLabels(template.getLabels());
+            metricItem.setType(template.getType());
+            metricItem.setTimeStamp(series.timestamps()[i]);
+            metricItem.setValue(series.values()[i]);
+            metricItems.add(metricItem);
+        }
+        return metricItems;
+    }
+}
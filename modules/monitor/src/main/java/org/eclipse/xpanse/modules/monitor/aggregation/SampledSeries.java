@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.aggregation;
+
+/**
+ * Samples of a metric in the order of their timestamps.
+ *
+ * @param timestamps timestamps of the samples in milliseconds.
+ * @param values values of the samples.
+ */
+public record SampledSeries(long[] timestamps, double[] values) {
+
+    /** Constructor method. */
+    public SampledSeries {
+        if (timestamps.length != values.length) {
+            throw new IllegalArgumentException(
+                    "Timestamps and values of a series must have the same length.");
+        }
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+}
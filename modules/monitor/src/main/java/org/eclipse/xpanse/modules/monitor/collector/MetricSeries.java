@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.collector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.MetricItem;
+import org.eclipse.xpanse.modules.models.monitor.enums.MetricItemType;
+
+/**
+ * Samples of one metric of one resource. The samples are kept in a ring buffer of primitive arrays,
+ * so that the memory used by a series is fixed and the oldest samples are overwritten when the
+ * buffer is full. Samples must be added in the order of their timestamps.
+ */
+public class MetricSeries {
+
+    private final long[] timestamps;
+    private final double[] values;
+    private final long collectingSince;
+    private Metric definition;
+    private long lastCollectedAt;
+    private int next;
+    private int size;
+
+    /**
+     * Constructor method.
+     *
+     * @param capacity maximum number of samples kept.
+     * @param collectingSince time in milliseconds from which on the samples are collected.
+     */
+    public MetricSeries(int capacity, long collectingSince) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity of metric series must be greater than 0.");
+        }
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+        this.collectingSince = collectingSince;
+        this.lastCollectedAt = collectingSince;
+    }
+
+    /**
+     * Add the collected metric items to the series. Items which are not newer than the latest
+     * sample are skipped, since collections overlap.
+     *
+     * @param metric collected metric.
+     * @param collectedAt time in milliseconds of the collection.
+     */
+    public synchronized void record(Metric metric, long collectedAt) {
+        this.definition = metric;
+        this.lastCollectedAt = collectedAt;
+        if (Objects.isNull(metric.getMetrics())) {
+            return;
+        }
+        for (MetricItem metricItem : metric.getMetrics()) {
+            if (Objects.nonNull(metricItem.getTimeStamp())
+                    && Objects.nonNull(metricItem.getValue())) {
+                add(metricItem.getTimeStamp(), metricItem.getValue().doubleValue());
+            }
+        }
+    }
+
+    /**
+     * Check if the series has all samples between from and to. Once the buffer is full, the oldest
+     * samples are overwritten, so the series only covers the time from its oldest kept sample on.
+     *
+     * @param from start time in milliseconds.
+     * @param to end time in milliseconds.
+     * @param maxDelayMillis maximum time between the last collection and the end time.
+     * @return true if the series covers the time range.
+     */
+    public synchronized boolean covers(long from, long to, long maxDelayMillis) {
+        long coveredSince =
+                size == timestamps.length ? timestamps[getFirstIndex()] : collectingSince;
+        return coveredSince <= from && lastCollectedAt + maxDelayMillis >= to;
+    }
+
+    /**
+     * Get the metric with its latest sample.
+     *
+     * @return metric with one item, no item if there is no sample.
+     */
+    public synchronized Metric getLastKnownMetric() {
+        List<MetricItem> metricItems = new ArrayList<>();
+        if (size > 0) {
+            int last = (next - 1 + timestamps.length) % timestamps.length;
+            metricItems.add(getMetricItem(timestamps[last], values[last]));
+        }
+        return copyDefinition(metricItems);
+    }
+
+    /**
+     * Get the metric with the samples between from and to.
+     *
+     * @param from start time in milliseconds.
+     * @param to end time in milliseconds.
+     * @return metric with the samples in the time range.
+     */
+    public synchronized Metric getMetric(long from, long to) {
+        List<MetricItem> metricItems = new ArrayList<>();
+        int first = getFirstIndex();
+        for (int i = 0; i < size; i++) {
+            int index = (first + i) % timestamps.length;
+            if (timestamps[index] >= from && timestamps[index] <= to) {
+                metricItems.add(getMetricItem(timestamps[index], values[index]));
+            }
+        }
+        return copyDefinition(metricItems);
+    }
+
+    private int getFirstIndex() {
+        return (next - size + timestamps.length) % timestamps.length;
+    }
+
+    private void add(long timestamp, double value) {
+        if (size > 0) {
+            int last = (next - 1 + timestamps.length) % timestamps.length;
+            if (timestamp <= timestamps[last]) {
+                return;
+            }
+        }
+        timestamps[next] = timestamp;
+        values[next] = value;
+        next = (next + 1) % timestamps.length;
+        if (size < timestamps.length) {
+            size++;
+        }
+    }
+
+    private MetricItem getMetricItem(long timestamp, double value) {
+        MetricItem metricItem = new MetricItem();
+        metricItem.setType(MetricItemType.VALUE);
+        metricItem.setTimeStamp(timestamp);
+        metricItem.setValue(value);
+        return metricItem;
+    }
+
+    private Metric copyDefinition(List<MetricItem> metricItems) {
+        Metric metric = new Metric();
+        if (Objects.nonNull(definition)) {
+            metric.setName(definition.getName());
+            metric.setDescription(definition.getDescription());
+            metric.setType(definition.getType());
+            metric.setMonitorResourceType(definition.getMonitorResourceType());
+            metric.setUnit(definition.getUnit());
+            if (Objects.nonNull(definition.getLabels())) {
+                metric.setLabels(new HashMap<>(definition.getLabels()));
+            }
+        }
+        metric.setMetrics(metricItems);
+        return metric;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.collector;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
+import org.eclipse.xpanse.modules.database.resource.ServiceResourceStorage;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.eclipse.xpanse.modules.models.service.statemanagement.enums.ServiceState;
+import org.eclipse.xpanse.modules.monitor.config.MonitorProperties;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean which collects the metrics of the VM resources of all running services in the background, so
+ * that the metrics API is served from memory instead of calling the monitoring API of the csp for
+ * each request. The number of csp API calls depends on the number of running services and the
+ * collect interval, not on the number of metrics requests. Requests which are not covered by the
+ * collected samples, e.g. for times before the collection of a resource started, are still sent to
+ * the csp.
+ */
+@Slf4j
+@Component
+public class MetricsCollector {
+
+    private final ServiceResourceStorage serviceResourceStorage;
+    private final PluginManager pluginManager;
+    private final MonitorProperties monitorProperties;
+    private final Map<SeriesKey, MetricSeries> metricSeries = new ConcurrentHashMap<>();
+
+    /** Constructor method. */
+    @Autowired
+    public MetricsCollector(
+            ServiceResourceStorage serviceResourceStorage,
+            PluginManager pluginManager,
+            MonitorProperties monitorProperties) {
+        this.serviceResourceStorage = serviceResourceStorage;
+        this.pluginManager = pluginManager;
+        this.monitorProperties = monitorProperties;
+    }
+
+    /**
+     * Check if the metrics are collected in the background.
+     *
+     * @return true if the collector is enabled.
+     */
+    public boolean isCollectorEnabled() {
+        return Boolean.TRUE.equals(monitorProperties.getCollector().getEnabled());
+    }
+
+    /** Collect the metrics of the VM resources of all running services. */
+    @Scheduled(
+            fixedDelayString = "${xpanse.monitor.collector.collect-interval-seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public void collectMetrics() {
+        if (!isCollectorEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<UUID, List<ServiceResourceEntity>> serviceVms = new LinkedHashMap<>();
+        for (ServiceResourceEntity vm :
+                serviceResourceStorage.listServiceResourcesByKindAndServiceState(
+                        DeployResourceKind.VM, ServiceState.RUNNING)) {
+            serviceVms
+                    .computeIfAbsent(
+                            vm.getServiceDeploymentEntity().getId(), id -> new ArrayList<>())
+                    .add(vm);
+        }
+        Set<String> resourceIds = new HashSet<>();
+        serviceVms
+                .values()
+                .forEach(
+                        vms -> {
+                            vms.forEach(vm -> resourceIds.add(vm.getResourceId()));
+                            collectServiceMetrics(vms, now);
+                        });
+        // stop keeping the samples of resources which were destroyed or stopped.
+        metricSeries.keySet().removeIf(key -> !resourceIds.contains(key.resourceId()));
+        log.debug(
+                "Collected metrics of {} resources of {} services, {} series kept.",
+                resourceIds.size(),
+                serviceVms.size(),
+                metricSeries.size());
+    }
+
+    /**
+     * Get the metrics of the resources from the collected samples.
+     *
+     * @param resourceIds ids of the resources.
+     * @param monitorType type of the metrics, null to get all metrics of the resources.
+     * @param from start time in milliseconds, ignored if only the last known metric is requested.
+     * @param to end time in milliseconds, ignored if only the last known metric is requested.
+     * @param onlyLastKnownMetric if only the latest sample of the metrics is requested.
+     * @return list of metrics, null if the collected samples do not cover the request.
+     */
+    public List<Metric> getCollectedMetrics(
+            List<String> resourceIds,
+            MonitorResourceType monitorType,
+            Long from,
+            Long to,
+            boolean onlyLastKnownMetric) {
+        if (!isCollectorEnabled()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        long maxDelayMillis =
+                2L
+                        * TimeUnit.SECONDS.toMillis(
+                                monitorProperties.getCollector().getCollectIntervalSeconds());
+        long rangeFrom = onlyLastKnownMetric || Objects.isNull(from) ? now : from;
+        long rangeTo = onlyLastKnownMetric || Objects.isNull(to) ? now : Math.min(to, now);
+        List<Metric> metrics = new ArrayList<>();
+        for (String resourceId : resourceIds) {
+            List<MetricSeries> resourceSeries = getResourceSeries(resourceId, monitorType);
+            if (resourceSeries.isEmpty()) {
+                return null;
+            }
+            for (MetricSeries series : resourceSeries) {
+                if (!series.covers(rangeFrom, rangeTo, maxDelayMillis)) {
+                    return null;
+                }
+                metrics.add(
+                        onlyLastKnownMetric
+                                ? series.getLastKnownMetric()
+                                : series.getMetric(rangeFrom, rangeTo));
+            }
+        }
+        return metrics;
+    }
+
+    private List<MetricSeries> getResourceSeries(
+            String resourceId, MonitorResourceType monitorType) {
+        List<MetricSeries> resourceSeries = new ArrayList<>();
+        for (MonitorResourceType type : MonitorResourceType.values()) {
+            if (Objects.isNull(monitorType) || monitorType == type) {
+                MetricSeries series = metricSeries.get(new SeriesKey(resourceId, type));
+                if (Objects.nonNull(series)) {
+                    resourceSeries.add(series);
+                }
+            }
+        }
+        return resourceSeries;
+    }
+
+    private void collectServiceMetrics(List<ServiceResourceEntity> vms, long now) {
+        ServiceDeploymentEntity service = vms.getFirst().getServiceDeploymentEntity();
+        long collectIntervalMillis =
+                TimeUnit.SECONDS.toMillis(
+                        monitorProperties.getCollector().getCollectIntervalSeconds());
+        // the time ranges of the collections overlap so that no sample is missed.
+        long from = now - 2 * collectIntervalMillis;
+        ServiceMetricsRequest serviceMetricsRequest =
+                new ServiceMetricsRequest(
+                        service.getId(),
+                        service.getRegion(),
+                        EntityTranslationUtils.transToDeployResources(vms),
+                        null,
+                        from,
+                        now,
+                        null,
+                        false,
+                        service.getUserId());
+        try {
+            List<Metric> metrics =
+                    pluginManager
+                            .getOrchestratorPlugin(service.getCsp())
+                            .getMetricsForService(serviceMetricsRequest);
+            for (Metric metric : metrics) {
+                if (Objects.isNull(metric.getMonitorResourceType())
+                        || Objects.isNull(metric.getLabels())
+                        || Objects.isNull(metric.getLabels().get("id"))) {
+                    continue;
+                }
+                SeriesKey key =
+                        new SeriesKey(
+                                metric.getLabels().get("id"), metric.getMonitorResourceType());
+                metricSeries
+                        .computeIfAbsent(
+                                key,
+                                k ->
+                                        new MetricSeries(
+                                                monitorProperties
+                                                        .getCollector()
+                                                        .getSamplesPerSeries(),
+                                                from))
+                        .record(metric, now);
+            }
+        } catch (Exception e) {
+            log.warn(
+                    "Collecting metrics of service {} failed. Error:{}",
+                    service.getId(),
+                    e.getMessage());
+        }
+    }
+
+    private record SeriesKey(String resourceId, MonitorResourceType monitorResourceType) {}
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.config;
+
+import lombok.Data;
+import org.eclipse.xpanse.modules.monitor.aggregation.AggregationType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Properties class. */
+@Data
+@ConfigurationProperties(prefix = "xpanse.monitor")
+public class MonitorProperties {
+
+    private Collector collector = new Collector();
+    private Aggregation aggregation = new Aggregation();
+
+    /** Properties class. */
+    @Data
+    public static class Collector {
+        private Boolean enabled = false;
+        private Integer collectIntervalSeconds = 60;
+        private Integer samplesPerSeries = 1440;
+    }
+
+    /** Properties class. */
+    @Data
+    public static class Aggregation {
+        private AggregationType bucketFunction = AggregationType.AVG;
+        private Integer maxItemsPerMetric = 500;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Test of MetricSeriesAggregator. */
+class MetricSeriesAggregatorTest {
+
+    private final SampledSeries series =
+            new SampledSeries(
+                    new long[] {1000L, 2000L, 3000L, 4000L, 5000L},
+                    new double[] {1.0, 4.0, 2.0, 8.0, 3.0});
+
+    @Test
+    void testAggregate() {
+        SampledSeries avg = MetricSeriesAggregator.aggregate(series, 2000L, AggregationType.AVG);
+        assertThat(avg.timestamps()).containsExactly(0L, 2000L, 4000L);
+        assertThat(avg.values()).containsExactly(1.0, 3.0, 5.5);
+
+        assertThat(MetricSeriesAggregator.aggregate(series, 2000L, AggregationType.MIN).values())
+                .containsExactly(1.0, 2.0, 3.0);
+        assertThat(MetricSeriesAggregator.aggregate(series, 2000L, AggregationType.MAX).values())
+                .containsExactly(1.0, 4.0, 8.0);
+        assertThat(MetricSeriesAggregator.aggregate(series, 2000L, AggregationType.LAST).values())
+                .containsExactly(1.0, 2.0, 3.0);
+        assertThat(MetricSeriesAggregator.aggregate(series, 0L, AggregationType.AVG))
+                .isSameAs(series);
+    }
+
+    @Test
+    void testLargestTriangleThreeBuckets() {
+        SampledSeries sampled = MetricSeriesAggregator.largestTriangleThreeBuckets(series, 3);
+
+        // first and last samples are kept and the peak is selected from the middle bucket.
+        assertThat(sampled.timestamps()).containsExactly(1000L, 4000L, 5000L);
+        assertThat(sampled.values()).containsExactly(1.0, 8.0, 3.0);
+        assertThat(MetricSeriesAggregator.largestTriangleThreeBuckets(series, 5)).isSameAs(series);
+    }
+
+    @Test
+    void testLargestTriangleThreeBucketsKeepsSize() {
+        int size = 10000;
+        long[] timestamps = new long[size];
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = i * 1000L;
+            values[i] = Math.sin(i / 100.0);
+        }
+
+        SampledSeries sampled =
+                MetricSeriesAggregator.largestTriangleThreeBuckets(
+                        new SampledSeries(timestamps, values), 500);
+
+        assertThat(sampled.size()).isEqualTo(500);
+        assertThat(sampled.timestamps()[0]).isZero();
+        assertThat(sampled.timestamps()[499]).isEqualTo((size - 1) * 1000L);
+        for (int i = 1; i < sampled.size(); i++) {
+            assertThat(sampled.timestamps()[i]).isGreaterThan(sampled.timestamps()[i - 1]);
+        }
+    }
+}
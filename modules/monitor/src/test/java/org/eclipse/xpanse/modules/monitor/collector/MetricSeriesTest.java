@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.MetricItem;
+import org.eclipse.xpanse.modules.models.monitor.enums.MetricItemType;
+import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
+import org.junit.jupiter.api.Test;
+
+/** Test of MetricSeries. */
+class MetricSeriesTest {
+
+    private Metric getMetric(long... timestamps) {
+        Metric metric = new Metric();
+        metric.setName("cpu_usage");
+        metric.setMonitorResourceType(MonitorResourceType.CPU);
+        metric.setLabels(Map.of("id", "resourceId"));
+        metric.setMetrics(
+                Arrays.stream(timestamps)
+                        .mapToObj(
+                                timestamp -> {
+                                    MetricItem metricItem = new MetricItem();
+                                    metricItem.setType(MetricItemType.VALUE);
+                                    metricItem.setTimeStamp(timestamp);
+                                    metricItem.setValue(timestamp / 1000.0);
+                                    return metricItem;
+                                })
+                        .toList());
+        return metric;
+    }
+
+    private List<Long> getTimestamps(Metric metric) {
+        return metric.getMetrics().stream().map(MetricItem::getTimeStamp).toList();
+    }
+
+    @Test
+    void testRecordSkipsOverlappingSamplesAndOverwritesOldest() {
+        MetricSeries metricSeries = new MetricSeries(3, 0L);
+        metricSeries.record(getMetric(1000L, 2000L), 2000L);
+        metricSeries.record(getMetric(2000L, 3000L, 4000L), 4000L);
+
+        Metric metric = metricSeries.getMetric(0L, 4000L);
+
+        assertThat(getTimestamps(metric)).containsExactly(2000L, 3000L, 4000L);
+        assertThat(metric.getName()).isEqualTo("cpu_usage");
+        assertThat(metric.getLabels()).containsEntry("id", "resourceId");
+        assertThat(getTimestamps(metricSeries.getLastKnownMetric())).containsExactly(4000L);
+    }
+
+    @Test
+    void testGetMetricInTimeRange() {
+        MetricSeries metricSeries = new MetricSeries(10, 0L);
+        metricSeries.record(getMetric(1000L, 2000L, 3000L, 4000L), 4000L);
+
+        Metric metric = metricSeries.getMetric(2000L, 3000L);
+
+        assertThat(getTimestamps(metric)).containsExactly(2000L, 3000L);
+        assertThat(metric.getMetrics().getFirst().getValue().doubleValue()).isEqualTo(2.0);
+    }
+
+    @Test
+    void testCovers() {
+        MetricSeries metricSeries = new MetricSeries(10, 1000L);
+        metricSeries.record(getMetric(2000L), 5000L);
+
+        assertThat(metricSeries.covers(1000L, 6000L, 2000L)).isTrue();
+        assertThat(metricSeries.covers(500L, 6000L, 2000L)).isFalse();
+        assertThat(metricSeries.covers(1000L, 8000L, 2000L)).isFalse();
+    }
+
+    @Test
+    void testCoversAfterBufferWrapped() {
+        MetricSeries metricSeries = new MetricSeries(3, 1000L);
+        metricSeries.record(getMetric(1000L, 2000L, 3000L, 4000L, 5000L), 5000L);
+
+        // the samples at 1000 and 2000 were overwritten.
+        assertThat(metricSeries.covers(1000L, 5000L, 1000L)).isFalse();
+        assertThat(metricSeries.covers(2000L, 5000L, 1000L)).isFalse();
+        assertThat(metricSeries.covers(3000L, 5000L, 1000L)).isTrue();
+        assertThat(getTimestamps(metricSeries.getMetric(3000L, 5000L)))
+                .containsExactly(3000L, 4000L, 5000L);
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.audit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean which hands audit logs over to the orchestrator plugins outside of the request threads.
+ * Audit logs are put into a bounded lock-free queue and written in batches per csp by a single
+ * background worker. When the queue is full, new audit logs are dropped and counted instead of
+ * blocking the request. Before the worker is started and after it is stopped, audit logs are
+ * written directly.
+ */
+@Slf4j
+@Component
+public class AuditLogDispatcher implements SmartLifecycle, MeterBinder {
+
+    private static final String WORKER_THREAD_NAME = "xpanse-audit-writer";
+    private static final long STOP_TIMEOUT_MILLIS = 5000L;
+
+    private final PluginManager pluginManager;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Queue<AuditLog> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong publishedLogs = new AtomicLong();
+    private final AtomicLong droppedLogs = new AtomicLong();
+    private final AtomicLong writtenLogs = new AtomicLong();
+    private final AtomicLong failedLogs = new AtomicLong();
+    private final Object drainLock = new Object();
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    /** Constructor method. */
+    @Autowired
+    public AuditLogDispatcher(
+            PluginManager pluginManager, OrchestratorProperties orchestratorProperties) {
+        OrchestratorProperties.Audit audit = orchestratorProperties.getAudit();
+        if (audit.getQueueCapacity() <= 0 || audit.getBatchSize() <= 0) {
+            throw new IllegalArgumentException(
+                    "Audit queue capacity and batch size must be greater than 0.");
+        }
+        this.pluginManager = pluginManager;
+        this.queueCapacity = audit.getQueueCapacity();
+        this.batchSize = audit.getBatchSize();
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(audit.getFlushIntervalMillis());
+    }
+
+    /**
+     * Publish the audit log to be written by the orchestrator plugin of its csp.
+     *
+     * @param auditLog audit log of the API request.
+     * @return false if the audit log was dropped because the queue is full.
+     */
+    public boolean publish(AuditLog auditLog) {
+        if (!running) {
+            publishedLogs.incrementAndGet();
+            writeBatch(List.of(auditLog));
+            return true;
+        }
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            droppedLogs.incrementAndGet();
+            log.warn(
+                    "Audit log queue is full. Dropped audit log of method {}.",
+                    auditLog.getMethodName());
+            return false;
+        }
+        queue.add(auditLog);
+        publishedLogs.incrementAndGet();
+        if (!running) {
+            // the worker was stopped after the check above.
+            flushQueue();
+        } else if (queueSize.get() >= batchSize) {
+            // wake up the worker as soon as a full batch is available.
+            LockSupport.unpark(worker);
+        }
+        return true;
+    }
+
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getPublishedLogCount() {
+        return publishedLogs.get();
+    }
+
+    public long getDroppedLogCount() {
+        return droppedLogs.get();
+    }
+
+    public long getWrittenLogCount() {
+        return writtenLogs.get();
+    }
+
+    public long getFailedLogCount() {
+        return failedLogs.get();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().daemon().name(WORKER_THREAD_NAME).start(this::processQueue);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread stoppedWorker = worker;
+        LockSupport.unpark(stoppedWorker);
+        try {
+            stoppedWorker.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // audit logs published while the worker was stopping.
+        flushQueue();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("xpanse.audit.queue.size", this, AuditLogDispatcher::getQueueSize)
+                .description("Number of audit logs waiting to be written.")
+                .register(registry);
+        Gauge.builder("xpanse.audit.queue.capacity", this, AuditLogDispatcher::getQueueCapacity)
+                .description("Maximum number of audit logs waiting to be written.")
+                .register(registry);
+        FunctionCounter.builder(
+                        "xpanse.audit.published", this, AuditLogDispatcher::getPublishedLogCount)
+                .description("Number of audit logs accepted to be written.")
+                .register(registry);
+        FunctionCounter.builder(
+                        "xpanse.audit.dropped", this, AuditLogDispatcher::getDroppedLogCount)
+                .description("Number of audit logs dropped because the queue was full.")
+                .register(registry);
+        FunctionCounter.builder(
+                        "xpanse.audit.written", this, AuditLogDispatcher::getWrittenLogCount)
+                .description("Number of audit logs written by the orchestrator plugins.")
+                .register(registry);
+        FunctionCounter.builder("xpanse.audit.failed", this, AuditLogDispatcher::getFailedLogCount)
+                .description("Number of audit logs the orchestrator plugins failed to write.")
+                .register(registry);
+    }
+
+    private void processQueue() {
+        while (running) {
+            if (drainBatch() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        flushQueue();
+    }
+
+    private void flushQueue() {
+        while (drainBatch() > 0) {
+            log.debug("Flushed audit logs of the stopped audit log dispatcher.");
+        }
+    }
+
+    private int drainBatch() {
+        // only the worker drains the queue, except for the final flush when it is stopped.
+        synchronized (drainLock) {
+            List<AuditLog> batch = new ArrayList<>(Math.min(batchSize, queueSize.get()));
+            AuditLog auditLog;
+            while (batch.size() < batchSize && Objects.nonNull(auditLog = queue.poll())) {
+                batch.add(auditLog);
+            }
+            queueSize.addAndGet(-batch.size());
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+            }
+            return batch.size();
+        }
+    }
+
+    private void writeBatch(List<AuditLog> batch) {
+        Map<Csp, List<AuditLog>> auditLogsByCsp =
+                batch.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        AuditLog::getCsp, LinkedHashMap::new, Collectors.toList()));
+        auditLogsByCsp.forEach(
+                (csp, auditLogs) -> {
+                    try {
+                        pluginManager.getOrchestratorPlugin(csp).auditApiRequests(auditLogs);
+                        writtenLogs.addAndGet(auditLogs.size());
+                    } catch (RuntimeException e) {
+                        failedLogs.addAndGet(auditLogs.size());
+                        log.error(
+                                "Failed to write {} audit logs of csp {}.",
+                                auditLogs.size(),
+                                csp,
+                                e);
+                    }
+                });
+    }
+}
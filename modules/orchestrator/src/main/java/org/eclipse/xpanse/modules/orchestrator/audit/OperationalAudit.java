@@ -6,10 +6,20 @@
 package org.eclipse.xpanse.modules.orchestrator.audit;
 
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
 
 /** The interface for the Operational Audit. */
 public interface OperationalAudit {
 
     /** Audit all API requests of the POST, PUT, and DELETE methods. */
     void auditApiRequest(@NotNull AuditLog auditLog);
+
+    /**
+     * Audit a batch of API requests. Plugins can override it to write the batch at once.
+     *
+     * @param auditLogs audit logs of the API requests in the order they were received.
+     */
+    default void auditApiRequests(@NotNull List<AuditLog> auditLogs) {
+        auditLogs.forEach(this::auditApiRequest);
+    }
 }
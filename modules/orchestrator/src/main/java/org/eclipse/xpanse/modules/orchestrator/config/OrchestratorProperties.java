@@ -15,4 +15,50 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class OrchestratorProperties {
 
     private List<String> notSupportedEnvValues;
+    private Audit audit = new Audit();
+    private Metrics metrics = new Metrics();
+    private ClientPool clientPool = new ClientPool();
+    private TokenCache tokenCache = new TokenCache();
+    private JobTracker jobTracker = new JobTracker();
+
+    /** Properties class. */
+    @Data
+    public static class Audit {
+        private Integer queueCapacity = 10000;
+        private Integer batchSize = 200;
+        private Long flushIntervalMillis = 1000L;
+    }
+
+    /** Properties class. */
+    @Data
+    public static class Metrics {
+        private Integer maxConcurrentRequestsPerCsp = 8;
+    }
+
+    /** Properties class. */
+    @Data
+    public static class ClientPool {
+        private Boolean enabled = true;
+        private Integer maximumSize = 200;
+        private Integer expireAfterAccessMinutes = 30;
+    }
+
+    /** Properties class. */
+    @Data
+    public static class TokenCache {
+        private Boolean enabled = true;
+        private Integer maximumSize = 100;
+        private Integer renewBeforeExpirySeconds = 300;
+    }
+
+    /** Properties class. */
+    @Data
+    public static class JobTracker {
+        private Long pollIntervalMillis = 200L;
+        private Long initialPollDelayMillis = 500L;
+        private Long maxPollDelayMillis = 30000L;
+        private Long timeoutSeconds = 900L;
+        private Integer maxConcurrentPolls = 50;
+        private Integer maxPollFailures = 5;
+    }
 }
@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.credential;
+
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+
+/**
+ * Key of a pooled client of a cloud service.
+ *
+ * @param csp cloud service provider of the client.
+ * @param credentialFingerprint fingerprint of the credential used by the client.
+ * @param region region of the service endpoint.
+ * @param service name of the cloud service.
+ */
+public record CspClientKey(Csp csp, String credentialFingerprint, String region, String service) {
+
+    @Override
+    public String toString() {
+        // the fingerprint is not logged.
+        return csp.toValue() + "/" + region + "/" + service;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.credential;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to reuse the clients of the csp SDKs. Each SDK client owns its own HTTP connection pool, so
+ * building a new client for each call opens new connections with a new TLS handshake. The clients
+ * are kept per credential, region and service, up to the configured maximum number of clients and
+ * until they are not used for the configured time. When a credential of a csp is updated or
+ * deleted, all pooled clients of the csp are removed.
+ */
+@Slf4j
+@Component
+public class CspClientPool implements MeterBinder {
+
+    private final OrchestratorProperties.ClientPool clientPoolProperties;
+    private final Cache<CspClientKey, Object> clients;
+
+    /** Constructor method. */
+    @Autowired
+    public CspClientPool(OrchestratorProperties orchestratorProperties) {
+        this.clientPoolProperties = orchestratorProperties.getClientPool();
+        this.clients =
+                Caffeine.newBuilder()
+                        .maximumSize(clientPoolProperties.getMaximumSize())
+                        .expireAfterAccess(
+                                Duration.ofMinutes(
+                                        clientPoolProperties.getExpireAfterAccessMinutes()))
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Get the pooled client of the key, or build and pool a new client.
+     *
+     * @param key key of the client.
+     * @param clientType type of the client.
+     * @param clientBuilder builds a new client for the key.
+     * @return client of the key.
+     */
+    public <C> C getClient(CspClientKey key, Class<C> clientType, Supplier<C> clientBuilder) {
+        if (!Boolean.TRUE.equals(clientPoolProperties.getEnabled())) {
+            return clientBuilder.get();
+        }
+        return clientType.cast(
+                clients.get(
+                        key,
+                        k -> {
+                            log.debug("Building new {} client for {}.", clientType.getName(), k);
+                            return clientBuilder.get();
+                        }));
+    }
+
+    /**
+     * Remove the pooled client of the key, if it is still the given client.
+     *
+     * @param key key of the client.
+     * @param client client to remove.
+     */
+    public void invalidateClient(CspClientKey key, Object client) {
+        clients.asMap().remove(key, client);
+    }
+
+    /**
+     * Remove all pooled clients of the csp, e.g. after a credential of the csp was changed.
+     *
+     * @param csp cloud service provider.
+     */
+    public void invalidateClients(Csp csp) {
+        if (clients.asMap().keySet().removeIf(key -> key.csp() == csp)) {
+            log.info("Removed pooled clients of csp {}.", csp.toValue());
+        }
+    }
+
+    /**
+     * Get the fingerprint of the values of a credential, so that the secrets are not kept in the
+     * keys of the pool.
+     *
+     * @param credentialValues values of the credential.
+     * @return fingerprint of the credential.
+     */
+    public String getCredentialFingerprint(String... credentialValues) {
+        return computeCredentialFingerprint(credentialValues);
+    }
+
+    static String computeCredentialFingerprint(String... credentialValues) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : credentialValues) {
+                digest.update(Objects.toString(value, "").getBytes(StandardCharsets.UTF_8));
+                // separate the values, so that moved characters change the fingerprint.
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Computing fingerprint of the credential failed.", e);
+        }
+    }
+
+    public long getPooledClientsCount() {
+        return clients.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, clients, "xpanse.csp.client.pool");
+    }
+}
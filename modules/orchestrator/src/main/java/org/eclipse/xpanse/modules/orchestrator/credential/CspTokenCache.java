@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.credential;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to reuse the authentication tokens of the csp identity services, so that only one
+ * authentication is sent per token lifetime instead of one per API call. The tokens are kept apart
+ * from the {@link CspClientPool}, as they expire with their own lifetime instead of when they are
+ * not used. A token is removed the configured time before it expires, so that it is renewed before
+ * a call is rejected with it. When a credential of a csp is updated or deleted, all tokens of the
+ * csp are removed.
+ */
+@Slf4j
+@Component
+public class CspTokenCache implements MeterBinder {
+
+    private final OrchestratorProperties.TokenCache tokenCacheProperties;
+    private final Cache<CspTokenKey, CachedToken> tokens;
+
+    /** Constructor method. */
+    @Autowired
+    public CspTokenCache(OrchestratorProperties orchestratorProperties) {
+        this.tokenCacheProperties = orchestratorProperties.getTokenCache();
+        this.tokens =
+                Caffeine.newBuilder()
+                        .maximumSize(tokenCacheProperties.getMaximumSize())
+                        .expireAfter(
+                                Expiry.creating(
+                                        (CspTokenKey key, CachedToken cachedToken) ->
+                                                getTimeToLive(cachedToken)))
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Get the cached token of the key, or load and cache a new token.
+     *
+     * @param key key of the token.
+     * @param tokenType type of the token.
+     * @param tokenLoader authenticates at the identity service and returns a new token.
+     * @param expiresAt returns the time when the token expires, null if it is unknown.
+     * @return token of the key.
+     */
+    public <T> T getToken(
+            CspTokenKey key,
+            Class<T> tokenType,
+            Supplier<T> tokenLoader,
+            Function<T, Instant> expiresAt) {
+        if (!Boolean.TRUE.equals(tokenCacheProperties.getEnabled())) {
+            return tokenLoader.get();
+        }
+        return tokenType.cast(
+                tokens.get(
+                                key,
+                                k -> {
+                                    log.debug("Loading new {} token for {}.", tokenType, k);
+                                    T token = tokenLoader.get();
+                                    return new CachedToken(token, expiresAt.apply(token));
+                                })
+                        .token());
+    }
+
+    /**
+     * Remove all cached tokens of the csp, e.g. after a credential of the csp was changed.
+     *
+     * @param csp cloud service provider.
+     */
+    public void invalidateTokens(Csp csp) {
+        if (tokens.asMap().keySet().removeIf(key -> key.csp() == csp)) {
+            log.info("Removed cached tokens of csp {}.", csp.toValue());
+        }
+    }
+
+    /**
+     * Get the fingerprint of the values of a credential, so that the secrets are not kept in the
+     * keys of the cache.
+     *
+     * @param credentialValues values of the credential.
+     * @return fingerprint of the credential.
+     */
+    public String getCredentialFingerprint(String... credentialValues) {
+        return CspClientPool.computeCredentialFingerprint(credentialValues);
+    }
+
+    public long getCachedTokensCount() {
+        return tokens.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tokens, "xpanse.csp.token.cache");
+    }
+
+    private Duration getTimeToLive(CachedToken cachedToken) {
+        if (Objects.isNull(cachedToken.expiresAt())) {
+            return Duration.ZERO;
+        }
+        Duration timeToLive =
+                Duration.between(Instant.now(), cachedToken.expiresAt())
+                        .minusSeconds(tokenCacheProperties.getRenewBeforeExpirySeconds());
+        return timeToLive.isNegative() ? Duration.ZERO : timeToLive;
+    }
+
+    private record CachedToken(Object token, Instant expiresAt) {}
+}
@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.credential;
+
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+
+/**
+ * Key of a cached authentication token of a cloud provider.
+ *
+ * @param csp cloud service provider of the token.
+ * @param credentialFingerprint fingerprint of the credential and the scope of the token.
+ * @param authUrl url of the identity service which issued the token.
+ */
+public record CspTokenKey(Csp csp, String credentialFingerprint, String authUrl) {
+
+    @Override
+    public String toString() {
+        // the fingerprint is not logged.
+        return csp.toValue() + "/" + authUrl;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.monitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
+import org.eclipse.xpanse.modules.models.monitor.exceptions.MetricsDataNotYetAvailableException;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean used by the {@link ServiceMetricsExporter} implementations to query the metrics of the
+ * resources of a service in parallel when the csp API has no batch query for them. Each query runs
+ * on its own virtual thread, and the number of queries running at the same time against one csp is
+ * limited. Queries which fail are skipped so that the metrics of the other resources are still
+ * returned. Only when all queries fail, the first failure is thrown.
+ */
+@Slf4j
+@Component
+public class MetricsFanOutExecutor implements DisposableBean {
+
+    private final int maxConcurrentRequestsPerCsp;
+    private final Map<Csp, Semaphore> cspPermits = new ConcurrentHashMap<>();
+    private final ExecutorService executorService =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("xpanse-metrics-", 0).factory());
+
+    /** Constructor method. */
+    @Autowired
+    public MetricsFanOutExecutor(OrchestratorProperties orchestratorProperties) {
+        this.maxConcurrentRequestsPerCsp =
+                orchestratorProperties.getMetrics().getMaxConcurrentRequestsPerCsp();
+        if (maxConcurrentRequestsPerCsp <= 0) {
+            throw new IllegalArgumentException(
+                    "Max concurrent metrics requests per csp must be greater than 0.");
+        }
+    }
+
+    /**
+     * Run the query for each input in parallel.
+     *
+     * @param csp csp the queries are sent to.
+     * @param inputs inputs of the queries, e.g. the resources of the service.
+     * @param query query to run for one input.
+     * @return results of the successful queries in the order of the inputs.
+     */
+    public <T, R> List<R> queryAll(Csp csp, List<T> inputs, Function<T, R> query) {
+        if (inputs.size() <= 1) {
+            return inputs.stream().map(query).toList();
+        }
+        Semaphore permits =
+                cspPermits.computeIfAbsent(csp, c -> new Semaphore(maxConcurrentRequestsPerCsp));
+        Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        List<Future<R>> futures = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            futures.add(
+                    executorService.submit(
+                            () -> {
+                                if (Objects.nonNull(contextMap)) {
+                                    MDC.setContextMap(contextMap);
+                                }
+                                permits.acquire();
+                                try {
+                                    return query.apply(input);
+                                } finally {
+                                    permits.release();
+                                    MDC.clear();
+                                }
+                            }));
+        }
+        return collectResults(csp, futures);
+    }
+
+    private <R> List<R> collectResults(Csp csp, List<Future<R>> futures) {
+        List<R> results = new ArrayList<>(futures.size());
+        Throwable firstFailure = null;
+        int failedQueries = 0;
+        for (Future<R> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                failedQueries++;
+                if (Objects.isNull(firstFailure)) {
+                    firstFailure = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new ClientApiCallFailedException("Querying metrics was interrupted.");
+            }
+        }
+        if (failedQueries == futures.size()) {
+            throwQueryFailure(firstFailure);
+        }
+        if (failedQueries > 0) {
+            log.warn(
+                    "{} of {} metrics queries to csp {} failed. Returning partial results."
+                            + " Error:{}",
+                    failedQueries,
+                    futures.size(),
+                    csp.toValue(),
+                    firstFailure.getMessage());
+        }
+        return results;
+    }
+
+    private void throwQueryFailure(Throwable failure) {
+        if (failure instanceof MetricsDataNotYetAvailableException notYetAvailableException) {
+            throw notYetAvailableException;
+        }
+        if (failure instanceof ClientApiCallFailedException clientApiCallFailedException) {
+            throw clientApiCallFailedException;
+        }
+        throw new ClientApiCallFailedException(failure.getMessage());
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+}
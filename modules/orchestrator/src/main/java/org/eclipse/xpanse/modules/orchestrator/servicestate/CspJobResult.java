@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.servicestate;
+
+/**
+ * Result of one poll of an asynchronous job of the csp.
+ *
+ * @param status status of the job.
+ * @param message reason of the failure, null if the job has not failed.
+ */
+public record CspJobResult(CspJobStatus status, String message) {
+
+    public static CspJobResult running() {
+        return new CspJobResult(CspJobStatus.RUNNING, null);
+    }
+
+    public static CspJobResult succeeded() {
+        return new CspJobResult(CspJobStatus.SUCCEEDED, null);
+    }
+
+    public static CspJobResult failed(String message) {
+        return new CspJobResult(CspJobStatus.FAILED, message);
+    }
+}
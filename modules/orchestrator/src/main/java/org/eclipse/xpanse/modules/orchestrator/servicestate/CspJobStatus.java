@@ -0,0 +1,14 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.servicestate;
+
+/** Status of an asynchronous job of the csp. */
+public enum CspJobStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.servicestate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean used by the plugins to wait for the asynchronous jobs of the csp, e.g. to start or stop
+ * servers, without holding a thread per job. A single scheduler thread checks the tracked jobs in
+ * rounds and polls all jobs which are due in parallel on virtual threads. The delay between two
+ * polls of the same job doubles up to the configured maximum, so that long-running jobs cost fewer
+ * requests. The future returned for a job is completed with true when the job succeeds, and
+ * completed exceptionally when the job fails, its status cannot be polled or it does not complete
+ * in time.
+ */
+@Slf4j
+@Component
+public class CspJobTracker implements DisposableBean, MeterBinder {
+
+    private final OrchestratorProperties.JobTracker jobTrackerProperties;
+    private final Set<TrackedJob> trackedJobs = ConcurrentHashMap.newKeySet();
+    private final Semaphore pollPermits;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("xpanse-job-tracker").daemon(true).factory());
+    private final ExecutorService pollExecutor =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("xpanse-job-poll-", 0).factory());
+
+    /** Constructor method. */
+    @Autowired
+    public CspJobTracker(OrchestratorProperties orchestratorProperties) {
+        this.jobTrackerProperties = orchestratorProperties.getJobTracker();
+        if (jobTrackerProperties.getPollIntervalMillis() <= 0
+                || jobTrackerProperties.getInitialPollDelayMillis() <= 0
+                || jobTrackerProperties.getMaxConcurrentPolls() <= 0) {
+            throw new IllegalArgumentException(
+                    "Poll interval, initial poll delay and max concurrent polls of the job tracker"
+                            + " must be greater than 0.");
+        }
+        this.pollPermits = new Semaphore(jobTrackerProperties.getMaxConcurrentPolls());
+        scheduler.scheduleWithFixedDelay(
+                this::pollDueJobs,
+                jobTrackerProperties.getPollIntervalMillis(),
+                jobTrackerProperties.getPollIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Track the job of the csp until it is completed.
+     *
+     * @param csp csp which runs the job.
+     * @param jobId id of the job.
+     * @param jobResultPoller function to poll the current result of the job.
+     * @return future completed when the job is completed.
+     */
+    public CompletableFuture<Boolean> track(
+            Csp csp, String jobId, Supplier<CspJobResult> jobResultPoller) {
+        long now = System.nanoTime();
+        TrackedJob trackedJob =
+                new TrackedJob(
+                        csp,
+                        jobId,
+                        jobResultPoller,
+                        now
+                                + Duration.ofSeconds(jobTrackerProperties.getTimeoutSeconds())
+                                        .toNanos());
+        trackedJob.nextPollAt =
+                now + Duration.ofMillis(jobTrackerProperties.getInitialPollDelayMillis()).toNanos();
+        trackedJobs.add(trackedJob);
+        log.debug("Tracking job {} of csp {}.", jobId, csp.toValue());
+        return trackedJob.future;
+    }
+
+    public int getTrackedJobsCount() {
+        return trackedJobs.size();
+    }
+
+    /** Poll the jobs which are due. Jobs over the concurrency limit are polled in next round. */
+    private void pollDueJobs() {
+        long now = System.nanoTime();
+        for (TrackedJob trackedJob : trackedJobs) {
+            if (trackedJob.polling || trackedJob.nextPollAt - now > 0) {
+                continue;
+            }
+            if (!pollPermits.tryAcquire()) {
+                return;
+            }
+            trackedJob.polling = true;
+            pollExecutor.execute(
+                    () -> {
+                        try {
+                            poll(trackedJob);
+                        } finally {
+                            trackedJob.polling = false;
+                            pollPermits.release();
+                        }
+                    });
+        }
+    }
+
+    private void poll(TrackedJob trackedJob) {
+        CspJobResult jobResult;
+        try {
+            jobResult = trackedJob.jobResultPoller.get();
+            trackedJob.pollFailures = 0;
+        } catch (Exception e) {
+            trackedJob.pollFailures++;
+            log.warn(
+                    "Polling job {} of csp {} failed {} times. {}",
+                    trackedJob.jobId,
+                    trackedJob.csp.toValue(),
+                    trackedJob.pollFailures,
+                    e.getMessage());
+            if (trackedJob.pollFailures >= jobTrackerProperties.getMaxPollFailures()) {
+                fail(trackedJob, e.getMessage());
+            } else {
+                scheduleNextPoll(trackedJob);
+            }
+            return;
+        }
+        if (Objects.isNull(jobResult) || jobResult.status() == CspJobStatus.RUNNING) {
+            scheduleNextPoll(trackedJob);
+        } else if (jobResult.status() == CspJobStatus.SUCCEEDED) {
+            trackedJobs.remove(trackedJob);
+            log.debug("Job {} of csp {} succeeded.", trackedJob.jobId, trackedJob.csp.toValue());
+            trackedJob.future.complete(true);
+        } else {
+            fail(trackedJob, jobResult.message());
+        }
+    }
+
+    private void scheduleNextPoll(TrackedJob trackedJob) {
+        long now = System.nanoTime();
+        if (now - trackedJob.deadline >= 0) {
+            fail(
+                    trackedJob,
+                    String.format(
+                            "Job %s has not completed in %d seconds.",
+                            trackedJob.jobId, jobTrackerProperties.getTimeoutSeconds()));
+            return;
+        }
+        trackedJob.polls++;
+        long delayMillis =
+                Math.min(
+                        jobTrackerProperties.getInitialPollDelayMillis()
+                                << Math.min(trackedJob.polls, 20),
+                        jobTrackerProperties.getMaxPollDelayMillis());
+        trackedJob.nextPollAt = now + Duration.ofMillis(delayMillis).toNanos();
+    }
+
+    private void fail(TrackedJob trackedJob, String errorMsg) {
+        trackedJobs.remove(trackedJob);
+        log.error(
+                "Job {} of csp {} failed. {}",
+                trackedJob.jobId,
+                trackedJob.csp.toValue(),
+                errorMsg);
+        trackedJob.future.completeExceptionally(new ClientApiCallFailedException(errorMsg));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("xpanse.csp.jobs.tracked", this, CspJobTracker::getTrackedJobsCount)
+                .description("Number of csp jobs waiting to be completed.")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        pollExecutor.shutdownNow();
+    }
+
+    /** Job which is tracked until it is completed. Only one poll of a job runs at a time. */
+    private static class TrackedJob {
+
+        private final Csp csp;
+        private final String jobId;
+        private final Supplier<CspJobResult> jobResultPoller;
+        private final long deadline;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        private volatile boolean polling;
+        private volatile long nextPollAt;
+        private int polls;
+        private int pollFailures;
+
+        TrackedJob(Csp csp, String jobId, Supplier<CspJobResult> jobResultPoller, long deadline) {
+            this.csp = csp;
+            this.jobId = jobId;
+            this.jobResultPoller = jobResultPoller;
+            this.deadline = deadline;
+        }
+    }
+}
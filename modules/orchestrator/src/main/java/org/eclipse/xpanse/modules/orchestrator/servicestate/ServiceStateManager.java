@@ -6,6 +6,9 @@
 
 package org.eclipse.xpanse.modules.orchestrator.servicestate;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
 /** Service management interface. */
 public interface ServiceStateManager {
 
@@ -14,4 +17,49 @@ public interface ServiceStateManager {
     boolean stopService(ServiceStateManageRequest serviceStateManageRequest);
 
     boolean restartService(ServiceStateManageRequest serviceStateManageRequest);
+
+    /**
+     * Start the service without waiting for the csp to complete the action. Plugins which submit
+     * the action as a job of the csp complete the returned future when the job is done, the default
+     * implementation calls {@link #startService(ServiceStateManageRequest)}.
+     *
+     * @param serviceStateManageRequest service state manage request.
+     * @return future completed with the result of the action.
+     */
+    default CompletableFuture<Boolean> startServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        return callSynchronously(this::startService, serviceStateManageRequest);
+    }
+
+    /**
+     * Stop the service without waiting for the csp to complete the action.
+     *
+     * @param serviceStateManageRequest service state manage request.
+     * @return future completed with the result of the action.
+     */
+    default CompletableFuture<Boolean> stopServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        return callSynchronously(this::stopService, serviceStateManageRequest);
+    }
+
+    /**
+     * Restart the service without waiting for the csp to complete the action.
+     *
+     * @param serviceStateManageRequest service state manage request.
+     * @return future completed with the result of the action.
+     */
+    default CompletableFuture<Boolean> restartServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        return callSynchronously(this::restartService, serviceStateManageRequest);
+    }
+
+    private static CompletableFuture<Boolean> callSynchronously(
+            Predicate<ServiceStateManageRequest> action,
+            ServiceStateManageRequest serviceStateManageRequest) {
+        try {
+            return CompletableFuture.completedFuture(action.test(serviceStateManageRequest));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
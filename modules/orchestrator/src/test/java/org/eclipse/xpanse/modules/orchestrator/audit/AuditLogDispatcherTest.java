@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Test of AuditLogDispatcher. */
+@ExtendWith(MockitoExtension.class)
+class AuditLogDispatcherTest {
+
+    @Mock private PluginManager pluginManager;
+    @Mock private OrchestratorPlugin orchestratorPlugin;
+    private AuditLogDispatcher auditLogDispatcher;
+
+    @AfterEach
+    void tearDown() {
+        auditLogDispatcher.stop();
+    }
+
+    private AuditLogDispatcher createDispatcher(int queueCapacity, int batchSize) {
+        OrchestratorProperties orchestratorProperties = new OrchestratorProperties();
+        orchestratorProperties.getAudit().setQueueCapacity(queueCapacity);
+        orchestratorProperties.getAudit().setBatchSize(batchSize);
+        orchestratorProperties.getAudit().setFlushIntervalMillis(10L);
+        return new AuditLogDispatcher(pluginManager, orchestratorProperties);
+    }
+
+    private AuditLog getAuditLog(String methodName) {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setMethodName(methodName);
+        auditLog.setCsp(Csp.HUAWEI_CLOUD);
+        return auditLog;
+    }
+
+    @Test
+    void testPublishWritesDirectlyWhenNotStarted() {
+        when(pluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD)).thenReturn(orchestratorPlugin);
+        auditLogDispatcher = createDispatcher(10, 5);
+        AuditLog auditLog = getAuditLog("method");
+
+        assertTrue(auditLogDispatcher.publish(auditLog));
+
+        verify(orchestratorPlugin).auditApiRequests(List.of(auditLog));
+        assertEquals(1, auditLogDispatcher.getWrittenLogCount());
+    }
+
+    @Test
+    void testPublishWritesInBatchesOnWorker() throws InterruptedException {
+        List<List<AuditLog>> batches = new CopyOnWriteArrayList<>();
+        List<String> threadNames = new CopyOnWriteArrayList<>();
+        CountDownLatch written = new CountDownLatch(5);
+        when(pluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD)).thenReturn(orchestratorPlugin);
+        doAnswer(
+                        invocation -> {
+                            List<AuditLog> batch = invocation.getArgument(0);
+                            batches.add(batch);
+                            threadNames.add(Thread.currentThread().getName());
+                            batch.forEach(auditLog -> written.countDown());
+                            return null;
+                        })
+                .when(orchestratorPlugin)
+                .auditApiRequests(anyList());
+        auditLogDispatcher = createDispatcher(10, 2);
+        auditLogDispatcher.start();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(auditLogDispatcher.publish(getAuditLog("method" + i)));
+        }
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 2));
+        assertTrue(threadNames.stream().allMatch("xpanse-audit-writer"::equals));
+        assertEquals(
+                List.of("method0", "method1", "method2", "method3", "method4"),
+                batches.stream().flatMap(List::stream).map(AuditLog::getMethodName).toList());
+    }
+
+    @Test
+    void testPublishDropsAuditLogsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch workerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWorker = new CountDownLatch(1);
+        when(pluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD)).thenReturn(orchestratorPlugin);
+        doAnswer(
+                        invocation -> {
+                            workerBlocked.countDown();
+                            releaseWorker.await();
+                            return null;
+                        })
+                .when(orchestratorPlugin)
+                .auditApiRequests(anyList());
+        auditLogDispatcher = createDispatcher(2, 1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        auditLogDispatcher.bindTo(meterRegistry);
+        auditLogDispatcher.start();
+
+        assertTrue(auditLogDispatcher.publish(getAuditLog("method0")));
+        assertTrue(workerBlocked.await(5, TimeUnit.SECONDS));
+        assertTrue(auditLogDispatcher.publish(getAuditLog("method1")));
+        assertTrue(auditLogDispatcher.publish(getAuditLog("method2")));
+        assertFalse(auditLogDispatcher.publish(getAuditLog("method3")));
+
+        assertEquals(1, auditLogDispatcher.getDroppedLogCount());
+        assertEquals(1.0, meterRegistry.get("xpanse.audit.dropped").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("xpanse.audit.queue.size").gauge().value());
+        releaseWorker.countDown();
+        auditLogDispatcher.stop();
+        assertEquals(3, auditLogDispatcher.getWrittenLogCount());
+        assertEquals(0, auditLogDispatcher.getQueueSize());
+    }
+}
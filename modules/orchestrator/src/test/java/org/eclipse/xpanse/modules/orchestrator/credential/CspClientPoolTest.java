@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.credential;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test of CspClientPool. */
+class CspClientPoolTest {
+
+    private final AtomicInteger builtClients = new AtomicInteger();
+    private OrchestratorProperties orchestratorProperties;
+    private CspClientPool cspClientPool;
+
+    @BeforeEach
+    void setUp() {
+        orchestratorProperties = new OrchestratorProperties();
+        cspClientPool = new CspClientPool(orchestratorProperties);
+    }
+
+    private CspClientKey getKey(Csp csp, String accessKey, String service) {
+        return new CspClientKey(
+                csp,
+                cspClientPool.getCredentialFingerprint(accessKey, "secretKey"),
+                "cn-southwest-2",
+                service);
+    }
+
+    private String buildClient() {
+        return "client-" + builtClients.incrementAndGet();
+    }
+
+    @Test
+    void testGetClientReusesPooledClient() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cspClientPool.bindTo(meterRegistry);
+
+        String client =
+                cspClientPool.getClient(
+                        getKey(Csp.HUAWEI_CLOUD, "ak", "ecs"), String.class, this::buildClient);
+        String sameClient =
+                cspClientPool.getClient(
+                        getKey(Csp.HUAWEI_CLOUD, "ak", "ecs"), String.class, this::buildClient);
+        String otherServiceClient =
+                cspClientPool.getClient(
+                        getKey(Csp.HUAWEI_CLOUD, "ak", "ces"), String.class, this::buildClient);
+        String otherCredentialClient =
+                cspClientPool.getClient(
+                        getKey(Csp.HUAWEI_CLOUD, "ak2", "ecs"), String.class, this::buildClient);
+
+        assertThat(sameClient).isSameAs(client);
+        assertThat(otherServiceClient).isNotEqualTo(client);
+        assertThat(otherCredentialClient).isNotEqualTo(client);
+        assertThat(builtClients.get()).isEqualTo(3);
+        assertThat(cspClientPool.getPooledClientsCount()).isEqualTo(3);
+        assertThat(
+                        meterRegistry
+                                .get("cache.gets")
+                                .tag("cache", "xpanse.csp.client.pool")
+                                .tag("result", "hit")
+                                .functionCounter()
+                                .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void testInvalidateClientsOfCsp() {
+        cspClientPool.getClient(
+                getKey(Csp.HUAWEI_CLOUD, "ak", "ecs"), String.class, this::buildClient);
+        cspClientPool.getClient(
+                getKey(Csp.FLEXIBLE_ENGINE, "ak", "ecs"), String.class, this::buildClient);
+
+        cspClientPool.invalidateClients(Csp.HUAWEI_CLOUD);
+
+        assertThat(
+                        cspClientPool.getClient(
+                                getKey(Csp.HUAWEI_CLOUD, "ak", "ecs"),
+                                String.class,
+                                this::buildClient))
+                .isEqualTo("client-3");
+        assertThat(
+                        cspClientPool.getClient(
+                                getKey(Csp.FLEXIBLE_ENGINE, "ak", "ecs"),
+                                String.class,
+                                this::buildClient))
+                .isEqualTo("client-2");
+    }
+
+    @Test
+    void testGetClientWhenPoolDisabled() {
+        orchestratorProperties.getClientPool().setEnabled(false);
+
+        cspClientPool.getClient(
+                getKey(Csp.HUAWEI_CLOUD, "ak", "ecs"), String.class, this::buildClient);
+        cspClientPool.getClient(
+                getKey(Csp.HUAWEI_CLOUD, "ak", "ecs"), String.class, this::buildClient);
+
+        assertThat(builtClients.get()).isEqualTo(2);
+        assertThat(cspClientPool.getPooledClientsCount()).isZero();
+    }
+
+    @Test
+    void testCredentialFingerprint() {
+        assertThat(cspClientPool.getCredentialFingerprint("ab", "c"))
+                .isNotEqualTo(cspClientPool.getCredentialFingerprint("a", "bc"))
+                .hasSize(64)
+                .doesNotContain("ab");
+    }
+}
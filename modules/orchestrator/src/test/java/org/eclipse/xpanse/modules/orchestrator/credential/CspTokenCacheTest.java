@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.credential;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test of CspTokenCache. */
+class CspTokenCacheTest {
+
+    private final AtomicInteger loadedTokens = new AtomicInteger();
+    private OrchestratorProperties orchestratorProperties;
+    private CspTokenCache cspTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        orchestratorProperties = new OrchestratorProperties();
+        cspTokenCache = new CspTokenCache(orchestratorProperties);
+    }
+
+    private CspTokenKey getKey(Csp csp, String password) {
+        return new CspTokenKey(
+                csp,
+                cspTokenCache.getCredentialFingerprint("user", password),
+                "http://127.0.0.1/identity/v3");
+    }
+
+    private String getToken(Csp csp, String password, Instant expiresAt) {
+        return cspTokenCache.getToken(
+                getKey(csp, password),
+                String.class,
+                () -> "token-" + loadedTokens.incrementAndGet(),
+                token -> expiresAt);
+    }
+
+    @Test
+    void testGetTokenReusesCachedToken() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cspTokenCache.bindTo(meterRegistry);
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+
+        String token = getToken(Csp.OPENSTACK_TESTLAB, "password", expiresAt);
+        String sameToken = getToken(Csp.OPENSTACK_TESTLAB, "password", expiresAt);
+        String otherCredentialToken = getToken(Csp.OPENSTACK_TESTLAB, "newPassword", expiresAt);
+
+        assertThat(sameToken).isSameAs(token);
+        assertThat(otherCredentialToken).isNotEqualTo(token);
+        assertThat(loadedTokens.get()).isEqualTo(2);
+        assertThat(cspTokenCache.getCachedTokensCount()).isEqualTo(2);
+        assertThat(
+                        meterRegistry
+                                .get("cache.gets")
+                                .tag("cache", "xpanse.csp.token.cache")
+                                .tag("result", "hit")
+                                .functionCounter()
+                                .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void testGetTokenRenewsExpiringToken() {
+        Instant expiresAt = Instant.now().plusSeconds(120);
+        getToken(Csp.PLUS_SERVER, "password", expiresAt);
+        getToken(Csp.PLUS_SERVER, "password", expiresAt);
+        getToken(Csp.PLUS_SERVER, "password", null);
+        getToken(Csp.PLUS_SERVER, "password", null);
+
+        assertThat(loadedTokens.get()).isEqualTo(4);
+    }
+
+    @Test
+    void testInvalidateTokensOfCsp() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        getToken(Csp.REGIO_CLOUD, "password", expiresAt);
+        getToken(Csp.PLUS_SERVER, "password", expiresAt);
+
+        cspTokenCache.invalidateTokens(Csp.REGIO_CLOUD);
+
+        assertThat(getToken(Csp.REGIO_CLOUD, "password", expiresAt)).isEqualTo("token-3");
+        assertThat(getToken(Csp.PLUS_SERVER, "password", expiresAt)).isEqualTo("token-2");
+    }
+
+    @Test
+    void testGetTokenWhenCacheDisabled() {
+        orchestratorProperties.getTokenCache().setEnabled(false);
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+
+        getToken(Csp.OPENSTACK_TESTLAB, "password", expiresAt);
+        getToken(Csp.OPENSTACK_TESTLAB, "password", expiresAt);
+
+        assertThat(loadedTokens.get()).isEqualTo(2);
+        assertThat(cspTokenCache.getCachedTokensCount()).isZero();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.monitor.exceptions.MetricsDataNotYetAvailableException;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test of MetricsFanOutExecutor. */
+class MetricsFanOutExecutorTest {
+
+    private MetricsFanOutExecutor metricsFanOutExecutor;
+
+    @BeforeEach
+    void setUp() {
+        OrchestratorProperties orchestratorProperties = new OrchestratorProperties();
+        orchestratorProperties.getMetrics().setMaxConcurrentRequestsPerCsp(2);
+        metricsFanOutExecutor = new MetricsFanOutExecutor(orchestratorProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        metricsFanOutExecutor.destroy();
+    }
+
+    @Test
+    void testQueryAllKeepsOrderAndLimitsConcurrency() {
+        AtomicInteger runningQueries = new AtomicInteger();
+        AtomicInteger maxRunningQueries = new AtomicInteger();
+        List<Integer> inputs = IntStream.range(0, 10).boxed().toList();
+
+        List<String> results =
+                metricsFanOutExecutor.queryAll(
+                        Csp.HUAWEI_CLOUD,
+                        inputs,
+                        input -> {
+                            maxRunningQueries.accumulateAndGet(
+                                    runningQueries.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(20);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            runningQueries.decrementAndGet();
+                            return "metric-" + input;
+                        });
+
+        assertEquals(inputs.stream().map(input -> "metric-" + input).toList(), results);
+        assertTrue(maxRunningQueries.get() <= 2);
+    }
+
+    @Test
+    void testQueryAllReturnsPartialResults() {
+        List<String> results =
+                metricsFanOutExecutor.queryAll(
+                        Csp.OPENSTACK_TESTLAB,
+                        List.of("vm-1", "vm-2", "vm-3"),
+                        input -> {
+                            if ("vm-2".equals(input)) {
+                                throw new IllegalStateException("failed");
+                            }
+                            return input;
+                        });
+
+        assertEquals(List.of("vm-1", "vm-3"), results);
+    }
+
+    @Test
+    void testQueryAllThrowsWhenAllQueriesFailed() {
+        List<String> inputs = List.of("vm-1", "vm-2");
+
+        assertThrows(
+                MetricsDataNotYetAvailableException.class,
+                () ->
+                        metricsFanOutExecutor.queryAll(
+                                Csp.FLEXIBLE_ENGINE,
+                                inputs,
+                                input -> {
+                                    throw new MetricsDataNotYetAvailableException("not yet");
+                                }));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.servicestate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test of CspJobTracker. */
+class CspJobTrackerTest {
+
+    private OrchestratorProperties orchestratorProperties;
+    private CspJobTracker cspJobTracker;
+
+    @BeforeEach
+    void setUp() {
+        orchestratorProperties = new OrchestratorProperties();
+        orchestratorProperties.getJobTracker().setPollIntervalMillis(5L);
+        orchestratorProperties.getJobTracker().setInitialPollDelayMillis(5L);
+        orchestratorProperties.getJobTracker().setMaxPollDelayMillis(20L);
+        orchestratorProperties.getJobTracker().setMaxPollFailures(2);
+        cspJobTracker = new CspJobTracker(orchestratorProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cspJobTracker.destroy();
+    }
+
+    @Test
+    void testTrackJobUntilSucceeded() throws Exception {
+        AtomicInteger polls = new AtomicInteger();
+
+        CompletableFuture<Boolean> future =
+                cspJobTracker.track(
+                        Csp.HUAWEI_CLOUD,
+                        "jobId",
+                        () ->
+                                polls.incrementAndGet() < 3
+                                        ? CspJobResult.running()
+                                        : CspJobResult.succeeded());
+
+        assertTrue(future.get(5, TimeUnit.SECONDS));
+        assertEquals(3, polls.get());
+        assertEquals(0, cspJobTracker.getTrackedJobsCount());
+    }
+
+    @Test
+    void testTrackFailedJob() {
+        CompletableFuture<Boolean> future =
+                cspJobTracker.track(
+                        Csp.HUAWEI_CLOUD, "jobId", () -> CspJobResult.failed("server not found"));
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ClientApiCallFailedException.class, exception.getCause());
+        assertEquals("server not found", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testTrackJobWhenPollingFails() {
+        AtomicInteger polls = new AtomicInteger();
+
+        CompletableFuture<Boolean> future =
+                cspJobTracker.track(
+                        Csp.FLEXIBLE_ENGINE,
+                        "jobId",
+                        () -> {
+                            polls.incrementAndGet();
+                            throw new IllegalStateException("connection refused");
+                        });
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertEquals("connection refused", exception.getCause().getMessage());
+        assertEquals(2, polls.get());
+    }
+
+    @Test
+    void testTrackJobWhichDoesNotComplete() {
+        orchestratorProperties.getJobTracker().setTimeoutSeconds(0L);
+
+        CompletableFuture<Boolean> future =
+                cspJobTracker.track(Csp.HUAWEI_CLOUD, "jobId", CspJobResult::running);
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertEquals(
+                "Job jobId has not completed in 0 seconds.", exception.getCause().getMessage());
+    }
+}
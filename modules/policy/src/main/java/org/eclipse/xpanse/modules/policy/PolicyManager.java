@@ -6,7 +6,13 @@
 
 package org.eclipse.xpanse.modules.policy;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.models.policy.exceptions.PoliciesValidationFailedException;
 import org.eclipse.xpanse.modules.models.system.BackendSystemStatus;
@@ -37,6 +43,8 @@ public class PolicyManager {
 
     private final PolicyManProperties policyManProperties;
 
+    private final Set<String> validatedPolicyHashes = ConcurrentHashMap.newKeySet();
+
     /** Constructor method. */
     @Autowired
     public PolicyManager(
@@ -76,11 +84,17 @@ public class PolicyManager {
     }
 
     /**
-     * Valid policy.
+     * Valid policy. A policy which was already validated successfully is not sent to the policy-man
+     * again, policies with the same content are found by the hash of the content.
      *
      * @param policy policy.
      */
     public void validatePolicy(String policy) {
+        String policyHash = getPolicyHash(policy);
+        if (validatedPolicyHashes.contains(policyHash)) {
+            log.info("Policy with hash {} was already validated.", policyHash);
+            return;
+        }
         boolean valid = true;
         String errorMsg = "";
         ValidatePolicyList validatePolicyList = new ValidatePolicyList();
@@ -101,10 +115,14 @@ public class PolicyManager {
         if (!valid) {
             throw new PoliciesValidationFailedException(errorMsg);
         }
+        if (validatedPolicyHashes.size() >= policyManProperties.getValidatedPoliciesCacheSize()) {
+            validatedPolicyHashes.clear();
+        }
+        validatedPolicyHashes.add(policyHash);
     }
 
     /**
-     * Evaluate input by polices.
+     * Evaluate input by polices. Policies with the same content are sent only once.
      *
      * @param policies list of policies.
      * @param input input
@@ -112,7 +130,7 @@ public class PolicyManager {
     public EvalResult evaluatePolicies(List<String> policies, String input) {
         try {
             EvalCmdList cmdList = new EvalCmdList();
-            cmdList.setPolicyList(policies);
+            cmdList.setPolicyList(policies.stream().distinct().toList());
             cmdList.setInput(input);
             EvalResult evalResult = policiesEvaluationApi.evaluatePoliciesPost(cmdList);
             log.info("Evaluate input with policies response:{}", evalResult.toString());
@@ -123,4 +141,13 @@ public class PolicyManager {
             throw new RestClientException(errorMsg);
         }
     }
+
+    private String getPolicyHash(String policy) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(policy.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Computing hash of the policy failed.", e);
+        }
+    }
 }
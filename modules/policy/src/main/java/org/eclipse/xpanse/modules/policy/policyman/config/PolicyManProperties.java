@@ -14,4 +14,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class PolicyManProperties {
 
     private String endpoint;
+
+    /** Maximum number of policies kept as validated to skip validating the same policy again. */
+    private Integer validatedPoliciesCacheSize = 1000;
 }
@@ -1,10 +1,12 @@
 package org.eclipse.xpanse.modules.policy.policyman;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import org.eclipse.xpanse.modules.models.policy.exceptions.PoliciesValidationFailedException;
 import org.eclipse.xpanse.modules.models.system.BackendSystemStatus;
 import org.eclipse.xpanse.modules.models.system.enums.BackendSystemType;
 import org.eclipse.xpanse.modules.models.system.enums.HealthStatus;
@@ -16,6 +18,8 @@ import org.eclipse.xpanse.modules.policy.policyman.generated.api.PoliciesValidat
 import org.eclipse.xpanse.modules.policy.policyman.generated.model.EvalCmdList;
 import org.eclipse.xpanse.modules.policy.policyman.generated.model.EvalResult;
 import org.eclipse.xpanse.modules.policy.policyman.generated.model.SystemStatus;
+import org.eclipse.xpanse.modules.policy.policyman.generated.model.ValidatePolicyList;
+import org.eclipse.xpanse.modules.policy.policyman.generated.model.ValidateResponse;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -136,4 +140,56 @@ class PolicyManagerTest {
                 RestClientException.class,
                 () -> policyManagerUnderTest.evaluatePolicies(List.of("value"), "input"));
     }
+
+    @Test
+    void testValidatePolicyOnlyOnceWithSameContent() {
+        final ValidatePolicyList validatePolicyList = new ValidatePolicyList();
+        validatePolicyList.setPolicyList(List.of("validated-policy"));
+        final ValidateResponse validateResponse = new ValidateResponse();
+        validateResponse.setIsSuccessful(true);
+        when(mockPoliciesValidateApi.validatePoliciesPost(validatePolicyList))
+                .thenReturn(validateResponse);
+
+        policyManagerUnderTest.validatePolicy("validated-policy");
+        policyManagerUnderTest.validatePolicy("validated-policy");
+
+        verify(mockPoliciesValidateApi, times(1)).validatePoliciesPost(validatePolicyList);
+    }
+
+    @Test
+    void testValidatePolicyAgainAfterValidationFailed() {
+        final ValidatePolicyList validatePolicyList = new ValidatePolicyList();
+        validatePolicyList.setPolicyList(List.of("invalid-policy"));
+        final ValidateResponse validateResponse = new ValidateResponse();
+        validateResponse.setIsSuccessful(false);
+        validateResponse.setErrMsg("error");
+        when(mockPoliciesValidateApi.validatePoliciesPost(validatePolicyList))
+                .thenReturn(validateResponse);
+
+        Assertions.assertThrows(
+                PoliciesValidationFailedException.class,
+                () -> policyManagerUnderTest.validatePolicy("invalid-policy"));
+        Assertions.assertThrows(
+                PoliciesValidationFailedException.class,
+                () -> policyManagerUnderTest.validatePolicy("invalid-policy"));
+
+        verify(mockPoliciesValidateApi, times(2)).validatePoliciesPost(validatePolicyList);
+    }
+
+    @Test
+    void testEvaluatePoliciesWithDuplicatedPolicies() {
+        final EvalResult evalResult = new EvalResult();
+        evalResult.setIsSuccessful(true);
+        final EvalCmdList cmdList = new EvalCmdList();
+        cmdList.setInput("input");
+        cmdList.setPolicyList(List.of("policy1", "policy2"));
+        when(mockPoliciesEvaluationApi.evaluatePoliciesPost(cmdList)).thenReturn(evalResult);
+
+        EvalResult result =
+                policyManagerUnderTest.evaluatePolicies(
+                        List.of("policy1", "policy2", "policy1"), "input");
+
+        verify(mockPoliciesEvaluationApi).evaluatePoliciesPost(cmdList);
+        Assertions.assertEquals(evalResult, result);
+    }
 }
@@ -15,6 +15,9 @@ import java.nio.file.Paths;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -35,7 +38,8 @@ import org.springframework.stereotype.Component;
  * Manage encryption and decryption of secrets. We can manage secrets using any Java supported
  * security algorithms. See <a
  * href="https://docs.oracle.com/en/java/javase/21/docs/specs/security/standard-names.html">Java
- * Doc</a>
+ * Doc</a>. Initialized ciphers are kept per thread and reused, since the secret key and the initial
+ * vector do not change.
  */
 @Slf4j
 @Component
@@ -43,6 +47,8 @@ public class SecretsManager {
 
     private final byte[] usedSecretKey;
     private final SecurityProperties securityProperties;
+    private final ThreadLocal<Cipher> encryptCiphers = new ThreadLocal<>();
+    private final ThreadLocal<Cipher> decryptCiphers = new ThreadLocal<>();
 
     /** Constructor Method. */
     @Autowired
@@ -61,20 +67,14 @@ public class SecretsManager {
 
     /** Encrypts the given content using the secret key. */
     public String encrypt(String content) {
-        log.debug("encrypting secret content: {}", content);
         try {
             byte[] byteEncode = content.getBytes(StandardCharsets.UTF_8);
             byte[] encryptedContent =
-                    getCipher(
-                                    Cipher.ENCRYPT_MODE,
-                                    usedSecretKey,
-                                    securityProperties.getSecretsEncryption().getInitialVector(),
-                                    securityProperties.getSecretsEncryption().getAlgorithmName())
-                            .doFinal(byteEncode);
+                    getThreadCipher(encryptCiphers, Cipher.ENCRYPT_MODE).doFinal(byteEncode);
             return Base64.encodeBase64String(encryptedContent);
-        } catch (SensitiveFieldEncryptionOrDecryptionFailedException
-                | BadPaddingException
-                | IllegalBlockSizeException e) {
+        } catch (BadPaddingException | IllegalBlockSizeException e) {
+            // the state of a cipher is undefined after a failed operation.
+            encryptCiphers.remove();
             log.error("Secret encryption error ", e);
             throw new SensitiveFieldEncryptionOrDecryptionFailedException(e.getMessage());
         }
@@ -82,23 +82,43 @@ public class SecretsManager {
 
     /** Decrypts the given content using the secret key. */
     public String decrypt(String content) {
-        log.debug("Decrypting secret content: {}", content);
         try {
             byte[] byteContent = Base64.decodeBase64(content);
             byte[] byteDecode =
-                    getCipher(
-                                    Cipher.DECRYPT_MODE,
-                                    usedSecretKey,
-                                    securityProperties.getSecretsEncryption().getInitialVector(),
-                                    securityProperties.getSecretsEncryption().getAlgorithmName())
-                            .doFinal(byteContent);
+                    getThreadCipher(decryptCiphers, Cipher.DECRYPT_MODE).doFinal(byteContent);
             return new String(byteDecode, StandardCharsets.UTF_8);
         } catch (IllegalBlockSizeException | BadPaddingException e) {
+            // the state of a cipher is undefined after a failed operation.
+            decryptCiphers.remove();
             log.error("secret decryption error ", e);
             throw new SensitiveFieldEncryptionOrDecryptionFailedException(e.getMessage());
         }
     }
 
+    /**
+     * Encrypts all values of the given map using the secret key.
+     *
+     * @param contents map with the contents to encrypt.
+     * @return new map with the same keys and the encrypted values.
+     */
+    public Map<String, String> encryptAll(Map<String, String> contents) {
+        Map<String, String> encryptedContents = new LinkedHashMap<>(contents.size());
+        contents.forEach((key, value) -> encryptedContents.put(key, encrypt(value)));
+        return encryptedContents;
+    }
+
+    /**
+     * Decrypts all values of the given map using the secret key.
+     *
+     * @param contents map with the encrypted contents.
+     * @return new map with the same keys and the decrypted values.
+     */
+    public Map<String, String> decryptAll(Map<String, String> contents) {
+        Map<String, String> decryptedContents = new LinkedHashMap<>(contents.size());
+        contents.forEach((key, value) -> decryptedContents.put(key, decrypt(value)));
+        return decryptedContents;
+    }
+
     /**
      * All values are encoded from string. This method decodes and also converts the original string
      * back to its actual type.
@@ -122,6 +142,20 @@ public class SecretsManager {
         }
     }
 
+    private Cipher getThreadCipher(ThreadLocal<Cipher> threadCiphers, int mode) {
+        Cipher cipher = threadCiphers.get();
+        if (Objects.isNull(cipher)) {
+            cipher =
+                    getCipher(
+                            mode,
+                            usedSecretKey,
+                            securityProperties.getSecretsEncryption().getInitialVector(),
+                            securityProperties.getSecretsEncryption().getAlgorithmName());
+            threadCiphers.set(cipher);
+        }
+        return cipher;
+    }
+
     private Cipher getCipher(
             int mode, byte[] usedSecretKey, String initialVector, String algorithmName) {
         Cipher cipher;
@@ -1,5 +1,8 @@
 package org.eclipse.xpanse.modules.security.secrets;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 import org.eclipse.xpanse.modules.models.common.exceptions.SensitiveFieldEncryptionOrDecryptionFailedException;
 import org.eclipse.xpanse.modules.security.config.SecurityProperties;
 import org.junit.jupiter.api.Assertions;
@@ -72,6 +75,51 @@ class SecretsManagerTest {
         Assertions.assertEquals(string, secretsManagerTest.decrypt(encodedStr));
     }
 
+    @Test
+    void testEncryptAllAndDecryptAll() {
+        // SetUp
+        Map<String, String> contents = Map.of("username", "admin", "password", "HelloWorld");
+
+        // Run the test
+        final Map<String, String> encryptedContents = secretsManagerTest.encryptAll(contents);
+
+        // Verify the results
+        Assertions.assertEquals(contents.keySet(), encryptedContents.keySet());
+        Assertions.assertNotEquals(contents.get("password"), encryptedContents.get("password"));
+        Assertions.assertEquals(contents, secretsManagerTest.decryptAll(encryptedContents));
+    }
+
+    @Test
+    void testEncryptAndDecryptInParallel() {
+        // Run the test
+        final List<String> decodedStrings =
+                IntStream.range(0, 200)
+                        .parallel()
+                        .mapToObj(
+                                i ->
+                                        secretsManagerTest.decrypt(
+                                                secretsManagerTest.encrypt("content-" + i)))
+                        .toList();
+
+        // Verify the results
+        IntStream.range(0, 200)
+                .forEach(i -> Assertions.assertEquals("content-" + i, decodedStrings.get(i)));
+    }
+
+    @Test
+    void testDecryptAfterDecryptionFailed() {
+        // SetUp
+        String encodedStr = secretsManagerTest.encrypt("HelloWorld");
+
+        // Run the test
+        Assertions.assertThrows(
+                SensitiveFieldEncryptionOrDecryptionFailedException.class,
+                () -> secretsManagerTest.decrypt("bm90LWVuY3J5cHRlZA=="));
+
+        // Verify the results
+        Assertions.assertEquals("HelloWorld", secretsManagerTest.decrypt(encodedStr));
+    }
+
     @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
     @Test
     void testDecryptThrowsException() {
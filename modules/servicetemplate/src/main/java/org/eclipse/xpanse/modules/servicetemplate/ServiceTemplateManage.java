@@ -16,6 +16,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.cache.openapi.ServiceOpenApiDocument;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
 import org.eclipse.xpanse.modules.database.service.ServiceQueryModel;
@@ -68,6 +69,7 @@ import org.semver4j.Semver;
 import org.semver4j.SemverException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -666,6 +668,7 @@ public class ServiceTemplateManage {
             throw new ServiceTemplateRequestNotAllowed(errMsg);
         }
         templateStorage.deleteServiceTemplate(existingTemplate);
+        serviceTemplateOpenApiGenerator.deleteOpenApiDocument(existingTemplate);
         serviceTemplateOpenApiGenerator.deleteServiceApi(id.toString());
     }
 
@@ -683,6 +686,24 @@ public class ServiceTemplateManage {
         return openApiUrl;
     }
 
+    /**
+     * Get the rendered OpenApi document of the service template using the ID. A document which is
+     * missing, e.g. because it expired in the cache, is rendered again in the background.
+     *
+     * @param id ID of service template.
+     * @return rendered OpenApi document, null if it is not rendered yet.
+     */
+    @Nullable
+    public ServiceOpenApiDocument getOpenApiDocument(UUID id) {
+        ServiceTemplateEntity serviceTemplate = getServiceTemplateById(id);
+        ServiceOpenApiDocument document =
+                serviceTemplateOpenApiGenerator.getOpenApiDocument(serviceTemplate);
+        if (Objects.isNull(document)) {
+            serviceTemplateOpenApiGenerator.generateServiceApi(serviceTemplate);
+        }
+        return document;
+    }
+
     /**
      * Get service template history by service template id and other query parameters.
      *
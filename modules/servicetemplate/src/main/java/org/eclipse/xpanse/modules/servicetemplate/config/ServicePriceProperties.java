@@ -0,0 +1,19 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.servicetemplate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Properties class. */
+@Data
+@ConfigurationProperties(prefix = "xpanse.service-price")
+public class ServicePriceProperties {
+
+    private Integer maxConcurrentRequestsPerCsp = 8;
+    private Integer refreshAfterMinutes = 45;
+    private Integer refreshCheckIntervalSeconds = 60;
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.servicetemplate.price;
+
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.cache.config.CacheProperties;
+import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.models.billing.exceptions.ServicePriceCalculationFailed;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
+import org.eclipse.xpanse.modules.servicetemplate.config.ServicePriceProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to get the prices of service flavors from the plugins. The prices are kept in the service
+ * flavor price cache. A price which is not cached is calculated by the plugin on its own virtual
+ * thread, and the number of calculations running at the same time against one csp is limited.
+ * Concurrent requests for the same price share one calculation. Cached prices which are still
+ * requested are recalculated in the background before they expire from the cache, so that the
+ * callers do not wait for the csp price APIs.
+ */
+@Slf4j
+@Component
+public class ServiceFlavorPriceLoader implements DisposableBean {
+
+    private final PluginManager pluginManager;
+    private final CacheManager cacheManager;
+    private final CacheProperties cacheProperties;
+    private final ServicePriceProperties servicePriceProperties;
+    private final Map<Csp, Semaphore> cspPermits = new ConcurrentHashMap<>();
+    private final Map<ServiceFlavorPriceRequest, CompletableFuture<FlavorPriceResult>>
+            runningCalculations = new ConcurrentHashMap<>();
+    private final Map<ServiceFlavorPriceRequest, PriceListEntry> priceList =
+            new ConcurrentHashMap<>();
+    private final ExecutorService executorService =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("xpanse-prices-", 0).factory());
+
+    /** Constructor method. */
+    @Autowired
+    public ServiceFlavorPriceLoader(
+            PluginManager pluginManager,
+            CacheManager cacheManager,
+            CacheProperties cacheProperties,
+            ServicePriceProperties servicePriceProperties) {
+        this.pluginManager = pluginManager;
+        this.cacheManager = cacheManager;
+        this.cacheProperties = cacheProperties;
+        this.servicePriceProperties = servicePriceProperties;
+        if (servicePriceProperties.getMaxConcurrentRequestsPerCsp() <= 0) {
+            throw new IllegalArgumentException(
+                    "Max concurrent price requests per csp must be greater than 0.");
+        }
+    }
+
+    /**
+     * Get the price of the service flavor from the cache, or calculate it with the plugin of the
+     * csp.
+     *
+     * @param csp csp of the service template.
+     * @param request request to calculate the price of the flavor.
+     * @return future completed with the price of the flavor.
+     */
+    public CompletableFuture<FlavorPriceResult> getFlavorPrice(
+            Csp csp, ServiceFlavorPriceRequest request) {
+        Cache.ValueWrapper cachedValue = getPriceCache().get(request);
+        if (Objects.nonNull(cachedValue)
+                && cachedValue.get() instanceof FlavorPriceResult flavorPriceResult) {
+            Instant now = Instant.now();
+            priceList.compute(
+                    request,
+                    (key, entry) ->
+                            Objects.isNull(entry)
+                                    ? new PriceListEntry(csp, now, now)
+                                    : new PriceListEntry(csp, entry.calculatedAt(), now));
+            return CompletableFuture.completedFuture(flavorPriceResult);
+        }
+        return calculateFlavorPrice(csp, request);
+    }
+
+    /**
+     * Recalculate the cached prices which are due to be refreshed. Prices which were not requested
+     * for as long as the cache keeps them are no longer refreshed.
+     */
+    @Scheduled(
+            fixedDelayString = "${xpanse.service-price.refresh-check-interval-seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public void refreshPriceList() {
+        Instant now = Instant.now();
+        Duration refreshAfter = Duration.ofMinutes(servicePriceProperties.getRefreshAfterMinutes());
+        Duration keepUnused = Duration.ofMinutes(cacheProperties.getServicePriceCacheMinutes());
+        priceList.forEach(
+                (request, entry) -> {
+                    if (entry.lastRequestedAt().plus(keepUnused).isBefore(now)) {
+                        priceList.remove(request, entry);
+                    } else if (entry.calculatedAt().plus(refreshAfter).isBefore(now)) {
+                        log.debug(
+                                "Refreshing price of service flavor {}.", request.getFlavorName());
+                        calculateFlavorPrice(entry.csp(), request);
+                    }
+                });
+    }
+
+    private CompletableFuture<FlavorPriceResult> calculateFlavorPrice(
+            Csp csp, ServiceFlavorPriceRequest request) {
+        CompletableFuture<FlavorPriceResult> calculation = new CompletableFuture<>();
+        CompletableFuture<FlavorPriceResult> runningCalculation =
+                runningCalculations.putIfAbsent(request, calculation);
+        if (Objects.nonNull(runningCalculation)) {
+            return runningCalculation;
+        }
+        executorService.execute(
+                () -> {
+                    try {
+                        FlavorPriceResult flavorPriceResult = callPlugin(csp, request);
+                        if (Objects.nonNull(flavorPriceResult)
+                                && flavorPriceResult.isSuccessful()) {
+                            getPriceCache().put(request, flavorPriceResult);
+                            Instant now = Instant.now();
+                            priceList.merge(
+                                    request,
+                                    new PriceListEntry(csp, now, now),
+                                    (entry, calculated) ->
+                                            new PriceListEntry(csp, now, entry.lastRequestedAt()));
+                        }
+                        calculation.complete(flavorPriceResult);
+                    } catch (Exception e) {
+                        log.error(
+                                "Calculating price of service flavor {} failed. {}",
+                                request.getFlavorName(),
+                                e.getMessage());
+                        calculation.completeExceptionally(e);
+                    } finally {
+                        runningCalculations.remove(request, calculation);
+                    }
+                });
+        return calculation;
+    }
+
+    private FlavorPriceResult callPlugin(Csp csp, ServiceFlavorPriceRequest request)
+            throws InterruptedException {
+        Semaphore permits =
+                cspPermits.computeIfAbsent(
+                        csp,
+                        key ->
+                                new Semaphore(
+                                        servicePriceProperties.getMaxConcurrentRequestsPerCsp()));
+        permits.acquire();
+        try {
+            return pluginManager.getOrchestratorPlugin(csp).getServiceFlavorPrice(request);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Cache getPriceCache() {
+        Cache cache = cacheManager.getCache(SERVICE_FLAVOR_PRICE_CACHE_NAME);
+        if (Objects.isNull(cache)) {
+            throw new ServicePriceCalculationFailed(
+                    "Cache " + SERVICE_FLAVOR_PRICE_CACHE_NAME + " is not configured.");
+        }
+        return cache;
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    /** Price in the price list which is refreshed while it is requested. */
+    private record PriceListEntry(Csp csp, Instant calculatedAt, Instant lastRequestedAt) {}
+}
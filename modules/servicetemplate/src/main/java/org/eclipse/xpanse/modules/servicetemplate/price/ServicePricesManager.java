@@ -11,6 +11,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
@@ -23,8 +25,6 @@ import org.eclipse.xpanse.modules.models.billing.exceptions.ServicePriceCalculat
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavorWithPrice;
 import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.ServiceTemplateNotRegistered;
-import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
-import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,19 +36,19 @@ import org.springframework.util.CollectionUtils;
 @Service
 public class ServicePricesManager {
 
-    private final PluginManager pluginManager;
     private final UserServiceHelper userServiceHelper;
     private final ServiceTemplateStorage serviceTemplateStorage;
+    private final ServiceFlavorPriceLoader serviceFlavorPriceLoader;
 
     /** Constructor method. */
     @Autowired
     public ServicePricesManager(
-            PluginManager pluginManager,
             UserServiceHelper userServiceHelper,
-            ServiceTemplateStorage serviceTemplateStorage) {
-        this.pluginManager = pluginManager;
+            ServiceTemplateStorage serviceTemplateStorage,
+            ServiceFlavorPriceLoader serviceFlavorPriceLoader) {
         this.userServiceHelper = userServiceHelper;
         this.serviceTemplateStorage = serviceTemplateStorage;
+        this.serviceFlavorPriceLoader = serviceFlavorPriceLoader;
     }
 
     /**
@@ -78,9 +78,9 @@ public class ServicePricesManager {
                         regionName,
                         siteName,
                         billingMode);
-        Csp csp = serviceTemplate.getCsp();
-        OrchestratorPlugin orchestratorPlugin = pluginManager.getOrchestratorPlugin(csp);
-        return orchestratorPlugin.getServiceFlavorPrice(serviceFlavorPriceRequest);
+        return getResult(
+                serviceFlavorPriceLoader.getFlavorPrice(
+                        serviceTemplate.getCsp(), serviceFlavorPriceRequest));
     }
 
     /**
@@ -98,29 +98,39 @@ public class ServicePricesManager {
         List<ServiceFlavorWithPrice> flavors =
                 serviceTemplate.getOcl().getFlavors().getServiceFlavors();
         Csp csp = serviceTemplate.getCsp();
-        OrchestratorPlugin orchestratorPlugin = pluginManager.getOrchestratorPlugin(csp);
-        List<FlavorPriceResult> priceResults = new ArrayList<>();
+        // calculate the prices of all flavors in parallel, then collect them in flavor order.
+        List<CompletableFuture<FlavorPriceResult>> priceCalculations = new ArrayList<>();
         for (ServiceFlavorWithPrice flavor : flavors) {
-            ServiceFlavorPriceRequest serviceFlavorPriceRequest =
-                    getServiceFlavorPriceRequest(
-                            serviceTemplateId,
-                            flavor.getName(),
-                            flavor.getPricing(),
-                            regionName,
-                            siteName,
-                            billingMode);
-            FlavorPriceResult flavorPriceResult;
+            CompletableFuture<FlavorPriceResult> priceCalculation;
             try {
                 validateFlavorPriceMode(flavor.getPricing(), billingMode);
-                flavorPriceResult =
-                        orchestratorPlugin.getServiceFlavorPrice(serviceFlavorPriceRequest);
+                ServiceFlavorPriceRequest serviceFlavorPriceRequest =
+                        getServiceFlavorPriceRequest(
+                                serviceTemplateId,
+                                flavor.getName(),
+                                flavor.getPricing(),
+                                regionName,
+                                siteName,
+                                billingMode);
+                priceCalculation =
+                        serviceFlavorPriceLoader.getFlavorPrice(csp, serviceFlavorPriceRequest);
+            } catch (Exception e) {
+                priceCalculation = CompletableFuture.failedFuture(e);
+            }
+            priceCalculations.add(priceCalculation);
+        }
+        List<FlavorPriceResult> priceResults = new ArrayList<>();
+        for (int i = 0; i < flavors.size(); i++) {
+            FlavorPriceResult flavorPriceResult;
+            try {
+                flavorPriceResult = getResult(priceCalculations.get(i));
             } catch (Exception e) {
                 log.error(
                         "Get price of service flavor {} failed. {}",
-                        flavor.getName(),
+                        flavors.get(i).getName(),
                         e.getMessage());
                 flavorPriceResult = new FlavorPriceResult();
-                flavorPriceResult.setFlavorName(flavor.getName());
+                flavorPriceResult.setFlavorName(flavors.get(i).getName());
                 flavorPriceResult.setBillingMode(billingMode);
                 flavorPriceResult.setSuccessful(false);
                 flavorPriceResult.setErrorMessage(e.getMessage());
@@ -130,6 +140,17 @@ public class ServicePricesManager {
         return priceResults;
     }
 
+    private FlavorPriceResult getResult(CompletableFuture<FlavorPriceResult> priceCalculation) {
+        try {
+            return priceCalculation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServicePriceCalculationFailed(e.getCause().getMessage());
+        }
+    }
+
     private ServiceFlavorPriceRequest getServiceFlavorPriceRequest(
             UUID serviceTemplateId,
             String flavorName,
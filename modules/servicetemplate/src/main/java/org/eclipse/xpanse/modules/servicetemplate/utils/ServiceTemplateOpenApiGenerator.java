@@ -9,27 +9,32 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.constraints.NotNull;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.xpanse.common.openapi.OpenApiGeneratorJarManage;
+import org.eclipse.xpanse.common.openapi.OpenApiHtmlRenderer;
 import org.eclipse.xpanse.common.openapi.OpenApiUrlManage;
+import org.eclipse.xpanse.common.openapi.OpenApiWorkdirManage;
 import org.eclipse.xpanse.modules.async.TaskConfiguration;
+import org.eclipse.xpanse.modules.cache.exceptions.CacheNotFoundException;
+import org.eclipse.xpanse.modules.cache.openapi.ServiceOpenApiDocument;
+import org.eclipse.xpanse.modules.cache.openapi.ServiceOpenApiStore;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
@@ -63,7 +68,10 @@ public class ServiceTemplateOpenApiGenerator {
     private static final String JSON_SCHEMA_DEF_EXAMPLE_KEYWORD = "examples";
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final OpenApiUrlManage openApiUrlManage;
-    private final OpenApiGeneratorJarManage openApiGeneratorJarManage;
+    private final OpenApiWorkdirManage openApiWorkdirManage;
+    private final OpenApiHtmlRenderer openApiHtmlRenderer;
+    private final ServiceOpenApiStore serviceOpenApiStore;
+    private final Set<String> documentKeysInRendering = ConcurrentHashMap.newKeySet();
     private final PluginManager pluginManager;
     private final ZitadelIdentityProviderService zitadelIdentityProviderService;
     private final String appVersion;
@@ -76,13 +84,17 @@ public class ServiceTemplateOpenApiGenerator {
             @Nullable ZitadelIdentityProviderService zitadelIdentityProviderService,
             PluginManager pluginManager,
             OpenApiUrlManage openApiUrlManage,
-            OpenApiGeneratorJarManage openApiGeneratorJarManage,
+            OpenApiWorkdirManage openApiWorkdirManage,
+            OpenApiHtmlRenderer openApiHtmlRenderer,
+            ServiceOpenApiStore serviceOpenApiStore,
             SecurityProperties securityProperties) {
         this.appVersion = appVersion;
         this.zitadelIdentityProviderService = zitadelIdentityProviderService;
         this.pluginManager = pluginManager;
         this.openApiUrlManage = openApiUrlManage;
-        this.openApiGeneratorJarManage = openApiGeneratorJarManage;
+        this.openApiWorkdirManage = openApiWorkdirManage;
+        this.openApiHtmlRenderer = openApiHtmlRenderer;
+        this.serviceOpenApiStore = serviceOpenApiStore;
         this.securityProperties = securityProperties;
     }
 
@@ -96,16 +108,26 @@ public class ServiceTemplateOpenApiGenerator {
         if (Objects.isNull(serviceTemplateEntity)) {
             throw new ServiceTemplateNotRegistered("Registered service is null.");
         }
-        String id = serviceTemplateEntity.getId().toString();
-        File apiFile =
-                new File(
-                        this.openApiGeneratorJarManage.getOpenApiWorkdir(),
-                        id + OPENAPI_FILE_EXTENSION);
-        if (apiFile.exists()) {
-            return this.openApiUrlManage.getOpenApiUrl(id);
-        } else {
+        if (Objects.isNull(getOpenApiDocument(serviceTemplateEntity))) {
             return createServiceApi(serviceTemplateEntity);
         }
+        return this.openApiUrlManage.getOpenApiUrl(serviceTemplateEntity.getId().toString());
+    }
+
+    /**
+     * Get the rendered OpenApi document of the current version of the registered service from the
+     * cache. The document is only read here, it is rendered by {@link #createServiceApi}.
+     *
+     * @param serviceTemplateEntity the registered service.
+     * @return rendered OpenApi document, null if it is not rendered yet or expired.
+     */
+    @Nullable
+    public ServiceOpenApiDocument getOpenApiDocument(ServiceTemplateEntity serviceTemplateEntity) {
+        try {
+            return this.serviceOpenApiStore.getDocument(getDocumentKey(serviceTemplateEntity));
+        } catch (CacheNotFoundException e) {
+            return null;
+        }
     }
 
     /**
@@ -115,7 +137,16 @@ public class ServiceTemplateOpenApiGenerator {
      */
     @Async(TaskConfiguration.ASYNC_EXECUTOR_NAME)
     public void generateServiceApi(ServiceTemplateEntity registerService) {
-        createServiceApi(registerService);
+        // requests of a missing document each ask for it, but it is rendered only once.
+        String documentKey = getDocumentKey(registerService);
+        if (!this.documentKeysInRendering.add(documentKey)) {
+            return;
+        }
+        try {
+            createServiceApi(registerService);
+        } finally {
+            this.documentKeysInRendering.remove(documentKey);
+        }
     }
 
     /**
@@ -125,13 +156,7 @@ public class ServiceTemplateOpenApiGenerator {
      */
     @Async(TaskConfiguration.ASYNC_EXECUTOR_NAME)
     public void updateServiceApi(ServiceTemplateEntity registerService) {
-        File file =
-                new File(
-                        this.openApiGeneratorJarManage.getOpenApiWorkdir(),
-                        registerService.getId() + OPENAPI_FILE_EXTENSION);
-        if (file.exists()) {
-            log.info("Delete old openApi file:{}, success:{}", file.getName(), file.delete());
-        }
+        // the old file is replaced when the new one is created.
         createServiceApi(registerService);
     }
 
@@ -144,8 +169,7 @@ public class ServiceTemplateOpenApiGenerator {
     public void deleteServiceApi(String id) {
         File file =
                 new File(
-                        this.openApiGeneratorJarManage.getOpenApiWorkdir(),
-                        id + OPENAPI_FILE_EXTENSION);
+                        this.openApiWorkdirManage.getOpenApiWorkdir(), id + OPENAPI_FILE_EXTENSION);
         if (file.exists()) {
             log.info("Delete openApi html file:{}, success:{}", file.getName(), file.delete());
         }
@@ -159,84 +183,56 @@ public class ServiceTemplateOpenApiGenerator {
     public String createServiceApi(ServiceTemplateEntity registerService) {
         // ID of registered service.
         String serviceId = registerService.getId().toString();
-        String yamlFileName = serviceId + ".yaml";
-        String openApiDir = this.openApiGeneratorJarManage.getOpenApiWorkdir();
-        File yamlFile = new File(openApiDir, yamlFileName);
+        String openApiDir = this.openApiWorkdirManage.getOpenApiWorkdir();
         File htmlFile = new File(openApiDir, serviceId + OPENAPI_FILE_EXTENSION);
         try {
-            if (yamlFile.exists()) {
-                log.info("Service openApi is being generated. serviceId:{}", serviceId);
-                return this.openApiUrlManage.getOpenApiUrl(serviceId);
-            } else {
-                String apiDocsJson = getApiDocsJson(registerService);
-                try (FileWriter apiWriter =
-                        new FileWriter(yamlFile.getPath(), StandardCharsets.UTF_8)) {
-                    apiWriter.write(apiDocsJson);
-                }
-                log.info("Service openApi yamlFile:{} create successful.", yamlFile.getPath());
-            }
-            File jarPath = getJarPath();
-            if (yamlFile.exists() && jarPath.exists()) {
-                String comm =
-                        String.format(
-                                "java -jar %s generate -g html2 " + "-i %s -o %s",
-                                jarPath.getPath(), yamlFile.getPath(), openApiDir);
-                Process exec = Runtime.getRuntime().exec(comm.split("\\s+"));
-                StringBuilder stdErrOut = new StringBuilder();
-                try (BufferedReader outputReader =
-                        new BufferedReader(
-                                new InputStreamReader(
-                                        exec.getErrorStream(), StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = outputReader.readLine()) != null) {
-                        stdErrOut.append(line);
-                        log.error(line);
-                    }
-                    exec.waitFor();
-                    if (exec.exitValue() != 0) {
-                        log.error("Create service openApi html file failed. {}", stdErrOut);
-                    }
-                    // Modify the file name to serviceId.html
-                    File tempHtmlFile = new File(openApiDir, "index.html");
-                    if (tempHtmlFile.exists() && (tempHtmlFile.renameTo(htmlFile))) {
-                        log.info(
-                                "Created service openApi html file:{} successfully.",
-                                htmlFile.getName());
-                        if (htmlFile.exists()) {
-                            return this.openApiUrlManage.getOpenApiUrl(serviceId);
-                        }
-                    }
-                }
-            } else {
-                log.error(
-                        "Not generating {} file. Missing json or openapi-generator jar file",
-                        htmlFile.getName());
-            }
-            return StringUtils.EMPTY;
-        } catch (IOException | InterruptedException | RuntimeException ex) {
+            String apiDocsJson = getApiDocsJson(registerService);
+            String html = this.openApiHtmlRenderer.renderHtml(apiDocsJson);
+            this.serviceOpenApiStore.storeDocument(
+                    getDocumentKey(registerService),
+                    new ServiceOpenApiDocument(
+                            this.openApiHtmlRenderer.getContentHash(apiDocsJson), html));
+            // write to a temp file first, so the old file is served until the new one is complete.
+            File tempHtmlFile =
+                    File.createTempFile(
+                            serviceId, OPENAPI_FILE_EXTENSION, htmlFile.getParentFile());
+            Files.writeString(tempHtmlFile.toPath(), html, StandardCharsets.UTF_8);
+            Files.move(
+                    tempHtmlFile.toPath(),
+                    htmlFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            log.info("Created service openApi html file:{} successfully.", htmlFile.getName());
+            return this.openApiUrlManage.getOpenApiUrl(serviceId);
+        } catch (IOException | RuntimeException ex) {
             log.error("Create service openApi html file error:", ex);
             throw new OpenApiFileGenerationException(
                     "Create service openApi html file error: " + ex.getMessage());
-        } finally {
-            // Delete the temp file named serviceId.yaml
-            if (yamlFile.exists()) {
-                try {
-                    Files.delete(yamlFile.toPath());
-                    log.info("Deleted temp yaml file:{} successfully.", yamlFile.getName());
-                } catch (IOException ioException) {
-                    log.info("Deleting temp yaml file:{} failed.", yamlFile.getName(), ioException);
-                }
-            }
         }
     }
 
     /**
-     * Get the path of the openapi-generator-cli.jar used.
+     * Remove the rendered OpenApi document of the current version of the registered service from
+     * the cache.
      *
-     * @return File The openapi-generator-cli.jar path.
+     * @param serviceTemplateEntity the registered service.
+     */
+    public void deleteOpenApiDocument(ServiceTemplateEntity serviceTemplateEntity) {
+        this.serviceOpenApiStore.deleteDocument(getDocumentKey(serviceTemplateEntity));
+    }
+
+    /**
+     * The key contains the time of the last modification, so a document rendered before the
+     * template was updated is not served for the new version, and documents are never shared
+     * between templates.
      */
-    private File getJarPath() throws IOException {
-        return this.openApiGeneratorJarManage.getCliFile();
+    private String getDocumentKey(ServiceTemplateEntity serviceTemplateEntity) {
+        OffsetDateTime lastModifiedTime = serviceTemplateEntity.getLastModifiedTime();
+        return serviceTemplateEntity.getId()
+                + ":"
+                + (Objects.nonNull(lastModifiedTime)
+                        ? lastModifiedTime.toInstant().toEpochMilli()
+                        : 0L);
     }
 
     private String getApiDocsJson(ServiceTemplateEntity registerService) {
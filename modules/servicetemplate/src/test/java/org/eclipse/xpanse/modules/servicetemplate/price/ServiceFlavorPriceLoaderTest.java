@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.servicetemplate.price;
+
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.modules.cache.config.CacheProperties;
+import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
+import org.eclipse.xpanse.modules.servicetemplate.config.ServicePriceProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/** Test of ServiceFlavorPriceLoader. */
+@ExtendWith(MockitoExtension.class)
+class ServiceFlavorPriceLoaderTest {
+
+    private final ServiceFlavorPriceRequest request = getRequest();
+    @Mock private PluginManager mockPluginManager;
+    @Mock private OrchestratorPlugin mockOrchestratorPlugin;
+    private ServicePriceProperties servicePriceProperties;
+    private ServiceFlavorPriceLoader serviceFlavorPriceLoader;
+
+    @BeforeEach
+    void setUp() {
+        servicePriceProperties = new ServicePriceProperties();
+        serviceFlavorPriceLoader =
+                new ServiceFlavorPriceLoader(
+                        mockPluginManager,
+                        new ConcurrentMapCacheManager(SERVICE_FLAVOR_PRICE_CACHE_NAME),
+                        new CacheProperties(),
+                        servicePriceProperties);
+        when(mockPluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD))
+                .thenReturn(mockOrchestratorPlugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceFlavorPriceLoader.destroy();
+    }
+
+    private ServiceFlavorPriceRequest getRequest() {
+        ServiceFlavorPriceRequest serviceFlavorPriceRequest = new ServiceFlavorPriceRequest();
+        serviceFlavorPriceRequest.setServiceTemplateId(UUID.randomUUID());
+        serviceFlavorPriceRequest.setFlavorName("flavor-1");
+        serviceFlavorPriceRequest.setRegionName("cn-southwest-2");
+        serviceFlavorPriceRequest.setSiteName("Chinese Mainland");
+        serviceFlavorPriceRequest.setBillingMode(BillingMode.PAY_PER_USE);
+        return serviceFlavorPriceRequest;
+    }
+
+    private FlavorPriceResult getPriceResult(boolean successful) {
+        FlavorPriceResult flavorPriceResult = new FlavorPriceResult();
+        flavorPriceResult.setFlavorName("flavor-1");
+        flavorPriceResult.setBillingMode(BillingMode.PAY_PER_USE);
+        flavorPriceResult.setSuccessful(successful);
+        return flavorPriceResult;
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneCalculation() throws Exception {
+        CountDownLatch calculationStarted = new CountDownLatch(1);
+        CountDownLatch releaseCalculation = new CountDownLatch(1);
+        FlavorPriceResult priceResult = getPriceResult(true);
+        when(mockOrchestratorPlugin.getServiceFlavorPrice(any()))
+                .thenAnswer(
+                        invocation -> {
+                            calculationStarted.countDown();
+                            releaseCalculation.await();
+                            return priceResult;
+                        });
+
+        CompletableFuture<FlavorPriceResult> first =
+                serviceFlavorPriceLoader.getFlavorPrice(Csp.HUAWEI_CLOUD, request);
+        assertTrue(calculationStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<FlavorPriceResult> second =
+                serviceFlavorPriceLoader.getFlavorPrice(Csp.HUAWEI_CLOUD, getRequest(request));
+        releaseCalculation.countDown();
+
+        assertSame(priceResult, first.get(5, TimeUnit.SECONDS));
+        assertSame(priceResult, second.get(5, TimeUnit.SECONDS));
+        assertSame(
+                priceResult,
+                serviceFlavorPriceLoader
+                        .getFlavorPrice(Csp.HUAWEI_CLOUD, request)
+                        .get(5, TimeUnit.SECONDS));
+        verify(mockOrchestratorPlugin, times(1)).getServiceFlavorPrice(any());
+    }
+
+    @Test
+    void testFailedPriceIsNotCached() throws Exception {
+        when(mockOrchestratorPlugin.getServiceFlavorPrice(any()))
+                .thenReturn(getPriceResult(false), getPriceResult(true));
+
+        assertFalse(
+                serviceFlavorPriceLoader
+                        .getFlavorPrice(Csp.HUAWEI_CLOUD, request)
+                        .get(5, TimeUnit.SECONDS)
+                        .isSuccessful());
+        assertTrue(
+                serviceFlavorPriceLoader
+                        .getFlavorPrice(Csp.HUAWEI_CLOUD, request)
+                        .get(5, TimeUnit.SECONDS)
+                        .isSuccessful());
+        verify(mockOrchestratorPlugin, times(2)).getServiceFlavorPrice(any());
+    }
+
+    @Test
+    void testRefreshPriceList() throws Exception {
+        servicePriceProperties.setRefreshAfterMinutes(0);
+        FlavorPriceResult refreshedResult = getPriceResult(true);
+        when(mockOrchestratorPlugin.getServiceFlavorPrice(any()))
+                .thenReturn(getPriceResult(true), refreshedResult);
+        serviceFlavorPriceLoader.getFlavorPrice(Csp.HUAWEI_CLOUD, request).get(5, TimeUnit.SECONDS);
+        Thread.sleep(5);
+
+        serviceFlavorPriceLoader.refreshPriceList();
+
+        verify(mockOrchestratorPlugin, timeout(5000).times(2)).getServiceFlavorPrice(any());
+        Thread.sleep(50);
+        assertSame(
+                refreshedResult,
+                serviceFlavorPriceLoader
+                        .getFlavorPrice(Csp.HUAWEI_CLOUD, request)
+                        .get(5, TimeUnit.SECONDS));
+    }
+
+    private ServiceFlavorPriceRequest getRequest(ServiceFlavorPriceRequest source) {
+        ServiceFlavorPriceRequest copy = new ServiceFlavorPriceRequest();
+        copy.setServiceTemplateId(source.getServiceTemplateId());
+        copy.setFlavorName(source.getFlavorName());
+        copy.setRegionName(source.getRegionName());
+        copy.setSiteName(source.getSiteName());
+        copy.setBillingMode(source.getBillingMode());
+        return copy;
+    }
+}
@@ -7,7 +7,6 @@
 package org.eclipse.xpanse.plugins.flexibleengine;
 
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
-import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
 import static org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineConstants.DEFAULT_SITE;
 import static org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineConstants.ENDPOINT_SUFFIX;
 import static org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineConstants.IAM_ENDPOINT_PREFIX;
@@ -21,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
@@ -103,7 +103,7 @@ public class FlexibleEngineOrchestratorPlugin implements OrchestratorPlugin {
     }
 
     @Override
-    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME)
+    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME, sync = true)
     public List<String> getAvailabilityZonesOfRegion(
             String site, String region, String userId, UUID serviceId, UUID serviceTemplateId) {
         return resourceManager.getAvailabilityZonesOfRegion(site, region, userId);
@@ -273,13 +273,30 @@ public class FlexibleEngineOrchestratorPlugin implements OrchestratorPlugin {
         return vmStateManager.restartService(serviceStateManageRequest);
     }
 
+    @Override
+    public CompletableFuture<Boolean> startServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        return vmStateManager.startServiceAsync(serviceStateManageRequest);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> stopServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        return vmStateManager.stopServiceAsync(serviceStateManageRequest);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> restartServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        return vmStateManager.restartServiceAsync(serviceStateManageRequest);
+    }
+
     @Override
     public void auditApiRequest(AuditLog auditLog) {
         log.info(auditLog.toString());
     }
 
     @Override
-    @Cacheable(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request")
     public FlavorPriceResult getServiceFlavorPrice(ServiceFlavorPriceRequest request) {
         return pricingCalculator.getServiceFlavorPrice(request);
     }
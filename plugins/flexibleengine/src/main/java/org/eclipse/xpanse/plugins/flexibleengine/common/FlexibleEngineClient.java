@@ -18,6 +18,7 @@ import static org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineCon
 import com.huaweicloud.sdk.ces.v1.CesClient;
 import com.huaweicloud.sdk.core.HcClient;
 import com.huaweicloud.sdk.core.HttpListener;
+import com.huaweicloud.sdk.core.auth.AbstractCredentials;
 import com.huaweicloud.sdk.core.auth.BasicCredentials;
 import com.huaweicloud.sdk.core.auth.ICredential;
 import com.huaweicloud.sdk.core.http.HttpConfig;
@@ -30,11 +31,15 @@ import com.huaweicloud.sdk.iam.v3.model.KeystoneListProjectsResponse;
 import com.huaweicloud.sdk.vpc.v2.VpcClient;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspClientKey;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspClientPool;
 import org.eclipse.xpanse.plugins.flexibleengine.config.FlexibleEnginePluginProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -48,12 +53,16 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
 
     private final FlexibleEngineRetryStrategy flexibleEngineRetryStrategy;
 
+    private final CspClientPool cspClientPool;
+
     @Autowired
     public FlexibleEngineClient(
             FlexibleEnginePluginProperties flexibleEnginePluginProperties,
-            FlexibleEngineRetryStrategy flexibleEngineRetryStrategy) {
+            FlexibleEngineRetryStrategy flexibleEngineRetryStrategy,
+            CspClientPool cspClientPool) {
         this.flexibleEnginePluginProperties = flexibleEnginePluginProperties;
         this.flexibleEngineRetryStrategy = flexibleEngineRetryStrategy;
+        this.cspClientPool = cspClientPool;
     }
 
     /**
@@ -64,8 +73,8 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service ECS.
      */
     public EcsClient getEcsClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, ECS_ENDPOINT_PREFIX, regionName);
-        return new EcsClient(hcClient);
+        return getPooledClient(
+                credential, ECS_ENDPOINT_PREFIX, regionName, EcsClient.class, EcsClient::new);
     }
 
     /**
@@ -76,8 +85,8 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service CES.
      */
     public CesClient getCesClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, CES_ENDPOINT_PREFIX, regionName);
-        return new CesClient(hcClient);
+        return getPooledClient(
+                credential, CES_ENDPOINT_PREFIX, regionName, CesClient.class, CesClient::new);
     }
 
     /**
@@ -88,8 +97,8 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service VPC.
      */
     public VpcClient getVpcClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, VPC_ENDPOINT_PREFIX, regionName);
-        return new VpcClient(hcClient);
+        return getPooledClient(
+                credential, VPC_ENDPOINT_PREFIX, regionName, VpcClient.class, VpcClient::new);
     }
 
     /**
@@ -100,8 +109,8 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service EIP.
      */
     public EipClient getEipClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, EIP_ENDPOINT_PREFIX, regionName);
-        return new EipClient(hcClient);
+        return getPooledClient(
+                credential, EIP_ENDPOINT_PREFIX, regionName, EipClient.class, EipClient::new);
     }
 
     /**
@@ -112,11 +121,35 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service EVS.
      */
     public EvsClient getEvsClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, EVS_ENDPOINT_PREFIX, regionName);
-        return new EvsClient(hcClient);
+        return getPooledClient(
+                credential, EVS_ENDPOINT_PREFIX, regionName, EvsClient.class, EvsClient::new);
+    }
+
+    private <C> C getPooledClient(
+            ICredential credential,
+            String servicePrefix,
+            String regionName,
+            Class<C> clientType,
+            Function<HcClient, C> clientBuilder) {
+        if (!(credential instanceof AbstractCredentials<?> credentials)) {
+            return clientBuilder.apply(buildHcClient(credential, servicePrefix, regionName));
+        }
+        // the pooled client keeps the credential with the project id of the region.
+        String credentialFingerprint =
+                cspClientPool.getCredentialFingerprint(
+                        credentials.getClass().getName(),
+                        credentials.getAk(),
+                        credentials.getSk(),
+                        credentials.getSecurityToken());
+        return cspClientPool.getClient(
+                new CspClientKey(
+                        Csp.FLEXIBLE_ENGINE, credentialFingerprint, regionName, servicePrefix),
+                clientType,
+                () -> clientBuilder.apply(buildHcClient(credential, servicePrefix, regionName)));
     }
 
-    private HcClient getHcClient(ICredential credential, String servicePrefix, String regionName) {
+    private HcClient buildHcClient(
+            ICredential credential, String servicePrefix, String regionName) {
         String endpoint = PROTOCOL_HTTPS + servicePrefix + regionName + ENDPOINT_SUFFIX;
         HcClient hcClient = new HcClient(getHttpConfig());
         hcClient.withCredential(getCredentialWithProjectId(credential, regionName));
@@ -20,12 +20,15 @@ import com.huaweicloud.sdk.ecs.v2.model.ShowJobRequest;
 import com.huaweicloud.sdk.ecs.v2.model.ShowJobResponse;
 import com.huaweicloud.sdk.ecs.v2.model.ShowJobResponse.StatusEnum;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.credential.CredentialCenter;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.enums.CredentialType;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.CspJobResult;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.CspJobTracker;
 import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
 import org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineClient;
 import org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineRetryStrategy;
@@ -43,6 +46,7 @@ public class FlexibleEngineVmStateManager {
     private final FlexibleEngineClient flexibleEngineClient;
     private final FlexibleEngineServerManageRequestConverter requestConverter;
     private final FlexibleEngineRetryStrategy flexibleEngineRetryStrategy;
+    private final CspJobTracker cspJobTracker;
 
     /** Constructor method. */
     @Autowired
@@ -50,11 +54,13 @@ public class FlexibleEngineVmStateManager {
             CredentialCenter credentialCenter,
             FlexibleEngineClient flexibleEngineClient,
             FlexibleEngineServerManageRequestConverter requestConverter,
-            FlexibleEngineRetryStrategy flexibleEngineRetryStrategy) {
+            FlexibleEngineRetryStrategy flexibleEngineRetryStrategy,
+            CspJobTracker cspJobTracker) {
         this.credentialCenter = credentialCenter;
         this.flexibleEngineClient = flexibleEngineClient;
         this.requestConverter = requestConverter;
         this.flexibleEngineRetryStrategy = flexibleEngineRetryStrategy;
+        this.cspJobTracker = cspJobTracker;
     }
 
     /** Start the FlexibleEngine Ecs server. */
@@ -66,17 +72,8 @@ public class FlexibleEngineVmStateManager {
     public boolean startService(ServiceStateManageRequest serviceStateManageRequest) {
         try {
             EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
-            BatchStartServersRequest request =
-                    requestConverter.buildBatchStartServersRequest(
-                            serviceStateManageRequest.getServiceResourceEntityList());
-            BatchStartServersResponse response =
-                    ecsClient
-                            .batchStartServersInvoker(request)
-                            .retryTimes(flexibleEngineRetryStrategy.getRetryMaxAttempts())
-                            .retryCondition(flexibleEngineRetryStrategy::matchRetryCondition)
-                            .backoffStrategy(flexibleEngineRetryStrategy)
-                            .invoke();
-            return checkEcsExecResultByJobId(ecsClient, response.getJobId());
+            String jobId = batchStartServers(ecsClient, serviceStateManageRequest);
+            return checkEcsExecResultByJobId(ecsClient, jobId);
         } catch (Exception e) {
             log.error("Start service {} failed.", serviceStateManageRequest.getServiceId());
             flexibleEngineRetryStrategy.handleAuthExceptionForSpringRetry(e);
@@ -93,17 +90,8 @@ public class FlexibleEngineVmStateManager {
     public boolean stopService(ServiceStateManageRequest serviceStateManageRequest) {
         try {
             EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
-            BatchStopServersRequest batchStopServersRequest =
-                    requestConverter.buildBatchStopServersRequest(
-                            serviceStateManageRequest.getServiceResourceEntityList());
-            BatchStopServersResponse response =
-                    ecsClient
-                            .batchStopServersInvoker(batchStopServersRequest)
-                            .retryTimes(flexibleEngineRetryStrategy.getRetryMaxAttempts())
-                            .retryCondition(flexibleEngineRetryStrategy::matchRetryCondition)
-                            .backoffStrategy(flexibleEngineRetryStrategy)
-                            .invoke();
-            return checkEcsExecResultByJobId(ecsClient, response.getJobId());
+            String jobId = batchStopServers(ecsClient, serviceStateManageRequest);
+            return checkEcsExecResultByJobId(ecsClient, jobId);
         } catch (Exception e) {
             log.error("Stop service {} failed.", serviceStateManageRequest.getServiceId());
             flexibleEngineRetryStrategy.handleAuthExceptionForSpringRetry(e);
@@ -120,17 +108,8 @@ public class FlexibleEngineVmStateManager {
     public boolean restartService(ServiceStateManageRequest serviceStateManageRequest) {
         try {
             EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
-            BatchRebootServersRequest request =
-                    requestConverter.buildBatchRebootServersRequest(
-                            serviceStateManageRequest.getServiceResourceEntityList());
-            BatchRebootServersResponse response =
-                    ecsClient
-                            .batchRebootServersInvoker(request)
-                            .retryTimes(flexibleEngineRetryStrategy.getRetryMaxAttempts())
-                            .retryCondition(flexibleEngineRetryStrategy::matchRetryCondition)
-                            .backoffStrategy(flexibleEngineRetryStrategy)
-                            .invoke();
-            return checkEcsExecResultByJobId(ecsClient, response.getJobId());
+            String jobId = batchRebootServers(ecsClient, serviceStateManageRequest);
+            return checkEcsExecResultByJobId(ecsClient, jobId);
         } catch (Exception e) {
             log.error("Restart service {} failed.", serviceStateManageRequest.getServiceId());
             flexibleEngineRetryStrategy.handleAuthExceptionForSpringRetry(e);
@@ -138,6 +117,120 @@ public class FlexibleEngineVmStateManager {
         }
     }
 
+    /**
+     * Start the FlexibleEngine Ecs server without waiting for the job. The job is tracked by the
+     * {@link CspJobTracker}.
+     */
+    @Retryable(
+            retryFor = ClientApiCallFailedException.class,
+            maxAttemptsExpression = "${xpanse.http-client-request.retry-max-attempts}",
+            backoff =
+                    @Backoff(delayExpression = "${xpanse.http-client-request.delay-milliseconds}"))
+    public CompletableFuture<Boolean> startServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        try {
+            EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
+            String jobId = batchStartServers(ecsClient, serviceStateManageRequest);
+            return cspJobTracker.track(
+                    Csp.FLEXIBLE_ENGINE, jobId, () -> getEcsJobResult(ecsClient, jobId));
+        } catch (Exception e) {
+            log.error("Start service {} failed.", serviceStateManageRequest.getServiceId());
+            flexibleEngineRetryStrategy.handleAuthExceptionForSpringRetry(e);
+            throw new ClientApiCallFailedException(e.getMessage());
+        }
+    }
+
+    /**
+     * Stop the FlexibleEngine Ecs server without waiting for the job. The job is tracked by the
+     * {@link CspJobTracker}.
+     */
+    @Retryable(
+            retryFor = ClientApiCallFailedException.class,
+            maxAttemptsExpression = "${xpanse.http-client-request.retry-max-attempts}",
+            backoff =
+                    @Backoff(delayExpression = "${xpanse.http-client-request.delay-milliseconds}"))
+    public CompletableFuture<Boolean> stopServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        try {
+            EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
+            String jobId = batchStopServers(ecsClient, serviceStateManageRequest);
+            return cspJobTracker.track(
+                    Csp.FLEXIBLE_ENGINE, jobId, () -> getEcsJobResult(ecsClient, jobId));
+        } catch (Exception e) {
+            log.error("Stop service {} failed.", serviceStateManageRequest.getServiceId());
+            flexibleEngineRetryStrategy.handleAuthExceptionForSpringRetry(e);
+            throw new ClientApiCallFailedException(e.getMessage());
+        }
+    }
+
+    /**
+     * Restart the FlexibleEngine Ecs server without waiting for the job. The job is tracked by the
+     * {@link CspJobTracker}.
+     */
+    @Retryable(
+            retryFor = ClientApiCallFailedException.class,
+            maxAttemptsExpression = "${xpanse.http-client-request.retry-max-attempts}",
+            backoff =
+                    @Backoff(delayExpression = "${xpanse.http-client-request.delay-milliseconds}"))
+    public CompletableFuture<Boolean> restartServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        try {
+            EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
+            String jobId = batchRebootServers(ecsClient, serviceStateManageRequest);
+            return cspJobTracker.track(
+                    Csp.FLEXIBLE_ENGINE, jobId, () -> getEcsJobResult(ecsClient, jobId));
+        } catch (Exception e) {
+            log.error("Restart service {} failed.", serviceStateManageRequest.getServiceId());
+            flexibleEngineRetryStrategy.handleAuthExceptionForSpringRetry(e);
+            throw new ClientApiCallFailedException(e.getMessage());
+        }
+    }
+
+    private String batchStartServers(
+            EcsClient ecsClient, ServiceStateManageRequest serviceStateManageRequest) {
+        BatchStartServersRequest request =
+                requestConverter.buildBatchStartServersRequest(
+                        serviceStateManageRequest.getServiceResourceEntityList());
+        BatchStartServersResponse response =
+                ecsClient
+                        .batchStartServersInvoker(request)
+                        .retryTimes(flexibleEngineRetryStrategy.getRetryMaxAttempts())
+                        .retryCondition(flexibleEngineRetryStrategy::matchRetryCondition)
+                        .backoffStrategy(flexibleEngineRetryStrategy)
+                        .invoke();
+        return response.getJobId();
+    }
+
+    private String batchStopServers(
+            EcsClient ecsClient, ServiceStateManageRequest serviceStateManageRequest) {
+        BatchStopServersRequest request =
+                requestConverter.buildBatchStopServersRequest(
+                        serviceStateManageRequest.getServiceResourceEntityList());
+        BatchStopServersResponse response =
+                ecsClient
+                        .batchStopServersInvoker(request)
+                        .retryTimes(flexibleEngineRetryStrategy.getRetryMaxAttempts())
+                        .retryCondition(flexibleEngineRetryStrategy::matchRetryCondition)
+                        .backoffStrategy(flexibleEngineRetryStrategy)
+                        .invoke();
+        return response.getJobId();
+    }
+
+    private String batchRebootServers(
+            EcsClient ecsClient, ServiceStateManageRequest serviceStateManageRequest) {
+        BatchRebootServersRequest request =
+                requestConverter.buildBatchRebootServersRequest(
+                        serviceStateManageRequest.getServiceResourceEntityList());
+        BatchRebootServersResponse response =
+                ecsClient
+                        .batchRebootServersInvoker(request)
+                        .retryTimes(flexibleEngineRetryStrategy.getRetryMaxAttempts())
+                        .retryCondition(flexibleEngineRetryStrategy::matchRetryCondition)
+                        .backoffStrategy(flexibleEngineRetryStrategy)
+                        .invoke();
+        return response.getJobId();
+    }
+
     private EcsClient getEcsClient(ServiceStateManageRequest serviceStateManageRequest) {
         String siteName = serviceStateManageRequest.getRegion().getSite();
         String regionName = serviceStateManageRequest.getRegion().getName();
@@ -170,6 +263,21 @@ public class FlexibleEngineVmStateManager {
         return response.getStatus().equals(StatusEnum.SUCCESS);
     }
 
+    private CspJobResult getEcsJobResult(EcsClient ecsClient, String jobId) {
+        ShowJobResponse response =
+                ecsClient.showJobInvoker(new ShowJobRequest().withJobId(jobId)).invoke();
+        if (response.getStatus() == StatusEnum.SUCCESS) {
+            return CspJobResult.succeeded();
+        }
+        if (response.getStatus() == StatusEnum.FAIL) {
+            return CspJobResult.failed(
+                    String.format(
+                            "Manage vm operation failed. JobId: %s reason: %s message: %s",
+                            jobId, response.getFailReason(), response.getMessage()));
+        }
+        return CspJobResult.running();
+    }
+
     private boolean jobIsNotSuccess(ShowJobResponse response, Exception ex) {
         if (Objects.nonNull(ex)) {
             return false;
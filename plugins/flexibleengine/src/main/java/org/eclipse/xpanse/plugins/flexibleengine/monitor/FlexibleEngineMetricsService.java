@@ -33,6 +33,7 @@ import org.eclipse.xpanse.modules.models.monitor.Metric;
 import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
 import org.eclipse.xpanse.modules.models.monitor.exceptions.MetricsDataNotYetAvailableException;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.orchestrator.monitor.MetricsFanOutExecutor;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineClient;
@@ -53,6 +54,7 @@ public class FlexibleEngineMetricsService {
     private final FlexibleEngineDataModelConverter modelConverter;
     private final CredentialCenter credentialCenter;
     private final FlexibleEngineRetryStrategy flexibleEngineRetryStrategy;
+    private final MetricsFanOutExecutor metricsFanOutExecutor;
 
     /** Constructor method. */
     @Autowired
@@ -61,12 +63,14 @@ public class FlexibleEngineMetricsService {
             MonitorMetricsStore monitorMetricsStore,
             FlexibleEngineDataModelConverter modelConverter,
             CredentialCenter credentialCenter,
-            FlexibleEngineRetryStrategy flexibleEngineRetryStrategy) {
+            FlexibleEngineRetryStrategy flexibleEngineRetryStrategy,
+            MetricsFanOutExecutor metricsFanOutExecutor) {
         this.flexibleEngineClient = flexibleEngineClient;
         this.monitorMetricsStore = monitorMetricsStore;
         this.modelConverter = modelConverter;
         this.credentialCenter = credentialCenter;
         this.flexibleEngineRetryStrategy = flexibleEngineRetryStrategy;
+        this.metricsFanOutExecutor = metricsFanOutExecutor;
     }
 
     /**
@@ -150,15 +154,24 @@ public class FlexibleEngineMetricsService {
             ICredential icredential = flexibleEngineClient.getCredential(credential);
             CesClient client = flexibleEngineClient.getCesClient(icredential, regionName);
             MonitorResourceType monitorResourceType = serviceMetricRequest.getMonitorResourceType();
+            // the metrics of each resource can only be listed one by one.
+            List<Map.Entry<String, List<MetricInfoList>>> resourceMetricInfos =
+                    metricsFanOutExecutor.queryAll(
+                            Csp.FLEXIBLE_ENGINE,
+                            deployResources,
+                            deployResource ->
+                                    Map.entry(
+                                            deployResource.getResourceId(),
+                                            getTargetMetricsMap(
+                                                            deployResource,
+                                                            monitorResourceType,
+                                                            client)
+                                                    .values()
+                                                    .stream()
+                                                    .toList()));
             Map<String, List<MetricInfoList>> deployResourceMetricInfoMap = new HashMap<>();
-            for (DeployResource deployResource : deployResources) {
-                Map<MonitorResourceType, MetricInfoList> targetMetricsMap =
-                        getTargetMetricsMap(deployResource, monitorResourceType, client);
-                List<MetricInfoList> targetMetricInfoList =
-                        targetMetricsMap.values().stream().toList();
-                deployResourceMetricInfoMap.put(
-                        deployResource.getResourceId(), targetMetricInfoList);
-            }
+            resourceMetricInfos.forEach(
+                    entry -> deployResourceMetricInfoMap.put(entry.getKey(), entry.getValue()));
             BatchListMetricDataRequest batchListMetricDataRequest =
                     modelConverter.buildBatchListMetricDataRequest(
                             serviceMetricRequest, deployResourceMetricInfoMap);
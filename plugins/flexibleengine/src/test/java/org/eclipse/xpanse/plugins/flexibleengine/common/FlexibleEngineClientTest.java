@@ -1,17 +1,27 @@
 package org.eclipse.xpanse.plugins.flexibleengine.common;
 
 import static org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineConstants.DEFAULT_SITE;
+import static org.mockito.Mockito.mock;
 
+import com.huaweicloud.sdk.ces.v1.CesClient;
+import com.huaweicloud.sdk.core.HcClient;
+import com.huaweicloud.sdk.core.auth.AbstractCredentials;
 import com.huaweicloud.sdk.core.auth.ICredential;
+import com.huaweicloud.sdk.core.http.HttpConfig;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariables;
 import org.eclipse.xpanse.modules.models.credential.enums.CredentialType;
 import org.eclipse.xpanse.modules.models.credential.exceptions.CredentialsNotFoundException;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspClientKey;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspClientPool;
+import org.eclipse.xpanse.plugins.flexibleengine.config.FlexibleEnginePluginProperties;
 import org.eclipse.xpanse.plugins.flexibleengine.monitor.constant.FlexibleEngineMonitorConstants;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,10 +30,19 @@ import org.junit.jupiter.api.Test;
 class FlexibleEngineClientTest {
 
     private FlexibleEngineClient testClient;
+    private CspClientPool cspClientPool;
 
     @BeforeEach
     void setUp() {
-        testClient = new FlexibleEngineClient(null, null);
+        FlexibleEnginePluginProperties flexibleEnginePluginProperties =
+                new FlexibleEnginePluginProperties();
+        flexibleEnginePluginProperties.setEnableSdkHttpDebugLogs(false);
+        cspClientPool = new CspClientPool(new OrchestratorProperties());
+        testClient =
+                new FlexibleEngineClient(
+                        flexibleEnginePluginProperties,
+                        mock(FlexibleEngineRetryStrategy.class),
+                        cspClientPool);
     }
 
     @Test
@@ -52,7 +71,39 @@ class FlexibleEngineClientTest {
 
         // Verify the results
         Assertions.assertThrows(
-                Exception.class, () -> testClient.getCesClient(iCredential, "eu-west-0"));
+                ClientApiCallFailedException.class,
+                () -> testClient.getCesClient(iCredential, "eu-west-0"));
+        Assertions.assertEquals(0, cspClientPool.getPooledClientsCount());
+    }
+
+    @Test
+    void testGetCesClientReturnsPooledClient() {
+        // Setup
+        ICredential iCredential = testClient.getCredential(getCredentialDefinition("ak", "sk"));
+        AbstractCredentials<?> credentials = (AbstractCredentials<?>) iCredential;
+        CspClientKey key =
+                new CspClientKey(
+                        Csp.FLEXIBLE_ENGINE,
+                        cspClientPool.getCredentialFingerprint(
+                                credentials.getClass().getName(),
+                                credentials.getAk(),
+                                credentials.getSk(),
+                                credentials.getSecurityToken()),
+                        "eu-west-0",
+                        FlexibleEngineConstants.CES_ENDPOINT_PREFIX);
+        CesClient pooledClient = new CesClient(new HcClient(HttpConfig.getDefaultHttpConfig()));
+        cspClientPool.getClient(key, CesClient.class, () -> pooledClient);
+
+        // Run the test
+        CesClient result = testClient.getCesClient(iCredential, "eu-west-0");
+        CesClient resultOfSameCredential =
+                testClient.getCesClient(
+                        testClient.getCredential(getCredentialDefinition("ak", "sk")), "eu-west-0");
+
+        // Verify the results
+        Assertions.assertSame(pooledClient, result);
+        Assertions.assertSame(pooledClient, resultOfSameCredential);
+        Assertions.assertEquals(1, cspClientPool.getPooledClientsCount());
     }
 
     private CredentialVariables getCredentialDefinition(String akValue, String skValue) {
@@ -27,8 +27,11 @@ import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.eclipse.xpanse.modules.orchestrator.monitor.MetricsFanOutExecutor;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.CspJobTracker;
 import org.eclipse.xpanse.plugins.flexibleengine.FlexibleEngineOrchestratorPlugin;
 import org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineClient;
 import org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineConstants;
@@ -56,6 +59,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
             FlexibleEngineVmStateManager.class,
             FlexibleEngineServerManageRequestConverter.class,
             FlexibleEngineMetricsService.class,
+            MetricsFanOutExecutor.class,
+            OrchestratorProperties.class,
             FlexibleEngineClient.class,
             FlexibleEngineMonitorConstants.class,
             FlexibleEngineDataModelConverter.class,
@@ -93,6 +98,8 @@ class FlexibleEngineMonitorIntegrationTest {
 
     @MockitoBean FlexibleEngineRetryStrategy retryStrategy;
 
+    @MockitoBean CspJobTracker cspJobTracker;
+
     ResourceMetricsRequest setUpResourceMetricRequest(
             MonitorResourceType monitorResourceType,
             Long from,
@@ -7,7 +7,6 @@
 package org.eclipse.xpanse.plugins.huaweicloud;
 
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
-import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
 
 import com.huaweicloud.sdk.iam.v3.region.IamRegion;
 import java.io.File;
@@ -17,6 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
@@ -95,7 +95,7 @@ public class HuaweiCloudOrchestratorPlugin implements OrchestratorPlugin {
     }
 
     @Override
-    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME)
+    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME, sync = true)
     public List<String> getAvailabilityZonesOfRegion(
             String siteName,
             String regionName,
@@ -251,13 +251,30 @@ public class HuaweiCloudOrchestratorPlugin implements OrchestratorPlugin {
         return vmStateManager.restartService(serviceStateManageRequest);
     }
 
+    @Override
+    public CompletableFuture<Boolean> startServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        return vmStateManager.startServiceAsync(serviceStateManageRequest);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> stopServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        return vmStateManager.stopServiceAsync(serviceStateManageRequest);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> restartServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        return vmStateManager.restartServiceAsync(serviceStateManageRequest);
+    }
+
     @Override
     public void auditApiRequest(AuditLog auditLog) {
         log.info(auditLog.toString());
     }
 
     @Override
-    @Cacheable(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request")
     public FlavorPriceResult getServiceFlavorPrice(ServiceFlavorPriceRequest request) {
         return priceCalculator.getServiceFlavorPrice(request);
     }
@@ -13,6 +13,7 @@ import com.huaweicloud.sdk.bssintl.v2.region.BssintlRegion;
 import com.huaweicloud.sdk.ces.v1.CesClient;
 import com.huaweicloud.sdk.ces.v1.region.CesRegion;
 import com.huaweicloud.sdk.core.HttpListener;
+import com.huaweicloud.sdk.core.auth.AbstractCredentials;
 import com.huaweicloud.sdk.core.auth.ICredential;
 import com.huaweicloud.sdk.core.http.HttpConfig;
 import com.huaweicloud.sdk.ecs.v2.EcsClient;
@@ -25,10 +26,14 @@ import com.huaweicloud.sdk.iam.v3.IamClient;
 import com.huaweicloud.sdk.iam.v3.region.IamRegion;
 import com.huaweicloud.sdk.vpc.v2.VpcClient;
 import com.huaweicloud.sdk.vpc.v2.region.VpcRegion;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.common.proxy.ProxyConfigurationManager;
 import org.eclipse.xpanse.modules.credential.CredentialCenter;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspClientKey;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspClientPool;
 import org.eclipse.xpanse.plugins.huaweicloud.config.HuaweiCloudPluginProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -38,18 +43,23 @@ import org.springframework.stereotype.Component;
 @Component
 public class HuaweiCloudClient extends HuaweiCloudCredentials {
 
+    private static final String GLOBAL_REGION = "global";
+
     private final ProxyConfigurationManager proxyConfigurationManager;
     private final HuaweiCloudPluginProperties huaweiCloudPluginProperties;
+    private final CspClientPool cspClientPool;
 
     /** Constructor method. */
     @Autowired
     public HuaweiCloudClient(
             ProxyConfigurationManager proxyConfigurationManager,
             HuaweiCloudPluginProperties huaweiCloudPluginProperties,
-            CredentialCenter credentialCenter) {
+            CredentialCenter credentialCenter,
+            CspClientPool cspClientPool) {
         super(credentialCenter);
         this.proxyConfigurationManager = proxyConfigurationManager;
         this.huaweiCloudPluginProperties = huaweiCloudPluginProperties;
+        this.cspClientPool = cspClientPool;
     }
 
     /**
@@ -59,11 +69,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public CesClient getCesClient(ICredential credential, String regionName) {
-        return CesClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(CesRegion.valueOf(regionName))
-                .build();
+        return getPooledClient(
+                credential,
+                regionName,
+                "ces",
+                CesClient.class,
+                () ->
+                        CesClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(credential)
+                                .withRegion(CesRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -73,10 +89,16 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public EcsClient getEcsClient(ICredential credential, String regionName) {
-        return EcsClient.newBuilder()
-                .withCredential(credential)
-                .withRegion(EcsRegion.valueOf(regionName))
-                .build();
+        return getPooledClient(
+                credential,
+                regionName,
+                "ecs",
+                EcsClient.class,
+                () ->
+                        EcsClient.newBuilder()
+                                .withCredential(credential)
+                                .withRegion(EcsRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -86,11 +108,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public VpcClient getVpcClient(ICredential credential, String regionName) {
-        return VpcClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(VpcRegion.valueOf(regionName))
-                .build();
+        return getPooledClient(
+                credential,
+                regionName,
+                "vpc",
+                VpcClient.class,
+                () ->
+                        VpcClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(credential)
+                                .withRegion(VpcRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -100,11 +128,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public EipClient getEipClient(ICredential credential, String regionName) {
-        return EipClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(EipRegion.valueOf(regionName))
-                .build();
+        return getPooledClient(
+                credential,
+                regionName,
+                "eip",
+                EipClient.class,
+                () ->
+                        EipClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(credential)
+                                .withRegion(EipRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -114,11 +148,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public EvsClient getEvsClient(ICredential credential, String regionName) {
-        return EvsClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(EvsRegion.valueOf(regionName))
-                .build();
+        return getPooledClient(
+                credential,
+                regionName,
+                "evs",
+                EvsClient.class,
+                () ->
+                        EvsClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(credential)
+                                .withRegion(EvsRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -128,11 +168,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public IamClient getIamClient(ICredential globalCredential, String regionName) {
-        return IamClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(globalCredential)
-                .withRegion(IamRegion.valueOf(regionName))
-                .build();
+        return getPooledClient(
+                globalCredential,
+                regionName,
+                "iam",
+                IamClient.class,
+                () ->
+                        IamClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(globalCredential)
+                                .withRegion(IamRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -141,12 +187,19 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param globalCredential ICredential
      */
     public BssClient getBssClient(ICredential globalCredential) {
-        return BssClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(globalCredential)
-                // The fixed BssRegion maps the endpoint 'https://bss.myhuaweicloud.com'
-                .withRegion(BssRegion.CN_NORTH_1)
-                .build();
+        return getPooledClient(
+                globalCredential,
+                GLOBAL_REGION,
+                "bss",
+                BssClient.class,
+                () ->
+                        BssClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(globalCredential)
+                                // The fixed BssRegion maps the endpoint
+                                // 'https://bss.myhuaweicloud.com'
+                                .withRegion(BssRegion.CN_NORTH_1)
+                                .build());
     }
 
     /**
@@ -155,12 +208,41 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param globalCredential ICredential
      */
     public BssintlClient getBssintlClient(ICredential globalCredential) {
-        return BssintlClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(globalCredential)
-                // The fixed BssintlRegion maps the endpoint 'https://bss-intl.myhuaweicloud.com'.
-                .withRegion(BssintlRegion.AP_SOUTHEAST_1)
-                .build();
+        return getPooledClient(
+                globalCredential,
+                GLOBAL_REGION,
+                "bssintl",
+                BssintlClient.class,
+                () ->
+                        BssintlClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(globalCredential)
+                                // The fixed BssintlRegion maps the endpoint
+                                // 'https://bss-intl.myhuaweicloud.com'.
+                                .withRegion(BssintlRegion.AP_SOUTHEAST_1)
+                                .build());
+    }
+
+    private <C> C getPooledClient(
+            ICredential credential,
+            String regionName,
+            String service,
+            Class<C> clientType,
+            Supplier<C> clientBuilder) {
+        if (!(credential instanceof AbstractCredentials<?> credentials)) {
+            return clientBuilder.get();
+        }
+        String credentialFingerprint =
+                cspClientPool.getCredentialFingerprint(
+                        credentials.getClass().getName(),
+                        credentials.getAk(),
+                        credentials.getSk(),
+                        credentials.getSecurityToken(),
+                        credentials.getIamEndpoint());
+        return cspClientPool.getClient(
+                new CspClientKey(Csp.HUAWEI_CLOUD, credentialFingerprint, regionName, service),
+                clientType,
+                clientBuilder);
     }
 
     private HttpConfig getHttpConfig() {
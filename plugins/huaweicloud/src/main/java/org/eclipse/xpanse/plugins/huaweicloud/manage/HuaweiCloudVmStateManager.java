@@ -20,8 +20,12 @@ import com.huaweicloud.sdk.ecs.v2.model.ShowJobRequest;
 import com.huaweicloud.sdk.ecs.v2.model.ShowJobResponse;
 import com.huaweicloud.sdk.ecs.v2.model.ShowJobResponse.StatusEnum;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.CspJobResult;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.CspJobTracker;
 import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudClient;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudRetryStrategy;
@@ -38,16 +42,19 @@ public class HuaweiCloudVmStateManager {
     private final HuaweiCloudClient huaweiCloudClient;
     private final HuaweiCloudServerManageRequestConverter converter;
     private final HuaweiCloudRetryStrategy huaweiCloudRetryStrategy;
+    private final CspJobTracker cspJobTracker;
 
     /** Constructor method. */
     @Autowired
     public HuaweiCloudVmStateManager(
             HuaweiCloudClient huaweiCloudClient,
             HuaweiCloudServerManageRequestConverter converter,
-            HuaweiCloudRetryStrategy huaweiCloudRetryStrategy) {
+            HuaweiCloudRetryStrategy huaweiCloudRetryStrategy,
+            CspJobTracker cspJobTracker) {
         this.huaweiCloudClient = huaweiCloudClient;
         this.converter = converter;
         this.huaweiCloudRetryStrategy = huaweiCloudRetryStrategy;
+        this.cspJobTracker = cspJobTracker;
     }
 
     /** Start the Huawei Cloud Ecs server. */
@@ -59,17 +66,8 @@ public class HuaweiCloudVmStateManager {
     public boolean startService(ServiceStateManageRequest serviceStateManageRequest) {
         try {
             EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
-            BatchStartServersRequest request =
-                    converter.buildBatchStartServersRequest(
-                            serviceStateManageRequest.getServiceResourceEntityList());
-            BatchStartServersResponse response =
-                    ecsClient
-                            .batchStartServersInvoker(request)
-                            .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
-                            .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
-                            .backoffStrategy(huaweiCloudRetryStrategy)
-                            .invoke();
-            return checkEcsExecResultByJobId(ecsClient, response.getJobId());
+            String jobId = batchStartServers(ecsClient, serviceStateManageRequest);
+            return checkEcsExecResultByJobId(ecsClient, jobId);
         } catch (Exception e) {
             log.error("Start service {} failed", serviceStateManageRequest.getServiceId());
             huaweiCloudRetryStrategy.handleAuthExceptionForSpringRetry(e);
@@ -86,17 +84,8 @@ public class HuaweiCloudVmStateManager {
     public boolean stopService(ServiceStateManageRequest serviceStateManageRequest) {
         try {
             EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
-            BatchStopServersRequest batchStopServersRequest =
-                    converter.buildBatchStopServersRequest(
-                            serviceStateManageRequest.getServiceResourceEntityList());
-            BatchStopServersResponse response =
-                    ecsClient
-                            .batchStopServersInvoker(batchStopServersRequest)
-                            .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
-                            .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
-                            .backoffStrategy(huaweiCloudRetryStrategy)
-                            .invoke();
-            return checkEcsExecResultByJobId(ecsClient, response.getJobId());
+            String jobId = batchStopServers(ecsClient, serviceStateManageRequest);
+            return checkEcsExecResultByJobId(ecsClient, jobId);
         } catch (Exception e) {
             log.error("Stop service {} failed", serviceStateManageRequest.getServiceId());
             huaweiCloudRetryStrategy.handleAuthExceptionForSpringRetry(e);
@@ -113,17 +102,8 @@ public class HuaweiCloudVmStateManager {
     public boolean restartService(ServiceStateManageRequest serviceStateManageRequest) {
         try {
             EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
-            BatchRebootServersRequest request =
-                    converter.buildBatchRebootServersRequest(
-                            serviceStateManageRequest.getServiceResourceEntityList());
-            BatchRebootServersResponse response =
-                    ecsClient
-                            .batchRebootServersInvoker(request)
-                            .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
-                            .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
-                            .backoffStrategy(huaweiCloudRetryStrategy)
-                            .invoke();
-            return checkEcsExecResultByJobId(ecsClient, response.getJobId());
+            String jobId = batchRebootServers(ecsClient, serviceStateManageRequest);
+            return checkEcsExecResultByJobId(ecsClient, jobId);
         } catch (Exception e) {
             log.error("Restart service {} failed", serviceStateManageRequest.getServiceId());
             huaweiCloudRetryStrategy.handleAuthExceptionForSpringRetry(e);
@@ -131,6 +111,120 @@ public class HuaweiCloudVmStateManager {
         }
     }
 
+    /**
+     * Start the Huawei Cloud Ecs server without waiting for the job. The job is tracked by the
+     * {@link CspJobTracker}.
+     */
+    @Retryable(
+            retryFor = ClientApiCallFailedException.class,
+            maxAttemptsExpression = "${xpanse.http-client-request.retry-max-attempts}",
+            backoff =
+                    @Backoff(delayExpression = "${xpanse.http-client-request.delay-milliseconds}"))
+    public CompletableFuture<Boolean> startServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        try {
+            EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
+            String jobId = batchStartServers(ecsClient, serviceStateManageRequest);
+            return cspJobTracker.track(
+                    Csp.HUAWEI_CLOUD, jobId, () -> getEcsJobResult(ecsClient, jobId));
+        } catch (Exception e) {
+            log.error("Start service {} failed", serviceStateManageRequest.getServiceId());
+            huaweiCloudRetryStrategy.handleAuthExceptionForSpringRetry(e);
+            throw new ClientApiCallFailedException(e.getMessage());
+        }
+    }
+
+    /**
+     * Stop the Huawei Cloud Ecs server without waiting for the job. The job is tracked by the
+     * {@link CspJobTracker}.
+     */
+    @Retryable(
+            retryFor = ClientApiCallFailedException.class,
+            maxAttemptsExpression = "${xpanse.http-client-request.retry-max-attempts}",
+            backoff =
+                    @Backoff(delayExpression = "${xpanse.http-client-request.delay-milliseconds}"))
+    public CompletableFuture<Boolean> stopServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        try {
+            EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
+            String jobId = batchStopServers(ecsClient, serviceStateManageRequest);
+            return cspJobTracker.track(
+                    Csp.HUAWEI_CLOUD, jobId, () -> getEcsJobResult(ecsClient, jobId));
+        } catch (Exception e) {
+            log.error("Stop service {} failed", serviceStateManageRequest.getServiceId());
+            huaweiCloudRetryStrategy.handleAuthExceptionForSpringRetry(e);
+            throw new ClientApiCallFailedException(e.getMessage());
+        }
+    }
+
+    /**
+     * Restart the Huawei Cloud Ecs server without waiting for the job. The job is tracked by the
+     * {@link CspJobTracker}.
+     */
+    @Retryable(
+            retryFor = ClientApiCallFailedException.class,
+            maxAttemptsExpression = "${xpanse.http-client-request.retry-max-attempts}",
+            backoff =
+                    @Backoff(delayExpression = "${xpanse.http-client-request.delay-milliseconds}"))
+    public CompletableFuture<Boolean> restartServiceAsync(
+            ServiceStateManageRequest serviceStateManageRequest) {
+        try {
+            EcsClient ecsClient = getEcsClient(serviceStateManageRequest);
+            String jobId = batchRebootServers(ecsClient, serviceStateManageRequest);
+            return cspJobTracker.track(
+                    Csp.HUAWEI_CLOUD, jobId, () -> getEcsJobResult(ecsClient, jobId));
+        } catch (Exception e) {
+            log.error("Restart service {} failed", serviceStateManageRequest.getServiceId());
+            huaweiCloudRetryStrategy.handleAuthExceptionForSpringRetry(e);
+            throw new ClientApiCallFailedException(e.getMessage());
+        }
+    }
+
+    private String batchStartServers(
+            EcsClient ecsClient, ServiceStateManageRequest serviceStateManageRequest) {
+        BatchStartServersRequest request =
+                converter.buildBatchStartServersRequest(
+                        serviceStateManageRequest.getServiceResourceEntityList());
+        BatchStartServersResponse response =
+                ecsClient
+                        .batchStartServersInvoker(request)
+                        .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
+                        .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
+                        .backoffStrategy(huaweiCloudRetryStrategy)
+                        .invoke();
+        return response.getJobId();
+    }
+
+    private String batchStopServers(
+            EcsClient ecsClient, ServiceStateManageRequest serviceStateManageRequest) {
+        BatchStopServersRequest request =
+                converter.buildBatchStopServersRequest(
+                        serviceStateManageRequest.getServiceResourceEntityList());
+        BatchStopServersResponse response =
+                ecsClient
+                        .batchStopServersInvoker(request)
+                        .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
+                        .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
+                        .backoffStrategy(huaweiCloudRetryStrategy)
+                        .invoke();
+        return response.getJobId();
+    }
+
+    private String batchRebootServers(
+            EcsClient ecsClient, ServiceStateManageRequest serviceStateManageRequest) {
+        BatchRebootServersRequest request =
+                converter.buildBatchRebootServersRequest(
+                        serviceStateManageRequest.getServiceResourceEntityList());
+        BatchRebootServersResponse response =
+                ecsClient
+                        .batchRebootServersInvoker(request)
+                        .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
+                        .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
+                        .backoffStrategy(huaweiCloudRetryStrategy)
+                        .invoke();
+        return response.getJobId();
+    }
+
     private EcsClient getEcsClient(ServiceStateManageRequest serviceStateManageRequest) {
         String siteName = serviceStateManageRequest.getRegion().getSite();
         String regionName = serviceStateManageRequest.getRegion().getName();
@@ -158,6 +252,21 @@ public class HuaweiCloudVmStateManager {
         return response.getStatus().equals(StatusEnum.SUCCESS);
     }
 
+    private CspJobResult getEcsJobResult(EcsClient ecsClient, String jobId) {
+        ShowJobResponse response =
+                ecsClient.showJobInvoker(new ShowJobRequest().withJobId(jobId)).invoke();
+        if (response.getStatus() == StatusEnum.SUCCESS) {
+            return CspJobResult.succeeded();
+        }
+        if (response.getStatus() == StatusEnum.FAIL) {
+            return CspJobResult.failed(
+                    String.format(
+                            "Manage vm operation failed. JobId: %s reason: %s message: %s",
+                            jobId, response.getFailReason(), response.getMessage()));
+        }
+        return CspJobResult.running();
+    }
+
     private boolean jobIsNotSuccess(ShowJobResponse response, Exception ex) {
         if (Objects.nonNull(ex)) {
             return false;
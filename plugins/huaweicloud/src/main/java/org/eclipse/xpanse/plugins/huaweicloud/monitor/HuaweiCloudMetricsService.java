@@ -30,6 +30,7 @@ import org.eclipse.xpanse.modules.models.monitor.Metric;
 import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
 import org.eclipse.xpanse.modules.models.monitor.exceptions.MetricsDataNotYetAvailableException;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.orchestrator.monitor.MetricsFanOutExecutor;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudClient;
@@ -49,6 +50,7 @@ public class HuaweiCloudMetricsService {
     private final MonitorMetricsStore monitorMetricsStore;
     private final HuaweiCloudDataModelConverter huaweiCloudDataModelConverter;
     private final HuaweiCloudRetryStrategy huaweiCloudRetryStrategy;
+    private final MetricsFanOutExecutor metricsFanOutExecutor;
 
     /** Constructor method. */
     @Autowired
@@ -56,11 +58,13 @@ public class HuaweiCloudMetricsService {
             HuaweiCloudClient huaweiCloudClient,
             MonitorMetricsStore monitorMetricsStore,
             HuaweiCloudDataModelConverter huaweiCloudDataModelConverter,
-            HuaweiCloudRetryStrategy huaweiCloudRetryStrategy) {
+            HuaweiCloudRetryStrategy huaweiCloudRetryStrategy,
+            MetricsFanOutExecutor metricsFanOutExecutor) {
         this.huaweiCloudClient = huaweiCloudClient;
         this.monitorMetricsStore = monitorMetricsStore;
         this.huaweiCloudDataModelConverter = huaweiCloudDataModelConverter;
         this.huaweiCloudRetryStrategy = huaweiCloudRetryStrategy;
+        this.metricsFanOutExecutor = metricsFanOutExecutor;
     }
 
     /**
@@ -138,15 +142,24 @@ public class HuaweiCloudMetricsService {
             ICredential icredential =
                     huaweiCloudClient.getBasicCredential(siteName, regionName, userId);
             CesClient client = huaweiCloudClient.getCesClient(icredential, regionName);
+            // the metrics of each resource can only be listed one by one.
+            List<Map.Entry<String, List<MetricInfoList>>> resourceMetricInfos =
+                    metricsFanOutExecutor.queryAll(
+                            Csp.HUAWEI_CLOUD,
+                            deployResources,
+                            deployResource ->
+                                    Map.entry(
+                                            deployResource.getResourceId(),
+                                            getTargetMetricsMap(
+                                                            deployResource,
+                                                            monitorResourceType,
+                                                            client)
+                                                    .values()
+                                                    .stream()
+                                                    .toList()));
             Map<String, List<MetricInfoList>> deployResourceMetricInfoMap = new HashMap<>();
-            for (DeployResource deployResource : deployResources) {
-                Map<MonitorResourceType, MetricInfoList> targetMetricsMap =
-                        getTargetMetricsMap(deployResource, monitorResourceType, client);
-                List<MetricInfoList> targetMetricInfoList =
-                        targetMetricsMap.values().stream().toList();
-                deployResourceMetricInfoMap.put(
-                        deployResource.getResourceId(), targetMetricInfoList);
-            }
+            resourceMetricInfos.forEach(
+                    entry -> deployResourceMetricInfoMap.put(entry.getKey(), entry.getValue()));
             BatchListMetricDataRequest batchListMetricDataRequest =
                     huaweiCloudDataModelConverter.buildBatchListMetricDataRequest(
                             serviceMetricRequest, deployResourceMetricInfoMap);
@@ -28,8 +28,11 @@ import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.eclipse.xpanse.modules.orchestrator.monitor.MetricsFanOutExecutor;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.CspJobTracker;
 import org.eclipse.xpanse.plugins.huaweicloud.HuaweiCloudOrchestratorPlugin;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudClient;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudRetryStrategy;
@@ -58,6 +61,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
             HuaweiCloudVmStateManager.class,
             HuaweiCloudServerManageRequestConverter.class,
             HuaweiCloudMetricsService.class,
+            MetricsFanOutExecutor.class,
+            OrchestratorProperties.class,
             HuaweiCloudClient.class,
             HuaweiCloudMonitorConstants.class,
             HuaweiCloudDataModelConverter.class,
@@ -92,6 +97,7 @@ class HuaweiCloudMonitorIntegrationTest {
     @MockitoBean HuaweiCloudClient huaweiCloudClient;
     @MockitoBean CredentialCenter credentialCenter;
     @MockitoBean HuaweiCloudRetryStrategy huaweiCloudRetryStrategy;
+    @MockitoBean CspJobTracker cspJobTracker;
 
     ResourceMetricsRequest setUpResourceMetricRequest(
             MonitorResourceType monitorResourceType,
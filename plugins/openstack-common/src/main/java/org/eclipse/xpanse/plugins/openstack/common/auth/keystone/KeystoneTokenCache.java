@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.plugins.openstack.common.auth.keystone;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspTokenCache;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspTokenKey;
+import org.eclipse.xpanse.plugins.openstack.common.config.OpenstackCommonProperties;
+import org.openstack4j.api.OSClient;
+import org.openstack4j.core.transport.Config;
+import org.openstack4j.model.identity.v3.Token;
+import org.openstack4j.openstack.OSFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to reuse the scoped Keystone tokens of the OpenStack based providers. The tokens are kept in
+ * the {@link CspTokenCache} per auth url and credential, so that only one authentication is sent to
+ * Keystone per token lifetime instead of one per API call.
+ */
+@Slf4j
+@Component
+public class KeystoneTokenCache {
+
+    private final CspTokenCache cspTokenCache;
+
+    /** Constructor method. */
+    @Autowired
+    public KeystoneTokenCache(
+            CspTokenCache cspTokenCache, OpenstackCommonProperties openstackCommonProperties) {
+        this.cspTokenCache = cspTokenCache;
+        OSFactory.enableHttpLoggingFilter(
+                Boolean.TRUE.equals(openstackCommonProperties.getEnableSdkHttpDebugLogs()));
+    }
+
+    /**
+     * Get a client authenticated with the cached token of the credential. Like a client returned by
+     * the authentication, the client is bound to the current thread.
+     *
+     * @param csp cloud service provider.
+     * @param authUrl url of the Keystone API.
+     * @param config configuration of the client.
+     * @param authenticator authenticates the credential at Keystone.
+     * @param credentialValues values of the credential and the scope of the token.
+     * @return authenticated client.
+     */
+    public OSClient.OSClientV3 getAuthenticatedClient(
+            Csp csp,
+            String authUrl,
+            Config config,
+            Supplier<OSClient.OSClientV3> authenticator,
+            String... credentialValues) {
+        CspTokenKey key =
+                new CspTokenKey(
+                        csp, cspTokenCache.getCredentialFingerprint(credentialValues), authUrl);
+        AtomicReference<OSClient.OSClientV3> authenticatedClient = new AtomicReference<>();
+        Token token =
+                cspTokenCache.getToken(
+                        key,
+                        Token.class,
+                        () -> {
+                            OSClient.OSClientV3 client = authenticator.get();
+                            authenticatedClient.set(client);
+                            return client.getToken();
+                        },
+                        loadedToken ->
+                                Objects.nonNull(loadedToken.getExpires())
+                                        ? loadedToken.getExpires().toInstant()
+                                        : null);
+        if (Objects.nonNull(authenticatedClient.get())) {
+            return authenticatedClient.get();
+        }
+        log.debug("Reusing Keystone token of {}.", key);
+        return OSFactory.clientFromToken(token, config);
+    }
+}
@@ -9,7 +9,8 @@ import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.UnknownHostException;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import org.eclipse.xpanse.common.proxy.ProxyConfigurationManager;
 import org.eclipse.xpanse.modules.models.common.exceptions.XpanseUnhandledException;
@@ -34,6 +35,7 @@ public class OpenstackKeystoneManager {
 
     private final Environment environment;
     private final ProxyConfigurationManager proxyConfigurationManager;
+    private final KeystoneTokenCache keystoneTokenCache;
 
     /**
      * Constructor for OpenstackKeystoneManager.
@@ -42,9 +44,12 @@ public class OpenstackKeystoneManager {
      */
     @Autowired
     public OpenstackKeystoneManager(
-            Environment environment, ProxyConfigurationManager proxyConfigurationManager) {
+            Environment environment,
+            ProxyConfigurationManager proxyConfigurationManager,
+            KeystoneTokenCache keystoneTokenCache) {
         this.environment = environment;
         this.proxyConfigurationManager = proxyConfigurationManager;
+        this.keystoneTokenCache = keystoneTokenCache;
     }
 
     private String getIpAddressFromUrl(String url) {
@@ -64,36 +69,18 @@ public class OpenstackKeystoneManager {
     public OSClient.OSClientV3 getAuthenticatedClient(
             String authUrl, AbstractCredentialInfo credential) {
 
-        String userName = null;
-        String password = null;
-        String tenant = null;
-        String userDomain = null;
-        String projectDomain = null;
+        Map<String, String> variables = new HashMap<>();
         if (CredentialType.VARIABLES.toValue().equals(credential.getType().toValue())) {
-            List<CredentialVariable> variables = ((CredentialVariables) credential).getVariables();
-            for (CredentialVariable credentialVariable : variables) {
-                if (OpenstackCommonEnvironmentConstants.USERNAME.equals(
-                        credentialVariable.getName())) {
-                    userName = credentialVariable.getValue();
-                }
-                if (OpenstackCommonEnvironmentConstants.PASSWORD.equals(
-                        credentialVariable.getName())) {
-                    password = credentialVariable.getValue();
-                }
-                if (OpenstackCommonEnvironmentConstants.PROJECT.equals(
-                        credentialVariable.getName())) {
-                    tenant = credentialVariable.getValue();
-                }
-                if (OpenstackCommonEnvironmentConstants.USER_DOMAIN.equals(
-                        credentialVariable.getName())) {
-                    userDomain = credentialVariable.getValue();
-                }
-                if (OpenstackCommonEnvironmentConstants.PROJECT_DOMAIN.equals(
-                        credentialVariable.getName())) {
-                    projectDomain = credentialVariable.getValue();
-                }
+            for (CredentialVariable credentialVariable :
+                    ((CredentialVariables) credential).getVariables()) {
+                variables.put(credentialVariable.getName(), credentialVariable.getValue());
             }
         }
+        String userName = variables.get(OpenstackCommonEnvironmentConstants.USERNAME);
+        String password = variables.get(OpenstackCommonEnvironmentConstants.PASSWORD);
+        String tenant = variables.get(OpenstackCommonEnvironmentConstants.PROJECT);
+        String userDomain = variables.get(OpenstackCommonEnvironmentConstants.USER_DOMAIN);
+        String projectDomain = variables.get(OpenstackCommonEnvironmentConstants.PROJECT_DOMAIN);
         if (Objects.isNull(userName)
                 || Objects.isNull(password)
                 || Objects.isNull(tenant)
@@ -102,22 +89,32 @@ public class OpenstackKeystoneManager {
                     "Values for all openstack credential"
                             + " variables to connect to Openstack API is not found");
         }
-        OSFactory.enableHttpLoggingFilter(true);
-        // there is no need to return the authenticated client because the below method already sets
-        // the authentication details in the thread context.
         String serviceTenant =
                 this.environment.getProperty(OpenstackCommonEnvironmentConstants.SERVICE_PROJECT);
         String sslDisabled =
                 this.environment.getProperty(
                         OpenstackCommonEnvironmentConstants.SSL_VERIFICATION_DISABLED);
-        return OSFactory.builderV3()
-                .withConfig(buildClientConfig(authUrl, sslDisabled))
-                .credentials(userName, password, Identifier.byName(userDomain))
-                .scopeToProject(
-                        Identifier.byName(Objects.isNull(serviceTenant) ? tenant : serviceTenant),
-                        Identifier.byName(projectDomain))
-                .endpoint(authUrl)
-                .authenticate();
+        String project = Objects.isNull(serviceTenant) ? tenant : serviceTenant;
+        Config config = buildClientConfig(authUrl, sslDisabled);
+        // the client is bound to the current thread, also when it is built from a cached token.
+        return keystoneTokenCache.getAuthenticatedClient(
+                credential.getCsp(),
+                authUrl,
+                config,
+                () ->
+                        OSFactory.builderV3()
+                                .withConfig(config)
+                                .credentials(userName, password, Identifier.byName(userDomain))
+                                .scopeToProject(
+                                        Identifier.byName(project),
+                                        Identifier.byName(projectDomain))
+                                .endpoint(authUrl)
+                                .authenticate(),
+                userName,
+                password,
+                userDomain,
+                project,
+                projectDomain);
     }
 
     private Config buildClientConfig(String url, String sslDisabled) {
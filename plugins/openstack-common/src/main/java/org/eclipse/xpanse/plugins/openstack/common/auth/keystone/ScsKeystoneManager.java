@@ -7,7 +7,8 @@
 package org.eclipse.xpanse.plugins.openstack.common.auth.keystone;
 
 import java.net.URI;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import org.eclipse.xpanse.common.proxy.ProxyConfigurationManager;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
@@ -29,10 +30,15 @@ import org.springframework.stereotype.Component;
 public class ScsKeystoneManager {
 
     private final ProxyConfigurationManager proxyConfigurationManager;
+    private final KeystoneTokenCache keystoneTokenCache;
 
+    /** Constructor method. */
     @Autowired
-    public ScsKeystoneManager(ProxyConfigurationManager proxyConfigurationManager) {
+    public ScsKeystoneManager(
+            ProxyConfigurationManager proxyConfigurationManager,
+            KeystoneTokenCache keystoneTokenCache) {
         this.proxyConfigurationManager = proxyConfigurationManager;
+        this.keystoneTokenCache = keystoneTokenCache;
     }
 
     /**
@@ -43,31 +49,17 @@ public class ScsKeystoneManager {
     public OSClient.OSClientV3 getAuthenticatedClient(
             String authUrl, AbstractCredentialInfo credential) {
 
-        String userName = null;
-        String password = null;
-        String tenant = null;
-        String domain = null;
+        Map<String, String> variables = new HashMap<>();
         if (CredentialType.VARIABLES.toValue().equals(credential.getType().toValue())) {
-            List<CredentialVariable> variables = ((CredentialVariables) credential).getVariables();
-            for (CredentialVariable credentialVariable : variables) {
-                if (OpenstackCommonEnvironmentConstants.USERNAME.equals(
-                        credentialVariable.getName())) {
-                    userName = credentialVariable.getValue();
-                }
-                if (OpenstackCommonEnvironmentConstants.PASSWORD.equals(
-                        credentialVariable.getName())) {
-                    password = credentialVariable.getValue();
-                }
-                if (OpenstackCommonEnvironmentConstants.PROJECT.equals(
-                        credentialVariable.getName())) {
-                    tenant = credentialVariable.getValue();
-                }
-                if (OpenstackCommonEnvironmentConstants.DOMAIN.equals(
-                        credentialVariable.getName())) {
-                    domain = credentialVariable.getValue();
-                }
+            for (CredentialVariable credentialVariable :
+                    ((CredentialVariables) credential).getVariables()) {
+                variables.put(credentialVariable.getName(), credentialVariable.getValue());
             }
         }
+        String userName = variables.get(OpenstackCommonEnvironmentConstants.USERNAME);
+        String password = variables.get(OpenstackCommonEnvironmentConstants.PASSWORD);
+        String tenant = variables.get(OpenstackCommonEnvironmentConstants.PROJECT);
+        String domain = variables.get(OpenstackCommonEnvironmentConstants.DOMAIN);
         if (Objects.isNull(userName)
                 || Objects.isNull(password)
                 || Objects.isNull(tenant)
@@ -76,15 +68,25 @@ public class ScsKeystoneManager {
                     "Values for all openstack credential"
                             + " variables to connect to Openstack API is not found");
         }
-        OSFactory.enableHttpLoggingFilter(true);
-        // there is no need to return the authenticated client because the below method already sets
-        // the authentication details in the thread context.
-        return OSFactory.builderV3()
-                .credentials(userName, password, Identifier.byName(domain))
-                .scopeToProject(Identifier.byName(tenant), Identifier.byName(domain))
-                .endpoint(authUrl)
-                .withConfig(createProxyConfig(authUrl))
-                .authenticate();
+        Config config = createProxyConfig(authUrl);
+        // the client is bound to the current thread, also when it is built from a cached token.
+        return keystoneTokenCache.getAuthenticatedClient(
+                credential.getCsp(),
+                authUrl,
+                config,
+                () ->
+                        OSFactory.builderV3()
+                                .credentials(userName, password, Identifier.byName(domain))
+                                .scopeToProject(
+                                        Identifier.byName(tenant), Identifier.byName(domain))
+                                .endpoint(authUrl)
+                                .withConfig(config)
+                                .authenticate(),
+                userName,
+                password,
+                domain,
+                tenant,
+                domain);
     }
 
     private Config createProxyConfig(String url) {
@@ -0,0 +1,17 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.plugins.openstack.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** properties class. */
+@Data
+@ConfigurationProperties(prefix = "xpanse.plugins.openstack-common")
+public class OpenstackCommonProperties {
+
+    private Boolean enableSdkHttpDebugLogs = false;
+}
@@ -6,6 +6,9 @@
 package org.eclipse.xpanse.plugins.openstack.common.monitor;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -18,14 +21,19 @@ import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedEx
 import org.eclipse.xpanse.modules.models.monitor.Metric;
 import org.eclipse.xpanse.modules.models.monitor.enums.MetricUnit;
 import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.orchestrator.monitor.MetricsFanOutExecutor;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsExporter;
+import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.plugins.openstack.common.auth.ProviderAuthInfoResolver;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.api.AggregationService;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.api.MeasuresService;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.api.ResourcesService;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.aggregates.AggregationRequest;
+import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.aggregates.GroupedAggregatedMeasures;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.filter.MetricsFilter;
+import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.measures.Measure;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.metrics.CeilometerMetricType;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.resources.InstanceNetworkResource;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.resources.InstanceResource;
@@ -39,12 +47,33 @@ import org.springframework.util.CollectionUtils;
 @Component
 public class OpenstackServiceMetricsManager {
 
+    /** Metrics of the instances in the order in which they are returned for each resource. */
+    private static final Map<MonitorResourceType, CeilometerMetricType> METRIC_TYPES =
+            new LinkedHashMap<>();
+
+    private static final Map<MonitorResourceType, MetricUnit> METRIC_UNITS =
+            new EnumMap<>(MonitorResourceType.class);
+
+    static {
+        METRIC_TYPES.put(MonitorResourceType.CPU, CeilometerMetricType.CPU);
+        METRIC_TYPES.put(MonitorResourceType.MEM, CeilometerMetricType.MEMORY_USAGE);
+        METRIC_TYPES.put(
+                MonitorResourceType.VM_NETWORK_INCOMING, CeilometerMetricType.NETWORK_INCOMING);
+        METRIC_TYPES.put(
+                MonitorResourceType.VM_NETWORK_OUTGOING, CeilometerMetricType.NETWORK_OUTGOING);
+        METRIC_UNITS.put(MonitorResourceType.CPU, MetricUnit.PERCENTAGE);
+        METRIC_UNITS.put(MonitorResourceType.MEM, MetricUnit.MB);
+        METRIC_UNITS.put(MonitorResourceType.VM_NETWORK_INCOMING, MetricUnit.BYTES_PER_SECOND);
+        METRIC_UNITS.put(MonitorResourceType.VM_NETWORK_OUTGOING, MetricUnit.BYTES_PER_SECOND);
+    }
+
     private final ResourcesService resourcesService;
     private final GnocchiToXpanseModelConverter gnocchiToXpanseModelConverter;
     private final AggregationService aggregationService;
     private final MeasuresService measuresService;
     private final MonitorMetricsStore monitorMetricsStore;
     private final ProviderAuthInfoResolver providerAuthInfoResolver;
+    private final MetricsFanOutExecutor metricsFanOutExecutor;
 
     /** Constructor method. */
     @Autowired
@@ -54,13 +83,50 @@ public class OpenstackServiceMetricsManager {
             AggregationService aggregationService,
             MeasuresService measuresService,
             MonitorMetricsStore monitorMetricsStore,
-            ProviderAuthInfoResolver providerAuthInfoResolver) {
+            ProviderAuthInfoResolver providerAuthInfoResolver,
+            MetricsFanOutExecutor metricsFanOutExecutor) {
         this.resourcesService = resourcesService;
         this.gnocchiToXpanseModelConverter = gnocchiToXpanseModelConverter;
         this.aggregationService = aggregationService;
         this.measuresService = measuresService;
         this.monitorMetricsStore = monitorMetricsStore;
         this.providerAuthInfoResolver = providerAuthInfoResolver;
+        this.metricsFanOutExecutor = metricsFanOutExecutor;
+    }
+
+    /**
+     * Method which does the actual implementation for MetricsExporter. {@link
+     * ServiceMetricsExporter#getMetricsForService} (ServiceMetricsRequest metricQueryRequest)().
+     * The measures of each metric are queried for all resources with one Gnocchi aggregates request
+     * which searches the resources and groups the result by instance. If that fails, e.g. because
+     * Gnocchi is older than 4.1 and has no resource search in aggregates, the metrics of the
+     * resources are queried one by one in parallel.
+     *
+     * @return returns list of Metrics.
+     */
+    public List<Metric> getMetricsForService(Csp csp, ServiceMetricsRequest request) {
+        if (CollectionUtils.isEmpty(request.getDeployResources())) {
+            return new ArrayList<>();
+        }
+        try {
+            return getMetricsOfAllResources(csp, request);
+        } catch (Exception e) {
+            log.warn(
+                    "Get metrics of service {} with aggregates request failed, query the metrics"
+                            + " of the resources one by one. {}",
+                    request.getServiceId(),
+                    e.getMessage());
+            providerAuthInfoResolver.handleAuthExceptionForSpringRetry(e);
+        }
+        return metricsFanOutExecutor
+                .queryAll(
+                        csp,
+                        request.getDeployResources(),
+                        deployResource ->
+                                getMetrics(csp, getResourceMetricsRequest(request, deployResource)))
+                .stream()
+                .flatMap(List::stream)
+                .toList();
     }
 
     /**
@@ -137,6 +203,100 @@ public class OpenstackServiceMetricsManager {
         }
     }
 
+    private List<Metric> getMetricsOfAllResources(Csp csp, ServiceMetricsRequest request) {
+        providerAuthInfoResolver.getAuthenticatedClientForCsp(
+                csp,
+                request.getRegion().getSite(),
+                request.getUserId(),
+                request.getServiceId(),
+                null);
+        List<String> instanceIds =
+                request.getDeployResources().stream()
+                        .map(DeployResource::getResourceId)
+                        .distinct()
+                        .toList();
+        MetricsFilter metricsFilter =
+                this.gnocchiToXpanseModelConverter.buildMetricsFilter(request);
+        Map<MonitorResourceType, Map<String, List<Measure>>> measuresOfTypes =
+                new LinkedHashMap<>();
+        for (Map.Entry<MonitorResourceType, CeilometerMetricType> entry : METRIC_TYPES.entrySet()) {
+            if (Objects.isNull(request.getMonitorResourceType())
+                    || request.getMonitorResourceType() == entry.getKey()) {
+                measuresOfTypes.put(
+                        entry.getKey(),
+                        getMeasuresOfInstances(entry.getValue(), instanceIds, metricsFilter));
+            }
+        }
+        List<Metric> metrics = new ArrayList<>();
+        for (DeployResource deployResource : request.getDeployResources()) {
+            ResourceMetricsRequest resourceMetricsRequest =
+                    getResourceMetricsRequest(request, deployResource);
+            measuresOfTypes.forEach(
+                    (monitorResourceType, measuresOfInstances) -> {
+                        List<Measure> measures =
+                                measuresOfInstances.get(deployResource.getResourceId());
+                        if (Objects.nonNull(measures)) {
+                            Metric metric =
+                                    this.gnocchiToXpanseModelConverter
+                                            .convertGnocchiMeasuresToMetric(
+                                                    deployResource,
+                                                    monitorResourceType,
+                                                    measures,
+                                                    METRIC_UNITS.get(monitorResourceType),
+                                                    request.isOnlyLastKnownMetric());
+                            doCacheActionForResourceMetrics(
+                                    resourceMetricsRequest, monitorResourceType, metric);
+                            metrics.add(metric);
+                        }
+                    });
+        }
+        return metrics;
+    }
+
+    /**
+     * Instances without the metric, e.g. without a network interface, are not in the result.
+     *
+     * @return measures of the metric by instance ID.
+     */
+    private Map<String, List<Measure>> getMeasuresOfInstances(
+            CeilometerMetricType ceilometerMetricType,
+            List<String> instanceIds,
+            MetricsFilter metricsFilter) {
+        Map<String, List<Measure>> measuresOfInstances = new HashMap<>();
+        String instanceIdAttribute =
+                this.gnocchiToXpanseModelConverter.getInstanceIdAttribute(ceilometerMetricType);
+        List<GroupedAggregatedMeasures> groups =
+                this.aggregationService.getAggregatedMeasuresOfResourcesGroupedBy(
+                        this.gnocchiToXpanseModelConverter.buildAggregationRequestForInstances(
+                                ceilometerMetricType, instanceIds),
+                        metricsFilter,
+                        instanceIdAttribute);
+        for (GroupedAggregatedMeasures group : groups) {
+            String instanceId = group.getGroup().get(instanceIdAttribute);
+            if (Objects.nonNull(instanceId)
+                    && Objects.nonNull(group.getMeasures())
+                    && Objects.nonNull(group.getMeasures().getMeasures())) {
+                measuresOfInstances.put(
+                        instanceId, group.getMeasures().getMeasures().getAggregated());
+            }
+        }
+        return measuresOfInstances;
+    }
+
+    private ResourceMetricsRequest getResourceMetricsRequest(
+            ServiceMetricsRequest request, DeployResource deployResource) {
+        return new ResourceMetricsRequest(
+                request.getServiceId(),
+                request.getRegion(),
+                deployResource,
+                request.getMonitorResourceType(),
+                request.getFrom(),
+                request.getTo(),
+                request.getGranularity(),
+                request.isOnlyLastKnownMetric(),
+                request.getUserId());
+    }
+
     private Metric getCpuUsage(ResourceMetricsRequest request, String metricId) {
         AggregationRequest aggregationRequest =
                 this.gnocchiToXpanseModelConverter
@@ -5,8 +5,10 @@
 
 package org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.api;
 
+import java.util.List;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.aggregates.AggregatedMeasures;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.aggregates.AggregationRequest;
+import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.aggregates.GroupedAggregatedMeasures;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.filter.MetricsFilter;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.utils.MetricsQueryBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,4 +40,24 @@ public class AggregationService extends BaseGnocchiServices {
         String requestUri = "/v1/aggregates" + this.metricsQueryBuilder.build(metricsFilter);
         return post(AggregatedMeasures.class, requestUri).entity(aggregationRequest).execute();
     }
+
+    /**
+     * Queries Gnocchi aggregates API for the resources matching the search of the request. The
+     * operation is applied to the metrics of each group of resources separately.
+     *
+     * @param aggregationRequest AggregationRequest object with resource type and search.
+     * @param metricsFilter MetricsFilter object
+     * @param groupBy resource attribute by which the resources are grouped.
+     * @return list of AggregatedMeasures of each group. Groups without the metric are omitted.
+     */
+    public List<GroupedAggregatedMeasures> getAggregatedMeasuresOfResourcesGroupedBy(
+            AggregationRequest aggregationRequest, MetricsFilter metricsFilter, String groupBy) {
+        String query = this.metricsQueryBuilder.build(metricsFilter);
+        String requestUri =
+                "/v1/aggregates" + (query.isEmpty() ? "?" : query + "&") + "groupby=" + groupBy;
+        return wrapList(
+                post(GroupedAggregatedMeasures[].class, requestUri)
+                        .entity(aggregationRequest)
+                        .execute());
+    }
 }
@@ -9,11 +9,12 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.io.Serial;
+import java.util.Map;
 import org.openstack4j.model.ModelEntity;
 
 /** Data model for AggregationRequest objects. */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({"operations"})
+@JsonPropertyOrder({"operations", "resource_type", "search"})
 public class AggregationRequest implements ModelEntity {
 
     @Serial private static final long serialVersionUID = 240913796673011260L;
@@ -21,6 +22,12 @@ public class AggregationRequest implements ModelEntity {
     @JsonProperty("operations")
     private String operations;
 
+    @JsonProperty("resource_type")
+    private String resourceType;
+
+    @JsonProperty("search")
+    private Map<String, Object> search;
+
     @JsonProperty("operations")
     public String getOperations() {
         return operations;
@@ -30,4 +37,24 @@ public class AggregationRequest implements ModelEntity {
     public void setOperations(String operations) {
         this.operations = operations;
     }
+
+    @JsonProperty("resource_type")
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    @JsonProperty("resource_type")
+    public void setResourceType(String resourceType) {
+        this.resourceType = resourceType;
+    }
+
+    @JsonProperty("search")
+    public Map<String, Object> getSearch() {
+        return search;
+    }
+
+    @JsonProperty("search")
+    public void setSearch(Map<String, Object> search) {
+        this.search = search;
+    }
 }
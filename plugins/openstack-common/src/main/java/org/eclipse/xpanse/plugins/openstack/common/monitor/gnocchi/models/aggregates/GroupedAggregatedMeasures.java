@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.aggregates;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Data model for the AggregatedMeasures of one group, returned by aggregates queries with the
+ * groupby parameter.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"group", "measures"})
+public class GroupedAggregatedMeasures {
+
+    @JsonProperty("group")
+    private Map<String, String> group = new HashMap<>();
+
+    @JsonProperty("measures")
+    private AggregatedMeasures aggregatedMeasures;
+
+    @JsonProperty("group")
+    public Map<String, String> getGroup() {
+        return group;
+    }
+
+    @JsonProperty("group")
+    public void setGroup(Map<String, String> group) {
+        this.group = group;
+    }
+
+    @JsonProperty("measures")
+    public AggregatedMeasures getMeasures() {
+        return aggregatedMeasures;
+    }
+
+    @JsonProperty("measures")
+    public void setMeasures(AggregatedMeasures measures) {
+        this.aggregatedMeasures = measures;
+    }
+}
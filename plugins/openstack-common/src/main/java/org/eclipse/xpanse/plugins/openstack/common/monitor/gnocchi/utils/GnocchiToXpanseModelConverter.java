@@ -18,9 +18,11 @@ import org.eclipse.xpanse.modules.models.monitor.enums.MetricUnit;
 import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
+import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.aggregates.AggregationRequest;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.filter.MetricsFilter;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.measures.Measure;
+import org.eclipse.xpanse.plugins.openstack.common.monitor.gnocchi.models.metrics.CeilometerMetricType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
@@ -28,6 +30,14 @@ import org.springframework.util.CollectionUtils;
 @Component
 public class GnocchiToXpanseModelConverter {
 
+    private static final String CPU_PERCENTAGE_OPERATION =
+            "(* (/ (aggregate rate:mean (metric %s mean)) 60000000000.0) 100)";
+    private static final String RATE_OPERATION = "(aggregate rate:mean (metric %s mean))";
+    private static final String INSTANCE_RESOURCE_TYPE = "instance";
+    private static final String INSTANCE_NETWORK_INTERFACE_RESOURCE_TYPE =
+            "instance_network_interface";
+    private static final String MEAN_OPERATION = "(aggregate mean (metric %s mean))";
+
     /** Convert Gnocchi Measures object to Xpanse Metric object. */
     public Metric convertGnocchiMeasuresToMetric(
             DeployResource deployResource,
@@ -75,12 +85,8 @@ public class GnocchiToXpanseModelConverter {
      * @return AggregationRequest object.
      */
     public AggregationRequest buildAggregationRequestToGetCpuMeasureAsPercentage(String metricId) {
-        String operationString =
-                String.format(
-                        "(* (/ (aggregate rate:mean (metric %s mean)) 60000000000.0) 100)",
-                        metricId);
         AggregationRequest aggregationRequest = new AggregationRequest();
-        aggregationRequest.setOperations(operationString);
+        aggregationRequest.setOperations(String.format(CPU_PERCENTAGE_OPERATION, metricId));
         return aggregationRequest;
     }
 
@@ -98,6 +104,20 @@ public class GnocchiToXpanseModelConverter {
                 .build();
     }
 
+    /**
+     * Converts Xpanse metric filter of a service to Gnocchi MetricsFilter object.
+     *
+     * @param serviceMetricsRequest ServiceMetricsRequest object
+     * @return Returns Gnocchi MetricsFilter object.
+     */
+    public MetricsFilter buildMetricsFilter(ServiceMetricsRequest serviceMetricsRequest) {
+        return MetricsFilter.builder()
+                .end(serviceMetricsRequest.getTo())
+                .start(serviceMetricsRequest.getFrom())
+                .granularity(serviceMetricsRequest.getGranularity())
+                .build();
+    }
+
     /**
      * Build AggregationRequest. From the Stein release, Ceilometer has stopped generating rate
      * metrics for network. Hence, it is necessary to convert the cumulative network metrics to
@@ -107,9 +127,61 @@ public class GnocchiToXpanseModelConverter {
      * @return AggregationRequest object.
      */
     public AggregationRequest buildAggregationRequestToGetNetworkRate(String metricId) {
-        String operationString = String.format("(aggregate rate:mean (metric %s mean))", metricId);
         AggregationRequest aggregationRequest = new AggregationRequest();
-        aggregationRequest.setOperations(operationString);
+        aggregationRequest.setOperations(String.format(RATE_OPERATION, metricId));
+        return aggregationRequest;
+    }
+
+    /**
+     * Build AggregationRequest to get the measures of a metric of many Openstack instances with one
+     * query. The metric is referenced by its name and the instances by a resource search, so that
+     * the result can be grouped by instance. The operation is applied to the metric of each group
+     * separately.
+     *
+     * @param ceilometerMetricType type of the metric.
+     * @param instanceIds IDs of the Openstack instances.
+     * @return AggregationRequest object.
+     */
+    public AggregationRequest buildAggregationRequestForInstances(
+            CeilometerMetricType ceilometerMetricType, List<String> instanceIds) {
+        AggregationRequest aggregationRequest = new AggregationRequest();
+        switch (ceilometerMetricType) {
+            case CPU -> {
+                aggregationRequest.setOperations(
+                        String.format(CPU_PERCENTAGE_OPERATION, ceilometerMetricType.toValue()));
+                aggregationRequest.setResourceType(INSTANCE_RESOURCE_TYPE);
+                aggregationRequest.setSearch(Map.of("in", Map.of("id", instanceIds)));
+            }
+            case MEMORY_USAGE -> {
+                aggregationRequest.setOperations(
+                        String.format(MEAN_OPERATION, ceilometerMetricType.toValue()));
+                aggregationRequest.setResourceType(INSTANCE_RESOURCE_TYPE);
+                aggregationRequest.setSearch(Map.of("in", Map.of("id", instanceIds)));
+            }
+            case NETWORK_INCOMING, NETWORK_OUTGOING -> {
+                aggregationRequest.setOperations(
+                        String.format(RATE_OPERATION, ceilometerMetricType.toValue()));
+                aggregationRequest.setResourceType(INSTANCE_NETWORK_INTERFACE_RESOURCE_TYPE);
+                aggregationRequest.setSearch(Map.of("in", Map.of("instance_id", instanceIds)));
+            }
+            default ->
+                    throw new IllegalArgumentException(
+                            "Unsupported metric type " + ceilometerMetricType.toValue());
+        }
         return aggregationRequest;
     }
+
+    /**
+     * Get the attribute of the resources which holds the instance ID, by which the result of the
+     * aggregation request built with {@link #buildAggregationRequestForInstances} is grouped.
+     *
+     * @param ceilometerMetricType type of the metric.
+     * @return name of the resource attribute.
+     */
+    public String getInstanceIdAttribute(CeilometerMetricType ceilometerMetricType) {
+        return switch (ceilometerMetricType) {
+            case NETWORK_INCOMING, NETWORK_OUTGOING -> "instance_id";
+            default -> "id";
+        };
+    }
 }
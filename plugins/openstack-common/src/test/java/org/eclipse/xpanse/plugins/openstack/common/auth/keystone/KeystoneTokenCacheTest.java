@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.plugins.openstack.common.auth.keystone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspTokenCache;
+import org.eclipse.xpanse.plugins.openstack.common.config.OpenstackCommonProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openstack4j.api.OSClient;
+import org.openstack4j.core.transport.Config;
+import org.openstack4j.model.identity.v3.Token;
+
+/** Test of KeystoneTokenCache. */
+class KeystoneTokenCacheTest {
+
+    private final String authUrl = "http://127.0.0.1/identity/v3";
+    private final AtomicInteger authentications = new AtomicInteger();
+    private CspTokenCache cspTokenCache;
+    private KeystoneTokenCache keystoneTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        cspTokenCache = new CspTokenCache(new OrchestratorProperties());
+        keystoneTokenCache = new KeystoneTokenCache(cspTokenCache, new OpenstackCommonProperties());
+    }
+
+    private OSClient.OSClientV3 authenticate(Instant expiresAt) {
+        authentications.incrementAndGet();
+        Token token = mock(Token.class);
+        when(token.getExpires()).thenReturn(Date.from(expiresAt));
+        when(token.getEndpoint()).thenReturn(authUrl);
+        OSClient.OSClientV3 client = mock(OSClient.OSClientV3.class);
+        when(client.getToken()).thenReturn(token);
+        return client;
+    }
+
+    private OSClient.OSClientV3 getClient(Csp csp, String password, Instant expiresAt) {
+        return keystoneTokenCache.getAuthenticatedClient(
+                csp,
+                authUrl,
+                Config.newConfig(),
+                () -> authenticate(expiresAt),
+                "user",
+                password,
+                "Default",
+                "service",
+                "Default");
+    }
+
+    @Test
+    void testGetAuthenticatedClientReusesToken() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        OSClient.OSClientV3 client = getClient(Csp.OPENSTACK_TESTLAB, "password", expiresAt);
+        OSClient.OSClientV3 clientFromToken =
+                getClient(Csp.OPENSTACK_TESTLAB, "password", expiresAt);
+
+        assertThat(authentications.get()).isEqualTo(1);
+        assertThat(clientFromToken).isNotSameAs(client);
+        assertThat(clientFromToken.getToken()).isSameAs(client.getToken());
+
+        getClient(Csp.OPENSTACK_TESTLAB, "newPassword", expiresAt);
+        assertThat(authentications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetAuthenticatedClientRenewsExpiringToken() {
+        Instant expiresAt = Instant.now().plusSeconds(120);
+        getClient(Csp.PLUS_SERVER, "password", expiresAt);
+        getClient(Csp.PLUS_SERVER, "password", expiresAt);
+
+        assertThat(authentications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetAuthenticatedClientAfterCredentialChange() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        getClient(Csp.REGIO_CLOUD, "password", expiresAt);
+
+        cspTokenCache.invalidateTokens(Csp.REGIO_CLOUD);
+        getClient(Csp.REGIO_CLOUD, "password", expiresAt);
+
+        assertThat(authentications.get()).isEqualTo(2);
+    }
+}
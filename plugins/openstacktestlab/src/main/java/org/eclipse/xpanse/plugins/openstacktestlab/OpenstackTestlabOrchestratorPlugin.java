@@ -7,7 +7,6 @@
 package org.eclipse.xpanse.plugins.openstacktestlab;
 
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
-import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
 import static org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants.OPENSTACK_TESTLAB_AUTH_URL;
 import static org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants.OS_AUTH_URL;
 
@@ -25,7 +24,6 @@ import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariables;
 import org.eclipse.xpanse.modules.models.credential.enums.CredentialType;
 import org.eclipse.xpanse.modules.models.monitor.Metric;
-import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
@@ -223,7 +221,7 @@ public class OpenstackTestlabOrchestratorPlugin implements OrchestratorPlugin {
     }
 
     @Override
-    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME)
+    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME, sync = true)
     public List<String> getAvailabilityZonesOfRegion(
             String site, String region, String userId, UUID serviceId, UUID serviceTemplateId) {
         return resourceManager.getAvailabilityZonesOfRegion(
@@ -237,22 +235,7 @@ public class OpenstackTestlabOrchestratorPlugin implements OrchestratorPlugin {
 
     @Override
     public List<Metric> getMetricsForService(ServiceMetricsRequest serviceMetricRequest) {
-        List<Metric> metrics = new ArrayList<>();
-        for (DeployResource deployResource : serviceMetricRequest.getDeployResources()) {
-            ResourceMetricsRequest resourceMetricRequest =
-                    new ResourceMetricsRequest(
-                            serviceMetricRequest.getServiceId(),
-                            serviceMetricRequest.getRegion(),
-                            deployResource,
-                            serviceMetricRequest.getMonitorResourceType(),
-                            serviceMetricRequest.getFrom(),
-                            serviceMetricRequest.getTo(),
-                            serviceMetricRequest.getGranularity(),
-                            serviceMetricRequest.isOnlyLastKnownMetric(),
-                            serviceMetricRequest.getUserId());
-            metrics.addAll(this.metricsManager.getMetrics(getCsp(), resourceMetricRequest));
-        }
-        return metrics;
+        return this.metricsManager.getMetricsForService(getCsp(), serviceMetricRequest);
     }
 
     @Override
@@ -276,7 +259,6 @@ public class OpenstackTestlabOrchestratorPlugin implements OrchestratorPlugin {
     }
 
     @Override
-    @Cacheable(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request")
     public FlavorPriceResult getServiceFlavorPrice(ServiceFlavorPriceRequest request) {
         return priceCalculator.getServiceFlavorPrice(request);
     }
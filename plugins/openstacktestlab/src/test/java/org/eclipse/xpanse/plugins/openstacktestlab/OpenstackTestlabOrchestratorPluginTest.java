@@ -5,8 +5,12 @@
 
 package org.eclipse.xpanse.plugins.openstacktestlab;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -64,6 +68,9 @@ import org.eclipse.xpanse.modules.models.servicetemplate.TerraformDeployment;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceTemplateReviewPluginResultType;
 import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.UnavailableServiceRegionsException;
+import org.eclipse.xpanse.modules.orchestrator.config.OrchestratorProperties;
+import org.eclipse.xpanse.modules.orchestrator.credential.CspTokenCache;
+import org.eclipse.xpanse.modules.orchestrator.monitor.MetricsFanOutExecutor;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
@@ -71,8 +78,10 @@ import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRe
 import org.eclipse.xpanse.modules.security.secrets.SecretsManager;
 import org.eclipse.xpanse.plugins.openstack.common.auth.ProviderAuthInfoResolver;
 import org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants;
+import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.KeystoneTokenCache;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.OpenstackKeystoneManager;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.ScsKeystoneManager;
+import org.eclipse.xpanse.plugins.openstack.common.config.OpenstackCommonProperties;
 import org.eclipse.xpanse.plugins.openstack.common.manage.OpenstackResourceManager;
 import org.eclipse.xpanse.plugins.openstack.common.manage.OpenstackServersManager;
 import org.eclipse.xpanse.plugins.openstack.common.monitor.OpenstackServiceMetricsManager;
@@ -105,7 +114,12 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
             OpenstackTestlabOrchestratorPlugin.class,
             ScsKeystoneManager.class,
             OpenstackKeystoneManager.class,
+            KeystoneTokenCache.class,
+            CspTokenCache.class,
+            OpenstackCommonProperties.class,
             OpenstackServiceMetricsManager.class,
+            MetricsFanOutExecutor.class,
+            OrchestratorProperties.class,
             ResourcesService.class,
             GnocchiToXpanseModelConverter.class,
             AggregationService.class,
@@ -366,8 +380,22 @@ class OpenstackTestlabOrchestratorPluginTest {
         Assertions.assertEquals(MetricType.GAUGE, metrics.get(1).getType());
         Assertions.assertEquals(MonitorResourceType.CPU.toValue(), metrics.getFirst().getName());
         Assertions.assertEquals(MonitorResourceType.MEM.toValue(), metrics.get(1).getName());
+        Assertions.assertEquals(
+                MonitorResourceType.VM_NETWORK_INCOMING.toValue(), metrics.get(2).getName());
+        Assertions.assertEquals(
+                MonitorResourceType.VM_NETWORK_OUTGOING.toValue(), metrics.get(3).getName());
         Assertions.assertEquals(1, metrics.getFirst().getMetrics().size());
         Assertions.assertEquals(1, metrics.get(1).getMetrics().size());
+        Assertions.assertEquals(resourceId, metrics.getFirst().getLabels().get("id"));
+        wireMockExtension.verify(
+                2,
+                postRequestedFor(urlPathEqualTo("/metric/v1/aggregates"))
+                        .withQueryParam("groupby", equalTo("id")));
+        wireMockExtension.verify(
+                2,
+                postRequestedFor(urlPathEqualTo("/metric/v1/aggregates"))
+                        .withQueryParam("groupby", equalTo("instance_id")));
+        wireMockExtension.verify(0, getRequestedFor(urlPathMatching("/metric/v1/resource/.*")));
     }
 
     void testGetMetricsForResourceHappyCase() {
@@ -7,7 +7,6 @@
 package org.eclipse.xpanse.plugins.plusserver;
 
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
-import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
 import static org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants.OS_AUTH_URL;
 import static org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants.PLUS_SERVER_AUTH_URL;
 
@@ -213,7 +212,7 @@ public class PlusServerOrchestratorPlugin implements OrchestratorPlugin {
     }
 
     @Override
-    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME)
+    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME, sync = true)
     public List<String> getAvailabilityZonesOfRegion(
             String site, String region, String userId, UUID serviceId, UUID serviceTemplateId) {
         return resourceManager.getAvailabilityZonesOfRegion(
@@ -251,7 +250,6 @@ public class PlusServerOrchestratorPlugin implements OrchestratorPlugin {
     }
 
     @Override
-    @Cacheable(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request")
     public FlavorPriceResult getServiceFlavorPrice(ServiceFlavorPriceRequest request) {
         return priceCalculator.getServiceFlavorPrice(request);
     }
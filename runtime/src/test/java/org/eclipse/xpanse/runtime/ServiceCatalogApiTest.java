@@ -20,7 +20,7 @@ import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.awaitility.Awaitility;
-import org.eclipse.xpanse.common.openapi.OpenApiGeneratorJarManage;
+import org.eclipse.xpanse.common.openapi.OpenApiWorkdirManage;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.response.ErrorResponse;
 import org.eclipse.xpanse.modules.models.response.ErrorType;
@@ -55,7 +55,7 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 @AutoConfigureMockMvc
 class ServiceCatalogApiTest extends ApisTestCommon {
 
-    @Autowired private OpenApiGeneratorJarManage openApiGeneratorJarManage;
+    @Autowired private OpenApiWorkdirManage openApiWorkdirManage;
 
     @Test
     @WithJwt(file = "jwt_all_roles.json")
@@ -288,7 +288,7 @@ class ServiceCatalogApiTest extends ApisTestCommon {
     }
 
     private void waitUntilServiceTemplateFilesAreFullyGenerated(String serviceTemplateId) {
-        String openApiDir = this.openApiGeneratorJarManage.getOpenApiWorkdir();
+        String openApiDir = this.openApiWorkdirManage.getOpenApiWorkdir();
         File yamlFile = new File(openApiDir, serviceTemplateId);
         File htmlFile = new File(openApiDir, serviceTemplateId + ".html");
         Awaitility.await()
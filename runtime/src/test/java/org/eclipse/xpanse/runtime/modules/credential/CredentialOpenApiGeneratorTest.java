@@ -8,8 +8,8 @@ package org.eclipse.xpanse.runtime.modules.credential;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.io.File;
-import org.eclipse.xpanse.common.openapi.OpenApiGeneratorJarManage;
 import org.eclipse.xpanse.common.openapi.OpenApiUrlManage;
+import org.eclipse.xpanse.common.openapi.OpenApiWorkdirManage;
 import org.eclipse.xpanse.modules.cache.credential.CredentialsStore;
 import org.eclipse.xpanse.modules.credential.CredentialOpenApiGenerator;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
@@ -38,7 +38,7 @@ class CredentialOpenApiGeneratorTest {
 
     @Autowired private CredentialOpenApiGenerator credentialOpenApiGenerator;
 
-    @Autowired private OpenApiGeneratorJarManage openApiGeneratorJarManage;
+    @Autowired private OpenApiWorkdirManage openApiWorkdirManage;
 
     @Test
     void testGetServiceUrl() {
@@ -59,7 +59,7 @@ class CredentialOpenApiGeneratorTest {
         CredentialType type = CredentialType.VARIABLES;
 
         String htmlFileName = csp.toValue() + "_" + type.toValue() + "_credentialApi.html";
-        String credentialApiDir = openApiGeneratorJarManage.getOpenApiWorkdir();
+        String credentialApiDir = openApiWorkdirManage.getOpenApiWorkdir();
         File htmlFile = new File(credentialApiDir, htmlFileName);
         if (htmlFile.exists()) {
             htmlFile.delete();
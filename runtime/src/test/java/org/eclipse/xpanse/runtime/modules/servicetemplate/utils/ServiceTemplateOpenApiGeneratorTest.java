@@ -12,8 +12,10 @@ import java.util.List;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.common.config.OpenApiGeneratorProperties;
-import org.eclipse.xpanse.common.openapi.OpenApiGeneratorJarManage;
+import org.eclipse.xpanse.common.openapi.OpenApiHtmlRenderer;
 import org.eclipse.xpanse.common.openapi.OpenApiUrlManage;
+import org.eclipse.xpanse.common.openapi.OpenApiWorkdirManage;
+import org.eclipse.xpanse.modules.cache.openapi.ServiceOpenApiStore;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
 import org.eclipse.xpanse.modules.models.service.utils.ServiceInputVariablesJsonSchemaGenerator;
 import org.eclipse.xpanse.modules.models.servicetemplate.InputVariable;
@@ -47,7 +49,9 @@ import org.springframework.test.util.ReflectionTestUtils;
             SecurityProperties.class,
             OpenApiGeneratorProperties.class,
             OpenApiUrlManage.class,
-            OpenApiGeneratorJarManage.class,
+            OpenApiWorkdirManage.class,
+            OpenApiHtmlRenderer.class,
+            ServiceOpenApiStore.class,
             RefreshAutoConfiguration.class
         })
 @TestPropertySource(
@@ -55,16 +59,14 @@ import org.springframework.test.util.ReflectionTestUtils;
             "server.port=8080",
             "xpanse.security.enable-web-security=true",
             "xpanse.openapi-generator.file-resources-uri=/openapi/*",
-            "xpanse.openapi-generator.file-generation-path=openapi/",
-            "xpanse.openapi-generator.client.version=6.6.0",
-            "xpanse.openapi-generator.client.download-url=:https://repo1.maven.org/maven2/org/openapitools/openapi-generator-cli/6.6.0/openapi-generator-cli-6.6.0.jar"
+            "xpanse.openapi-generator.file-generation-path=openapi/"
         })
 @ExtendWith(SpringExtension.class)
 class ServiceTemplateOpenApiGeneratorTest {
 
     private static final String appVersion = "1.0.0";
     private UUID serviceId = UUID.randomUUID();
-    @Autowired private OpenApiGeneratorJarManage openApiGeneratorJarManage;
+    @Autowired private OpenApiWorkdirManage openApiWorkdirManage;
     @Autowired private ServiceTemplateOpenApiGenerator openApiGenerator;
     @MockitoBean private PluginManager pluginManager;
     @MockitoBean private Environment environment;
@@ -105,7 +107,7 @@ class ServiceTemplateOpenApiGeneratorTest {
                 getServiceTemplateEntity(
                         URI.create("file:src/test/resources/ocl_terraform_test.yml").toURL());
         openApiGenerator.createServiceApi(serviceTemplateEntity);
-        String openApiWorkdir = openApiGeneratorJarManage.getOpenApiWorkdir();
+        String openApiWorkdir = openApiWorkdirManage.getOpenApiWorkdir();
         File htmlFile = new File(openApiWorkdir, serviceTemplateEntity.getId() + ".html");
         Assertions.assertTrue(htmlFile.exists());
     }
@@ -120,7 +122,7 @@ class ServiceTemplateOpenApiGeneratorTest {
 
     void deleteServiceApi() {
         openApiGenerator.deleteServiceApi(serviceId.toString());
-        String openApiWorkdir = openApiGeneratorJarManage.getOpenApiWorkdir();
+        String openApiWorkdir = openApiWorkdirManage.getOpenApiWorkdir();
         File htmlFile = new File(openApiWorkdir, serviceId + ".html");
         Assertions.assertFalse(htmlFile.exists());
     }